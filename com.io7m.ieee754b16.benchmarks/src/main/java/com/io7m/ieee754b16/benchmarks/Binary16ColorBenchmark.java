@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16SRGB;
+import com.io7m.ieee754b16.graphics.Binary16ToneMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the table-driven colour transforms against computing the same
+ * functions for each value.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16ColorBenchmark
+{
+  private static final int SIZE = 1 << 16;
+
+  private char[] values;
+  private char[] mapped;
+  private byte[] levels;
+  private Binary16ToneMap aces;
+
+  public Binary16ColorBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.values = new char[SIZE];
+    this.mapped = new char[SIZE];
+    this.levels = new byte[SIZE];
+    for (int index = 0; index < SIZE; ++index) {
+      this.values[index] = Binary16.packFloat(random.nextFloat() * 2.0f);
+    }
+    this.aces = Binary16ToneMap.acesFitted(1.0);
+  }
+
+  @Benchmark
+  public byte[] naiveEncodeSRGB8()
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      final float x =
+        Math.max(0.0f, Math.min(1.0f, Binary16.unpackFloat(this.values[index])));
+      final float e;
+      if (x <= 0.0031308f) {
+        e = x * 12.92f;
+      } else {
+        e = 1.055f * (float) Math.pow(x, 1.0 / 2.4) - 0.055f;
+      }
+      this.levels[index] = (byte) Math.round(e * 255.0f);
+    }
+    return this.levels;
+  }
+
+  @Benchmark
+  public byte[] encodeSRGB8()
+  {
+    Binary16SRGB.encodeSRGB8(this.values, 0, this.levels, 0, SIZE);
+    return this.levels;
+  }
+
+  @Benchmark
+  public char[] naiveDecodeSRGB8()
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      final float e = (float) (this.levels[index] & 0xff) / 255.0f;
+      final float x;
+      if (e <= 0.04045f) {
+        x = e / 12.92f;
+      } else {
+        x = (float) Math.pow((e + 0.055f) / 1.055f, 2.4);
+      }
+      this.mapped[index] = Binary16.packFloat(x);
+    }
+    return this.mapped;
+  }
+
+  @Benchmark
+  public char[] decodeSRGB8()
+  {
+    Binary16SRGB.decodeSRGB8(this.levels, 0, this.mapped, 0, SIZE);
+    return this.mapped;
+  }
+
+  @Benchmark
+  public char[] naiveACESFitted()
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      final float l = Binary16.unpackFloat(this.values[index]);
+      final float y = l * (2.51f * l + 0.03f) / (l * (2.43f * l + 0.59f) + 0.14f);
+      this.mapped[index] = Binary16.packFloat(Math.max(0.0f, Math.min(1.0f, y)));
+    }
+    return this.mapped;
+  }
+
+  @Benchmark
+  public char[] acesFitted()
+  {
+    this.aces.apply(this.values, 0, this.mapped, 0, SIZE);
+    return this.mapped;
+  }
+}
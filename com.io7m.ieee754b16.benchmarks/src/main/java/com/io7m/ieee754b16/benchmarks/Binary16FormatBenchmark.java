@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare formatting values with {@link Float#toString(float)} against the
+ * shortest-digits formatter writing into a reused array.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16FormatBenchmark
+{
+  private static final int SIZE = 4096;
+
+  private char[] halves;
+  private char[] text;
+
+  public Binary16FormatBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.halves = new char[SIZE];
+    this.text = new char[Binary16Strings.DECIMAL_LENGTH_MAXIMUM];
+
+    for (int index = 0; index < SIZE; ++index) {
+      this.halves[index] = (char) random.nextInt(0x7c00);
+    }
+  }
+
+  @Benchmark
+  public void floatToString(
+    final Blackhole blackhole)
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      blackhole.consume(Float.toString(Binary16.unpackFloat(this.halves[index])));
+    }
+  }
+
+  @Benchmark
+  public void formatDecimal(
+    final Blackhole blackhole)
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      blackhole.consume(
+        Binary16Strings.formatDecimal(this.halves[index], this.text, 0));
+    }
+    blackhole.consume(this.text);
+  }
+
+  @Benchmark
+  public void toRawBinaryString(
+    final Blackhole blackhole)
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      blackhole.consume(Binary16.toRawBinaryString(this.halves[index]));
+    }
+  }
+}
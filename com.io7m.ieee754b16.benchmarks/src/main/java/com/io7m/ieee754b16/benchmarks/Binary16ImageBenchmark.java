@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.graphics.Binary16Image;
+import com.io7m.ieee754b16.graphics.Binary16ImageLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare bulk conversion of a 1920x1080 framebuffer against setting each
+ * channel of each pixel individually.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16ImageBenchmark
+{
+  private static final int WIDTH = 1920;
+  private static final int HEIGHT = 1080;
+
+  private float[] framebuffer;
+  private Binary16Image interleaved;
+  private Binary16Image planar;
+
+  public Binary16ImageBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.framebuffer = new float[WIDTH * HEIGHT * Binary16Image.CHANNELS];
+    for (int index = 0; index < this.framebuffer.length; ++index) {
+      this.framebuffer[index] = random.nextFloat() * 4.0f;
+    }
+    this.interleaved =
+      Binary16Image.create(WIDTH, HEIGHT, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+    this.planar =
+      Binary16Image.create(WIDTH, HEIGHT, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Benchmark
+  public Binary16Image naivePack()
+  {
+    int index = 0;
+    for (int y = 0; y < HEIGHT; ++y) {
+      for (int x = 0; x < WIDTH; ++x) {
+        for (int c = 0; c < Binary16Image.CHANNELS; ++c) {
+          this.interleaved.setFloat(x, y, c, this.framebuffer[index]);
+          ++index;
+        }
+      }
+    }
+    return this.interleaved;
+  }
+
+  @Benchmark
+  public Binary16Image packInterleaved()
+  {
+    this.interleaved.packFloats(this.framebuffer, 0);
+    return this.interleaved;
+  }
+
+  @Benchmark
+  public Binary16Image packInterleavedParallel()
+  {
+    this.interleaved.packFloatsParallel(this.framebuffer, 0);
+    return this.interleaved;
+  }
+
+  @Benchmark
+  public Binary16Image packPlanar()
+  {
+    this.planar.packFloats(this.framebuffer, 0);
+    return this.planar;
+  }
+
+  @Benchmark
+  public float[] unpackInterleaved()
+  {
+    this.interleaved.unpackFloats(this.framebuffer, 0);
+    return this.framebuffer;
+  }
+
+  @Benchmark
+  public float[] unpackInterleavedParallel()
+  {
+    this.interleaved.unpackFloatsParallel(this.framebuffer, 0);
+    return this.framebuffer;
+  }
+}
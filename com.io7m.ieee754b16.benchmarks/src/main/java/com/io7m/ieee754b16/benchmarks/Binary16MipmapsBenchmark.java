@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.graphics.Binary16Image;
+import com.io7m.ieee754b16.graphics.Binary16ImageLayout;
+import com.io7m.ieee754b16.graphics.Binary16MipmapFilter;
+import com.io7m.ieee754b16.graphics.Binary16Mipmaps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare mipmap generation on binary16 images against unpacking each
+ * level to a float framebuffer, downsampling that, and packing the result.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16MipmapsBenchmark
+{
+  private static final int SIZE = 1024;
+
+  private Binary16Image image;
+
+  public Binary16MipmapsBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    final float[] values = new float[SIZE * SIZE * Binary16Image.CHANNELS];
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = random.nextFloat() * 4.0f;
+    }
+    this.image =
+      Binary16Image.create(SIZE, SIZE, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+    this.image.packFloats(values, 0);
+  }
+
+  @Benchmark
+  public List<Binary16Image> naiveBox()
+  {
+    final List<Binary16Image> levels = new ArrayList<>();
+    Binary16Image level = this.image;
+    levels.add(level);
+    while (level.width() > 1) {
+      final int width = level.width();
+      final float[] source = new float[width * width * 4];
+      level.unpackFloats(source, 0);
+
+      final int half = width / 2;
+      final float[] target = new float[half * half * 4];
+      for (int y = 0; y < half; ++y) {
+        for (int x = 0; x < half; ++x) {
+          for (int c = 0; c < 4; ++c) {
+            final int i0 = ((2 * y) * width + 2 * x) * 4 + c;
+            final int i1 = i0 + width * 4;
+            target[(y * half + x) * 4 + c] =
+              (source[i0] + source[i0 + 4] + source[i1] + source[i1 + 4]) * 0.25f;
+          }
+        }
+      }
+
+      level = Binary16Image.create(half, half, level.layout());
+      level.packFloats(target, 0);
+      levels.add(level);
+    }
+    return levels;
+  }
+
+  @Benchmark
+  public List<Binary16Image> generateBox()
+  {
+    return Binary16Mipmaps.generate(this.image, Binary16MipmapFilter.FILTER_BOX);
+  }
+
+  @Benchmark
+  public List<Binary16Image> generateBoxParallel()
+  {
+    return Binary16Mipmaps.generateParallel(
+      this.image, Binary16MipmapFilter.FILTER_BOX);
+  }
+
+  @Benchmark
+  public List<Binary16Image> generateKaiser()
+  {
+    return Binary16Mipmaps.generate(
+      this.image, Binary16MipmapFilter.FILTER_KAISER);
+  }
+}
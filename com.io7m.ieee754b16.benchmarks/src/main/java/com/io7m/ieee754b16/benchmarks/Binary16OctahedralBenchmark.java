@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.graphics.Binary16Octahedral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare octahedral encoding of normals against storing three
+ * {@code binary16} components.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16OctahedralBenchmark
+{
+  private static final int COUNT = 1 << 16;
+
+  private float[] normals;
+  private float[] decoded;
+  private char[] octahedral;
+  private char[] components;
+
+  public Binary16OctahedralBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.normals = new float[COUNT * 3];
+    this.decoded = new float[COUNT * 3];
+    this.octahedral = new char[COUNT * 2];
+    this.components = new char[COUNT * 3];
+    for (int index = 0; index < this.normals.length; index += 3) {
+      final double x = random.nextGaussian();
+      final double y = random.nextGaussian();
+      final double z = random.nextGaussian();
+      final double length = Math.sqrt(x * x + y * y + z * z);
+      this.normals[index] = (float) (x / length);
+      this.normals[index + 1] = (float) (y / length);
+      this.normals[index + 2] = (float) (z / length);
+    }
+    Binary16Octahedral.encode(this.normals, 0, this.octahedral, 0, COUNT);
+    Binary16Arrays.packFloats(this.normals, 0, this.components, 0, COUNT * 3);
+  }
+
+  @Benchmark
+  public char[] encodeOctahedral()
+  {
+    Binary16Octahedral.encode(this.normals, 0, this.octahedral, 0, COUNT);
+    return this.octahedral;
+  }
+
+  @Benchmark
+  public char[] encodeComponents()
+  {
+    Binary16Arrays.packFloats(this.normals, 0, this.components, 0, COUNT * 3);
+    return this.components;
+  }
+
+  @Benchmark
+  public float[] decodeOctahedral()
+  {
+    Binary16Octahedral.decode(this.octahedral, 0, this.decoded, 0, COUNT);
+    return this.decoded;
+  }
+
+  @Benchmark
+  public float[] decodeComponents()
+  {
+    Binary16Arrays.unpackFloats(this.components, 0, this.decoded, 0, COUNT * 3);
+    return this.decoded;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Parsing;
+import com.io7m.ieee754b16.Binary16Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare parsing a comma-separated line of decimal values by splitting it
+ * and calling {@link Float#parseFloat(String)} against the delimited
+ * binary16 parser.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16ParseBenchmark
+{
+  private static final int SIZE = 4096;
+
+  private String line;
+  private byte[] lineBytes;
+  private char[] halves;
+
+  public Binary16ParseBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    final StringBuilder text = new StringBuilder();
+    for (int index = 0; index < SIZE; ++index) {
+      if (index > 0) {
+        text.append(',');
+      }
+      text.append(Binary16Strings.toDecimalString((char) random.nextInt(0x7c00)));
+    }
+    this.line = text.toString();
+    this.lineBytes = this.line.getBytes(StandardCharsets.US_ASCII);
+    this.halves = new char[SIZE];
+  }
+
+  @Benchmark
+  public char[] splitParseFloat()
+  {
+    final String[] fields = this.line.split(",");
+    for (int index = 0; index < fields.length; ++index) {
+      this.halves[index] = Binary16.packFloat(Float.parseFloat(fields[index]));
+    }
+    return this.halves;
+  }
+
+  @Benchmark
+  public char[] parseDelimitedChars()
+  {
+    Binary16Parsing.parseDelimited(
+      this.line, 0, this.line.length(), ',', this.halves, 0);
+    return this.halves;
+  }
+
+  @Benchmark
+  public char[] parseDelimitedBytes()
+  {
+    Binary16Parsing.parseDelimited(
+      this.lineBytes, 0, this.lineBytes.length, (byte) ',', this.halves, 0);
+    return this.halves;
+  }
+}
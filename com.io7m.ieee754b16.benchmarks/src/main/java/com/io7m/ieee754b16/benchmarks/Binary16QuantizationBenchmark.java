@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.codecs.Binary16Quantization;
+import com.io7m.ieee754b16.codecs.Binary16QuantizationFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare a fused dequantize-dot-product against dequantizing into a
+ * scratch array followed by a plain dot product.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16QuantizationBenchmark
+{
+  private static final int SIZE = 4096;
+
+  @Param({"QUANTIZATION_Q8_0", "QUANTIZATION_Q4_0"})
+  private Binary16QuantizationFormat format;
+
+  private byte[] blocks;
+  private float[] vector;
+  private float[] scratch;
+
+  public Binary16QuantizationBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    final float[] weights = new float[SIZE];
+    this.vector = new float[SIZE];
+    this.scratch = new float[SIZE];
+    for (int index = 0; index < SIZE; ++index) {
+      weights[index] = (float) random.nextGaussian();
+      this.vector[index] = (float) random.nextGaussian();
+    }
+    this.blocks = new byte[Binary16Quantization.encodedSize(this.format, SIZE)];
+    Binary16Quantization.quantize(this.format, weights, 0, this.blocks, 0, SIZE);
+  }
+
+  @Benchmark
+  public float dequantizeThenDot()
+  {
+    Binary16Quantization.dequantize(
+      this.format, this.blocks, 0, this.scratch, 0, SIZE);
+    float sum = 0.0f;
+    for (int index = 0; index < SIZE; ++index) {
+      sum += this.scratch[index] * this.vector[index];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public float fusedDot()
+  {
+    return Binary16Quantization.dot(
+      this.format, this.blocks, 0, this.vector, 0, SIZE);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsFile;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsHeader;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsTensor;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsTensorInfo;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsType;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare opening a {@code .safetensors} file by mapping it against reading
+ * and unpacking every tensor.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16SafetensorsBenchmark
+{
+  private static final int TENSORS = 64;
+  private static final int ELEMENTS = 1 << 19;
+
+  private Path file;
+
+  public Binary16SafetensorsBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+    throws IOException
+  {
+    final List<Binary16SafetensorsTensorInfo> tensors = new ArrayList<>();
+    for (int index = 0; index < TENSORS; ++index) {
+      tensors.add(Binary16SafetensorsTensorInfo.of(
+        "layer." + index + ".weight",
+        Binary16SafetensorsType.TYPE_F16,
+        512L,
+        (long) (ELEMENTS / 512)));
+    }
+
+    final Random random = new Random(0x1234L);
+    final float[] values = new float[ELEMENTS];
+    this.file = Files.createTempFile("ieee754b16-", ".safetensors");
+    try (OutputStream stream = Files.newOutputStream(this.file);
+         Binary16SafetensorsWriter writer = Binary16SafetensorsWriter.open(
+           stream, Binary16SafetensorsHeader.of(tensors, Map.of()))) {
+      for (int index = 0; index < TENSORS; ++index) {
+        for (int k = 0; k < ELEMENTS; ++k) {
+          values[k] = (float) random.nextGaussian();
+        }
+        writer.writeFloats(values, 0, ELEMENTS);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws IOException
+  {
+    Files.deleteIfExists(this.file);
+  }
+
+  @Benchmark
+  public Binary16SafetensorsFile openMapped()
+    throws IOException
+  {
+    return Binary16SafetensorsFile.open(this.file);
+  }
+
+  @Benchmark
+  public float[][] openMappedUnpack()
+    throws IOException
+  {
+    final Binary16SafetensorsFile mapped = Binary16SafetensorsFile.open(this.file);
+    final float[][] result = new float[TENSORS][];
+    for (int index = 0; index < TENSORS; ++index) {
+      result[index] = mapped.tensors().get(index).toFloats();
+    }
+    return result;
+  }
+
+  /**
+   * The baseline: read the whole file onto the heap and unpack every tensor.
+   * The data offsets are taken from the mapped header so that only the cost
+   * of the data is measured.
+   */
+
+  @Benchmark
+  public float[][] readAllUnpack()
+    throws IOException
+  {
+    final List<Binary16SafetensorsTensor> tensors =
+      Binary16SafetensorsFile.open(this.file).tensors();
+    final byte[] bytes = Files.readAllBytes(this.file);
+    final int dataOffset = bytes.length - TENSORS * ELEMENTS * 2;
+    final CharBuffer chars =
+      ByteBuffer.wrap(bytes, dataOffset, bytes.length - dataOffset)
+        .slice()
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .asCharBuffer();
+
+    final char[] packed = new char[ELEMENTS];
+    final float[][] result = new float[TENSORS][];
+    for (int index = 0; index < tensors.size(); ++index) {
+      chars.get(packed);
+      result[index] = new float[ELEMENTS];
+      Binary16Arrays.unpackFloats(packed, 0, result[index], 0, ELEMENTS);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.search.Binary16FlatIndex;
+import com.io7m.ieee754b16.search.Binary16IVFIndex;
+import com.io7m.ieee754b16.search.Binary16Metric;
+import com.io7m.ieee754b16.search.Binary16Neighbor;
+import com.io7m.ieee754b16.search.Binary16VectorStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure query latency of flat and IVF indexes over synthetic clustered
+ * embeddings. The recall of the IVF index at each probe count is printed
+ * during setup.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16SearchBenchmark
+{
+  private static final int COUNT = 100000;
+  private static final int DIMENSIONS = 128;
+  private static final int CLUSTERS = 1000;
+  private static final int LISTS = 256;
+  private static final int QUERIES = 64;
+  private static final int K = 10;
+
+  @Param({"1", "4", "16"})
+  public int probes;
+
+  private Binary16FlatIndex flat;
+  private Binary16IVFIndex ivf;
+  private float[][] queries;
+  private int query;
+
+  public Binary16SearchBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    final float[] centers = new float[CLUSTERS * DIMENSIONS];
+    for (int index = 0; index < centers.length; ++index) {
+      centers[index] = (float) random.nextGaussian();
+    }
+
+    final Binary16VectorStore store =
+      Binary16VectorStore.createDirect(DIMENSIONS);
+    final float[] vector = new float[DIMENSIONS];
+    for (int index = 0; index < COUNT; ++index) {
+      clusterMember(random, centers, vector);
+      store.add(vector, 0);
+    }
+
+    this.queries = new float[QUERIES][DIMENSIONS];
+    for (int index = 0; index < QUERIES; ++index) {
+      clusterMember(random, centers, this.queries[index]);
+    }
+
+    final Binary16Metric metric = Binary16Metric.METRIC_COSINE;
+    this.flat = Binary16FlatIndex.create(store, metric);
+    this.ivf = Binary16IVFIndex.train(store, metric, LISTS, 10, 0x5678L);
+
+    int found = 0;
+    for (final float[] q : this.queries) {
+      final Set<Integer> exact = ids(this.flat.search(q, K));
+      exact.retainAll(ids(this.ivf.search(q, K, this.probes)));
+      found += exact.size();
+    }
+    System.out.printf(
+      "%nIVF recall@%d with %d of %d lists probed: %.3f%n",
+      Integer.valueOf(K),
+      Integer.valueOf(this.probes),
+      Integer.valueOf(LISTS),
+      Double.valueOf((double) found / (double) (QUERIES * K)));
+  }
+
+  private static void clusterMember(
+    final Random random,
+    final float[] centers,
+    final float[] vector)
+  {
+    final int base = random.nextInt(CLUSTERS) * DIMENSIONS;
+    for (int d = 0; d < DIMENSIONS; ++d) {
+      vector[d] = centers[base + d] + (float) (random.nextGaussian() * 1.5);
+    }
+  }
+
+  private static Set<Integer> ids(
+    final List<Binary16Neighbor> neighbors)
+  {
+    final Set<Integer> ids = new HashSet<>();
+    for (final Binary16Neighbor neighbor : neighbors) {
+      ids.add(Integer.valueOf(neighbor.id()));
+    }
+    return ids;
+  }
+
+  private float[] nextQuery()
+  {
+    this.query = (this.query + 1) % QUERIES;
+    return this.queries[this.query];
+  }
+
+  @Benchmark
+  public List<Binary16Neighbor> searchFlat()
+  {
+    return this.flat.search(this.nextQuery(), K);
+  }
+
+  @Benchmark
+  public List<Binary16Neighbor> searchFlatParallel()
+  {
+    return this.flat.searchParallel(this.nextQuery(), K);
+  }
+
+  @Benchmark
+  public List<Binary16Neighbor> searchIVF()
+  {
+    return this.ivf.search(this.nextQuery(), K, this.probes);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.codecs.Binary16Shuffle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the shuffle filters against straightforward per-bit loops of the
+ * kind typically written by hand.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16ShuffleBenchmark
+{
+  private static final int SIZE = 1 << 20;
+
+  private char[] values;
+  private byte[] shuffled;
+
+  public Binary16ShuffleBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.values = new char[SIZE];
+    this.shuffled = new byte[SIZE * 2];
+    for (int index = 0; index < SIZE; ++index) {
+      this.values[index] = (char) random.nextInt(0x10000);
+    }
+  }
+
+  @Benchmark
+  public byte[] naiveShuffleBytes()
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      final char value = this.values[index];
+      this.shuffled[index] = (byte) (value >>> 8);
+      this.shuffled[SIZE + index] = (byte) value;
+    }
+    return this.shuffled;
+  }
+
+  @Benchmark
+  public byte[] shuffleBytes()
+  {
+    Binary16Shuffle.shuffleBytes(this.values, 0, this.shuffled, 0, SIZE);
+    return this.shuffled;
+  }
+
+  @Benchmark
+  public byte[] shuffleBytesParallel()
+  {
+    Binary16Shuffle.shuffleBytesParallel(this.values, 0, this.shuffled, 0, SIZE);
+    return this.shuffled;
+  }
+
+  @Benchmark
+  public byte[] naiveShuffleBits()
+  {
+    final int planeSize = SIZE / 8;
+    for (int plane = 0; plane < 16; ++plane) {
+      for (int index = 0; index < SIZE; index += 8) {
+        int b = 0;
+        for (int bit = 0; bit < 8; ++bit) {
+          b = (b << 1) | ((this.values[index + bit] >>> (15 - plane)) & 1);
+        }
+        this.shuffled[plane * planeSize + index / 8] = (byte) b;
+      }
+    }
+    return this.shuffled;
+  }
+
+  @Benchmark
+  public byte[] shuffleBits()
+  {
+    Binary16Shuffle.shuffleBits(this.values, 0, this.shuffled, 0, SIZE);
+    return this.shuffled;
+  }
+
+  @Benchmark
+  public byte[] shuffleBitsParallel()
+  {
+    Binary16Shuffle.shuffleBitsParallel(this.values, 0, this.shuffled, 0, SIZE);
+    return this.shuffled;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.Binary16SubnormalMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the ordinary conversion functions against the flush-to-zero and
+ * denormals-are-zero variants, over inputs in which a configurable fraction
+ * of values lie in the {@code binary16} subnormal range.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16SubnormalBenchmark
+{
+  private static final int SIZE = 4096;
+
+  @Param({"0.0", "0.5", "1.0"})
+  public double subnormalFraction;
+
+  private float[] floats;
+  private char[] halves;
+  private float[] floatsOut;
+  private char[] halvesOut;
+
+  public Binary16SubnormalBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.floats = new float[SIZE];
+    this.halves = new char[SIZE];
+    this.floatsOut = new float[SIZE];
+    this.halvesOut = new char[SIZE];
+
+    for (int index = 0; index < SIZE; ++index) {
+      final float sign = random.nextBoolean() ? 1.0f : -1.0f;
+      if (random.nextDouble() < this.subnormalFraction) {
+        // Magnitudes in [2^-24, 2^-14): subnormal as binary16
+        final float m = (float) (1 + random.nextInt(1023));
+        this.floats[index] = sign * m * 0x1.0p-24f;
+        this.halves[index] = (char) ((int) m | (sign < 0.0f ? 0x8000 : 0));
+      } else {
+        final float m = 1.0f + random.nextFloat() * 1000.0f;
+        this.floats[index] = sign * m;
+        this.halves[index] = (char) (0x3c00 + random.nextInt(0x3000));
+      }
+    }
+  }
+
+  @Benchmark
+  public char[] packPreserve()
+  {
+    Binary16Arrays.packFloats(
+      this.floats, 0, this.halvesOut, 0, SIZE,
+      Binary16SubnormalMode.SUBNORMAL_PRESERVE);
+    return this.halvesOut;
+  }
+
+  @Benchmark
+  public char[] packFlushToZero()
+  {
+    Binary16Arrays.packFloats(
+      this.floats, 0, this.halvesOut, 0, SIZE,
+      Binary16SubnormalMode.SUBNORMAL_FLUSH_TO_ZERO);
+    return this.halvesOut;
+  }
+
+  @Benchmark
+  public float[] unpackPreserve()
+  {
+    Binary16Arrays.unpackFloats(
+      this.halves, 0, this.floatsOut, 0, SIZE,
+      Binary16SubnormalMode.SUBNORMAL_PRESERVE);
+    return this.floatsOut;
+  }
+
+  @Benchmark
+  public float[] unpackDenormalsAreZero()
+  {
+    Binary16Arrays.unpackFloats(
+      this.halves, 0, this.floatsOut, 0, SIZE,
+      Binary16SubnormalMode.SUBNORMAL_FLUSH_TO_ZERO);
+    return this.floatsOut;
+  }
+}
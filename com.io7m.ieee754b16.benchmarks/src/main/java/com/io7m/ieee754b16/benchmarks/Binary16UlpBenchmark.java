@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Arrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the maximum ulp error between two arrays of packed values computed
+ * directly on the packed values with the same error computed by unpacking
+ * both values to {@code float} and dividing their difference by the ulp.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16UlpBenchmark
+{
+  @Param({"1024", "65536"})
+  public int size;
+
+  private char[] expected;
+  private char[] received;
+
+  public Binary16UlpBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.expected = new char[this.size];
+    this.received = new char[this.size];
+    for (int index = 0; index < this.size; ++index) {
+      final float value = (float) (random.nextGaussian() * 100.0);
+      this.expected[index] = Binary16.packFloat(value);
+      this.received[index] = (char) (this.expected[index] + random.nextInt(5) - 2);
+    }
+  }
+
+  @Benchmark
+  public int maxUlpDistance()
+  {
+    return Binary16Arrays.maxUlpDistance(
+      this.expected, 0, this.received, 0, this.size);
+  }
+
+  @Benchmark
+  public int maxUlpDistanceViaFloat()
+  {
+    int maximum = 0;
+    for (int index = 0; index < this.size; ++index) {
+      final float x = Binary16.unpackFloat(this.expected[index]);
+      final float y = Binary16.unpackFloat(this.received[index]);
+      if (Float.isNaN(x) || Float.isNaN(y)) {
+        if (Float.isNaN(x) != Float.isNaN(y)) {
+          return Integer.MAX_VALUE;
+        }
+        continue;
+      }
+      final float smaller = Math.min(Math.abs(x), Math.abs(y));
+      final float ulp = Math.max(Math.ulp(smaller) * 8192.0f, 0x1.0p-24f);
+      maximum = Math.max(maximum, (int) (Math.abs(x - y) / ulp));
+    }
+    return maximum;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16VertexPacking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare strided vertex attribute packing against a per-component loop
+ * of the kind typically written by hand.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16VertexPackingBenchmark
+{
+  private static final int VERTICES = 1 << 16;
+  private static final int STRIDE = 24;
+
+  private float[] values;
+  private ByteBuffer buffer;
+
+  public Binary16VertexPackingBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.values = new float[VERTICES * 4];
+    for (int index = 0; index < this.values.length; ++index) {
+      this.values[index] = random.nextFloat();
+    }
+    this.buffer =
+      ByteBuffer.allocateDirect(VERTICES * STRIDE)
+        .order(ByteOrder.nativeOrder());
+  }
+
+  private void naive(
+    final int components)
+  {
+    for (int vertex = 0; vertex < VERTICES; ++vertex) {
+      for (int component = 0; component < components; ++component) {
+        this.buffer.putChar(
+          vertex * STRIDE + 4 + component * 2,
+          Binary16.packFloat(this.values[vertex * components + component]));
+      }
+    }
+  }
+
+  @Benchmark
+  public ByteBuffer naiveVec2()
+  {
+    this.naive(2);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer packVec2()
+  {
+    Binary16VertexPacking.packFloats(
+      this.values, 0, 2, this.buffer, 4, STRIDE, VERTICES);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer naiveVec3()
+  {
+    this.naive(3);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer packVec3()
+  {
+    Binary16VertexPacking.packFloats(
+      this.values, 0, 3, this.buffer, 4, STRIDE, VERTICES);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer naiveVec4()
+  {
+    this.naive(4);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer packVec4()
+  {
+    Binary16VertexPacking.packFloats(
+      this.values, 0, 4, this.buffer, 4, STRIDE, VERTICES);
+    return this.buffer;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.benchmarks;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.codecs.Binary16XORCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the throughput of the XOR codec on a slowly varying series of
+ * noisy sensor readings. One operation processes one block.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binary16XORCodecBenchmark
+{
+  private static final int SIZE = 65536;
+
+  private char[] values;
+  private char[] decoded;
+  private byte[] encoded;
+  private int encodedSize;
+
+  public Binary16XORCodecBenchmark()
+  {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final Random random = new Random(0x1234L);
+    this.values = new char[SIZE];
+    this.decoded = new char[SIZE];
+    this.encoded = new byte[Binary16XORCodec.maximumEncodedSize(SIZE)];
+
+    for (int index = 0; index < SIZE; ++index) {
+      final double signal = 20.0 + 5.0 * Math.sin((double) index / 200.0);
+      this.values[index] =
+        Binary16.packDouble(signal + random.nextGaussian() * 0.01);
+    }
+    this.encodedSize =
+      Binary16XORCodec.encode(this.values, 0, SIZE, this.encoded, 0);
+  }
+
+  @Benchmark
+  public int encode()
+  {
+    return Binary16XORCodec.encode(this.values, 0, SIZE, this.encoded, 0);
+  }
+
+  @Benchmark
+  public char[] decode()
+  {
+    Binary16XORCodec.decode(
+      this.encoded, 0, this.encodedSize, this.decoded, 0, SIZE);
+    return this.decoded;
+  }
+}
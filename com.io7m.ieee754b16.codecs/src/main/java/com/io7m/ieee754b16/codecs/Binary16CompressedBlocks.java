@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.codecs;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A series of {@code binary16} values compressed with
+ * {@link Binary16XORCodec} in independent blocks of a fixed number of
+ * values.
+ * </p>
+ * <p>
+ * Because every block is encoded independently, any block can be decoded
+ * without decoding those before it. Smaller blocks give faster random
+ * access at the cost of a slightly worse compression ratio, because the
+ * first value of each block is exclusive-ORed with zero and the codec must
+ * establish a new window at the start of each block.
+ * </p>
+ * <p>
+ * Instances are immutable.
+ * </p>
+ */
+
+public final class Binary16CompressedBlocks
+{
+  /**
+   * The default number of values in each block.
+   */
+
+  public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+  private static final int MAGIC = 0x42313658;
+  private static final int VERSION = 1;
+
+  private final int size;
+  private final int blockSize;
+  private final int[] offsets;
+  private final byte[] data;
+
+  private Binary16CompressedBlocks(
+    final int inSize,
+    final int inBlockSize,
+    final int[] inOffsets,
+    final byte[] inData)
+  {
+    this.size = inSize;
+    this.blockSize = inBlockSize;
+    this.offsets = inOffsets;
+    this.data = inData;
+  }
+
+  /**
+   * Compress values in blocks of {@link #DEFAULT_BLOCK_SIZE} values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @return The compressed values
+   *
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public static Binary16CompressedBlocks encode(
+    final char[] source,
+    final int sourceOffset,
+    final int count)
+  {
+    return encode(source, sourceOffset, count, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Compress values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   * @param blockSize    The number of values in each block
+   *
+   * @return The compressed values
+   *
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   * @throws IllegalArgumentException  If {@code blockSize} is not positive
+   */
+
+  public static Binary16CompressedBlocks encode(
+    final char[] source,
+    final int sourceOffset,
+    final int count,
+    final int blockSize)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Block size must be positive");
+    }
+
+    final int blockCount = blockCount(count, blockSize);
+    final int[] offsets = new int[blockCount + 1];
+    byte[] data = new byte[Math.max(64, count)];
+
+    int position = 0;
+    for (int block = 0; block < blockCount; ++block) {
+      final int first = block * blockSize;
+      final int length = Math.min(blockSize, count - first);
+      final int required =
+        position + Binary16XORCodec.maximumEncodedSize(length);
+      if (required > data.length) {
+        data = Arrays.copyOf(data, Math.max(required, data.length << 1));
+      }
+      offsets[block] = position;
+      position += Binary16XORCodec.encode(
+        source, sourceOffset + first, length, data, position);
+    }
+    offsets[blockCount] = position;
+
+    return new Binary16CompressedBlocks(
+      count, blockSize, offsets, Arrays.copyOf(data, position));
+  }
+
+  private static int blockCount(
+    final int count,
+    final int blockSize)
+  {
+    return (int) (((long) count + (long) blockSize - 1L) / (long) blockSize);
+  }
+
+  /**
+   * Read compressed values in the form produced by {@link #toByteArray()}.
+   *
+   * @param bytes The serialized form
+   *
+   * @return The compressed values
+   *
+   * @throws IllegalArgumentException If the serialized form is malformed
+   */
+
+  public static Binary16CompressedBlocks fromByteArray(
+    final byte[] bytes)
+  {
+    Objects.requireNonNull(bytes, "bytes");
+
+    try {
+      final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IllegalArgumentException("Unrecognized serialized form");
+      }
+
+      final int size = buffer.getInt();
+      final int blockSize = buffer.getInt();
+      if (size < 0 || blockSize <= 0) {
+        throw new IllegalArgumentException("Malformed size or block size");
+      }
+
+      final long offsetCount =
+        ((long) size + (long) blockSize - 1L) / (long) blockSize + 1L;
+      if (offsetCount > (long) (buffer.remaining() / 4)) {
+        throw new IllegalArgumentException("Truncated serialized form");
+      }
+
+      final int[] offsets = new int[(int) offsetCount];
+      buffer.asIntBuffer().get(offsets);
+      buffer.position(buffer.position() + offsets.length * 4);
+
+      final byte[] data = new byte[buffer.remaining()];
+      buffer.get(data);
+      checkOffsets(size, blockSize, offsets, data.length);
+      return new Binary16CompressedBlocks(size, blockSize, offsets, data);
+    } catch (final BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated serialized form", e);
+    }
+  }
+
+  private static void checkOffsets(
+    final int size,
+    final int blockSize,
+    final int[] offsets,
+    final int dataLength)
+  {
+    for (int index = 1; index < offsets.length; ++index) {
+      if (offsets[index] < offsets[index - 1]) {
+        throw new IllegalArgumentException("Malformed block offsets");
+      }
+    }
+    if (offsets[0] != 0 || offsets[offsets.length - 1] != dataLength) {
+      throw new IllegalArgumentException("Malformed block offsets");
+    }
+
+    /*
+     * Every value occupies at least one bit of encoded data, so reject
+     * sizes that the data cannot hold before anything allocates an array
+     * of that size.
+     */
+
+    if ((long) size > 8L * (long) dataLength) {
+      throw new IllegalArgumentException("Size exceeds the encoded data");
+    }
+    for (int block = 0; block + 1 < offsets.length; ++block) {
+      final long length = Math.min(
+        (long) blockSize, (long) size - (long) block * (long) blockSize);
+      final long bytes = (long) offsets[block + 1] - (long) offsets[block];
+      if (length > 8L * bytes) {
+        throw new IllegalArgumentException(
+          "Block size exceeds the encoded data");
+      }
+    }
+  }
+
+  /**
+   * @return The serialized form of the compressed values
+   */
+
+  public byte[] toByteArray()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(16 + this.offsets.length * 4 + this.data.length);
+    buffer.putInt(MAGIC);
+    buffer.putInt(VERSION);
+    buffer.putInt(this.size);
+    buffer.putInt(this.blockSize);
+    buffer.asIntBuffer().put(this.offsets);
+    buffer.position(buffer.position() + this.offsets.length * 4);
+    buffer.put(this.data);
+    return buffer.array();
+  }
+
+  /**
+   * @return The total number of values
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return The number of values in each block except, possibly, the last
+   */
+
+  public int blockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * @return The number of blocks
+   */
+
+  public int blockCount()
+  {
+    return this.offsets.length - 1;
+  }
+
+  /**
+   * @return The size of the compressed values in bytes, excluding the block
+   * index
+   */
+
+  public int encodedSize()
+  {
+    return this.data.length;
+  }
+
+  /**
+   * @param block The block index
+   *
+   * @return The number of values in the given block
+   *
+   * @throws IndexOutOfBoundsException If the block does not exist
+   */
+
+  public int blockLength(
+    final int block)
+  {
+    Objects.checkIndex(block, this.blockCount());
+    return Math.min(this.blockSize, this.size - block * this.blockSize);
+  }
+
+  /**
+   * Decode a single block.
+   *
+   * @param block        The block index
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   *
+   * @return The number of values decoded
+   *
+   * @throws IndexOutOfBoundsException If the block does not exist, or the
+   *                                   target range is out of bounds
+   */
+
+  public int decodeBlock(
+    final int block,
+    final char[] target,
+    final int targetOffset)
+  {
+    final int length = this.blockLength(block);
+    final int start = this.offsets[block];
+    Binary16XORCodec.decode(
+      this.data,
+      start,
+      this.offsets[block + 1] - start,
+      target,
+      targetOffset,
+      length);
+    return length;
+  }
+
+  /**
+   * Decode the value at the given index. This decodes the block containing
+   * the value, and so is much slower than decoding whole blocks when many
+   * values are required.
+   *
+   * @param index The index of the value
+   *
+   * @return The packed {@code binary16} value
+   *
+   * @throws IndexOutOfBoundsException If the index is out of bounds
+   */
+
+  public char get(
+    final int index)
+  {
+    Objects.checkIndex(index, this.size);
+    final int block = index / this.blockSize;
+    final char[] values = new char[this.blockLength(block)];
+    this.decodeBlock(block, values, 0);
+    return values[index - block * this.blockSize];
+  }
+
+  /**
+   * Decode every block.
+   *
+   * @return The values
+   */
+
+  public char[] decode()
+  {
+    final char[] values = new char[this.size];
+    for (int block = 0; block < this.blockCount(); ++block) {
+      this.decodeBlock(block, values, block * this.blockSize);
+    }
+    return values;
+  }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.codecs;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to quantize values into, and dequantize values out of, the
+ * block formats described by {@link Binary16QuantizationFormat}.
+ * </p>
+ * <p>
+ * Quantization follows the reference implementation in {@code llama.cpp}:
+ * the scale of each block is chosen from the value of largest magnitude in
+ * the block, and is stored with {@link Binary16#packFloat(float)}. Scales
+ * are read back with {@link Binary16#unpackFloatExact(char)} so that blocks
+ * produced by other implementations decode to exactly the values those
+ * implementations intended.
+ * </p>
+ * <p>
+ * The number of values passed to every function must be a multiple of the
+ * block size of the format.
+ * </p>
+ */
+
+public final class Binary16Quantization
+{
+  private Binary16Quantization()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param format The format
+   * @param count  The number of values
+   *
+   * @return The size in bytes of {@code count} quantized values
+   *
+   * @throws IllegalArgumentException If {@code count} is not a non-negative
+   *                                  multiple of the block size
+   */
+
+  public static int encodedSize(
+    final Binary16QuantizationFormat format,
+    final int count)
+  {
+    return Math.multiplyExact(blocks(format, count), format.blockBytes());
+  }
+
+  private static int blocks(
+    final Binary16QuantizationFormat format,
+    final int count)
+  {
+    Objects.requireNonNull(format, "format");
+    final int size = format.blockValues();
+    if (count < 0 || count % size != 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Count %d is not a non-negative multiple of the block size %d",
+          Integer.valueOf(count),
+          Integer.valueOf(size))
+      );
+    }
+    return count / size;
+  }
+
+  /**
+   * Quantize values.
+   *
+   * @param format       The format
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target byte
+   * @param count        The number of values
+   *
+   * @throws IllegalArgumentException  If {@code count} is not a multiple of
+   *                                   the block size
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void quantize(
+    final Binary16QuantizationFormat format,
+    final float[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final int blocks = blocks(format, count);
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, encodedSize(format, count), target.length);
+
+    for (int block = 0; block < blocks; ++block) {
+      final int values = sourceOffset + block * format.blockValues();
+      final int bytes = targetOffset + block * format.blockBytes();
+      switch (format) {
+        case QUANTIZATION_Q8_0 -> quantizeQ80(source, values, target, bytes);
+        case QUANTIZATION_Q4_0 -> quantizeQ40(source, values, target, bytes);
+      }
+    }
+  }
+
+  private static void quantizeQ80(
+    final float[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset)
+  {
+    float amax = 0.0f;
+    for (int index = 0; index < 32; ++index) {
+      amax = Math.max(amax, Math.abs(source[sourceOffset + index]));
+    }
+
+    final float d = amax / 127.0f;
+    float id = 0.0f;
+    if (d != 0.0f) {
+      id = 1.0f / d;
+    }
+
+    putScale(target, targetOffset, d);
+    for (int index = 0; index < 32; ++index) {
+      final float x = source[sourceOffset + index] * id;
+      target[targetOffset + 2 + index] =
+        (byte) Math.copySign(Math.floor(Math.abs((double) x) + 0.5), x);
+    }
+  }
+
+  private static void quantizeQ40(
+    final float[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset)
+  {
+    float amax = 0.0f;
+    float max = 0.0f;
+    for (int index = 0; index < 32; ++index) {
+      final float x = source[sourceOffset + index];
+      if (amax < Math.abs(x)) {
+        amax = Math.abs(x);
+        max = x;
+      }
+    }
+
+    final float d = max / -8.0f;
+    float id = 0.0f;
+    if (d != 0.0f) {
+      id = 1.0f / d;
+    }
+
+    putScale(target, targetOffset, d);
+    for (int index = 0; index < 16; ++index) {
+      final float x0 = source[sourceOffset + index] * id;
+      final float x1 = source[sourceOffset + 16 + index] * id;
+      final int q0 = Math.min(15, (int) (x0 + 8.5f));
+      final int q1 = Math.min(15, (int) (x1 + 8.5f));
+      target[targetOffset + 2 + index] = (byte) (q0 | q1 << 4);
+    }
+  }
+
+  /**
+   * Dequantize values.
+   *
+   * @param format       The format
+   * @param source       The quantized bytes
+   * @param sourceOffset The offset of the first quantized byte
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IllegalArgumentException  If {@code count} is not a multiple of
+   *                                   the block size
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void dequantize(
+    final Binary16QuantizationFormat format,
+    final byte[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final int blocks = blocks(format, count);
+    Objects.checkFromIndexSize(
+      sourceOffset, encodedSize(format, count), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int block = 0; block < blocks; ++block) {
+      final int bytes = sourceOffset + block * format.blockBytes();
+      final int values = targetOffset + block * format.blockValues();
+      final float d = getScale(source, bytes);
+      switch (format) {
+        case QUANTIZATION_Q8_0 -> {
+          for (int index = 0; index < 32; ++index) {
+            target[values + index] = (float) source[bytes + 2 + index] * d;
+          }
+        }
+        case QUANTIZATION_Q4_0 -> {
+          for (int index = 0; index < 16; ++index) {
+            final int q = source[bytes + 2 + index] & 0xff;
+            target[values + index] = (float) ((q & 0xf) - 8) * d;
+            target[values + 16 + index] = (float) ((q >>> 4) - 8) * d;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Calculate the dot product of quantized values and a vector, without
+   * dequantizing the values into a separate array. The products within each
+   * block are summed before being multiplied by the scale of the block.
+   *
+   * @param format       The format
+   * @param source       The quantized bytes
+   * @param sourceOffset The offset of the first quantized byte
+   * @param vector       The vector
+   * @param vectorOffset The offset of the first vector component
+   * @param count        The number of values
+   *
+   * @return The dot product
+   *
+   * @throws IllegalArgumentException  If {@code count} is not a multiple of
+   *                                   the block size
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static float dot(
+    final Binary16QuantizationFormat format,
+    final byte[] source,
+    final int sourceOffset,
+    final float[] vector,
+    final int vectorOffset,
+    final int count)
+  {
+    final int blocks = blocks(format, count);
+    Objects.checkFromIndexSize(
+      sourceOffset, encodedSize(format, count), source.length);
+    Objects.checkFromIndexSize(vectorOffset, count, vector.length);
+
+    float sum = 0.0f;
+    for (int block = 0; block < blocks; ++block) {
+      final int bytes = sourceOffset + block * format.blockBytes();
+      final int values = vectorOffset + block * format.blockValues();
+      final float blockSum = switch (format) {
+        case QUANTIZATION_Q8_0 -> dotQ80(source, bytes + 2, vector, values);
+        case QUANTIZATION_Q4_0 -> dotQ40(source, bytes + 2, vector, values);
+      };
+      sum += blockSum * getScale(source, bytes);
+    }
+    return sum;
+  }
+
+  private static float dotQ80(
+    final byte[] source,
+    final int sourceOffset,
+    final float[] vector,
+    final int vectorOffset)
+  {
+    float sum = 0.0f;
+    for (int index = 0; index < 32; ++index) {
+      sum += (float) source[sourceOffset + index] * vector[vectorOffset + index];
+    }
+    return sum;
+  }
+
+  private static float dotQ40(
+    final byte[] source,
+    final int sourceOffset,
+    final float[] vector,
+    final int vectorOffset)
+  {
+    float sum = 0.0f;
+    for (int index = 0; index < 16; ++index) {
+      final int q = source[sourceOffset + index] & 0xff;
+      sum += (float) ((q & 0xf) - 8) * vector[vectorOffset + index];
+      sum += (float) ((q >>> 4) - 8) * vector[vectorOffset + 16 + index];
+    }
+    return sum;
+  }
+
+  /**
+   * Quantize and dequantize values, and report the error introduced.
+   *
+   * @param format The format
+   * @param values The values
+   * @param offset The offset of the first value
+   * @param count  The number of values
+   *
+   * @return A report of the error
+   *
+   * @throws IllegalArgumentException  If {@code count} is not a multiple of
+   *                                   the block size
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static Binary16QuantizationReport measure(
+    final Binary16QuantizationFormat format,
+    final float[] values,
+    final int offset,
+    final int count)
+  {
+    final int blocks = blocks(format, count);
+    Objects.checkFromIndexSize(offset, count, values.length);
+
+    final int size = format.blockValues();
+    final byte[] encoded = new byte[format.blockBytes()];
+    final float[] decoded = new float[size];
+
+    double maximum = 0.0;
+    double absolute = 0.0;
+    double squared = 0.0;
+    double signal = 0.0;
+    for (int block = 0; block < blocks; ++block) {
+      final int start = offset + block * size;
+      quantize(format, values, start, encoded, 0, size);
+      dequantize(format, encoded, 0, decoded, 0, size);
+      for (int index = 0; index < size; ++index) {
+        final double x = values[start + index];
+        final double error = Math.abs(x - (double) decoded[index]);
+        maximum = Math.max(maximum, error);
+        absolute += error;
+        squared += error * error;
+        signal += x * x;
+      }
+    }
+
+    double mean = 0.0;
+    double rms = 0.0;
+    if (count > 0) {
+      mean = absolute / (double) count;
+      rms = Math.sqrt(squared / (double) count);
+    }
+
+    return new Binary16QuantizationReport(
+      format,
+      count,
+      maximum,
+      mean,
+      rms,
+      10.0 * Math.log10(signal / squared));
+  }
+
+  private static void putScale(
+    final byte[] target,
+    final int targetOffset,
+    final float d)
+  {
+    final char k = Binary16.packFloat(d);
+    target[targetOffset] = (byte) k;
+    target[targetOffset + 1] = (byte) (k >>> 8);
+  }
+
+  private static float getScale(
+    final byte[] source,
+    final int sourceOffset)
+  {
+    return Binary16.unpackFloatExact(
+      (char) ((source[sourceOffset] & 0xff)
+        | (source[sourceOffset + 1] & 0xff) << 8));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.codecs;
+
+/**
+ * Block quantization formats. Each block holds a fixed number of values
+ * as a {@code binary16} scale followed by small integer payloads. The byte
+ * layouts match the formats of the same names used by {@code llama.cpp}
+ * and GGUF files, with the scale stored in little-endian byte order.
+ *
+ * @see Binary16Quantization
+ */
+
+public enum Binary16QuantizationFormat
+{
+  /**
+   * Blocks of 32 values stored as a scale {@code d} followed by 32 signed
+   * bytes {@code q}, each representing the value {@code q * d}. Each block
+   * occupies 34 bytes.
+   */
+
+  QUANTIZATION_Q8_0(32, 34),
+
+  /**
+   * Blocks of 32 values stored as a scale {@code d} followed by 16 bytes
+   * holding 32 unsigned four-bit values {@code q}, each representing the
+   * value {@code (q - 8) * d}. The low four bits of byte {@code j} hold
+   * value {@code j}, and the high four bits hold value {@code j + 16}. Each
+   * block occupies 18 bytes.
+   */
+
+  QUANTIZATION_Q4_0(32, 18);
+
+  private final int blockValues;
+  private final int blockBytes;
+
+  Binary16QuantizationFormat(
+    final int inBlockValues,
+    final int inBlockBytes)
+  {
+    this.blockValues = inBlockValues;
+    this.blockBytes = inBlockBytes;
+  }
+
+  /**
+   * @return The number of values in each block
+   */
+
+  public int blockValues()
+  {
+    return this.blockValues;
+  }
+
+  /**
+   * @return The size in bytes of each block
+   */
+
+  public int blockBytes()
+  {
+    return this.blockBytes;
+  }
+}
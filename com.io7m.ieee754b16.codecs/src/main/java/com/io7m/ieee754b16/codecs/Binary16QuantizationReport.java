@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.codecs;
+
+/**
+ * <p>
+ * A report of the error introduced by quantizing a set of values.
+ * </p>
+ * <p>
+ * Instances are immutable.
+ * </p>
+ *
+ * @see Binary16Quantization#measure(Binary16QuantizationFormat, float[], int, int)
+ */
+
+public final class Binary16QuantizationReport
+{
+  private final Binary16QuantizationFormat format;
+  private final int count;
+  private final double maximumAbsoluteError;
+  private final double meanAbsoluteError;
+  private final double rootMeanSquareError;
+  private final double signalToNoiseRatio;
+
+  Binary16QuantizationReport(
+    final Binary16QuantizationFormat inFormat,
+    final int inCount,
+    final double inMaximumAbsoluteError,
+    final double inMeanAbsoluteError,
+    final double inRootMeanSquareError,
+    final double inSignalToNoiseRatio)
+  {
+    this.format = inFormat;
+    this.count = inCount;
+    this.maximumAbsoluteError = inMaximumAbsoluteError;
+    this.meanAbsoluteError = inMeanAbsoluteError;
+    this.rootMeanSquareError = inRootMeanSquareError;
+    this.signalToNoiseRatio = inSignalToNoiseRatio;
+  }
+
+  /**
+   * @return The format that was measured
+   */
+
+  public Binary16QuantizationFormat format()
+  {
+    return this.format;
+  }
+
+  /**
+   * @return The number of values measured
+   */
+
+  public int count()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return The largest absolute difference between a value and its
+   * dequantized form
+   */
+
+  public double maximumAbsoluteError()
+  {
+    return this.maximumAbsoluteError;
+  }
+
+  /**
+   * @return The mean absolute difference between values and their
+   * dequantized forms
+   */
+
+  public double meanAbsoluteError()
+  {
+    return this.meanAbsoluteError;
+  }
+
+  /**
+   * @return The root mean square difference between values and their
+   * dequantized forms
+   */
+
+  public double rootMeanSquareError()
+  {
+    return this.rootMeanSquareError;
+  }
+
+  /**
+   * @return The ratio of the power of the values to the power of the
+   * error, in decibels; positive infinity if the quantization was exact,
+   * and {@code NaN} if every value was zero
+   */
+
+  public double signalToNoiseRatio()
+  {
+    return this.signalToNoiseRatio;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[Binary16QuantizationReport %s count=%d maxAbs=%s meanAbs=%s rms=%s snr=%sdB]",
+      this.format,
+      Integer.valueOf(this.count),
+      Double.valueOf(this.maximumAbsoluteError),
+      Double.valueOf(this.meanAbsoluteError),
+      Double.valueOf(this.rootMeanSquareError),
+      Double.valueOf(this.signalToNoiseRatio));
+  }
+}
@@ -0,0 +1,628 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.codecs;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Filters that rearrange the bytes or bits of arrays of {@code binary16}
+ * values so that general purpose compressors such as LZ4 and Zstandard
+ * compress them better.
+ * </p>
+ * <p>
+ * The <i>byte shuffle</i> writes the high byte (the sign, the exponent,
+ * and the top two bits of the significand) of every value, followed by
+ * the low byte of every value. The high bytes of a typical array are
+ * highly repetitive, and gathering them together exposes long runs to the
+ * compressor.
+ * </p>
+ * <p>
+ * The <i>bit shuffle</i> goes further, in the manner of the
+ * {@code bitshuffle} library, and writes sixteen bit planes. Plane
+ * {@code p} holds bit {@code 15 - p} of every value, so the first plane
+ * holds the sign bits. Within a plane, the first value occupies the most
+ * significant bit of the first byte. Bit planes can only be formed from
+ * whole groups of eight values; if the number of values is not a multiple
+ * of eight, the remaining values are appended after the planes as
+ * big-endian pairs of bytes.
+ * </p>
+ * <p>
+ * Both filters produce exactly two bytes per value, and are lossless. The
+ * {@link ByteBuffer} variants read and write values in the byte order of
+ * the buffer holding them, and produce output identical to that of the
+ * array variants. The {@code Parallel} variants split the work across the
+ * common fork/join pool and produce identical output; they are only worth
+ * using for arrays of several hundred thousand values or more.
+ * </p>
+ */
+
+public final class Binary16Shuffle
+{
+  private static final int PARALLEL_CHUNK = 1 << 16;
+
+  private Binary16Shuffle()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Byte shuffle values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target byte
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void shuffleBytes(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(source.length, sourceOffset, target.length, targetOffset, count);
+    shuffleBytesRange(source, sourceOffset, target, targetOffset, count, 0, count);
+  }
+
+  /**
+   * Byte shuffle values in parallel.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target byte
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #shuffleBytes(char[], int, byte[], int, int)
+   */
+
+  public static void shuffleBytesParallel(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(source.length, sourceOffset, target.length, targetOffset, count);
+    chunks(count).forEach(chunk -> {
+      final int from = chunk * PARALLEL_CHUNK;
+      final int to = Math.min(count, from + PARALLEL_CHUNK);
+      shuffleBytesRange(source, sourceOffset, target, targetOffset, count, from, to);
+    });
+  }
+
+  private static void shuffleBytesRange(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count,
+    final int from,
+    final int to)
+  {
+    for (int index = from; index < to; ++index) {
+      target[targetOffset + index] = (byte) (source[sourceOffset + index] >>> 8);
+    }
+    final int low = targetOffset + count;
+    for (int index = from; index < to; ++index) {
+      target[low + index] = (byte) source[sourceOffset + index];
+    }
+  }
+
+  /**
+   * Reverse {@link #shuffleBytes(char[], int, byte[], int, int)}.
+   *
+   * @param source       The shuffled bytes
+   * @param sourceOffset The offset of the first shuffled byte
+   * @param target       The target values
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unshuffleBytes(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(target.length, targetOffset, source.length, sourceOffset, count);
+    unshuffleBytesRange(source, sourceOffset, target, targetOffset, count, 0, count);
+  }
+
+  /**
+   * Reverse {@link #shuffleBytes(char[], int, byte[], int, int)} in
+   * parallel.
+   *
+   * @param source       The shuffled bytes
+   * @param sourceOffset The offset of the first shuffled byte
+   * @param target       The target values
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unshuffleBytesParallel(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(target.length, targetOffset, source.length, sourceOffset, count);
+    chunks(count).forEach(chunk -> {
+      final int from = chunk * PARALLEL_CHUNK;
+      final int to = Math.min(count, from + PARALLEL_CHUNK);
+      unshuffleBytesRange(source, sourceOffset, target, targetOffset, count, from, to);
+    });
+  }
+
+  private static void unshuffleBytesRange(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final int from,
+    final int to)
+  {
+    final int low = sourceOffset + count;
+    for (int index = from; index < to; ++index) {
+      target[targetOffset + index] = (char) (
+        (source[sourceOffset + index] & 0xff) << 8
+          | source[low + index] & 0xff);
+    }
+  }
+
+  /**
+   * Byte shuffle the values between the position and limit of
+   * {@code source} into {@code target}, advancing the position of both.
+   *
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source holds an odd number of
+   *                                  bytes
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   */
+
+  public static void shuffleBytes(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int count = checkBuffers(source, target);
+    final int sourceStart = source.position();
+    final int high = target.position();
+    final int low = high + count;
+    for (int index = 0; index < count; ++index) {
+      final char value = source.getChar(sourceStart + (index << 1));
+      target.put(high + index, (byte) (value >>> 8));
+      target.put(low + index, (byte) value);
+    }
+    source.position(sourceStart + (count << 1));
+    target.position(high + (count << 1));
+  }
+
+  /**
+   * Reverse {@link #shuffleBytes(ByteBuffer, ByteBuffer)}, advancing the
+   * position of both buffers.
+   *
+   * @param source The shuffled bytes
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source holds an odd number of
+   *                                  bytes
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   */
+
+  public static void unshuffleBytes(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int count = checkBuffers(source, target);
+    final int high = source.position();
+    final int low = high + count;
+    final int targetStart = target.position();
+    for (int index = 0; index < count; ++index) {
+      target.putChar(
+        targetStart + (index << 1),
+        (char) ((source.get(high + index) & 0xff) << 8
+          | source.get(low + index) & 0xff));
+    }
+    source.position(high + (count << 1));
+    target.position(targetStart + (count << 1));
+  }
+
+  /**
+   * Bit shuffle values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target byte
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void shuffleBits(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(source.length, sourceOffset, target.length, targetOffset, count);
+    final int groups = count >>> 3;
+    shuffleBitsRange(source, sourceOffset, target, targetOffset, groups, 0, groups);
+    shuffleBitsRemainder(source, sourceOffset, target, targetOffset, count);
+  }
+
+  /**
+   * Bit shuffle values in parallel.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target byte
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #shuffleBits(char[], int, byte[], int, int)
+   */
+
+  public static void shuffleBitsParallel(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(source.length, sourceOffset, target.length, targetOffset, count);
+    final int groups = count >>> 3;
+    final int groupsPerChunk = PARALLEL_CHUNK >>> 3;
+    chunks(count).forEach(chunk -> {
+      final int from = chunk * groupsPerChunk;
+      final int to = Math.min(groups, from + groupsPerChunk);
+      shuffleBitsRange(source, sourceOffset, target, targetOffset, groups, from, to);
+    });
+    shuffleBitsRemainder(source, sourceOffset, target, targetOffset, count);
+  }
+
+  private static void shuffleBitsRange(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int groups,
+    final int from,
+    final int to)
+  {
+    for (int group = from; group < to; ++group) {
+      long high = 0L;
+      long low = 0L;
+      final int base = sourceOffset + (group << 3);
+      for (int index = 0; index < 8; ++index) {
+        final int value = source[base + index];
+        high = (high << 8) | (long) (value >>> 8);
+        low = (low << 8) | (long) (value & 0xff);
+      }
+      high = transpose8x8(high);
+      low = transpose8x8(low);
+
+      int plane = targetOffset + group;
+      for (int bit = 56; bit >= 0; bit -= 8) {
+        target[plane] = (byte) (high >>> bit);
+        plane += groups;
+      }
+      for (int bit = 56; bit >= 0; bit -= 8) {
+        target[plane] = (byte) (low >>> bit);
+        plane += groups;
+      }
+    }
+  }
+
+  private static void shuffleBitsRemainder(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final int whole = count & ~7;
+    for (int index = whole; index < count; ++index) {
+      final char value = source[sourceOffset + index];
+      target[targetOffset + (index << 1)] = (byte) (value >>> 8);
+      target[targetOffset + (index << 1) + 1] = (byte) value;
+    }
+  }
+
+  /**
+   * Reverse {@link #shuffleBits(char[], int, byte[], int, int)}.
+   *
+   * @param source       The shuffled bytes
+   * @param sourceOffset The offset of the first shuffled byte
+   * @param target       The target values
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unshuffleBits(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(target.length, targetOffset, source.length, sourceOffset, count);
+    final int groups = count >>> 3;
+    unshuffleBitsRange(source, sourceOffset, target, targetOffset, groups, 0, groups);
+    unshuffleBitsRemainder(source, sourceOffset, target, targetOffset, count);
+  }
+
+  /**
+   * Reverse {@link #shuffleBits(char[], int, byte[], int, int)} in parallel.
+   *
+   * @param source       The shuffled bytes
+   * @param sourceOffset The offset of the first shuffled byte
+   * @param target       The target values
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unshuffleBitsParallel(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(target.length, targetOffset, source.length, sourceOffset, count);
+    final int groups = count >>> 3;
+    final int groupsPerChunk = PARALLEL_CHUNK >>> 3;
+    chunks(count).forEach(chunk -> {
+      final int from = chunk * groupsPerChunk;
+      final int to = Math.min(groups, from + groupsPerChunk);
+      unshuffleBitsRange(source, sourceOffset, target, targetOffset, groups, from, to);
+    });
+    unshuffleBitsRemainder(source, sourceOffset, target, targetOffset, count);
+  }
+
+  private static void unshuffleBitsRange(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int groups,
+    final int from,
+    final int to)
+  {
+    for (int group = from; group < to; ++group) {
+      long high = 0L;
+      long low = 0L;
+      int plane = sourceOffset + group;
+      for (int index = 0; index < 8; ++index) {
+        high = (high << 8) | (long) (source[plane] & 0xff);
+        plane += groups;
+      }
+      for (int index = 0; index < 8; ++index) {
+        low = (low << 8) | (long) (source[plane] & 0xff);
+        plane += groups;
+      }
+      high = transpose8x8(high);
+      low = transpose8x8(low);
+
+      final int base = targetOffset + (group << 3);
+      for (int index = 0; index < 8; ++index) {
+        final int shift = 56 - (index << 3);
+        target[base + index] = (char) (
+          (int) (high >>> shift & 0xffL) << 8 | (int) (low >>> shift & 0xffL));
+      }
+    }
+  }
+
+  private static void unshuffleBitsRemainder(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final int whole = count & ~7;
+    for (int index = whole; index < count; ++index) {
+      final int at = sourceOffset + (index << 1);
+      target[targetOffset + index] =
+        (char) ((source[at] & 0xff) << 8 | source[at + 1] & 0xff);
+    }
+  }
+
+  /**
+   * Bit shuffle the values between the position and limit of
+   * {@code source} into {@code target}, advancing the position of both.
+   *
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source holds an odd number of
+   *                                  bytes
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   */
+
+  public static void shuffleBits(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int count = checkBuffers(source, target);
+    final int groups = count >>> 3;
+    final int sourceStart = source.position();
+    final int targetStart = target.position();
+
+    for (int group = 0; group < groups; ++group) {
+      long high = 0L;
+      long low = 0L;
+      for (int index = 0; index < 8; ++index) {
+        final int value = source.getChar(sourceStart + (((group << 3) + index) << 1));
+        high = (high << 8) | (long) (value >>> 8);
+        low = (low << 8) | (long) (value & 0xff);
+      }
+      high = transpose8x8(high);
+      low = transpose8x8(low);
+
+      for (int index = 0; index < 8; ++index) {
+        final int shift = 56 - (index << 3);
+        target.put(targetStart + index * groups + group, (byte) (high >>> shift));
+        target.put(targetStart + (index + 8) * groups + group, (byte) (low >>> shift));
+      }
+    }
+
+    for (int index = groups << 3; index < count; ++index) {
+      final char value = source.getChar(sourceStart + (index << 1));
+      target.put(targetStart + (index << 1), (byte) (value >>> 8));
+      target.put(targetStart + (index << 1) + 1, (byte) value);
+    }
+    source.position(sourceStart + (count << 1));
+    target.position(targetStart + (count << 1));
+  }
+
+  /**
+   * Reverse {@link #shuffleBits(ByteBuffer, ByteBuffer)}, advancing the
+   * position of both buffers.
+   *
+   * @param source The shuffled bytes
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source holds an odd number of
+   *                                  bytes
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   */
+
+  public static void unshuffleBits(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int count = checkBuffers(source, target);
+    final int groups = count >>> 3;
+    final int sourceStart = source.position();
+    final int targetStart = target.position();
+
+    for (int group = 0; group < groups; ++group) {
+      long high = 0L;
+      long low = 0L;
+      for (int index = 0; index < 8; ++index) {
+        high = (high << 8)
+          | (long) (source.get(sourceStart + index * groups + group) & 0xff);
+        low = (low << 8)
+          | (long) (source.get(sourceStart + (index + 8) * groups + group) & 0xff);
+      }
+      high = transpose8x8(high);
+      low = transpose8x8(low);
+
+      for (int index = 0; index < 8; ++index) {
+        final int shift = 56 - (index << 3);
+        target.putChar(
+          targetStart + (((group << 3) + index) << 1),
+          (char) ((int) (high >>> shift & 0xffL) << 8 | (int) (low >>> shift & 0xffL)));
+      }
+    }
+
+    for (int index = groups << 3; index < count; ++index) {
+      final int at = sourceStart + (index << 1);
+      target.putChar(
+        targetStart + (index << 1),
+        (char) ((source.get(at) & 0xff) << 8 | source.get(at + 1) & 0xff));
+    }
+    source.position(sourceStart + (count << 1));
+    target.position(targetStart + (count << 1));
+  }
+
+  /*
+   * Transpose an 8x8 bit matrix held in a long, where row 0 is the most
+   * significant byte and column 0 is the most significant bit of each row.
+   * See "Hacker's Delight", section 7-3.
+   */
+
+  private static long transpose8x8(
+    final long x)
+  {
+    long y = x;
+    long t = (y ^ (y >>> 7)) & 0x00AA00AA00AA00AAL;
+    y = y ^ t ^ (t << 7);
+    t = (y ^ (y >>> 14)) & 0x0000CCCC0000CCCCL;
+    y = y ^ t ^ (t << 14);
+    t = (y ^ (y >>> 28)) & 0x00000000F0F0F0F0L;
+    y = y ^ t ^ (t << 28);
+    return y;
+  }
+
+  private static IntStream chunks(
+    final int count)
+  {
+    return IntStream.range(0, (count + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK)
+      .parallel();
+  }
+
+  private static void checkRanges(
+    final int valuesLength,
+    final int valuesOffset,
+    final int bytesLength,
+    final int bytesOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(valuesOffset, count, valuesLength);
+    Objects.checkFromIndexSize(bytesOffset, count << 1, bytesLength);
+  }
+
+  private static int checkBuffers(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int size = source.remaining();
+    if ((size & 1) != 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Source size %d is not a whole number of values",
+          Integer.valueOf(size))
+      );
+    }
+    if (target.remaining() < size) {
+      throw new BufferOverflowException();
+    }
+    return size >>> 1;
+  }
+}
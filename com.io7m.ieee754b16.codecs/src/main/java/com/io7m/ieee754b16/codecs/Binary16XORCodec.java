@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.codecs;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A lossless codec for series of {@code binary16} values, in the style of
+ * the XOR compression used by the Gorilla time series database.
+ * </p>
+ * <p>
+ * Each value is exclusive-ORed with its predecessor. Adjacent samples of a
+ * slowly varying series usually share their sign, exponent, and high
+ * mantissa bits, so the result is mostly zero bits. The result is then
+ * written as one of the following codes, most significant bit first:
+ * </p>
+ * <ul>
+ * <li>{@code 0}: the value equals its predecessor.</li>
+ * <li>{@code 10} followed by the bits that lie within the window of
+ * meaningful bits used by the previous code, if all of the nonzero bits
+ * lie within it.</li>
+ * <li>{@code 11} followed by four bits giving the number of leading zero
+ * bits, four bits giving the number of meaningful bits minus one, and the
+ * meaningful bits. This code establishes a new window.</li>
+ * </ul>
+ * <p>
+ * The first value of each encoded range is exclusive-ORed with zero. The
+ * encoded form is padded with zero bits to a whole number of bytes.
+ * </p>
+ *
+ * @see Binary16CompressedBlocks
+ */
+
+public final class Binary16XORCodec
+{
+  private static final int BITS_WORST_CASE = 2 + 4 + 4 + 16;
+
+  private Binary16XORCodec()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The maximum number of bytes that encoding {@code count} values
+   * can produce
+   *
+   * @throws IllegalArgumentException If {@code count} is negative or too
+   *                                  large for the encoded size to fit in
+   *                                  an {@code int}
+   */
+
+  public static int maximumEncodedSize(
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must be non-negative");
+    }
+    final long bits = (long) count * (long) BITS_WORST_CASE;
+    final long bytes = (bits + 7L) >>> 3;
+    if (bytes > (long) Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Encoding %d values could exceed the maximum array size",
+          Integer.valueOf(count))
+      );
+    }
+    return (int) bytes;
+  }
+
+  /**
+   * Encode values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   * @param target       The target array
+   * @param targetOffset The offset of the first target byte
+   *
+   * @return The number of bytes written
+   *
+   * @throws IndexOutOfBoundsException If the source range is out of bounds,
+   *                                   or if the target does not have room
+   *                                   for {@link #maximumEncodedSize(int)}
+   *                                   bytes
+   */
+
+  public static int encode(
+    final char[] source,
+    final int sourceOffset,
+    final int count,
+    final byte[] target,
+    final int targetOffset)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, maximumEncodedSize(count), target.length);
+
+    long accumulator = 0L;
+    int pending = 0;
+    int position = targetOffset;
+    int previous = 0;
+    int windowLeading = 16;
+    int windowTrailing = 16;
+
+    for (int index = 0; index < count; ++index) {
+      final int value = source[sourceOffset + index];
+      final int xor = value ^ previous;
+      previous = value;
+
+      final long code;
+      final int length;
+      if (xor == 0) {
+        code = 0L;
+        length = 1;
+      } else {
+        final int leading = Integer.numberOfLeadingZeros(xor) - 16;
+        final int trailing = Integer.numberOfTrailingZeros(xor);
+        if (leading >= windowLeading && trailing >= windowTrailing) {
+          final int meaningful = 16 - windowLeading - windowTrailing;
+          code = (0b10L << meaningful) | (long) (xor >>> windowTrailing);
+          length = 2 + meaningful;
+        } else {
+          final int meaningful = 16 - leading - trailing;
+          code = (((0b11L << 4 | leading) << 4 | (meaningful - 1)) << meaningful)
+            | (long) (xor >>> trailing);
+          length = 10 + meaningful;
+          windowLeading = leading;
+          windowTrailing = trailing;
+        }
+      }
+
+      accumulator = (accumulator << length) | code;
+      pending += length;
+      while (pending >= 8) {
+        pending -= 8;
+        target[position] = (byte) (accumulator >>> pending);
+        ++position;
+      }
+    }
+
+    if (pending > 0) {
+      target[position] = (byte) (accumulator << (8 - pending));
+      ++position;
+    }
+    return position - targetOffset;
+  }
+
+  /**
+   * Decode values.
+   *
+   * @param source       The encoded bytes
+   * @param sourceOffset The offset of the first encoded byte
+   * @param sourceLength The number of encoded bytes
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values to decode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @throws IllegalArgumentException  If the encoded bytes are malformed, or
+   *                                   contain fewer than {@code count}
+   *                                   values
+   */
+
+  public static void decode(
+    final byte[] source,
+    final int sourceOffset,
+    final int sourceLength,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, sourceLength, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final Reader reader = new Reader(source, sourceOffset, sourceLength);
+    int previous = 0;
+    int windowLeading = 16;
+    int windowTrailing = 16;
+
+    for (int index = 0; index < count; ++index) {
+      if (reader.read(1) != 0) {
+        if (reader.read(1) == 0) {
+          if (windowLeading + windowTrailing >= 16) {
+            throw new IllegalArgumentException(
+              "Malformed encoding: Window reused before being established");
+          }
+          final int meaningful = 16 - windowLeading - windowTrailing;
+          previous ^= reader.read(meaningful) << windowTrailing;
+        } else {
+          windowLeading = reader.read(4);
+          final int meaningful = reader.read(4) + 1;
+          windowTrailing = 16 - windowLeading - meaningful;
+          if (windowTrailing < 0) {
+            throw new IllegalArgumentException(
+              "Malformed encoding: Window exceeds 16 bits");
+          }
+          previous ^= reader.read(meaningful) << windowTrailing;
+        }
+      }
+      target[targetOffset + index] = (char) previous;
+    }
+  }
+
+  /* A reader of big-endian bit fields of at most 16 bits. */
+
+  private static final class Reader
+  {
+    private final byte[] data;
+    private final int end;
+    private int position;
+    private long accumulator;
+    private int available;
+
+    Reader(
+      final byte[] inData,
+      final int inOffset,
+      final int inLength)
+    {
+      this.data = inData;
+      this.position = inOffset;
+      this.end = inOffset + inLength;
+    }
+
+    int read(
+      final int bits)
+    {
+      while (this.available < bits) {
+        if (this.position >= this.end) {
+          throw new IllegalArgumentException(
+            "Malformed encoding: Unexpected end of data");
+        }
+        this.accumulator =
+          (this.accumulator << 8) | (long) (this.data[this.position] & 0xff);
+        ++this.position;
+        this.available += 8;
+      }
+      this.available -= bits;
+      return (int) (this.accumulator >>> this.available) & ((1 << bits) - 1);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+#include <ieee754b16/bulk.h>
+#include <ieee754b16/exponent.h>
+#include <ieee754b16/offset.h>
+#include <ieee754b16/mantissa.h>
+
+#include <stdint.h>
+#include <string.h>
+
+static uint16_t
+pack_bits(
+  const uint32_t bits)
+{
+  const uint32_t sign = (bits >> 16u) & 0x8000u;
+  const uint32_t unrounded = bits & 0x7fffffffu;
+  const uint32_t rounded = unrounded + 0x1000u;
+
+  if (rounded >= 0x47800000u) {
+    if (unrounded > 0x7f800000u) {
+      return (uint16_t) 0x7e00u;
+    }
+    if (unrounded >= 0x47800000u) {
+      return (uint16_t) (sign | 0x7c00u);
+    }
+    return (uint16_t) (sign | 0x7bffu);
+  }
+
+  if (rounded >= 0x38800000u) {
+    return (uint16_t) (sign | (rounded - 0x38000000u) >> 13u);
+  }
+
+  if (rounded < 0x33000000u) {
+    return (uint16_t) sign;
+  }
+
+  const uint32_t exponent = unrounded >> 23u;
+  const uint32_t mantissa = (bits & 0x7fffffu) | 0x800000u;
+  const uint32_t cutoff = 0x800000u >> (exponent - 102u);
+  return (uint16_t) (sign | (mantissa + cutoff) >> (126u - exponent));
+}
+
+void
+ieee754b16_pack_floats(
+  const float *source,
+  ieee754b16_half_t *target,
+  const size_t count)
+{
+  for (size_t index = 0; index < count; ++index) {
+    uint32_t bits;
+    memcpy(&bits, &source[index], sizeof(bits));
+
+    /* Java's floatToIntBits collapses every NaN to the canonical NaN. */
+    if ((bits & 0x7fffffffu) > 0x7f800000u) {
+      bits = 0x7fc00000u;
+    }
+    target[index] = pack_bits(bits);
+  }
+}
+
+void
+ieee754b16_unpack_floats(
+  const ieee754b16_half_t *source,
+  float *target,
+  const size_t count)
+{
+  for (size_t index = 0; index < count; ++index) {
+    const unsigned int h = source[index];
+    const unsigned int e = h >> 10u;
+    const unsigned int m = h & 0x3ffu;
+    uint32_t bits = MANTISSA_TABLE[OFFSET_TABLE[e] + m] + EXPONENT_TABLE[e];
+
+    /*
+     * Powers of two above the smallest normal exponent are moved to the
+     * center of the range of values that pack to them, as Java does.
+     */
+    const unsigned int magnitude = e & 0x1fu;
+    if (m == 0u && magnitude > 1u && magnitude < 31u) {
+      bits |= 0x3ffu;
+    }
+    memcpy(&target[index], &bits, sizeof(bits));
+  }
+}
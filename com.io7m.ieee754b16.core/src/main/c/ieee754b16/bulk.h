@@ -0,0 +1,38 @@
+#ifndef IEEE754B16_BULK_H
+#define IEEE754B16_BULK_H
+
+/// \file bulk.h
+/// \brief Functions for converting arrays of values to and from IEEE 754
+/// Binary16 values
+
+#include <ieee754b16/convert.h>
+
+#include <stddef.h>
+
+/// Pack an array of single precision floating point values to Binary16
+/// values. The results are identical to those of the Java function
+/// Binary16.packFloat, including the rounding of each value.
+///
+/// @param source The input values
+/// @param target The output values
+/// @param count  The number of values
+
+void ieee754b16_pack_floats(
+  const float *source,
+  ieee754b16_half_t *target,
+  size_t count);
+
+/// Unpack an array of Binary16 values to single precision floating point
+/// values. The results are identical to those of the Java function
+/// Binary16.unpackFloat.
+///
+/// @param source The input values
+/// @param target The output values
+/// @param count  The number of values
+
+void ieee754b16_unpack_floats(
+  const ieee754b16_half_t *source,
+  float *target,
+  size_t count);
+
+#endif // IEEE754B16_BULK_H
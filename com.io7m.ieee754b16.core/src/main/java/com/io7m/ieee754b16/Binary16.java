@@ -32,50 +32,58 @@ public final class Binary16
    * The encoded form of negative infinity {@code -∞}.
    */
 
-  public static final char NEGATIVE_INFINITY;
+  public static final char NEGATIVE_INFINITY = (char) 0xFC00;
 
   /**
    * The encoded form of positive infinity {@code ∞}.
    */
 
-  public static final char POSITIVE_INFINITY;
+  public static final char POSITIVE_INFINITY = (char) 0x7C00;
 
   /**
    * The encoded form of positive zero {@code 0}.
    */
 
-  public static final char POSITIVE_ZERO;
+  public static final char POSITIVE_ZERO = (char) 0x0000;
 
   /**
    * The encoded form of negative zero {@code -0}.
    */
 
-  public static final char NEGATIVE_ZERO;
+  public static final char NEGATIVE_ZERO = (char) 0x8000;
 
   /**
-   * The <i>bias</i> value used to offset the encoded exponent. A given
-   * exponent {@code e} is encoded as <code>{@link #BIAS} + e</code>.
+   * The encoded form of the canonical quiet {@code NaN}. This is the
+   * positive {@code NaN} with only the quiet bit of the significand set,
+   * and is the value produced by {@link #packFloat(float)} for every
+   * {@code NaN} input.
    */
 
-  public static final int BIAS;
+  public static final char CANONICAL_NAN = (char) 0x7E00;
 
-  private static final int MASK_SIGN;
-  private static final int MASK_EXPONENT;
-  private static final int MASK_MANTISSA;
+  /**
+   * The encoded form of the largest finite positive value {@code 65504}.
+   */
 
-  static {
-    NEGATIVE_INFINITY = (char) 0xFC00;
-    POSITIVE_INFINITY = (char) 0x7C00;
-    POSITIVE_ZERO = (char) 0x0000;
-    NEGATIVE_ZERO = (char) 0x8000;
-    BIAS = 15;
-  }
+  public static final char POSITIVE_MAXIMUM = (char) 0x7BFF;
 
-  static {
-    MASK_SIGN = 0x8000;
-    MASK_EXPONENT = 0x7C00;
-    MASK_MANTISSA = 0x03FF;
-  }
+  /**
+   * The encoded form of the largest finite negative value {@code -65504}.
+   */
+
+  public static final char NEGATIVE_MAXIMUM = (char) 0xFBFF;
+
+  /**
+   * The <i>bias</i> value used to offset the encoded exponent. A given
+   * exponent {@code e} is encoded as <code>{@link #BIAS} + e</code>.
+   */
+
+  public static final int BIAS = 15;
+
+  private static final int MASK_SIGN = 0x8000;
+  private static final int MASK_EXPONENT = 0x7C00;
+  private static final int MASK_MANTISSA = 0x03FF;
+  private static final int MASK_QUIET = 0x0200;
 
   private Binary16()
   {
@@ -127,6 +135,195 @@ public final class Binary16
     return (e == 16) && (s > 0);
   }
 
+  /**
+   * @param k A packed {@code binary16} value
+   *
+   * @return {@link #CANONICAL_NAN} if {@code k} is any {@code NaN} value,
+   * or {@code k} otherwise
+   *
+   * @see Binary16NaNMode#NAN_CANONICAL
+   */
+
+  public static char canonicalizeNaN(
+    final char k)
+  {
+    if (((int) k & ~MASK_SIGN) > MASK_EXPONENT) {
+      return CANONICAL_NAN;
+    }
+    return k;
+  }
+
+  /**
+   * <p>
+   * Return the size of a unit in the last place of {@code k}: the positive
+   * distance between {@code k} and the next value of larger magnitude. This
+   * is the {@code binary16} analogue of {@link Math#ulp(float)}.
+   * </p>
+   * <ul>
+   * <li>If {@code k} is {@code NaN}, the result is {@code k}.</li>
+   * <li>If {@code k} is infinite, the result is
+   * {@link #POSITIVE_INFINITY}.</li>
+   * <li>If {@code k} is zero or <i>subnormal</i>, the result is the
+   * smallest positive <i>subnormal</i> value {@code 2<sup>-24</sup>}.</li>
+   * <li>If {@code k} is {@link #POSITIVE_MAXIMUM} or
+   * {@link #NEGATIVE_MAXIMUM}, the result is {@code 32}.</li>
+   * </ul>
+   *
+   * @param k A packed {@code binary16} value
+   *
+   * @return The packed ulp of {@code k}
+   */
+
+  public static char ulp(
+    final char k)
+  {
+    final int magnitude = (int) k & ~MASK_SIGN;
+    if (magnitude > MASK_EXPONENT) {
+      return k;
+    }
+    if (magnitude == MASK_EXPONENT) {
+      return POSITIVE_INFINITY;
+    }
+
+    /*
+     * The ulp of a value with biased exponent e is 2^(e - 25). That is a
+     * subnormal value for e <= 10, and a power of two with biased exponent
+     * e - 10 otherwise. Subnormal values have the ulp of e = 1.
+     */
+
+    final int exponent = magnitude >>> 10;
+    if (exponent <= 10) {
+      return (char) (1 << Math.max(exponent - 1, 0));
+    }
+    return (char) ((exponent - 10) << 10);
+  }
+
+  /**
+   * <p>
+   * Return the value adjacent to {@code k} in the direction of positive
+   * infinity. This is the {@code binary16} analogue of
+   * {@link Math#nextUp(float)}.
+   * </p>
+   * <ul>
+   * <li>If {@code k} is {@code NaN} or {@link #POSITIVE_INFINITY}, the
+   * result is {@code k}.</li>
+   * <li>If {@code k} is zero of either sign, the result is the smallest
+   * positive <i>subnormal</i> value.</li>
+   * <li>The result for the smallest negative <i>subnormal</i> value is
+   * {@link #NEGATIVE_ZERO}, and the result for {@link #POSITIVE_MAXIMUM} is
+   * {@link #POSITIVE_INFINITY}.</li>
+   * </ul>
+   *
+   * @param k A packed {@code binary16} value
+   *
+   * @return The next packed value towards positive infinity
+   */
+
+  public static char nextUp(
+    final char k)
+  {
+    final int bits = (int) k;
+    final int magnitude = bits & ~MASK_SIGN;
+    if (magnitude > MASK_EXPONENT || bits == (int) POSITIVE_INFINITY) {
+      return k;
+    }
+    if (magnitude == 0) {
+      return (char) 1;
+    }
+    if ((bits & MASK_SIGN) == 0) {
+      return (char) (bits + 1);
+    }
+    return (char) (bits - 1);
+  }
+
+  /**
+   * <p>
+   * Return the value adjacent to {@code k} in the direction of negative
+   * infinity. This is the {@code binary16} analogue of
+   * {@link Math#nextDown(float)}.
+   * </p>
+   * <ul>
+   * <li>If {@code k} is {@code NaN} or {@link #NEGATIVE_INFINITY}, the
+   * result is {@code k}.</li>
+   * <li>If {@code k} is zero of either sign, the result is the smallest
+   * negative <i>subnormal</i> value.</li>
+   * <li>The result for the smallest positive <i>subnormal</i> value is
+   * {@link #POSITIVE_ZERO}, and the result for {@link #NEGATIVE_MAXIMUM} is
+   * {@link #NEGATIVE_INFINITY}.</li>
+   * </ul>
+   *
+   * @param k A packed {@code binary16} value
+   *
+   * @return The next packed value towards negative infinity
+   */
+
+  public static char nextDown(
+    final char k)
+  {
+    final int bits = (int) k;
+    final int magnitude = bits & ~MASK_SIGN;
+    if (magnitude > MASK_EXPONENT || bits == (int) NEGATIVE_INFINITY) {
+      return k;
+    }
+    if (magnitude == 0) {
+      return (char) (MASK_SIGN | 1);
+    }
+    if ((bits & MASK_SIGN) == 0) {
+      return (char) (bits - 1);
+    }
+    return (char) (bits + 1);
+  }
+
+  /**
+   * <p>
+   * Return the distance between {@code x} and {@code y} in units in the
+   * last place: the number of times {@link #nextUp(char)} must be applied
+   * to the lesser value to reach the greater.
+   * </p>
+   * <ul>
+   * <li>Zeroes of either sign are {@code 0} apart, and the smallest
+   * positive and negative <i>subnormal</i> values are {@code 2} apart.</li>
+   * <li>{@link #POSITIVE_MAXIMUM} and {@link #POSITIVE_INFINITY} are
+   * {@code 1} apart.</li>
+   * <li>Two {@code NaN} values of any payload are {@code 0} apart.</li>
+   * <li>If exactly one of the values is {@code NaN}, the result is
+   * {@link Integer#MAX_VALUE}.</li>
+   * </ul>
+   *
+   * @param x A packed {@code binary16} value
+   * @param y A packed {@code binary16} value
+   *
+   * @return The distance between {@code x} and {@code y} in ulps
+   */
+
+  public static int ulpDistance(
+    final char x,
+    final char y)
+  {
+    final boolean xNaN = ((int) x & ~MASK_SIGN) > MASK_EXPONENT;
+    final boolean yNaN = ((int) y & ~MASK_SIGN) > MASK_EXPONENT;
+    if (xNaN || yNaN) {
+      if (xNaN == yNaN) {
+        return 0;
+      }
+      return Integer.MAX_VALUE;
+    }
+    return Math.abs(ordinal(x) - ordinal(y));
+  }
+
+  /*
+   * Map a non-NaN value to an integer such that adjacent values have
+   * adjacent integers, and both zeroes map to 0.
+   */
+
+  private static int ordinal(
+    final char k)
+  {
+    final int sign = (int) (short) k >> 15;
+    final int magnitude = (int) k & ~MASK_SIGN;
+    return (magnitude ^ sign) - sign;
+  }
+
   /**
    * <p>
    * Convert a double precision floating point value to a packed
@@ -136,7 +333,7 @@ public final class Binary16
    * For the following specific cases, the function returns:
    * </p>
    * <ul>
-   * <li>{@code NaN} iff {@code isNaN(k)}</li>
+   * <li>{@link #CANONICAL_NAN} iff {@code isNaN(k)}</li>
    * <li>{@link #POSITIVE_INFINITY} iff
    * <code>k == {@link Double#POSITIVE_INFINITY}</code></li>
    * <li>{@link #NEGATIVE_INFINITY} iff
@@ -270,6 +467,78 @@ public final class Binary16
     return unpackFloatSubnormal(f16_mantissa, f16_sign);
   }
 
+  /**
+   * <p>
+   * Convert a packed {@code binary16} value {@code k} to a
+   * single-precision floating point value, treating <i>subnormal</i>
+   * inputs as zero.
+   * </p>
+   * <p>
+   * If {@code k} is a <i>subnormal</i> value, the function returns
+   * {@code 0.0} or {@code -0.0} according to the sign of {@code k}.
+   * Otherwise, the function behaves exactly as {@link #unpackFloat(char)}.
+   * This avoids the comparatively expensive normalization of
+   * <i>subnormal</i> inputs.
+   * </p>
+   *
+   * @param k A packed {@code binary16} value
+   *
+   * @return A floating point value
+   *
+   * @see Binary16SubnormalMode#SUBNORMAL_FLUSH_TO_ZERO
+   */
+
+  public static float unpackFloatDenormalsAreZero(
+    final char k)
+  {
+    final int f16_mantissa = (int) k & MASK_MANTISSA;
+    final int f16_exponent = (int) k & MASK_EXPONENT;
+    final int f16_sign = (int) k & MASK_SIGN;
+
+    if (f16_exponent == 0) {
+      return unpackFloatZero(f16_sign);
+    }
+    if (f16_exponent == MASK_EXPONENT) {
+      return unpackFloatInfiniteNaN(f16_mantissa, f16_sign);
+    }
+    return unpackFloatNormal(f16_mantissa, f16_exponent, f16_sign);
+  }
+
+  /**
+   * Convert a packed {@code binary16} value {@code k} to the single precision
+   * value that it represents exactly. Unlike {@link #unpackFloat(char)}, normal
+   * values with a zero significand are not moved to the center of the range
+   * of single precision values that pack to {@code k}.
+   *
+   * @param k A packed {@code binary16} value
+   *
+   * @return The exact value of {@code k}
+   *
+   * @see #unpackFloat(char)
+   */
+
+  public static float unpackFloatExact(
+    final char k)
+  {
+    final int f16_mantissa = (int) k & MASK_MANTISSA;
+    final int f16_exponent = (int) k & MASK_EXPONENT;
+    final int f16_sign = (int) k & MASK_SIGN;
+
+    if (f16_exponent == 0 && f16_mantissa == 0) {
+      return unpackFloatZero(f16_sign);
+    }
+    if (f16_exponent == MASK_EXPONENT) {
+      return unpackFloatInfiniteNaN(f16_mantissa, f16_sign);
+    }
+    if (f16_exponent != 0) {
+      final int f32_exponent = (f16_exponent + 0x1c000) << 13;
+      final int f32_mantissa = f16_mantissa << 13;
+      final int f32_sign = f16_sign << 16;
+      return Float.intBitsToFloat(f32_sign | f32_exponent | f32_mantissa);
+    }
+    return unpackFloatSubnormal(f16_mantissa, f16_sign);
+  }
+
   private static float unpackFloatSubnormal(
     final int f16_mantissa,
     final int f16_sign)
@@ -352,7 +621,7 @@ public final class Binary16
    * For the following specific cases, the function returns:
    * </p>
    * <ul>
-   * <li>{@code NaN} iff {@code isNaN(k)}</li>
+   * <li>{@link #CANONICAL_NAN} iff {@code isNaN(k)}</li>
    * <li>{@link #POSITIVE_INFINITY} iff
    * <code>k == {@link Float#POSITIVE_INFINITY}</code></li>
    * <li>{@link #NEGATIVE_INFINITY} iff
@@ -387,8 +656,7 @@ public final class Binary16
      */
 
     if (f32_rounded >= 0x47800000) {
-      return packFloatMaybeNaNInfinity(
-        f32_bits, f16_sign, f32_unrounded, f32_rounded);
+      return packFloatMaybeNaNInfinity(f16_sign, f32_unrounded);
     }
 
     /*
@@ -417,6 +685,231 @@ public final class Binary16
     return packFloatSubnormal(f32_bits, f16_sign, f32_unrounded);
   }
 
+  /**
+   * <p>
+   * Convert a single precision floating point value to a packed
+   * {@code binary16} value, preserving the payload of {@code NaN} values.
+   * </p>
+   * <p>
+   * If {@code k} is {@code NaN}, the result is a {@code NaN} with the sign
+   * of {@code k} and with the upper ten bits of the significand of
+   * {@code k}. The quiet bit of the result is always set, so a signalling
+   * {@code NaN} becomes quiet and a {@code NaN} whose payload is held only in
+   * the lower thirteen bits never becomes an infinity. Otherwise, the
+   * function behaves exactly as {@link #packFloat(float)}.
+   * </p>
+   *
+   * @param k A floating point value
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @see Binary16NaNMode#NAN_PRESERVE_PAYLOAD
+   */
+
+  public static char packFloatPreservingNaN(
+    final float k)
+  {
+    final int f32_bits = Float.floatToRawIntBits(k);
+    if ((f32_bits & 0x7fffffff) > 0x7f800000) {
+      final int f16_sign = (f32_bits >>> 16) & MASK_SIGN;
+      final int f16_payload = (f32_bits & 0x007fffff) >>> 13;
+      return (char) (f16_sign | MASK_EXPONENT | MASK_QUIET | f16_payload);
+    }
+    return packFloat(k);
+  }
+
+  /**
+   * <p>
+   * Convert a double precision floating point value to a packed
+   * {@code binary16} value, preserving the payload of {@code NaN} values.
+   * </p>
+   * <p>
+   * If {@code k} is {@code NaN}, the result is a {@code NaN} with the sign
+   * of {@code k} and with the upper ten bits of the significand of
+   * {@code k}, with the quiet bit set. Otherwise, the function behaves
+   * exactly as {@link #packDouble(double)}.
+   * </p>
+   *
+   * @param k A floating point value
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @see Binary16NaNMode#NAN_PRESERVE_PAYLOAD
+   */
+
+  public static char packDoublePreservingNaN(
+    final double k)
+  {
+    final long f64_bits = Double.doubleToRawLongBits(k);
+    if ((f64_bits & 0x7fffffffffffffffL) > 0x7ff0000000000000L) {
+      final int f16_sign = (int) (f64_bits >>> 48) & MASK_SIGN;
+      final int f16_payload = (int) ((f64_bits & 0x000fffffffffffffL) >>> 42);
+      return (char) (f16_sign | MASK_EXPONENT | MASK_QUIET | f16_payload);
+    }
+    return packDouble(k);
+  }
+
+  /**
+   * <p>
+   * Convert a single precision floating point value to a packed
+   * {@code binary16} value, flushing values that are too small in
+   * magnitude to be represented as normal values to zero.
+   * </p>
+   * <p>
+   * Any value that {@link #packFloat(float)} would pack as a
+   * <i>subnormal</i> value is packed as {@link #POSITIVE_ZERO} or
+   * {@link #NEGATIVE_ZERO}, according to its sign. Otherwise, the function
+   * behaves exactly as {@link #packFloat(float)}. This avoids the
+   * comparatively expensive variable shifts used to produce
+   * <i>subnormal</i> results.
+   * </p>
+   *
+   * @param k A floating point value
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @see Binary16SubnormalMode#SUBNORMAL_FLUSH_TO_ZERO
+   */
+
+  public static char packFloatFlushToZero(
+    final float k)
+  {
+    final int f32_bits = Float.floatToIntBits(k);
+    final int f16_sign = (f32_bits >>> 16) & 0x8000;
+    final int f32_unrounded = f32_bits & 0x7fffffff;
+    final int f32_rounded = f32_unrounded + 0x1000;
+
+    if (f32_rounded >= 0x47800000) {
+      return packFloatMaybeNaNInfinity(f16_sign, f32_unrounded);
+    }
+    if (f32_rounded >= 0x38800000) {
+      return packFloatNormal(f16_sign, f32_rounded);
+    }
+    return packFloatFlushed(f16_sign, f32_unrounded);
+  }
+
+  /**
+   * <p>
+   * Convert a single precision floating point value to a packed
+   * {@code binary16} value, saturating values that are too large in
+   * magnitude to be represented.
+   * </p>
+   * <p>
+   * Any value (including an infinity) that {@link #packFloat(float)} would
+   * pack as an infinity is instead packed as {@link #POSITIVE_MAXIMUM} or
+   * {@link #NEGATIVE_MAXIMUM}, according to its sign. {@code NaN} is packed
+   * as {@link #CANONICAL_NAN}. All other values are packed exactly as
+   * {@link #packFloat(float)} would pack them. This is equivalent to, but
+   * cheaper than, clamping {@code k} to {@code [-65504, 65504]} before
+   * packing it.
+   * </p>
+   *
+   * @param k A floating point value
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @see Binary16SubnormalMode#SUBNORMAL_PRESERVE
+   */
+
+  public static char packFloatSaturating(
+    final float k)
+  {
+    final int f32_bits = Float.floatToIntBits(k);
+    final int f16_sign = (f32_bits >>> 16) & 0x8000;
+    final int f32_unrounded = f32_bits & 0x7fffffff;
+    final int f32_rounded = f32_unrounded + 0x1000;
+
+    if (f32_rounded >= 0x47800000) {
+      return packFloatSaturated(f16_sign, f32_unrounded);
+    }
+    if (f32_rounded >= 0x38800000) {
+      return packFloatNormal(f16_sign, f32_rounded);
+    }
+    if (f32_rounded < 0x33000000) {
+      return (char) f16_sign;
+    }
+    return packFloatSubnormal(f32_bits, f16_sign, f32_unrounded);
+  }
+
+  /**
+   * <p>
+   * Convert a single precision floating point value to a packed
+   * {@code binary16} value, saturating values that are too large in
+   * magnitude to be represented, and flushing values that are too small in
+   * magnitude to be represented as normal values to zero.
+   * </p>
+   * <p>
+   * Large values are treated as by {@link #packFloatSaturating(float)}. Any
+   * value that would otherwise be packed as a {@code binary16}
+   * <i>subnormal</i> value is packed as {@link #POSITIVE_ZERO} or
+   * {@link #NEGATIVE_ZERO}, according to its sign.
+   * </p>
+   *
+   * @param k A floating point value
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @see Binary16SubnormalMode#SUBNORMAL_FLUSH_TO_ZERO
+   */
+
+  public static char packFloatSaturatingFlushToZero(
+    final float k)
+  {
+    final int f32_bits = Float.floatToIntBits(k);
+    final int f16_sign = (f32_bits >>> 16) & 0x8000;
+    final int f32_unrounded = f32_bits & 0x7fffffff;
+    final int f32_rounded = f32_unrounded + 0x1000;
+
+    if (f32_rounded >= 0x47800000) {
+      return packFloatSaturated(f16_sign, f32_unrounded);
+    }
+    if (f32_rounded >= 0x38800000) {
+      return packFloatNormal(f16_sign, f32_rounded);
+    }
+    return packFloatFlushed(f16_sign, f32_unrounded);
+  }
+
+  /**
+   * Convert a double precision floating point value to a packed
+   * {@code binary16} value, saturating values that are too large in
+   * magnitude to be represented.
+   *
+   * @param k A floating point value
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @see #packFloatSaturating(float)
+   */
+
+  public static char packDoubleSaturating(
+    final double k)
+  {
+    return packFloatSaturating((float) k);
+  }
+
+  private static char packFloatFlushed(
+    final int f16_sign,
+    final int f32_unrounded)
+  {
+    // Values in the top half of the last subnormal interval round up to
+    // the smallest normal value, and so must not be flushed.
+
+    if (f32_unrounded >= 0x387fe000) {
+      return (char) (f16_sign | 0x0400);
+    }
+    return (char) f16_sign;
+  }
+
+  private static char packFloatSaturated(
+    final int f16_sign,
+    final int f32_unrounded)
+  {
+    if (f32_unrounded > 0x7f800000) {
+      return CANONICAL_NAN;
+    }
+    return (char) (f16_sign | 0x7bff);
+  }
+
   private static char packFloatSubnormal(
     final int f32_bits,
     final int f16_sign,
@@ -448,11 +941,17 @@ public final class Binary16
   }
 
   private static char packFloatMaybeNaNInfinity(
-    final int f32_bits,
     final int f16_sign,
-    final int f32_unrounded,
-    final int f32_rounded)
+    final int f32_unrounded)
   {
+    // Whether or not the value is NaN is decided on the unrounded bits:
+    // rounding pushes the largest finite floats into the NaN range, and
+    // those must become infinities.
+
+    if (f32_unrounded > 0x7f800000) {
+      return CANONICAL_NAN;
+    }
+
     // This extension slightly extends the number range of the half float
     // format by saving some 32 bit values form getting promoted to Infinity.
     // The affected values are those that would have been smaller than
@@ -460,10 +959,7 @@ public final class Binary16
     // rounding.
 
     if (f32_unrounded >= 0x47800000) {
-      if (f32_rounded < 0x7f800000) {
-        return (char) (f16_sign | 0x7c00);
-      }
-      return (char) (f16_sign | 0x7c00 | (f32_bits & 0x007fffff) >>> 13);
+      return (char) (f16_sign | 0x7c00);
     }
 
     return (char) (f16_sign | 0x7bff);
@@ -541,26 +1037,18 @@ public final class Binary16
    * @param k A packed {@code binary16} value
    *
    * @return A string representation
+   *
+   * @see Binary16Strings#formatRawBinary(char, char[], int)
    */
 
   public static String toRawBinaryString(
     final char k)
   {
-    final StringBuilder b = new StringBuilder(16);
-    int z = (int) k;
-    for (int i = 0; i < 16; ++i) {
-      if ((z & 1) == 1) {
-        b.insert(0, "1");
-      } else {
-        b.insert(0, "0");
-      }
-      z >>= 1;
-    }
-
-    return b.toString();
+    final char[] b = new char[Binary16Strings.RAW_BINARY_LENGTH];
+    Binary16Strings.formatRawBinary(k, b, 0);
+    return String.valueOf(b);
   }
 
-
   /**
    * <p>
    * Extract and unbias the exponent of the given packed {@code binary16}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+/**
+ * A view of a range of an array of ASCII bytes as a character sequence.
+ * The range can be changed so that a single view can be reused.
+ */
+
+final class Binary16ASCIIView implements CharSequence
+{
+  private byte[] data;
+  private int offset;
+  private int length;
+
+  Binary16ASCIIView()
+  {
+    this.data = new byte[0];
+  }
+
+  void set(
+    final byte[] inData,
+    final int inOffset,
+    final int inLength)
+  {
+    this.data = inData;
+    this.offset = inOffset;
+    this.length = inLength;
+  }
+
+  @Override
+  public int length()
+  {
+    return this.length;
+  }
+
+  @Override
+  public char charAt(
+    final int index)
+  {
+    return (char) (this.data[this.offset + index] & 0xff);
+  }
+
+  @Override
+  public CharSequence subSequence(
+    final int start,
+    final int end)
+  {
+    final Binary16ASCIIView view = new Binary16ASCIIView();
+    view.set(this.data, this.offset + start, end - start);
+    return view;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder text = new StringBuilder(this.length);
+    for (int index = 0; index < this.length; ++index) {
+      text.append(this.charAt(index));
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A mutable builder that accumulates packed {@code binary16} values into a
+ * list of fixed-size chunks.
+ * </p>
+ * <p>
+ * Values are never copied as the builder grows: a new chunk is allocated
+ * when the current one is full. Combining two builders (as happens when
+ * collecting a parallel stream) transfers the chunks of the second builder
+ * by reference. The values are copied exactly once, into an array of the
+ * exact size, by {@link #toArray()}.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+
+public final class Binary16ArrayBuilder
+{
+  private static final int CHUNK_SIZE_INITIAL = 64;
+  private static final int CHUNK_SIZE_MAXIMUM = 16384;
+
+  private char[][] chunks;
+  private int[] chunkSizes;
+  private int chunkCount;
+  private long size;
+
+  /**
+   * Create a new empty builder.
+   */
+
+  public Binary16ArrayBuilder()
+  {
+    this.chunks = new char[4][];
+    this.chunkSizes = new int[4];
+    this.chunkCount = 0;
+    this.size = 0L;
+  }
+
+  /**
+   * @return The number of values added to the builder so far
+   */
+
+  public long size()
+  {
+    return this.size;
+  }
+
+  /**
+   * Pack the given value with {@link Binary16#packDouble(double)} and append
+   * it to the builder.
+   *
+   * @param k A floating point value
+   */
+
+  public void addDouble(
+    final double k)
+  {
+    this.addPacked(Binary16.packDouble(k));
+  }
+
+  /**
+   * Pack the given value with {@link Binary16#packFloat(float)} and append
+   * it to the builder.
+   *
+   * @param k A floating point value
+   */
+
+  public void addFloat(
+    final float k)
+  {
+    this.addPacked(Binary16.packFloat(k));
+  }
+
+  /**
+   * Append an already-packed {@code binary16} value to the builder.
+   *
+   * @param k A packed {@code binary16} value
+   */
+
+  public void addPacked(
+    final char k)
+  {
+    int last = this.chunkCount - 1;
+    if (last < 0 || this.chunkSizes[last] == this.chunks[last].length) {
+      this.chunkAppend(new char[this.nextChunkSize()], 0);
+      last = this.chunkCount - 1;
+    }
+
+    final int index = this.chunkSizes[last];
+    this.chunks[last][index] = k;
+    this.chunkSizes[last] = index + 1;
+    ++this.size;
+  }
+
+  /**
+   * Append all of the values in {@code other} to this builder. The chunks
+   * of {@code other} are transferred rather than copied, and {@code other}
+   * is left empty.
+   *
+   * @param other The builder to be drained
+   */
+
+  public void addAll(
+    final Binary16ArrayBuilder other)
+  {
+    Objects.requireNonNull(other, "other");
+
+    if (other == this) {
+      throw new IllegalArgumentException(
+        "Cannot add the contents of a builder to itself");
+    }
+
+    for (int index = 0; index < other.chunkCount; ++index) {
+      this.chunkAppend(other.chunks[index], other.chunkSizes[index]);
+    }
+    this.size += other.size;
+
+    Arrays.fill(other.chunks, null);
+    other.chunkCount = 0;
+    other.size = 0L;
+  }
+
+  /**
+   * @return A new array containing every value added to the builder, in order
+   *
+   * @throws IllegalStateException If the builder contains more values than
+   *                               can be stored in an array
+   */
+
+  public char[] toArray()
+  {
+    if (this.size > (long) Integer.MAX_VALUE) {
+      throw new IllegalStateException(
+        String.format(
+          "Builder size %d exceeds the maximum array size",
+          Long.valueOf(this.size))
+      );
+    }
+
+    final char[] result = new char[(int) this.size];
+    int offset = 0;
+    for (int index = 0; index < this.chunkCount; ++index) {
+      final int count = this.chunkSizes[index];
+      System.arraycopy(this.chunks[index], 0, result, offset, count);
+      offset += count;
+    }
+    return result;
+  }
+
+  private int nextChunkSize()
+  {
+    if (this.chunkCount == 0) {
+      return CHUNK_SIZE_INITIAL;
+    }
+    final int previous = this.chunks[this.chunkCount - 1].length;
+    return Math.min(CHUNK_SIZE_MAXIMUM, Math.max(CHUNK_SIZE_INITIAL, previous << 1));
+  }
+
+  private void chunkAppend(
+    final char[] chunk,
+    final int chunkSize)
+  {
+    if (this.chunkCount == this.chunks.length) {
+      final int capacity = this.chunks.length << 1;
+      this.chunks = Arrays.copyOf(this.chunks, capacity);
+      this.chunkSizes = Arrays.copyOf(this.chunkSizes, capacity);
+    }
+    this.chunks[this.chunkCount] = chunk;
+    this.chunkSizes[this.chunkCount] = chunkSize;
+    ++this.chunkCount;
+  }
+}
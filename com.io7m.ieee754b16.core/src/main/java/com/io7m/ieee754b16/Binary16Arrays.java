@@ -0,0 +1,609 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to convert arrays of values to/from the {@code binary16} format.
+ * </p>
+ * <p>
+ * Each function converts {@code count} consecutive values from a source
+ * array starting at a source offset, into a target array starting at a
+ * target offset. The results are identical to those of applying the
+ * corresponding scalar function in {@link Binary16} to each element, but
+ * any choice of conversion mode is made once per call rather than once per
+ * element.
+ * </p>
+ */
+
+public final class Binary16Arrays
+{
+  private static final float SMALLEST_NORMAL = 0x1.0p-14f;
+
+  private Binary16Arrays()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Pack values with {@link Binary16#packFloat(float)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(
+      source.length, sourceOffset, target.length, targetOffset, count);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        Binary16.packFloat(source[sourceOffset + index]);
+    }
+  }
+
+  /**
+   * <p>
+   * Pack values with {@link Binary16#packFloat(float)}, recording overflow,
+   * underflow, inexact and {@code NaN} counts and the maximum conversion
+   * error into {@code statistics} in the same pass.
+   * </p>
+   * <p>
+   * If {@code statistics} is disabled, this method behaves exactly as
+   * {@link #packFloats(float[], int, char[], int, int)} and
+   * {@code statistics} is not modified.
+   * </p>
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param statistics   The statistics to be updated
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16ConversionStatistics
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16ConversionStatistics statistics)
+  {
+    Objects.requireNonNull(statistics, "statistics");
+
+    if (!statistics.isEnabled()) {
+      packFloats(source, sourceOffset, target, targetOffset, count);
+      return;
+    }
+
+    checkRanges(
+      source.length, sourceOffset, target.length, targetOffset, count);
+
+    long nans = 0L;
+    long inexact = 0L;
+    long overflows = 0L;
+    long underflowsToZero = 0L;
+    long underflowsToSubnormal = 0L;
+    double maximumAbsolute = 0.0;
+    double maximumRelative = 0.0;
+
+    for (int index = 0; index < count; ++index) {
+      final float value = source[sourceOffset + index];
+      final char packed = Binary16.packFloat(value);
+      target[targetOffset + index] = packed;
+
+      final float exact = Binary16.unpackFloatExact(packed);
+      if (Float.isNaN(value)) {
+        ++nans;
+      } else if (!Float.isFinite(exact) && Float.isFinite(value)) {
+        ++inexact;
+        ++overflows;
+      } else if (exact != value) {
+        ++inexact;
+
+        final double error = Math.abs((double) exact - (double) value);
+        if (!Double.isNaN(error)) {
+          maximumAbsolute = Math.max(maximumAbsolute, error);
+          maximumRelative =
+            Math.max(maximumRelative, error / Math.abs((double) value));
+        }
+
+        if (exact == 0.0f) {
+          ++underflowsToZero;
+        } else if (Math.abs(exact) < SMALLEST_NORMAL) {
+          ++underflowsToSubnormal;
+        }
+      }
+    }
+
+    statistics.accumulate(
+      count,
+      nans,
+      inexact,
+      overflows,
+      underflowsToZero,
+      underflowsToSubnormal,
+      maximumAbsolute,
+      maximumRelative
+    );
+  }
+
+  /**
+   * Pack values, treating {@code NaN} values according to {@code mode}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The {@code NaN} mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16#packFloat(float)
+   * @see Binary16#packFloatPreservingNaN(float)
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16NaNMode mode)
+  {
+    Objects.requireNonNull(mode, "mode");
+
+    switch (mode) {
+      case NAN_CANONICAL -> {
+        packFloats(source, sourceOffset, target, targetOffset, count);
+      }
+      case NAN_PRESERVE_PAYLOAD -> {
+        checkRanges(
+          source.length, sourceOffset, target.length, targetOffset, count);
+
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.packFloatPreservingNaN(source[sourceOffset + index]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Pack values, treating values too small to be represented as normal
+   * values according to {@code mode}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16#packFloat(float)
+   * @see Binary16#packFloatFlushToZero(float)
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    Objects.requireNonNull(mode, "mode");
+
+    switch (mode) {
+      case SUBNORMAL_PRESERVE -> {
+        packFloats(source, sourceOffset, target, targetOffset, count);
+      }
+      case SUBNORMAL_FLUSH_TO_ZERO -> {
+        checkRanges(
+          source.length, sourceOffset, target.length, targetOffset, count);
+
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.packFloatFlushToZero(source[sourceOffset + index]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Pack values with {@link Binary16#packDouble(double)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packDoubles(
+    final double[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(
+      source.length, sourceOffset, target.length, targetOffset, count);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        Binary16.packDouble(source[sourceOffset + index]);
+    }
+  }
+
+  /**
+   * Pack values, treating {@code NaN} values according to {@code mode}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The {@code NaN} mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16#packDouble(double)
+   * @see Binary16#packDoublePreservingNaN(double)
+   */
+
+  public static void packDoubles(
+    final double[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16NaNMode mode)
+  {
+    Objects.requireNonNull(mode, "mode");
+
+    switch (mode) {
+      case NAN_CANONICAL -> {
+        packDoubles(source, sourceOffset, target, targetOffset, count);
+      }
+      case NAN_PRESERVE_PAYLOAD -> {
+        checkRanges(
+          source.length, sourceOffset, target.length, targetOffset, count);
+
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.packDoublePreservingNaN(source[sourceOffset + index]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Pack values, saturating values that are too large in magnitude to be
+   * represented, and treating values too small to be represented as normal
+   * values according to {@code mode}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16#packFloatSaturating(float)
+   * @see Binary16#packFloatSaturatingFlushToZero(float)
+   */
+
+  public static void packFloatsSaturating(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    Objects.requireNonNull(mode, "mode");
+    checkRanges(
+      source.length, sourceOffset, target.length, targetOffset, count);
+
+    switch (mode) {
+      case SUBNORMAL_PRESERVE -> {
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.packFloatSaturating(source[sourceOffset + index]);
+        }
+      }
+      case SUBNORMAL_FLUSH_TO_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.packFloatSaturatingFlushToZero(source[sourceOffset + index]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Pack values, saturating values that are too large in magnitude to be
+   * represented, and treating values too small to be represented as normal
+   * values according to {@code mode}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16#packDoubleSaturating(double)
+   * @see Binary16#packFloatSaturatingFlushToZero(float)
+   */
+
+  public static void packDoublesSaturating(
+    final double[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    Objects.requireNonNull(mode, "mode");
+    checkRanges(
+      source.length, sourceOffset, target.length, targetOffset, count);
+
+    switch (mode) {
+      case SUBNORMAL_PRESERVE -> {
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.packDoubleSaturating(source[sourceOffset + index]);
+        }
+      }
+      case SUBNORMAL_FLUSH_TO_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.packFloatSaturatingFlushToZero(
+              (float) source[sourceOffset + index]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Unpack values with {@link Binary16#unpackFloat(char)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unpackFloats(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(
+      source.length, sourceOffset, target.length, targetOffset, count);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        Binary16.unpackFloat(source[sourceOffset + index]);
+    }
+  }
+
+  /**
+   * Unpack values, treating <i>subnormal</i> values according to
+   * {@code mode}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16#unpackFloat(char)
+   * @see Binary16#unpackFloatDenormalsAreZero(char)
+   */
+
+  public static void unpackFloats(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    Objects.requireNonNull(mode, "mode");
+
+    switch (mode) {
+      case SUBNORMAL_PRESERVE -> {
+        unpackFloats(source, sourceOffset, target, targetOffset, count);
+      }
+      case SUBNORMAL_FLUSH_TO_ZERO -> {
+        checkRanges(
+          source.length, sourceOffset, target.length, targetOffset, count);
+
+        for (int index = 0; index < count; ++index) {
+          target[targetOffset + index] =
+            Binary16.unpackFloatDenormalsAreZero(source[sourceOffset + index]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Unpack values with {@link Binary16#unpackDouble(char)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unpackDoubles(
+    final char[] source,
+    final int sourceOffset,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(
+      source.length, sourceOffset, target.length, targetOffset, count);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        Binary16.unpackDouble(source[sourceOffset + index]);
+    }
+  }
+
+  /**
+   * Replace every {@code NaN} value in the given range with
+   * {@link Binary16#CANONICAL_NAN}, in place.
+   *
+   * @param values The packed values
+   * @param offset The offset of the first value
+   * @param count  The number of values
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   * @see Binary16#canonicalizeNaN(char)
+   */
+
+  public static void canonicalizeNaNs(
+    final char[] values,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, values.length);
+
+    for (int index = offset; index < offset + count; ++index) {
+      values[index] = Binary16.canonicalizeNaN(values[index]);
+    }
+  }
+
+  /**
+   * Compute the distance in ulps between corresponding values of
+   * {@code x} and {@code y} with {@link Binary16#ulpDistance(char, char)}.
+   *
+   * @param x            The first values
+   * @param xOffset      The offset of the first value in {@code x}
+   * @param y            The second values
+   * @param yOffset      The offset of the first value in {@code y}
+   * @param target       The target distances
+   * @param targetOffset The offset of the first target distance
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If any range is out of bounds
+   */
+
+  public static void ulpDistances(
+    final char[] x,
+    final int xOffset,
+    final char[] y,
+    final int yOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkRanges(x.length, xOffset, y.length, yOffset, count);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        Binary16.ulpDistance(x[xOffset + index], y[yOffset + index]);
+    }
+  }
+
+  /**
+   * Compute the largest distance in ulps between corresponding values of
+   * {@code x} and {@code y} with {@link Binary16#ulpDistance(char, char)}.
+   * This is the maximum error of {@code y} as an approximation of
+   * {@code x}, and is {@link Integer#MAX_VALUE} if exactly one of any pair
+   * of values is {@code NaN}.
+   *
+   * @param x       The first values
+   * @param xOffset The offset of the first value in {@code x}
+   * @param y       The second values
+   * @param yOffset The offset of the first value in {@code y}
+   * @param count   The number of values
+   *
+   * @return The largest distance, or {@code 0} if {@code count} is
+   * {@code 0}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static int maxUlpDistance(
+    final char[] x,
+    final int xOffset,
+    final char[] y,
+    final int yOffset,
+    final int count)
+  {
+    checkRanges(x.length, xOffset, y.length, yOffset, count);
+
+    int maximum = 0;
+    for (int index = 0; index < count; ++index) {
+      maximum = Math.max(
+        maximum,
+        Binary16.ulpDistance(x[xOffset + index], y[yOffset + index]));
+    }
+    return maximum;
+  }
+
+  static void checkRanges(
+    final int sourceLength,
+    final int sourceOffset,
+    final int targetLength,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, sourceLength);
+    Objects.checkFromIndexSize(targetOffset, count, targetLength);
+  }
+}
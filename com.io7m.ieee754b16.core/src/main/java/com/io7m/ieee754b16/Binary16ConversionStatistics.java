@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Mutable counters describing what happened to the values passed through
+ * an instrumented bulk conversion such as
+ * {@link Binary16Arrays#packFloats(float[], int, char[], int, int, Binary16ConversionStatistics)}.
+ * </p>
+ * <p>
+ * The counters follow the IEEE 754 exception definitions: a conversion is
+ * <i>inexact</i> if the packed value does not represent the input exactly,
+ * it <i>overflows</i> if a finite input was rounded to an infinity, and it
+ * <i>underflows</i> if the result is tiny (zero or <i>subnormal</i>) and
+ * inexact. A <i>subnormal</i> value that was represented exactly is not
+ * counted as an underflow. The maximum absolute and relative errors are
+ * measured against the exact value of the packed result, and do not include
+ * conversions that overflowed (whose error is infinite).
+ * </p>
+ * <p>
+ * A disabled instance is ignored by instrumented conversions, which then
+ * run at the same speed as their uninstrumented equivalents. Instances are
+ * not thread-safe; concurrent conversions should each use their own
+ * instance and combine them with {@link #merge(Binary16ConversionStatistics)}.
+ * </p>
+ */
+
+public final class Binary16ConversionStatistics
+{
+  private boolean enabled;
+  private long conversions;
+  private long nans;
+  private long inexact;
+  private long overflows;
+  private long underflowsToZero;
+  private long underflowsToSubnormal;
+  private double maximumAbsoluteError;
+  private double maximumRelativeError;
+
+  /**
+   * Create a new enabled instance with all counters set to zero.
+   */
+
+  public Binary16ConversionStatistics()
+  {
+    this.enabled = true;
+  }
+
+  /**
+   * @return {@code true} if instrumented conversions should update this
+   * instance
+   */
+
+  public boolean isEnabled()
+  {
+    return this.enabled;
+  }
+
+  /**
+   * Enable or disable the collection of statistics. Disabling an instance
+   * does not reset its counters.
+   *
+   * @param inEnabled {@code true} if statistics should be collected
+   */
+
+  public void setEnabled(
+    final boolean inEnabled)
+  {
+    this.enabled = inEnabled;
+  }
+
+  /**
+   * @return The number of values converted
+   */
+
+  public long conversions()
+  {
+    return this.conversions;
+  }
+
+  /**
+   * @return The number of {@code NaN} inputs
+   */
+
+  public long nans()
+  {
+    return this.nans;
+  }
+
+  /**
+   * @return The number of conversions that could not be performed exactly
+   */
+
+  public long inexact()
+  {
+    return this.inexact;
+  }
+
+  /**
+   * @return The number of finite inputs that were rounded to an infinity
+   */
+
+  public long overflows()
+  {
+    return this.overflows;
+  }
+
+  /**
+   * @return The number of nonzero inputs that were rounded to zero
+   */
+
+  public long underflowsToZero()
+  {
+    return this.underflowsToZero;
+  }
+
+  /**
+   * @return The number of inputs that were rounded to a <i>subnormal</i>
+   * value that is not equal to the input
+   */
+
+  public long underflowsToSubnormal()
+  {
+    return this.underflowsToSubnormal;
+  }
+
+  /**
+   * @return The largest absolute difference observed between an input and
+   * its packed value, excluding overflows
+   */
+
+  public double maximumAbsoluteError()
+  {
+    return this.maximumAbsoluteError;
+  }
+
+  /**
+   * @return The largest difference observed between an input and its packed
+   * value, relative to the magnitude of the input, excluding overflows
+   */
+
+  public double maximumRelativeError()
+  {
+    return this.maximumRelativeError;
+  }
+
+  /**
+   * Reset all counters to zero. The enabled state is unchanged.
+   */
+
+  public void reset()
+  {
+    this.conversions = 0L;
+    this.nans = 0L;
+    this.inexact = 0L;
+    this.overflows = 0L;
+    this.underflowsToZero = 0L;
+    this.underflowsToSubnormal = 0L;
+    this.maximumAbsoluteError = 0.0;
+    this.maximumRelativeError = 0.0;
+  }
+
+  /**
+   * Add the counters of {@code other} to this instance.
+   *
+   * @param other The statistics to be added
+   */
+
+  public void merge(
+    final Binary16ConversionStatistics other)
+  {
+    Objects.requireNonNull(other, "other");
+
+    this.accumulate(
+      other.conversions,
+      other.nans,
+      other.inexact,
+      other.overflows,
+      other.underflowsToZero,
+      other.underflowsToSubnormal,
+      other.maximumAbsoluteError,
+      other.maximumRelativeError
+    );
+  }
+
+  void accumulate(
+    final long inConversions,
+    final long inNaNs,
+    final long inInexact,
+    final long inOverflows,
+    final long inUnderflowsToZero,
+    final long inUnderflowsToSubnormal,
+    final double inMaximumAbsoluteError,
+    final double inMaximumRelativeError)
+  {
+    this.conversions += inConversions;
+    this.nans += inNaNs;
+    this.inexact += inInexact;
+    this.overflows += inOverflows;
+    this.underflowsToZero += inUnderflowsToZero;
+    this.underflowsToSubnormal += inUnderflowsToSubnormal;
+    this.maximumAbsoluteError =
+      Math.max(this.maximumAbsoluteError, inMaximumAbsoluteError);
+    this.maximumRelativeError =
+      Math.max(this.maximumRelativeError, inMaximumRelativeError);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[Binary16ConversionStatistics conversions=%d nans=%d inexact=%d "
+        + "overflows=%d underflowsToZero=%d underflowsToSubnormal=%d "
+        + "maximumAbsoluteError=%s maximumRelativeError=%s]",
+      Long.valueOf(this.conversions),
+      Long.valueOf(this.nans),
+      Long.valueOf(this.inexact),
+      Long.valueOf(this.overflows),
+      Long.valueOf(this.underflowsToZero),
+      Long.valueOf(this.underflowsToSubnormal),
+      Double.valueOf(this.maximumAbsoluteError),
+      Double.valueOf(this.maximumRelativeError)
+    );
+  }
+}
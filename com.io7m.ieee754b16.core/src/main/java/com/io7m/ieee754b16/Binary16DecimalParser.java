@@ -0,0 +1,440 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import java.math.BigDecimal;
+
+/**
+ * A reusable decimal parser. Instances are not thread-safe.
+ *
+ * @see Binary16Parsing
+ */
+
+final class Binary16DecimalParser
+{
+  private static final int DIGITS_MAXIMUM = 18;
+  private static final int EXPONENT_LIMIT = 100_000;
+  private static final long AMBIGUITY = 64L;
+  private static final long DOUBLE_MASK_SIGNIFICAND = 0xf_ffff_ffff_ffffL;
+  private static final long DOUBLE_IMPLICIT_BIT = 0x10_0000_0000_0000L;
+
+  private static final double[] POWERS_OF_TEN = {
+    1.0e0, 1.0e1, 1.0e2, 1.0e3, 1.0e4, 1.0e5, 1.0e6, 1.0e7,
+    1.0e8, 1.0e9, 1.0e10, 1.0e11, 1.0e12, 1.0e13, 1.0e14, 1.0e15,
+    1.0e16, 1.0e17, 1.0e18, 1.0e19, 1.0e20, 1.0e21, 1.0e22,
+  };
+
+  private long mantissa;
+  private int digits;
+  private int exponent;
+  private boolean sticky;
+  private boolean sawDigit;
+  private int first;
+  private int last;
+
+  Binary16DecimalParser()
+  {
+
+  }
+
+  private static boolean isSpace(
+    final char c)
+  {
+    return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+  }
+
+  private static boolean isDigit(
+    final char c)
+  {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean matches(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final String word)
+  {
+    if (end - start != word.length()) {
+      return false;
+    }
+    for (int index = 0; index < word.length(); ++index) {
+      if (text.charAt(start + index) != word.charAt(index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static NumberFormatException invalid(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    final StringBuilder message = new StringBuilder(end - start + 32);
+    message.append("Invalid binary16 decimal: '");
+    for (int index = start; index < end; ++index) {
+      message.append(text.charAt(index));
+    }
+    message.append('\'');
+    return new NumberFormatException(message.toString());
+  }
+
+  /**
+   * Parse the decimal number in {@code text} in the range
+   * {@code [start, end)}, ignoring leading and trailing ASCII whitespace.
+   *
+   * @param text  The text
+   * @param start The start index (inclusive)
+   * @param end   The end index (exclusive)
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @throws NumberFormatException If the text is not a decimal number
+   */
+
+  char parse(
+    final CharSequence text,
+    final int start,
+    final int end)
+    throws NumberFormatException
+  {
+    this.trim(text, start, end);
+    if (this.first == this.last) {
+      throw invalid(text, start, end);
+    }
+
+    int position = this.first;
+    int sign = 0;
+    final char c = text.charAt(position);
+    if (c == '-') {
+      sign = 0x8000;
+      ++position;
+    } else if (c == '+') {
+      ++position;
+    }
+
+    if (position < this.last && !isDigit(text.charAt(position))) {
+      if (matches(text, position, this.last, "NaN")) {
+        return Binary16.CANONICAL_NAN;
+      }
+      if (matches(text, position, this.last, "Infinity")) {
+        return (char) (sign | Binary16.POSITIVE_INFINITY);
+      }
+    }
+    if (!this.scan(text, position, this.last)) {
+      throw invalid(text, start, end);
+    }
+    return (char) (sign | this.magnitude(text, position, this.last));
+  }
+
+  private void trim(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    int trimStart = start;
+    int trimEnd = end;
+    while (trimStart < trimEnd && isSpace(text.charAt(trimStart))) {
+      ++trimStart;
+    }
+    while (trimEnd > trimStart && isSpace(text.charAt(trimEnd - 1))) {
+      --trimEnd;
+    }
+    this.first = trimStart;
+    this.last = trimEnd;
+  }
+
+  /**
+   * Parse the fields of {@code text} in the range {@code [start, end)}
+   * separated by {@code delimiter} into {@code target}.
+   *
+   * @param text         The text
+   * @param start        The start index (inclusive)
+   * @param end          The end index (exclusive)
+   * @param delimiter    The field delimiter
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   *
+   * @return The number of values parsed
+   *
+   * @throws NumberFormatException If a field is not a decimal number
+   */
+
+  int parseDelimited(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final char delimiter,
+    final char[] target,
+    final int targetOffset)
+    throws NumberFormatException
+  {
+    if (start == end) {
+      return 0;
+    }
+
+    int count = 0;
+    int fieldStart = start;
+    for (int index = start; index <= end; ++index) {
+      if (index == end || text.charAt(index) == delimiter) {
+        final int targetIndex = targetOffset + count;
+        if (targetIndex >= target.length) {
+          throw new IndexOutOfBoundsException(
+            String.format(
+              "Field %d does not fit into an array of length %d",
+              Integer.valueOf(count),
+              Integer.valueOf(target.length))
+          );
+        }
+        target[targetIndex] = this.parse(text, fieldStart, index);
+        ++count;
+        fieldStart = index + 1;
+      }
+    }
+    return count;
+  }
+
+  /*
+   * Scan an unsigned decimal number, accumulating at most DIGITS_MAXIMUM
+   * significant digits into the mantissa such that the value is
+   * mantissa * 10^exponent, and recording whether any nonzero digits were
+   * discarded.
+   */
+
+  private boolean scan(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    this.mantissa = 0L;
+    this.digits = 0;
+    this.exponent = 0;
+    this.sticky = false;
+    this.sawDigit = false;
+
+    int position = start;
+    while (position < end && isDigit(text.charAt(position))) {
+      this.digit(text.charAt(position), false);
+      ++position;
+    }
+    if (position < end && text.charAt(position) == '.') {
+      ++position;
+      while (position < end && isDigit(text.charAt(position))) {
+        this.digit(text.charAt(position), true);
+        ++position;
+      }
+    }
+    if (!this.sawDigit) {
+      return false;
+    }
+    if (position < end) {
+      final char c = text.charAt(position);
+      if (c != 'e' && c != 'E') {
+        return false;
+      }
+      return this.scanExponent(text, position + 1, end);
+    }
+    return true;
+  }
+
+  private boolean scanExponent(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    int position = start;
+    boolean negative = false;
+    if (position < end) {
+      final char c = text.charAt(position);
+      if (c == '-') {
+        negative = true;
+        ++position;
+      } else if (c == '+') {
+        ++position;
+      }
+    }
+    if (position == end) {
+      return false;
+    }
+
+    int value = 0;
+    while (position < end) {
+      final char c = text.charAt(position);
+      if (!isDigit(c)) {
+        return false;
+      }
+      value = Math.min(EXPONENT_LIMIT, value * 10 + (c - '0'));
+      ++position;
+    }
+
+    if (negative) {
+      this.exponent -= value;
+    } else {
+      this.exponent += value;
+    }
+    return true;
+  }
+
+  private void digit(
+    final char c,
+    final boolean fractional)
+  {
+    this.sawDigit = true;
+    final int value = c - '0';
+
+    if (this.digits == 0 && value == 0) {
+      if (fractional) {
+        --this.exponent;
+      }
+      return;
+    }
+
+    if (this.digits < DIGITS_MAXIMUM) {
+      this.mantissa = this.mantissa * 10L + (long) value;
+      ++this.digits;
+      if (fractional) {
+        --this.exponent;
+      }
+      return;
+    }
+
+    if (value != 0) {
+      this.sticky = true;
+    }
+    if (!fractional) {
+      ++this.exponent;
+    }
+  }
+
+  /*
+   * Round the scanned value to the nearest binary16 magnitude, ties to
+   * even. The value is first converted to a double with a relative error
+   * of less than 2^-50. If that double lies within 64 units in the last
+   * place of the midpoint between two binary16 values, the rounding
+   * direction is uncertain and the exact value is compared against the
+   * midpoint instead.
+   */
+
+  private int magnitude(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    if (this.digits == 0) {
+      return 0;
+    }
+
+    final int scientific = this.exponent + this.digits - 1;
+    if (scientific > 4) {
+      return Binary16.POSITIVE_INFINITY;
+    }
+    if (scientific < -9) {
+      return 0;
+    }
+
+    final double value = this.approximate();
+    if (value >= 65536.0) {
+      return Binary16.POSITIVE_INFINITY;
+    }
+
+    return round(text, start, end, value);
+  }
+
+  private static int round(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final double value)
+  {
+    /*
+     * Round the 53-bit significand of the double to the 11 bits of a
+     * normal binary16 value, or fewer bits for a subnormal binary16 value,
+     * working directly on the bits of the double.
+     */
+
+    final long bits = Double.doubleToRawLongBits(value);
+    final int binaryExponent = (int) (bits >>> 52) - 1023;
+    final long significand = (bits & DOUBLE_MASK_SIGNIFICAND) | DOUBLE_IMPLICIT_BIT;
+
+    final int shift;
+    final int bias;
+    if (binaryExponent < -14) {
+      shift = 42 - 14 - binaryExponent;
+      bias = 0;
+    } else {
+      shift = 42;
+      bias = ((binaryExponent + 15) << 10) - 0x400;
+    }
+
+    final long kept = significand >>> shift;
+    final long remainder = significand & ((1L << shift) - 1L);
+    final long half = 1L << (shift - 1);
+
+    final boolean up;
+    if (Math.abs(remainder - half) <= AMBIGUITY) {
+      final double midpoint =
+        Math.scalb((double) (2L * kept + 1L), binaryExponent - 53 + shift);
+      up = roundUpExactly(text, start, end, midpoint, kept);
+    } else {
+      up = remainder > half;
+    }
+
+    /*
+     * A significand that rounds up to the next power of two carries into
+     * the exponent field, producing the next binade or infinity.
+     */
+
+    if (up) {
+      return bias + (int) kept + 1;
+    }
+    return bias + (int) kept;
+  }
+
+  private double approximate()
+  {
+    final double m = (double) this.mantissa;
+    final int e = this.exponent;
+    if (e >= 0) {
+      return m * POWERS_OF_TEN[e];
+    }
+    if (e >= -22) {
+      return m / POWERS_OF_TEN[-e];
+    }
+    return m / POWERS_OF_TEN[22] / POWERS_OF_TEN[-e - 22];
+  }
+
+  private static boolean roundUpExactly(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final double midpoint,
+    final long floor)
+  {
+    final StringBuilder digits = new StringBuilder(end - start);
+    for (int index = start; index < end; ++index) {
+      digits.append(text.charAt(index));
+    }
+
+    final int comparison =
+      new BigDecimal(digits.toString()).compareTo(new BigDecimal(midpoint));
+    if (comparison == 0) {
+      return (floor & 1L) != 0L;
+    }
+    return comparison > 0;
+  }
+}
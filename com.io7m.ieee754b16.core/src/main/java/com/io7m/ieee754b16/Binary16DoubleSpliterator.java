@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A sized, splittable spliterator that lazily unpacks a range of an array
+ * of packed {@code binary16} values with {@link Binary16#unpackDouble(char)}.
+ */
+
+final class Binary16DoubleSpliterator implements Spliterator.OfDouble
+{
+  private static final int CHARACTERISTICS =
+    Spliterator.ORDERED
+      | Spliterator.SIZED
+      | Spliterator.SUBSIZED
+      | Spliterator.IMMUTABLE;
+
+  private final char[] array;
+  private final int end;
+  private int index;
+
+  Binary16DoubleSpliterator(
+    final char[] inArray,
+    final int inIndex,
+    final int inEnd)
+  {
+    this.array = inArray;
+    this.index = inIndex;
+    this.end = inEnd;
+  }
+
+  @Override
+  public OfDouble trySplit()
+  {
+    final int low = this.index;
+    final int middle = (low + this.end) >>> 1;
+    if (low >= middle) {
+      return null;
+    }
+    this.index = middle;
+    return new Binary16DoubleSpliterator(this.array, low, middle);
+  }
+
+  @Override
+  public boolean tryAdvance(
+    final DoubleConsumer action)
+  {
+    if (this.index < this.end) {
+      action.accept(Binary16.unpackDouble(this.array[this.index]));
+      ++this.index;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(
+    final DoubleConsumer action)
+  {
+    final char[] a = this.array;
+    final int e = this.end;
+    for (int i = this.index; i < e; ++i) {
+      action.accept(Binary16.unpackDouble(a[i]));
+    }
+    this.index = e;
+  }
+
+  @Override
+  public long estimateSize()
+  {
+    return (long) (this.end - this.index);
+  }
+
+  @Override
+  public int characteristics()
+  {
+    return CHARACTERISTICS;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+/**
+ * The treatment of {@code NaN} values when packing floating point values
+ * into the {@code binary16} format.
+ */
+
+public enum Binary16NaNMode
+{
+  /**
+   * Every {@code NaN} is packed as {@link Binary16#CANONICAL_NAN}. This is
+   * the behaviour of {@link Binary16#packFloat(float)} and
+   * {@link Binary16#packDouble(double)}.
+   */
+
+  NAN_CANONICAL,
+
+  /**
+   * The sign and the upper bits of the payload of every {@code NaN} are
+   * preserved, and the quiet bit is set.
+   *
+   * @see Binary16#packFloatPreservingNaN(float)
+   * @see Binary16#packDoublePreservingNaN(double)
+   */
+
+  NAN_PRESERVE_PAYLOAD
+}
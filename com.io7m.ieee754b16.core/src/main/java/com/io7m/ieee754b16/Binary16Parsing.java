@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to parse decimal text directly to packed {@code binary16}
+ * values.
+ * </p>
+ * <p>
+ * The functions accept the decimal syntax accepted by
+ * {@link Float#parseFloat(String)}, with an optional sign, optional
+ * fraction and optional exponent, along with {@code NaN} and
+ * {@code Infinity}. Leading and trailing ASCII whitespace is ignored.
+ * Hexadecimal floating point literals and the {@code f} and {@code d}
+ * suffixes are not accepted.
+ * </p>
+ * <p>
+ * Unlike {@code Binary16.packFloat(Float.parseFloat(s))}, which rounds
+ * twice, the result is the {@code binary16} value nearest to the exact
+ * decimal value, with ties broken towards the value with an even
+ * significand. The value is converted to a {@code double} approximation
+ * using exact powers of ten, and rounded from there. No intermediate
+ * strings are created, except in the rare case that the approximation
+ * lies too close to the midpoint between two {@code binary16} values
+ * for the rounding direction to be certain; the exact value is then
+ * compared against the midpoint using {@link java.math.BigDecimal}.
+ * </p>
+ */
+
+public final class Binary16Parsing
+{
+  private Binary16Parsing()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Parse the given decimal text.
+   *
+   * @param text The text
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @throws NumberFormatException If the text is not a decimal number
+   */
+
+  public static char parse(
+    final CharSequence text)
+    throws NumberFormatException
+  {
+    Objects.requireNonNull(text, "text");
+    return parse(text, 0, text.length());
+  }
+
+  /**
+   * Parse the decimal text in the range {@code [start, end)} of
+   * {@code text}.
+   *
+   * @param text  The text
+   * @param start The start index (inclusive)
+   * @param end   The end index (exclusive)
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @throws NumberFormatException     If the text is not a decimal number
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static char parse(
+    final CharSequence text,
+    final int start,
+    final int end)
+    throws NumberFormatException
+  {
+    Objects.checkFromToIndex(start, end, text.length());
+    return new Binary16DecimalParser().parse(text, start, end);
+  }
+
+  /**
+   * Parse the ASCII decimal text in the range
+   * {@code [offset, offset + length)} of {@code data}.
+   *
+   * @param data   The ASCII text
+   * @param offset The offset of the first byte
+   * @param length The number of bytes
+   *
+   * @return A packed {@code binary16} value
+   *
+   * @throws NumberFormatException     If the text is not a decimal number
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static char parse(
+    final byte[] data,
+    final int offset,
+    final int length)
+    throws NumberFormatException
+  {
+    Objects.checkFromIndexSize(offset, length, data.length);
+
+    final Binary16ASCIIView view = new Binary16ASCIIView();
+    view.set(data, offset, length);
+    return new Binary16DecimalParser().parse(view, 0, length);
+  }
+
+  /**
+   * <p>
+   * Parse the fields of the text in the range {@code [start, end)} of
+   * {@code text}, separated by {@code delimiter}, writing the values into
+   * {@code target} starting at {@code targetOffset}.
+   * </p>
+   * <p>
+   * Each field is parsed as by {@link #parse(CharSequence, int, int)}, so
+   * whitespace around delimiters is ignored. An empty range contains no
+   * fields; otherwise, a range containing {@code n} delimiters contains
+   * {@code n + 1} fields, none of which may be empty.
+   * </p>
+   *
+   * @param text         The text
+   * @param start        The start index (inclusive)
+   * @param end          The end index (exclusive)
+   * @param delimiter    The field delimiter
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   *
+   * @return The number of values written to {@code target}
+   *
+   * @throws NumberFormatException     If a field is not a decimal number
+   * @throws IndexOutOfBoundsException If a range is out of bounds, or there
+   *                                   are more fields than there is space
+   *                                   in {@code target}
+   */
+
+  public static int parseDelimited(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final char delimiter,
+    final char[] target,
+    final int targetOffset)
+    throws NumberFormatException
+  {
+    Objects.checkFromToIndex(start, end, text.length());
+    Objects.checkIndex(targetOffset, target.length + 1);
+
+    return new Binary16DecimalParser()
+      .parseDelimited(text, start, end, delimiter, target, targetOffset);
+  }
+
+  /**
+   * Parse the fields of the ASCII text in the range
+   * {@code [offset, offset + length)} of {@code data}, separated by
+   * {@code delimiter}, writing the values into {@code target} starting at
+   * {@code targetOffset}.
+   *
+   * @param data         The ASCII text
+   * @param offset       The offset of the first byte
+   * @param length       The number of bytes
+   * @param delimiter    The field delimiter
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   *
+   * @return The number of values written to {@code target}
+   *
+   * @throws NumberFormatException     If a field is not a decimal number
+   * @throws IndexOutOfBoundsException If a range is out of bounds, or there
+   *                                   are more fields than there is space
+   *                                   in {@code target}
+   * @see #parseDelimited(CharSequence, int, int, char, char[], int)
+   */
+
+  public static int parseDelimited(
+    final byte[] data,
+    final int offset,
+    final int length,
+    final byte delimiter,
+    final char[] target,
+    final int targetOffset)
+    throws NumberFormatException
+  {
+    Objects.checkFromIndexSize(offset, length, data.length);
+    Objects.checkIndex(targetOffset, target.length + 1);
+
+    final Binary16ASCIIView view = new Binary16ASCIIView();
+    view.set(data, offset, length);
+    return new Binary16DecimalParser().parseDelimited(
+      view, 0, length, (char) (delimiter & 0xff), target, targetOffset);
+  }
+}
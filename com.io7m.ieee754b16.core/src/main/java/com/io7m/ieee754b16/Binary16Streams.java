@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * Functions to expose arrays of packed {@code binary16} values as
+ * {@link java.util.stream} pipelines, and to collect pipelines back into
+ * arrays of packed {@code binary16} values.
+ * </p>
+ * <p>
+ * The streams and spliterators returned by this class are views of the
+ * underlying arrays: values are unpacked lazily as the pipeline consumes
+ * them, and no intermediate {@code float} or {@code double} arrays are
+ * created. The spliterators are sized and split evenly, so parallel
+ * pipelines are distributed across cores.
+ * </p>
+ */
+
+public final class Binary16Streams
+{
+  private Binary16Streams()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Create a spliterator that unpacks the values in {@code array} in the
+   * range {@code [from, to)}.
+   *
+   * @param array An array of packed {@code binary16} values
+   * @param from  The starting index (inclusive)
+   * @param to    The ending index (exclusive)
+   *
+   * @return A spliterator over the unpacked values
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   * @see Binary16#unpackDouble(char)
+   */
+
+  public static Spliterator.OfDouble doubleSpliterator(
+    final char[] array,
+    final int from,
+    final int to)
+  {
+    Objects.requireNonNull(array, "array");
+    Objects.checkFromToIndex(from, to, array.length);
+    return new Binary16DoubleSpliterator(array, from, to);
+  }
+
+  /**
+   * Create a spliterator that yields the raw encodings of the values in
+   * {@code array} in the range {@code [from, to)}.
+   *
+   * @param array An array of packed {@code binary16} values
+   * @param from  The starting index (inclusive)
+   * @param to    The ending index (exclusive)
+   *
+   * @return A spliterator over the raw encoded values
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static Spliterator.OfInt rawSpliterator(
+    final char[] array,
+    final int from,
+    final int to)
+  {
+    Objects.requireNonNull(array, "array");
+    Objects.checkFromToIndex(from, to, array.length);
+    return new Binary16IntSpliterator(array, from, to);
+  }
+
+  /**
+   * Create a sequential stream that unpacks every value in {@code array}.
+   *
+   * @param array An array of packed {@code binary16} values
+   *
+   * @return A stream of unpacked values
+   *
+   * @see #doubleStream(char[], int, int)
+   */
+
+  public static DoubleStream doubleStream(
+    final char[] array)
+  {
+    Objects.requireNonNull(array, "array");
+    return doubleStream(array, 0, array.length);
+  }
+
+  /**
+   * Create a sequential stream that unpacks the values in {@code array} in
+   * the range {@code [from, to)}. The stream can be made parallel with
+   * {@link DoubleStream#parallel()}.
+   *
+   * @param array An array of packed {@code binary16} values
+   * @param from  The starting index (inclusive)
+   * @param to    The ending index (exclusive)
+   *
+   * @return A stream of unpacked values
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static DoubleStream doubleStream(
+    final char[] array,
+    final int from,
+    final int to)
+  {
+    return StreamSupport.doubleStream(
+      doubleSpliterator(array, from, to), false);
+  }
+
+  /**
+   * Create a sequential stream of the raw encodings of every value in
+   * {@code array}.
+   *
+   * @param array An array of packed {@code binary16} values
+   *
+   * @return A stream of raw encoded values in the range {@code [0, 65535]}
+   *
+   * @see #rawStream(char[], int, int)
+   */
+
+  public static IntStream rawStream(
+    final char[] array)
+  {
+    Objects.requireNonNull(array, "array");
+    return rawStream(array, 0, array.length);
+  }
+
+  /**
+   * Create a sequential stream of the raw encodings of the values in
+   * {@code array} in the range {@code [from, to)}. The stream can be made
+   * parallel with {@link IntStream#parallel()}.
+   *
+   * @param array An array of packed {@code binary16} values
+   * @param from  The starting index (inclusive)
+   * @param to    The ending index (exclusive)
+   *
+   * @return A stream of raw encoded values in the range {@code [0, 65535]}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static IntStream rawStream(
+    final char[] array,
+    final int from,
+    final int to)
+  {
+    return StreamSupport.intStream(
+      rawSpliterator(array, from, to), false);
+  }
+
+  /**
+   * Pack every value in the given stream with
+   * {@link Binary16#packDouble(double)}, in encounter order. Parallel
+   * streams accumulate into independent chunked buffers that are joined
+   * without copying.
+   *
+   * @param stream A stream of values
+   *
+   * @return An array of packed {@code binary16} values
+   *
+   * @see Binary16ArrayBuilder
+   */
+
+  public static char[] toArray(
+    final DoubleStream stream)
+  {
+    Objects.requireNonNull(stream, "stream");
+    return stream.collect(
+      Binary16ArrayBuilder::new,
+      Binary16ArrayBuilder::addDouble,
+      Binary16ArrayBuilder::addAll
+    ).toArray();
+  }
+
+  /**
+   * Pack every raw encoded value in the given stream, in encounter order.
+   * Each value is truncated to its low 16 bits.
+   *
+   * @param stream A stream of raw encoded values
+   *
+   * @return An array of packed {@code binary16} values
+   */
+
+  public static char[] toArrayRaw(
+    final IntStream stream)
+  {
+    Objects.requireNonNull(stream, "stream");
+    return stream.collect(
+      Binary16ArrayBuilder::new,
+      (b, x) -> b.addPacked((char) x),
+      Binary16ArrayBuilder::addAll
+    ).toArray();
+  }
+
+  /**
+   * A collector that packs a stream of numbers with
+   * {@link Binary16#packDouble(double)}, in encounter order.
+   *
+   * @param <T> The precise type of numbers
+   *
+   * @return A collector producing an array of packed {@code binary16} values
+   */
+
+  public static <T extends Number> Collector<T, ?, char[]> collector()
+  {
+    return Collector.of(
+      Binary16ArrayBuilder::new,
+      (b, x) -> b.addDouble(x.doubleValue()),
+      (b0, b1) -> {
+        b0.addAll(b1);
+        return b0;
+      },
+      Binary16ArrayBuilder::toArray
+    );
+  }
+}
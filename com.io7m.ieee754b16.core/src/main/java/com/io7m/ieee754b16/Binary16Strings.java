@@ -0,0 +1,677 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to format packed {@code binary16} values as text.
+ * </p>
+ * <p>
+ * The decimal functions produce the shortest decimal string that identifies
+ * the value uniquely: parsing the string and rounding the result to the
+ * nearest {@code binary16} value yields the original value, regardless of
+ * how ties are broken. The layout follows {@link Float#toString(float)}:
+ * values with magnitudes in the range {@code [10^-3, 10^7)} are written
+ * in plain notation with at least one digit after the decimal point, and
+ * other values are written in scientific notation such as {@code 6.0E-8}.
+ * </p>
+ * <p>
+ * The digits are computed with exact integer arithmetic for every finite
+ * value when the decimal functions are first used, and stored in a table
+ * of approximately {@code 250KiB}. The functions that write into a
+ * caller-supplied {@code char[]}, {@link StringBuilder} or
+ * {@link ByteBuffer} do not allocate.
+ * </p>
+ */
+
+public final class Binary16Strings
+{
+  /**
+   * The maximum number of characters written by the decimal formatting
+   * functions.
+   */
+
+  public static final int DECIMAL_LENGTH_MAXIMUM = 10;
+
+  /**
+   * The number of characters written by the raw binary formatting functions.
+   */
+
+  public static final int RAW_BINARY_LENGTH = 16;
+
+  /**
+   * The number of characters written by the raw hexadecimal formatting
+   * functions.
+   */
+
+  public static final int RAW_HEX_LENGTH = 4;
+
+  private static final char[] HEX_DIGITS = {
+    '0', '1', '2', '3', '4', '5', '6', '7',
+    '8', '9', 'a', 'b', 'c', 'd', 'e', 'f',
+  };
+
+  /*
+   * A formatted finite value is encoded as a sequence of four-bit symbols,
+   * with the first character in the most significant nonzero position.
+   * Symbol zero is never used so that the length can be recovered from the
+   * position of the highest set bit.
+   */
+
+  private static final char[] SYMBOLS = {
+    '\0', '0', '1', '2', '3', '4', '5', '6',
+    '7', '8', '9', '.', '-', 'E',
+  };
+
+  private static final int SYMBOL_DIGIT_ZERO = 1;
+  private static final int SYMBOL_POINT = 11;
+  private static final int SYMBOL_MINUS = 12;
+  private static final int SYMBOL_EXPONENT = 13;
+
+  private static final long SPECIAL_NAN = -1L;
+  private static final long SPECIAL_POSITIVE_INFINITY = -2L;
+  private static final long SPECIAL_NEGATIVE_INFINITY = -3L;
+
+  private static final int DIGITS_MAXIMUM = 5;
+
+  private static final long[] POWERS_OF_TEN = {
+    1L,
+    10L,
+    100L,
+    1_000L,
+    10_000L,
+    100_000L,
+    1_000_000L,
+    10_000_000L,
+    100_000_000L,
+    1_000_000_000L,
+    10_000_000_000L,
+    100_000_000_000L,
+    1_000_000_000_000L,
+    10_000_000_000_000L,
+  };
+
+  private Binary16Strings()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Format {@code k} as the shortest uniquely-identifying decimal string.
+   *
+   * @param k A packed {@code binary16} value
+   *
+   * @return A decimal string
+   */
+
+  public static String toDecimalString(
+    final char k)
+  {
+    final char[] buffer = new char[DECIMAL_LENGTH_MAXIMUM];
+    final int length = formatDecimal(k, buffer, 0);
+    return String.valueOf(buffer, 0, length);
+  }
+
+  /**
+   * Format {@code k} as the shortest uniquely-identifying decimal string,
+   * writing the characters into {@code target} starting at {@code offset}.
+   * At most {@link #DECIMAL_LENGTH_MAXIMUM} characters are written.
+   *
+   * @param k      A packed {@code binary16} value
+   * @param target The target array
+   * @param offset The offset of the first character
+   *
+   * @return The number of characters written
+   *
+   * @throws IndexOutOfBoundsException If the characters do not fit into
+   *                                   {@code target}
+   */
+
+  public static int formatDecimal(
+    final char k,
+    final char[] target,
+    final int offset)
+  {
+    Objects.requireNonNull(target, "target");
+
+    final long encoded = encodeDecimal(k);
+    if (encoded < 0L) {
+      final String text = special(encoded);
+      final int length = text.length();
+      Objects.checkFromIndexSize(offset, length, target.length);
+      text.getChars(0, length, target, offset);
+      return length;
+    }
+
+    final int length = encodedLength(encoded);
+    Objects.checkFromIndexSize(offset, length, target.length);
+    for (int index = 0; index < length; ++index) {
+      target[offset + index] = encodedCharAt(encoded, length, index);
+    }
+    return length;
+  }
+
+  /**
+   * Format {@code k} as the shortest uniquely-identifying decimal string,
+   * appending the characters to {@code target}.
+   *
+   * @param k      A packed {@code binary16} value
+   * @param target The target builder
+   *
+   * @return The number of characters appended
+   */
+
+  public static int formatDecimal(
+    final char k,
+    final StringBuilder target)
+  {
+    Objects.requireNonNull(target, "target");
+
+    final long encoded = encodeDecimal(k);
+    if (encoded < 0L) {
+      final String text = special(encoded);
+      target.append(text);
+      return text.length();
+    }
+
+    final int length = encodedLength(encoded);
+    for (int index = 0; index < length; ++index) {
+      target.append(encodedCharAt(encoded, length, index));
+    }
+    return length;
+  }
+
+  /**
+   * Format {@code k} as the shortest uniquely-identifying decimal string,
+   * writing the characters as ASCII bytes at the current position of
+   * {@code target} and advancing the position.
+   *
+   * @param k      A packed {@code binary16} value
+   * @param target The target buffer
+   *
+   * @return The number of bytes written
+   *
+   * @throws BufferOverflowException If the characters do not fit into the
+   *                                 remaining space in {@code target}; the
+   *                                 buffer is not modified
+   */
+
+  public static int formatDecimal(
+    final char k,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(target, "target");
+
+    final long encoded = encodeDecimal(k);
+    if (encoded < 0L) {
+      final String text = special(encoded);
+      final int length = text.length();
+      if (target.remaining() < length) {
+        throw new BufferOverflowException();
+      }
+      for (int index = 0; index < length; ++index) {
+        target.put((byte) text.charAt(index));
+      }
+      return length;
+    }
+
+    final int length = encodedLength(encoded);
+    if (target.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    for (int index = 0; index < length; ++index) {
+      target.put((byte) encodedCharAt(encoded, length, index));
+    }
+    return length;
+  }
+
+  /**
+   * Show the given raw packed {@code binary16} value as a string of
+   * {@link #RAW_HEX_LENGTH} lowercase hexadecimal digits.
+   *
+   * @param k A packed {@code binary16} value
+   *
+   * @return A string representation
+   */
+
+  public static String toRawHexString(
+    final char k)
+  {
+    final char[] buffer = new char[RAW_HEX_LENGTH];
+    formatRawHex(k, buffer, 0);
+    return String.valueOf(buffer);
+  }
+
+  /**
+   * Write the given raw packed {@code binary16} value as
+   * {@link #RAW_HEX_LENGTH} lowercase hexadecimal digits into
+   * {@code target} starting at {@code offset}.
+   *
+   * @param k      A packed {@code binary16} value
+   * @param target The target array
+   * @param offset The offset of the first character
+   *
+   * @throws IndexOutOfBoundsException If the characters do not fit into
+   *                                   {@code target}
+   */
+
+  public static void formatRawHex(
+    final char k,
+    final char[] target,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, RAW_HEX_LENGTH, target.length);
+
+    final int bits = (int) k;
+    for (int index = 0; index < RAW_HEX_LENGTH; ++index) {
+      final int shift = (RAW_HEX_LENGTH - 1 - index) << 2;
+      target[offset + index] = HEX_DIGITS[(bits >>> shift) & 0xf];
+    }
+  }
+
+  /**
+   * Append the given raw packed {@code binary16} value as
+   * {@link #RAW_HEX_LENGTH} lowercase hexadecimal digits to {@code target}.
+   *
+   * @param k      A packed {@code binary16} value
+   * @param target The target builder
+   */
+
+  public static void formatRawHex(
+    final char k,
+    final StringBuilder target)
+  {
+    Objects.requireNonNull(target, "target");
+
+    final int bits = (int) k;
+    for (int index = 0; index < RAW_HEX_LENGTH; ++index) {
+      final int shift = (RAW_HEX_LENGTH - 1 - index) << 2;
+      target.append(HEX_DIGITS[(bits >>> shift) & 0xf]);
+    }
+  }
+
+  /**
+   * Write the given raw packed {@code binary16} value as
+   * {@link #RAW_BINARY_LENGTH} binary digits into {@code target} starting at
+   * {@code offset}.
+   *
+   * @param k      A packed {@code binary16} value
+   * @param target The target array
+   * @param offset The offset of the first character
+   *
+   * @throws IndexOutOfBoundsException If the characters do not fit into
+   *                                   {@code target}
+   * @see Binary16#toRawBinaryString(char)
+   */
+
+  public static void formatRawBinary(
+    final char k,
+    final char[] target,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, RAW_BINARY_LENGTH, target.length);
+
+    final int bits = (int) k;
+    for (int index = 0; index < RAW_BINARY_LENGTH; ++index) {
+      final int shift = RAW_BINARY_LENGTH - 1 - index;
+      target[offset + index] = (char) ('0' + ((bits >>> shift) & 1));
+    }
+  }
+
+  /**
+   * Append the given raw packed {@code binary16} value as
+   * {@link #RAW_BINARY_LENGTH} binary digits to {@code target}.
+   *
+   * @param k      A packed {@code binary16} value
+   * @param target The target builder
+   *
+   * @see Binary16#toRawBinaryString(char)
+   */
+
+  public static void formatRawBinary(
+    final char k,
+    final StringBuilder target)
+  {
+    Objects.requireNonNull(target, "target");
+
+    final int bits = (int) k;
+    for (int index = 0; index < RAW_BINARY_LENGTH; ++index) {
+      final int shift = RAW_BINARY_LENGTH - 1 - index;
+      target.append((char) ('0' + ((bits >>> shift) & 1)));
+    }
+  }
+
+  private static String special(
+    final long encoded)
+  {
+    if (encoded == SPECIAL_NAN) {
+      return "NaN";
+    }
+    if (encoded == SPECIAL_POSITIVE_INFINITY) {
+      return "Infinity";
+    }
+    return "-Infinity";
+  }
+
+  private static int encodedLength(
+    final long encoded)
+  {
+    return (67 - Long.numberOfLeadingZeros(encoded)) >>> 2;
+  }
+
+  private static char encodedCharAt(
+    final long encoded,
+    final int length,
+    final int index)
+  {
+    final int shift = (length - 1 - index) << 2;
+    return SYMBOLS[(int) (encoded >>> shift) & 0xf];
+  }
+
+  private static long put(
+    final long encoded,
+    final int symbol)
+  {
+    return (encoded << 4) | (long) symbol;
+  }
+
+  private static long putDigits(
+    final long encoded,
+    final long digits,
+    final int count)
+  {
+    long result = encoded;
+    long remaining = digits;
+    for (int index = count - 1; index >= 0; --index) {
+      final long power = POWERS_OF_TEN[index];
+      final long digit = remaining / power;
+      result = put(result, SYMBOL_DIGIT_ZERO + (int) digit);
+      remaining -= digit * power;
+    }
+    return result;
+  }
+
+  private static long putZeros(
+    final long encoded,
+    final int count)
+  {
+    long result = encoded;
+    for (int index = 0; index < count; ++index) {
+      result = put(result, SYMBOL_DIGIT_ZERO);
+    }
+    return result;
+  }
+
+  private static int digitCount(
+    final long digits)
+  {
+    int count = 1;
+    while (count < POWERS_OF_TEN.length && digits >= POWERS_OF_TEN[count]) {
+      ++count;
+    }
+    return count;
+  }
+
+  /*
+   * Encode {@code k} as a sequence of symbols, or as one of the negative
+   * special values for {@code NaN} and the infinities. The symbols for the
+   * magnitude are taken from the table, and a minus sign is prepended for
+   * negative values.
+   */
+
+  private static long encodeDecimal(
+    final char k)
+  {
+    final int bits = (int) k;
+    final int magnitude = bits & 0x7fff;
+
+    if (magnitude >= 0x7c00) {
+      if (magnitude != 0x7c00) {
+        return SPECIAL_NAN;
+      }
+      if (bits != magnitude) {
+        return SPECIAL_NEGATIVE_INFINITY;
+      }
+      return SPECIAL_POSITIVE_INFINITY;
+    }
+
+    final long encoded = DecimalTable.ENCODED[magnitude];
+    if (bits != magnitude) {
+      final int shift = encodedLength(encoded) << 2;
+      return ((long) SYMBOL_MINUS << shift) | encoded;
+    }
+    return encoded;
+  }
+
+  /*
+   * Compute the symbols for the non-negative finite value with the given
+   * biased exponent and fraction.
+   */
+
+  private static long computeDecimal(
+    final int exponent,
+    final int fraction)
+  {
+    if (exponent == 0 && fraction == 0) {
+      long encoded = put(0L, SYMBOL_DIGIT_ZERO);
+      encoded = put(encoded, SYMBOL_POINT);
+      return put(encoded, SYMBOL_DIGIT_ZERO);
+    }
+
+    final long digitsAndExponent = shortestDigits(exponent, fraction);
+    final long digits = digitsAndExponent >> 8;
+    final int decimalExponent = (int) (byte) digitsAndExponent;
+    final int count = digitCount(digits);
+    final int scientificExponent = decimalExponent + count - 1;
+
+    if (scientificExponent < -3 || scientificExponent >= 7) {
+      return encodeScientific(0L, digits, count, scientificExponent);
+    }
+    return encodePlain(0L, digits, count, decimalExponent);
+  }
+
+  private static long encodeScientific(
+    final long encoded,
+    final long digits,
+    final int count,
+    final int scientificExponent)
+  {
+    final long power = POWERS_OF_TEN[count - 1];
+
+    long result = putDigits(encoded, digits / power, 1);
+    result = put(result, SYMBOL_POINT);
+    if (count == 1) {
+      result = put(result, SYMBOL_DIGIT_ZERO);
+    } else {
+      result = putDigits(result, digits % power, count - 1);
+    }
+    result = put(result, SYMBOL_EXPONENT);
+    if (scientificExponent < 0) {
+      result = put(result, SYMBOL_MINUS);
+    }
+    final int magnitude = Math.abs(scientificExponent);
+    return putDigits(result, magnitude, digitCount(magnitude));
+  }
+
+  private static long encodePlain(
+    final long encoded,
+    final long digits,
+    final int count,
+    final int decimalExponent)
+  {
+    long result = encoded;
+    if (decimalExponent >= 0) {
+      result = putDigits(result, digits, count);
+      result = putZeros(result, decimalExponent);
+      result = put(result, SYMBOL_POINT);
+      return put(result, SYMBOL_DIGIT_ZERO);
+    }
+
+    final int integerDigits = count + decimalExponent;
+    if (integerDigits > 0) {
+      final long power = POWERS_OF_TEN[-decimalExponent];
+      result = putDigits(result, digits / power, integerDigits);
+      result = put(result, SYMBOL_POINT);
+      return putDigits(result, digits % power, -decimalExponent);
+    }
+
+    result = put(result, SYMBOL_DIGIT_ZERO);
+    result = put(result, SYMBOL_POINT);
+    result = putZeros(result, -integerDigits);
+    return putDigits(result, digits, count);
+  }
+
+  /*
+   * Find the shortest decimal {@code d * 10^q} that lies strictly inside the
+   * rounding interval of the nonzero finite value with the given biased
+   * exponent and fraction. The result is {@code (d << 8) | (q & 0xff)}.
+   */
+
+  private static long shortestDigits(
+    final int exponent,
+    final int fraction)
+  {
+    /*
+     * The value is represented exactly as value * 2^scale, with two extra
+     * bits of precision so that the half-distances to the neighbouring
+     * values are integers. The distance to the next lower value is halved
+     * for normal values with a zero fraction, other than the smallest.
+     */
+
+    final long value;
+    final int scale;
+    final long below;
+    final long above = 2L;
+    if (exponent == 0) {
+      value = (long) fraction << 2;
+      scale = -26;
+      below = 2L;
+    } else {
+      value = (long) (0x400 | fraction) << 2;
+      scale = exponent - 27;
+      if (fraction == 0 && exponent > 1) {
+        below = 1L;
+      } else {
+        below = 2L;
+      }
+    }
+
+    final int magnitude =
+      (int) Math.floor(Math.log10(Math.scalb((double) value, scale)));
+
+    for (int count = 1; count <= DIGITS_MAXIMUM; ++count) {
+      final int decimalExponent = magnitude - count + 1;
+
+      /*
+       * Compare candidates d * 10^q against value * 2^scale by scaling
+       * both sides to integers: d * factorD against value * factorV.
+       */
+
+      final long factorD =
+        POWERS_OF_TEN[Math.max(decimalExponent, 0)] << Math.max(-scale, 0);
+      final long factorV =
+        POWERS_OF_TEN[Math.max(-decimalExponent, 0)] << Math.max(scale, 0);
+
+      final long exact = value * factorV;
+      final long lower = (value - below) * factorV;
+      final long upper = (value + above) * factorV;
+
+      final long digits = closestInside(exact, lower, upper, factorD);
+      if (digits > 0L) {
+        int resultExponent = decimalExponent;
+        long resultDigits = digits;
+        while (resultDigits % 10L == 0L) {
+          resultDigits /= 10L;
+          ++resultExponent;
+        }
+        return (resultDigits << 8) | (long) (resultExponent & 0xff);
+      }
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /*
+   * Of the two candidates d and d + 1 such that d * factor <= exact <
+   * (d + 1) * factor, return the one that lies strictly inside
+   * (lower, upper), preferring the closest and then the even candidate.
+   * Return -1 if neither candidate lies inside the interval.
+   */
+
+  private static long closestInside(
+    final long exact,
+    final long lower,
+    final long upper,
+    final long factor)
+  {
+    final long down = exact / factor;
+    final long up = down + 1L;
+    final boolean downInside = down * factor > lower;
+    final boolean upInside = up * factor < upper;
+
+    if (downInside && upInside) {
+      final long downDistance = exact - down * factor;
+      final long upDistance = up * factor - exact;
+      if (downDistance < upDistance) {
+        return down;
+      }
+      if (upDistance < downDistance) {
+        return up;
+      }
+      if ((down & 1L) == 0L) {
+        return down;
+      }
+      return up;
+    }
+    if (downInside) {
+      return down;
+    }
+    if (upInside) {
+      return up;
+    }
+    return -1L;
+  }
+
+  /*
+   * The symbols for every non-negative finite value, built on first use.
+   */
+
+  private static final class DecimalTable
+  {
+    static final long[] ENCODED = build();
+
+    private DecimalTable()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    private static long[] build()
+    {
+      final long[] table = new long[0x7c00];
+      for (int index = 0; index < table.length; ++index) {
+        table[index] = computeDecimal(index >>> 10, index & 0x3ff);
+      }
+      return table;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16;
+
+/**
+ * The treatment of values that are too small in magnitude to be represented
+ * as normal {@code binary16} values, and of {@code binary16}
+ * <i>subnormal</i> values when unpacking.
+ */
+
+public enum Binary16SubnormalMode
+{
+  /**
+   * Values are packed as {@code binary16} <i>subnormal</i> values where
+   * possible, and <i>subnormal</i> values are unpacked exactly, as required
+   * by {@code IEEE 754}.
+   */
+
+  SUBNORMAL_PRESERVE,
+
+  /**
+   * Values that would be packed as {@code binary16} <i>subnormal</i> values
+   * are packed as zero values with the same sign (<i>flush-to-zero</i>), and
+   * <i>subnormal</i> values are unpacked as zero values with the same sign
+   * (<i>denormals-are-zero</i>). This trades accuracy very close to zero for
+   * speed.
+   */
+
+  SUBNORMAL_FLUSH_TO_ZERO
+}
@@ -32,21 +32,13 @@ public final class Binary32
    * exponent {@code e} is encoded as <code>{@link #BIAS} + e</code>.
    */
 
-  static final int BIAS;
+  static final int BIAS = 127;
 
-  static final int NEGATIVE_ZERO_BITS;
+  static final int NEGATIVE_ZERO_BITS = 0x80000000;
 
-  private static final int MASK_EXPONENT;
-  private static final int MASK_SIGN;
-  private static final int MASK_SIGNIFICAND;
-
-  static {
-    NEGATIVE_ZERO_BITS = 0x80000000;
-    MASK_SIGN = 0x80000000;
-    MASK_EXPONENT = 0x7ff00000;
-    MASK_SIGNIFICAND = 0x7fffff;
-    BIAS = 127;
-  }
+  private static final int MASK_EXPONENT = 0x7ff00000;
+  private static final int MASK_SIGN = 0x80000000;
+  private static final int MASK_SIGNIFICAND = 0x7fffff;
 
   private Binary32()
   {
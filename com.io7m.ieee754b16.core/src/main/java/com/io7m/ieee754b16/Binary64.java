@@ -32,21 +32,13 @@ public final class Binary64
    * exponent {@code e} is encoded as <code>{@link #BIAS} + e</code>.
    */
 
-  static final long BIAS;
+  static final long BIAS = 1023;
 
-  static final long NEGATIVE_ZERO_BITS;
+  static final long NEGATIVE_ZERO_BITS = 0x8000000000000000L;
 
-  private static final long MASK_EXPONENT;
-  private static final long MASK_SIGN;
-  private static final long MASK_SIGNIFICAND;
-
-  static {
-    NEGATIVE_ZERO_BITS = 0x8000000000000000L;
-    MASK_SIGN = 0x8000000000000000L;
-    MASK_EXPONENT = 0x7ff0000000000000L;
-    MASK_SIGNIFICAND = 0x000fffffffffffffL;
-    BIAS = 1023;
-  }
+  private static final long MASK_EXPONENT = 0x7ff0000000000000L;
+  private static final long MASK_SIGN = 0x8000000000000000L;
+  private static final long MASK_SIGNIFICAND = 0x000fffffffffffffL;
 
   private Binary64()
   {
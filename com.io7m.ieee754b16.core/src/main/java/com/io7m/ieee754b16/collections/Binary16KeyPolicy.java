@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.collections;
+
+import com.io7m.ieee754b16.Binary16;
+
+/**
+ * <p>
+ * The policy used to decide when two packed {@code binary16} values denote
+ * the same map key.
+ * </p>
+ * <p>
+ * A map canonicalizes every key it receives according to its policy before
+ * storing or looking up the key. The canonical form of a key is the key
+ * that is reported when iterating over the map.
+ * </p>
+ */
+
+public enum Binary16KeyPolicy
+{
+  /**
+   * Every distinct encoding is a distinct key. Each of the 2046 {@code NaN}
+   * encodings is a separate key, and {@code -0} and {@code 0} are distinct.
+   */
+
+  KEY_EXACT,
+
+  /**
+   * Every {@code NaN} encoding denotes the same key, stored as
+   * {@link Binary16#CANONICAL_NAN}. The zeros {@code -0} and {@code 0}
+   * are distinct. This matches the semantics of {@link Float#equals(Object)}.
+   */
+
+  KEY_CANONICAL_NAN,
+
+  /**
+   * Every {@code NaN} encoding denotes the same key, stored as
+   * {@link Binary16#CANONICAL_NAN}, and {@code -0} denotes the same key as
+   * {@code 0}. Keys are therefore equal if they are numerically equal, or
+   * if they are both {@code NaN}.
+   */
+
+  KEY_CANONICAL_NAN_AND_ZERO;
+
+  /**
+   * Transform the given key into its canonical form according to this
+   * policy.
+   *
+   * @param key A packed {@code binary16} value
+   *
+   * @return The canonical key
+   */
+
+  public char canonicalize(
+    final char key)
+  {
+    return switch (this) {
+      case KEY_EXACT -> key;
+      case KEY_CANONICAL_NAN -> Binary16.canonicalizeNaN(key);
+      case KEY_CANONICAL_NAN_AND_ZERO -> {
+        if (key == Binary16.NEGATIVE_ZERO) {
+          yield Binary16.POSITIVE_ZERO;
+        }
+        yield Binary16.canonicalizeNaN(key);
+      }
+    };
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.collections;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Functions shared by the open-addressed map implementations.
+ */
+
+final class Binary16OpenAddressing
+{
+  /**
+   * The marker used for empty slots. No key can have this value, as keys
+   * are in the range {@code [0, 65535]}.
+   */
+
+  static final int EMPTY = -1;
+
+  /**
+   * The smallest table size, as a power of two.
+   */
+
+  static final int BITS_MINIMUM = 4;
+
+  /**
+   * The largest table size that can ever be required, as a power of two.
+   * A table of this size holds all {@code 65536} keys at a load factor of
+   * one half.
+   */
+
+  static final int BITS_MAXIMUM = 17;
+
+  private static final int FIBONACCI = 0x9e3779b9;
+
+  private Binary16OpenAddressing()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param key  The key
+   * @param bits The log2 of the table size
+   *
+   * @return The home slot of {@code key}
+   */
+
+  static int slotOf(
+    final int key,
+    final int bits)
+  {
+    return (key * FIBONACCI) >>> (32 - bits);
+  }
+
+  /**
+   * @param expected The expected number of entries
+   *
+   * @return The log2 of a table size that can hold {@code expected} entries
+   * at a load factor of at most one half
+   */
+
+  static int bitsFor(
+    final int expected)
+  {
+    if (expected < 0) {
+      throw new IllegalArgumentException(
+        "Expected size must be non-negative");
+    }
+
+    int bits = BITS_MINIMUM;
+    while (bits < BITS_MAXIMUM && (1 << (bits - 1)) < expected) {
+      ++bits;
+    }
+    return bits;
+  }
+}
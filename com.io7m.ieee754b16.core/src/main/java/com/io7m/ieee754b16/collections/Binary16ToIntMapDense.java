@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A direct-indexed map from packed {@code binary16} keys to integer values.
+ * </p>
+ * <p>
+ * The map holds a slot for every one of the {@code 65536} possible keys,
+ * and so occupies roughly {@code 264KiB} regardless of the number of
+ * entries. Every operation is a single array access. This implementation
+ * is preferable when many distinct keys are expected; use
+ * {@link Binary16ToIntMapSparse} otherwise. Entries are visited in
+ * ascending order of encoded keys.
+ * </p>
+ */
+
+public final class Binary16ToIntMapDense implements Binary16ToIntMapType
+{
+  private static final int KEY_COUNT = 65536;
+
+  private final Binary16KeyPolicy policy;
+  private final int[] values;
+  private final long[] present;
+  private int size;
+
+  /**
+   * Create an empty map.
+   *
+   * @param inPolicy The key policy
+   */
+
+  public Binary16ToIntMapDense(
+    final Binary16KeyPolicy inPolicy)
+  {
+    this.policy = Objects.requireNonNull(inPolicy, "policy");
+    this.values = new int[KEY_COUNT];
+    this.present = new long[KEY_COUNT >>> 6];
+    this.size = 0;
+  }
+
+  @Override
+  public Binary16KeyPolicy keyPolicy()
+  {
+    return this.policy;
+  }
+
+  @Override
+  public int size()
+  {
+    return this.size;
+  }
+
+  @Override
+  public boolean containsKey(
+    final char key)
+  {
+    return this.isPresent(this.policy.canonicalize(key));
+  }
+
+  @Override
+  public int get(
+    final char key,
+    final int defaultValue)
+  {
+    final int k = this.policy.canonicalize(key);
+    if (this.isPresent(k)) {
+      return this.values[k];
+    }
+    return defaultValue;
+  }
+
+  @Override
+  public void put(
+    final char key,
+    final int value)
+  {
+    final int k = this.policy.canonicalize(key);
+    this.markPresent(k);
+    this.values[k] = value;
+  }
+
+  @Override
+  public int addTo(
+    final char key,
+    final int delta)
+  {
+    final int k = this.policy.canonicalize(key);
+    if (!this.isPresent(k)) {
+      this.markPresent(k);
+      this.values[k] = 0;
+    }
+    final int result = this.values[k] + delta;
+    this.values[k] = result;
+    return result;
+  }
+
+  @Override
+  public boolean remove(
+    final char key)
+  {
+    final int k = this.policy.canonicalize(key);
+    if (this.isPresent(k)) {
+      this.present[k >>> 6] &= ~(1L << k);
+      --this.size;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void clear()
+  {
+    Arrays.fill(this.present, 0L);
+    this.size = 0;
+  }
+
+  @Override
+  public void forEach(
+    final Binary16ToIntConsumerType consumer)
+  {
+    Objects.requireNonNull(consumer, "consumer");
+
+    for (int word = 0; word < this.present.length; ++word) {
+      long bits = this.present[word];
+      while (bits != 0L) {
+        final int k = (word << 6) | Long.numberOfTrailingZeros(bits);
+        consumer.accept((char) k, this.values[k]);
+        bits &= bits - 1L;
+      }
+    }
+  }
+
+  private boolean isPresent(
+    final int k)
+  {
+    return (this.present[k >>> 6] & (1L << k)) != 0L;
+  }
+
+  private void markPresent(
+    final int k)
+  {
+    final int word = k >>> 6;
+    final long bit = 1L << k;
+    if ((this.present[word] & bit) == 0L) {
+      this.present[word] |= bit;
+      ++this.size;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A direct-indexed map from packed {@code binary16} keys to object values.
+ * </p>
+ * <p>
+ * The map holds a slot for every one of the {@code 65536} possible keys,
+ * and so occupies one reference per possible key regardless of the number
+ * of entries. Every operation is a single array access. This implementation
+ * is preferable when many distinct keys are expected; use
+ * {@link Binary16ToObjectMapSparse} otherwise. Entries are visited in
+ * ascending order of encoded keys.
+ * </p>
+ *
+ * @param <T> The type of values
+ */
+
+public final class Binary16ToObjectMapDense<T>
+  implements Binary16ToObjectMapType<T>
+{
+  private static final int KEY_COUNT = 65536;
+
+  private final Binary16KeyPolicy policy;
+  private final Object[] values;
+  private int size;
+
+  /**
+   * Create an empty map.
+   *
+   * @param inPolicy The key policy
+   */
+
+  public Binary16ToObjectMapDense(
+    final Binary16KeyPolicy inPolicy)
+  {
+    this.policy = Objects.requireNonNull(inPolicy, "policy");
+    this.values = new Object[KEY_COUNT];
+    this.size = 0;
+  }
+
+  @Override
+  public Binary16KeyPolicy keyPolicy()
+  {
+    return this.policy;
+  }
+
+  @Override
+  public int size()
+  {
+    return this.size;
+  }
+
+  @Override
+  public boolean containsKey(
+    final char key)
+  {
+    return this.values[this.policy.canonicalize(key)] != null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(
+    final char key)
+  {
+    return (T) this.values[this.policy.canonicalize(key)];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T put(
+    final char key,
+    final T value)
+  {
+    Objects.requireNonNull(value, "value");
+
+    final int k = this.policy.canonicalize(key);
+    final T previous = (T) this.values[k];
+    if (previous == null) {
+      ++this.size;
+    }
+    this.values[k] = value;
+    return previous;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T remove(
+    final char key)
+  {
+    final int k = this.policy.canonicalize(key);
+    final T previous = (T) this.values[k];
+    if (previous != null) {
+      this.values[k] = null;
+      --this.size;
+    }
+    return previous;
+  }
+
+  @Override
+  public void clear()
+  {
+    Arrays.fill(this.values, null);
+    this.size = 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(
+    final Binary16ToObjectConsumerType<? super T> consumer)
+  {
+    Objects.requireNonNull(consumer, "consumer");
+
+    for (int k = 0; k < KEY_COUNT; ++k) {
+      final Object value = this.values[k];
+      if (value != null) {
+        consumer.accept((char) k, (T) value);
+      }
+    }
+  }
+}
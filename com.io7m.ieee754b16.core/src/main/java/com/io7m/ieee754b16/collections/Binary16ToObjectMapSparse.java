@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An open-addressed map from packed {@code binary16} keys to object values.
+ * </p>
+ * <p>
+ * Keys are placed by Fibonacci hashing and collisions are resolved by
+ * linear probing. Removals use backward-shift deletion, so the table never
+ * accumulates tombstones. The table is kept at a load factor of at most
+ * one half, and is only reallocated when it grows; lookups, updates and
+ * removals never allocate. This implementation is preferable when few
+ * distinct keys are expected; use {@link Binary16ToObjectMapDense}
+ * otherwise. The iteration order is unspecified.
+ * </p>
+ *
+ * @param <T> The type of values
+ */
+
+public final class Binary16ToObjectMapSparse<T>
+  implements Binary16ToObjectMapType<T>
+{
+  private final Binary16KeyPolicy policy;
+  private int[] keys;
+  private Object[] values;
+  private int bits;
+  private int size;
+
+  /**
+   * Create an empty map.
+   *
+   * @param inPolicy     The key policy
+   * @param expectedSize The number of entries expected
+   */
+
+  public Binary16ToObjectMapSparse(
+    final Binary16KeyPolicy inPolicy,
+    final int expectedSize)
+  {
+    this.policy = Objects.requireNonNull(inPolicy, "policy");
+    this.bits = Binary16OpenAddressing.bitsFor(expectedSize);
+    this.keys = new int[1 << this.bits];
+    this.values = new Object[1 << this.bits];
+    this.size = 0;
+    Arrays.fill(this.keys, Binary16OpenAddressing.EMPTY);
+  }
+
+  /**
+   * Create an empty map.
+   *
+   * @param inPolicy The key policy
+   */
+
+  public Binary16ToObjectMapSparse(
+    final Binary16KeyPolicy inPolicy)
+  {
+    this(inPolicy, 0);
+  }
+
+  @Override
+  public Binary16KeyPolicy keyPolicy()
+  {
+    return this.policy;
+  }
+
+  @Override
+  public int size()
+  {
+    return this.size;
+  }
+
+  @Override
+  public boolean containsKey(
+    final char key)
+  {
+    return this.slotFind(this.policy.canonicalize(key)) >= 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(
+    final char key)
+  {
+    final int slot = this.slotFind(this.policy.canonicalize(key));
+    if (slot >= 0) {
+      return (T) this.values[slot];
+    }
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T put(
+    final char key,
+    final T value)
+  {
+    Objects.requireNonNull(value, "value");
+
+    final int k = this.policy.canonicalize(key);
+    final int mask = this.keys.length - 1;
+    int index = Binary16OpenAddressing.slotOf(k, this.bits);
+    while (true) {
+      final int existing = this.keys[index];
+      if (existing == k) {
+        final T previous = (T) this.values[index];
+        this.values[index] = value;
+        return previous;
+      }
+      if (existing == Binary16OpenAddressing.EMPTY) {
+        break;
+      }
+      index = (index + 1) & mask;
+    }
+
+    if ((this.size + 1) << 1 > this.keys.length) {
+      this.resize();
+      return this.put(key, value);
+    }
+
+    this.keys[index] = k;
+    this.values[index] = value;
+    ++this.size;
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T remove(
+    final char key)
+  {
+    final int slot = this.slotFind(this.policy.canonicalize(key));
+    if (slot < 0) {
+      return null;
+    }
+
+    final T previous = (T) this.values[slot];
+    final int mask = this.keys.length - 1;
+    int gap = slot;
+    int index = (slot + 1) & mask;
+    while (this.keys[index] != Binary16OpenAddressing.EMPTY) {
+      final int home = Binary16OpenAddressing.slotOf(this.keys[index], this.bits);
+      if (((index - home) & mask) >= ((index - gap) & mask)) {
+        this.keys[gap] = this.keys[index];
+        this.values[gap] = this.values[index];
+        gap = index;
+      }
+      index = (index + 1) & mask;
+    }
+
+    this.keys[gap] = Binary16OpenAddressing.EMPTY;
+    this.values[gap] = null;
+    --this.size;
+    return previous;
+  }
+
+  @Override
+  public void clear()
+  {
+    Arrays.fill(this.keys, Binary16OpenAddressing.EMPTY);
+    Arrays.fill(this.values, null);
+    this.size = 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(
+    final Binary16ToObjectConsumerType<? super T> consumer)
+  {
+    Objects.requireNonNull(consumer, "consumer");
+
+    for (int index = 0; index < this.keys.length; ++index) {
+      final int k = this.keys[index];
+      if (k != Binary16OpenAddressing.EMPTY) {
+        consumer.accept((char) k, (T) this.values[index]);
+      }
+    }
+  }
+
+  private int slotFind(
+    final int k)
+  {
+    final int mask = this.keys.length - 1;
+    int index = Binary16OpenAddressing.slotOf(k, this.bits);
+    while (true) {
+      final int existing = this.keys[index];
+      if (existing == k) {
+        return index;
+      }
+      if (existing == Binary16OpenAddressing.EMPTY) {
+        return -1;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private void resize()
+  {
+    final int[] oldKeys = this.keys;
+    final Object[] oldValues = this.values;
+
+    this.bits = this.bits + 1;
+    this.keys = new int[1 << this.bits];
+    this.values = new Object[1 << this.bits];
+    Arrays.fill(this.keys, Binary16OpenAddressing.EMPTY);
+
+    final int mask = this.keys.length - 1;
+    for (int old = 0; old < oldKeys.length; ++old) {
+      final int k = oldKeys[old];
+      if (k != Binary16OpenAddressing.EMPTY) {
+        int index = Binary16OpenAddressing.slotOf(k, this.bits);
+        while (this.keys[index] != Binary16OpenAddressing.EMPTY) {
+          index = (index + 1) & mask;
+        }
+        this.keys[index] = k;
+        this.values[index] = oldValues[old];
+      }
+    }
+  }
+}
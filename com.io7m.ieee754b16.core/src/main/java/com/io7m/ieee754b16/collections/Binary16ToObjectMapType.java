@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.collections;
+
+/**
+ * <p>
+ * A mutable map from packed {@code binary16} keys to non-null object values.
+ * </p>
+ * <p>
+ * Keys are canonicalized according to the map's {@link Binary16KeyPolicy}.
+ * Implementations do not allocate during lookups, insertions, or removals,
+ * except where explicitly documented.
+ * </p>
+ *
+ * @param <T> The type of values
+ */
+
+public interface Binary16ToObjectMapType<T>
+{
+  /**
+   * @return The key policy used by the map
+   */
+
+  Binary16KeyPolicy keyPolicy();
+
+  /**
+   * @return The number of entries in the map
+   */
+
+  int size();
+
+  /**
+   * @return {@code true} if the map contains no entries
+   */
+
+  default boolean isEmpty()
+  {
+    return this.size() == 0;
+  }
+
+  /**
+   * @param key A packed {@code binary16} key
+   *
+   * @return {@code true} if the map contains an entry for {@code key}
+   */
+
+  boolean containsKey(char key);
+
+  /**
+   * @param key A packed {@code binary16} key
+   *
+   * @return The value associated with {@code key}, or {@code null}
+   */
+
+  T get(char key);
+
+  /**
+   * Associate {@code value} with {@code key}, replacing any existing value.
+   *
+   * @param key   A packed {@code binary16} key
+   * @param value The value
+   *
+   * @return The previous value associated with {@code key}, or {@code null}
+   */
+
+  T put(
+    char key,
+    T value);
+
+  /**
+   * Remove the entry for {@code key}, if one exists.
+   *
+   * @param key A packed {@code binary16} key
+   *
+   * @return The removed value, or {@code null} if there was no entry
+   */
+
+  T remove(char key);
+
+  /**
+   * Remove all entries.
+   */
+
+  void clear();
+
+  /**
+   * Pass every entry of the map to {@code consumer}. Keys are passed in
+   * their canonical forms.
+   *
+   * @param consumer The receiver of entries
+   */
+
+  void forEach(Binary16ToObjectConsumerType<? super T> consumer);
+}
@@ -22,4 +22,5 @@ module com.io7m.ieee754b16.core
   requires com.io7m.junreachable.core;
 
   exports com.io7m.ieee754b16;
+  exports com.io7m.ieee754b16.collections;
 }
\ No newline at end of file
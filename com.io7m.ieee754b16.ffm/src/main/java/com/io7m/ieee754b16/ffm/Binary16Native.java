@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.ffm;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Bulk conversion of {@code binary16} values through the native
+ * {@code ieee754b16} shared library.
+ * </p>
+ * <p>
+ * The native functions {@code ieee754b16_pack_floats} and
+ * {@code ieee754b16_unpack_floats} produce results identical to
+ * {@link Binary16#packFloat(float)} and {@link Binary16#unpackFloat(char)},
+ * so every method in this class produces results identical to the
+ * corresponding method in {@link Binary16Arrays} whether or not the native
+ * library is used.
+ * </p>
+ * <p>
+ * The foreign function and memory API is only final as of JDK 22, and this
+ * module targets Java 17, so this release does not yet include the binding
+ * to the native library: {@link #isAvailable()} returns {@code false} and
+ * every conversion runs in Java. Code written against this class will use
+ * the native library, for conversions of at least
+ * {@link #NATIVE_THRESHOLD} values, once the binding is added.
+ * </p>
+ */
+
+public final class Binary16Native
+{
+  /**
+   * The smallest number of values for which the native library will be used.
+   */
+
+  public static final int NATIVE_THRESHOLD = 256;
+
+  private Binary16Native()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @return {@code true} if the native library was loaded and will be used
+   * for sufficiently large conversions
+   */
+
+  public static boolean isAvailable()
+  {
+    return Binary16NativeLibrary.isAvailable();
+  }
+
+  /**
+   * Pack values with {@link Binary16#packFloat(float)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16Arrays#packFloats(float[], int, char[], int, int)
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    if (count >= NATIVE_THRESHOLD
+      && Binary16NativeLibrary.packFloats(
+      source, sourceOffset, target, targetOffset, count)) {
+      return;
+    }
+    Binary16Arrays.packFloats(source, sourceOffset, target, targetOffset, count);
+  }
+
+  /**
+   * Unpack values with {@link Binary16#unpackFloat(char)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see Binary16Arrays#unpackFloats(char[], int, float[], int, int)
+   */
+
+  public static void unpackFloats(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    if (count >= NATIVE_THRESHOLD
+      && Binary16NativeLibrary.unpackFloats(
+      source, sourceOffset, target, targetOffset, count)) {
+      return;
+    }
+    Binary16Arrays.unpackFloats(source, sourceOffset, target, targetOffset, count);
+  }
+
+  /**
+   * Pack the {@code float} values between the position and limit of
+   * {@code source} into {@code target}, advancing the position of both.
+   * Values are read and written in the byte order of the buffer holding
+   * them.
+   *
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source does not hold a whole
+   *                                  number of values
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   * @throws ReadOnlyBufferException  If the target is read-only
+   */
+
+  public static void packFloats(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int count = checkBuffers(source, 4, target, 2);
+    final int sourceStart = source.position();
+    final int targetStart = target.position();
+
+    final boolean handled =
+      count >= NATIVE_THRESHOLD
+        && Binary16NativeLibrary.packFloats(source, target, count);
+
+    if (!handled) {
+      for (int index = 0; index < count; ++index) {
+        target.putChar(
+          targetStart + (index << 1),
+          Binary16.packFloat(source.getFloat(sourceStart + (index << 2))));
+      }
+    }
+
+    source.position(sourceStart + (count << 2));
+    target.position(targetStart + (count << 1));
+  }
+
+  /**
+   * Unpack the {@code binary16} values between the position and limit of
+   * {@code source} into {@code target}, advancing the position of both.
+   * Values are read and written in the byte order of the buffer holding
+   * them.
+   *
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source does not hold a whole
+   *                                  number of values
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   * @throws ReadOnlyBufferException  If the target is read-only
+   */
+
+  public static void unpackFloats(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int count = checkBuffers(source, 2, target, 4);
+    final int sourceStart = source.position();
+    final int targetStart = target.position();
+
+    final boolean handled =
+      count >= NATIVE_THRESHOLD
+        && Binary16NativeLibrary.unpackFloats(source, target, count);
+
+    if (!handled) {
+      for (int index = 0; index < count; ++index) {
+        target.putFloat(
+          targetStart + (index << 2),
+          Binary16.unpackFloat(source.getChar(sourceStart + (index << 1))));
+      }
+    }
+
+    source.position(sourceStart + (count << 1));
+    target.position(targetStart + (count << 2));
+  }
+
+  private static int checkBuffers(
+    final ByteBuffer source,
+    final int sourceSize,
+    final ByteBuffer target,
+    final int targetSize)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    if (target.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+
+    final int size = source.remaining();
+    if (size % sourceSize != 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Source size %d is not a whole number of values",
+          Integer.valueOf(size))
+      );
+    }
+
+    final int count = size / sourceSize;
+    if ((long) target.remaining() < (long) count * (long) targetSize) {
+      throw new BufferOverflowException();
+    }
+    return count;
+  }
+}
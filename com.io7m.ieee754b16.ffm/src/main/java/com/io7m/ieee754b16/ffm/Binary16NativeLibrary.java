@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.ffm;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The native library binding. This version never handles anything, and so
+ * every conversion falls back to Java.
+ */
+
+final class Binary16NativeLibrary
+{
+  private Binary16NativeLibrary()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static boolean isAvailable()
+  {
+    return false;
+  }
+
+  static boolean packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    return false;
+  }
+
+  static boolean unpackFloats(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    return false;
+  }
+
+  static boolean packFloats(
+    final ByteBuffer source,
+    final ByteBuffer target,
+    final int count)
+  {
+    return false;
+  }
+
+  static boolean unpackFloats(
+    final ByteBuffer source,
+    final ByteBuffer target,
+    final int count)
+  {
+    return false;
+  }
+}
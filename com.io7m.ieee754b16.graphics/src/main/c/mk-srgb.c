@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/*
+ * Generate the table used by Binary16SRGB to encode linear binary16 values
+ * as 8-bit sRGB levels. The table holds one byte for each of the 65536
+ * binary16 bit patterns, and is written to standard output.
+ */
+
+#include <math.h>
+#include <stdio.h>
+#include <stdlib.h>
+
+/*
+ * The exact value of a binary16 value. Negative values, zeroes and NaN
+ * all encode as zero, so only the magnitude of positive values matters.
+ */
+
+static double
+exactValue(
+  const unsigned int bits)
+{
+  const unsigned int sign = bits >> 15u;
+  const unsigned int exponent = (bits >> 10u) & 0x1fu;
+  const unsigned int mantissa = bits & 0x3ffu;
+
+  if (sign != 0u) {
+    return -1.0;
+  }
+  if (exponent == 0x1fu) {
+    return mantissa == 0u ? INFINITY : NAN;
+  }
+  if (exponent == 0u) {
+    return ldexp((double) mantissa, -24);
+  }
+  return ldexp((double) (mantissa | 0x400u), (int) exponent - 25);
+}
+
+/* The sRGB transfer function, for linear values in [0, 1]. */
+
+static double
+encode(
+  const double linear)
+{
+  if (linear <= 0.0031308) {
+    return linear * 12.92;
+  }
+  return 1.055 * pow(linear, 1.0 / 2.4) - 0.055;
+}
+
+int
+main (int argc, char *argv[])
+{
+  (void) argv;
+
+  if (argc != 1) {
+    fprintf(stderr, "usage: mk-srgb > srgb-encode.bin\n");
+    exit(1);
+  }
+
+  for (unsigned int bits = 0; bits < 65536u; ++bits) {
+    const double value = exactValue(bits);
+    unsigned char level = 0;
+    if (value > 0.0) {
+      const double clamped = value < 1.0 ? value : 1.0;
+      level = (unsigned char) floor(encode(clamped) * 255.0 + 0.5);
+    }
+    if (fputc(level, stdout) == EOF) {
+      perror("fputc");
+      exit(1);
+    }
+  }
+  return 0;
+}
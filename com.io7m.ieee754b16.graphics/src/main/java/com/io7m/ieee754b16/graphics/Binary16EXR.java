@@ -0,0 +1,510 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to read and write {@link Binary16Image} values as uncompressed
+ * scanline OpenEXR files.
+ * </p>
+ * <p>
+ * Written files contain the four {@code HALF} channels {@code A},
+ * {@code B}, {@code G}, and {@code R}, one scanline per chunk, with
+ * {@code NO_COMPRESSION} and the minimum set of required header
+ * attributes. The reader accepts any single-part scanline file using
+ * {@code NO_COMPRESSION} in which the {@code R}, {@code G}, {@code B},
+ * and {@code A} channels that are present have the {@code HALF} pixel
+ * type and are not subsampled. Missing colour channels are read as zero,
+ * a missing alpha channel is read as one, and any other channels are
+ * ignored.
+ * </p>
+ */
+
+public final class Binary16EXR
+{
+  private static final int MAGIC = 20000630;
+  private static final int VERSION = 2;
+  private static final int FLAG_LONG_NAMES = 0x400;
+  private static final int PIXEL_TYPE_UINT = 0;
+  private static final int PIXEL_TYPE_HALF = 1;
+  private static final int PIXEL_TYPE_FLOAT = 2;
+  private static final String[] WRITTEN_CHANNELS = {"A", "B", "G", "R"};
+  private static final char ONE = (char) 0x3c00;
+
+  private Binary16EXR()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Write the given image as an uncompressed scanline OpenEXR file. The
+   * stream is not closed.
+   *
+   * @param output The output stream
+   * @param image  The image
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static void write(
+    final OutputStream output,
+    final Binary16Image image)
+    throws IOException
+  {
+    Objects.requireNonNull(output, "output");
+    Objects.requireNonNull(image, "image");
+
+    final int width = image.width();
+    final int height = image.height();
+    final byte[] header = header(width, height);
+    output.write(header);
+
+    final int chunkSize = 8 + width * Binary16Image.CHANNELS * 2;
+    final ByteBuffer offsets =
+      ByteBuffer.allocate(height * 8).order(ByteOrder.LITTLE_ENDIAN);
+    long offset = (long) header.length + (long) offsets.capacity();
+    for (int y = 0; y < height; ++y) {
+      offsets.putLong(offset);
+      offset += chunkSize;
+    }
+    output.write(offsets.array());
+
+    final char[] data = image.data();
+    final int step = image.pixelStride();
+    final ByteBuffer chunk =
+      ByteBuffer.allocate(chunkSize).order(ByteOrder.LITTLE_ENDIAN);
+
+    for (int y = 0; y < height; ++y) {
+      chunk.clear();
+      chunk.putInt(y);
+      chunk.putInt(chunkSize - 8);
+      for (final String name : WRITTEN_CHANNELS) {
+        int index = image.indexOf(0, y, channelIndex(name));
+        for (int x = 0; x < width; ++x) {
+          chunk.putChar(data[index]);
+          index += step;
+        }
+      }
+      output.write(chunk.array());
+    }
+  }
+
+  /**
+   * Read an uncompressed scanline OpenEXR file. The stream is read to the
+   * end but not closed.
+   *
+   * @param input  The input stream
+   * @param layout The layout of the returned image
+   *
+   * @return The image
+   *
+   * @throws IOException On I/O errors, or if the file is malformed or uses
+   *                     features that are not supported
+   */
+
+  public static Binary16Image read(
+    final InputStream input,
+    final Binary16ImageLayout layout)
+    throws IOException
+  {
+    Objects.requireNonNull(input, "input");
+    Objects.requireNonNull(layout, "layout");
+
+    final ByteBuffer buffer =
+      ByteBuffer.wrap(input.readAllBytes()).order(ByteOrder.LITTLE_ENDIAN);
+
+    try {
+      return readImage(buffer, layout);
+    } catch (final BufferUnderflowException
+                   | IndexOutOfBoundsException
+                   | IllegalArgumentException
+                   | ArithmeticException e) {
+      throw new IOException("Truncated or malformed EXR file", e);
+    }
+  }
+
+  private static Binary16Image readImage(
+    final ByteBuffer buffer,
+    final Binary16ImageLayout layout)
+    throws IOException
+  {
+    if (buffer.getInt() != MAGIC) {
+      throw new IOException("Not an EXR file: Bad magic number");
+    }
+    final int version = buffer.getInt();
+    final int flags = version & ~0xff;
+    if ((version & 0xff) != VERSION || (flags & ~FLAG_LONG_NAMES) != 0) {
+      throw new IOException(
+        String.format(
+          "Unsupported EXR version field 0x%08x: Only single-part scanline files are supported",
+          Integer.valueOf(version))
+      );
+    }
+
+    final Header header = readHeader(buffer);
+    final int width =
+      Math.toIntExact((long) header.xMax - (long) header.xMin + 1L);
+    final int height =
+      Math.toIntExact((long) header.yMax - (long) header.yMin + 1L);
+
+    /*
+     * Each scanline has an 8 byte offset table entry, and a chunk with an
+     * 8 byte header followed by the pixel data. Check that the file is large
+     * enough to hold all of them before allocating anything.
+     */
+
+    final long scanlineSize =
+      Math.addExact(
+        16L, Math.multiplyExact((long) width, (long) header.pixelSize));
+    final long required = Math.multiplyExact((long) height, scanlineSize);
+    if (required > (long) buffer.remaining()) {
+      throw new IOException(
+        String.format(
+          "Data window of %dx%d pixels requires %d bytes of scanlines, but only %d bytes remain",
+          Integer.valueOf(width),
+          Integer.valueOf(height),
+          Long.valueOf(required),
+          Integer.valueOf(buffer.remaining()))
+      );
+    }
+
+    final Binary16Image image = Binary16Image.create(width, height, layout);
+
+    if (header.channelIndex(3) < 0) {
+      for (int y = 0; y < height; ++y) {
+        for (int x = 0; x < width; ++x) {
+          image.setPacked(x, y, 3, ONE);
+        }
+      }
+    }
+
+    final long[] offsets = new long[height];
+    for (int y = 0; y < height; ++y) {
+      offsets[y] = buffer.getLong();
+    }
+    for (int y = 0; y < height; ++y) {
+      readChunk(buffer, offsets[y], header, image);
+    }
+    return image;
+  }
+
+  private static void readChunk(
+    final ByteBuffer buffer,
+    final long offset,
+    final Header header,
+    final Binary16Image image)
+    throws IOException
+  {
+    if (offset < 0L || offset > (long) buffer.limit()) {
+      throw new IOException(
+        String.format("Chunk offset %d is out of range", Long.valueOf(offset)));
+    }
+    buffer.position((int) offset);
+
+    final int width = image.width();
+    final int y = buffer.getInt() - header.yMin;
+    Objects.checkIndex(y, image.height());
+
+    final int size = buffer.getInt();
+    final long expectedSize = (long) width * (long) header.pixelSize;
+    if ((long) size != expectedSize) {
+      throw new IOException(
+        String.format(
+          "Chunk for scanline %d has size %d; expected %d",
+          Integer.valueOf(y + header.yMin),
+          Integer.valueOf(size),
+          Long.valueOf(expectedSize))
+      );
+    }
+
+    final char[] data = image.data();
+    final int step = image.pixelStride();
+    for (final Channel channel : header.channels) {
+      if (channel.index < 0) {
+        buffer.position(buffer.position() + width * channel.size);
+        continue;
+      }
+      int index = image.indexOf(0, y, channel.index);
+      for (int x = 0; x < width; ++x) {
+        data[index] = buffer.getChar();
+        index += step;
+      }
+    }
+  }
+
+  private static Header readHeader(
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    final Header header = new Header();
+    boolean sawChannels = false;
+    boolean sawCompression = false;
+    boolean sawDataWindow = false;
+
+    while (true) {
+      final String name = readString(buffer);
+      if (name.isEmpty()) {
+        break;
+      }
+      final String type = readString(buffer);
+      final int size = buffer.getInt();
+      final int end = Math.addExact(buffer.position(), size);
+
+      switch (name) {
+        case "channels" -> {
+          readChannels(buffer, header);
+          sawChannels = true;
+        }
+        case "compression" -> {
+          final int compression = buffer.get() & 0xff;
+          if (compression != 0) {
+            throw new IOException(
+              String.format(
+                "Unsupported compression %d: Only NO_COMPRESSION is supported",
+                Integer.valueOf(compression))
+            );
+          }
+          sawCompression = true;
+        }
+        case "dataWindow" -> {
+          header.xMin = buffer.getInt();
+          header.yMin = buffer.getInt();
+          header.xMax = buffer.getInt();
+          header.yMax = buffer.getInt();
+          sawDataWindow = true;
+        }
+        default -> {
+
+        }
+      }
+
+      if (!Objects.equals(type, typeOf(name, type))) {
+        throw new IOException(
+          String.format("Attribute '%s' has unexpected type '%s'", name, type));
+      }
+      buffer.position(end);
+    }
+
+    if (!(sawChannels && sawCompression && sawDataWindow)) {
+      throw new IOException(
+        "Missing one of the required attributes 'channels', 'compression', 'dataWindow'");
+    }
+    return header;
+  }
+
+  /* The type that the given attribute is required to have. */
+
+  private static String typeOf(
+    final String name,
+    final String type)
+  {
+    return switch (name) {
+      case "channels" -> "chlist";
+      case "compression" -> "compression";
+      case "dataWindow" -> "box2i";
+      default -> type;
+    };
+  }
+
+  private static void readChannels(
+    final ByteBuffer buffer,
+    final Header header)
+    throws IOException
+  {
+    while (true) {
+      final String name = readString(buffer);
+      if (name.isEmpty()) {
+        break;
+      }
+      final int pixelType = buffer.getInt();
+      buffer.position(buffer.position() + 4);
+      final int xSampling = buffer.getInt();
+      final int ySampling = buffer.getInt();
+      if (xSampling != 1 || ySampling != 1) {
+        throw new IOException(
+          String.format("Channel '%s' is subsampled; subsampling is not supported", name));
+      }
+
+      final int index = channelIndex(name);
+      if (index >= 0 && pixelType != PIXEL_TYPE_HALF) {
+        throw new IOException(
+          String.format(
+            "Channel '%s' has pixel type %d; only HALF (%d) is supported",
+            name,
+            Integer.valueOf(pixelType),
+            Integer.valueOf(PIXEL_TYPE_HALF))
+        );
+      }
+
+      final Channel channel = new Channel(index, pixelSize(name, pixelType));
+      header.channels.add(channel);
+      header.pixelSize += channel.size;
+    }
+  }
+
+  private static int pixelSize(
+    final String name,
+    final int pixelType)
+    throws IOException
+  {
+    return switch (pixelType) {
+      case PIXEL_TYPE_UINT, PIXEL_TYPE_FLOAT -> 4;
+      case PIXEL_TYPE_HALF -> 2;
+      default -> throw new IOException(
+        String.format(
+          "Channel '%s' has unrecognized pixel type %d",
+          name,
+          Integer.valueOf(pixelType))
+      );
+    };
+  }
+
+  private static String readString(
+    final ByteBuffer buffer)
+  {
+    final int start = buffer.position();
+    while (buffer.get() != 0) {
+      // Scan for the terminator
+    }
+    final ByteBuffer name = buffer.duplicate();
+    name.position(start);
+    name.limit(buffer.position() - 1);
+    return StandardCharsets.UTF_8.decode(name).toString();
+  }
+
+  private static int channelIndex(
+    final String name)
+  {
+    return switch (name) {
+      case "R" -> 0;
+      case "G" -> 1;
+      case "B" -> 2;
+      case "A" -> 3;
+      default -> -1;
+    };
+  }
+
+  private static byte[] header(
+    final int width,
+    final int height)
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(384);
+    out.writeBytes(little(8).putInt(MAGIC).putInt(VERSION).array());
+
+    final ByteArrayOutputStream channels = new ByteArrayOutputStream(80);
+    for (final String name : WRITTEN_CHANNELS) {
+      channels.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+      channels.write(0);
+      channels.writeBytes(
+        little(16)
+          .putInt(PIXEL_TYPE_HALF)
+          .putInt(0)
+          .putInt(1)
+          .putInt(1)
+          .array());
+    }
+    channels.write(0);
+
+    final byte[] window =
+      little(16).putInt(0).putInt(0).putInt(width - 1).putInt(height - 1).array();
+
+    attribute(out, "channels", "chlist", channels.toByteArray());
+    attribute(out, "compression", "compression", new byte[]{0});
+    attribute(out, "dataWindow", "box2i", window);
+    attribute(out, "displayWindow", "box2i", window);
+    attribute(out, "lineOrder", "lineOrder", new byte[]{0});
+    attribute(out, "pixelAspectRatio", "float", little(4).putFloat(1.0f).array());
+    attribute(out, "screenWindowCenter", "v2f", new byte[8]);
+    attribute(out, "screenWindowWidth", "float", little(4).putFloat(1.0f).array());
+    out.write(0);
+    return out.toByteArray();
+  }
+
+  private static void attribute(
+    final ByteArrayOutputStream out,
+    final String name,
+    final String type,
+    final byte[] value)
+  {
+    out.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+    out.write(0);
+    out.writeBytes(type.getBytes(StandardCharsets.UTF_8));
+    out.write(0);
+    out.writeBytes(little(4).putInt(value.length).array());
+    out.writeBytes(value);
+  }
+
+  private static ByteBuffer little(
+    final int size)
+  {
+    return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static final class Channel
+  {
+    private final int index;
+    private final int size;
+
+    Channel(
+      final int inIndex,
+      final int inSize)
+    {
+      this.index = inIndex;
+      this.size = inSize;
+    }
+  }
+
+  private static final class Header
+  {
+    private final List<Channel> channels;
+    private int pixelSize;
+    private int xMin;
+    private int yMin;
+    private int xMax;
+    private int yMax;
+
+    Header()
+    {
+      this.channels = new ArrayList<>(4);
+    }
+
+    int channelIndex(
+      final int index)
+    {
+      for (int position = 0; position < this.channels.size(); ++position) {
+        if (this.channels.get(position).index == index) {
+          return position;
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+import com.io7m.ieee754b16.Binary16;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * A mutable RGBA image with {@code binary16} channels.
+ * </p>
+ * <p>
+ * Pixels are addressed by {@code (x, y)} with {@code (0, 0)} at the top
+ * left, and channels by index: {@code 0} is red, {@code 1} is green,
+ * {@code 2} is blue, and {@code 3} is alpha. The channels are stored in a
+ * single {@code char[]} arranged according to the image's
+ * {@link Binary16ImageLayout}.
+ * </p>
+ * <p>
+ * The bulk conversion functions exchange the whole image with a
+ * {@code float[]} framebuffer holding interleaved RGBA values in row-major
+ * order. The {@code Parallel} variants split the image into bands of
+ * scanlines that are converted on the common fork/join pool; they produce
+ * identical results and are worth using for images of a few hundred
+ * thousand pixels or more.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+
+public final class Binary16Image
+{
+  /**
+   * The number of channels in each pixel.
+   */
+
+  public static final int CHANNELS = 4;
+
+  private static final int BAND_HEIGHT = 16;
+
+  private final int width;
+  private final int height;
+  private final Binary16ImageLayout layout;
+  private final char[] data;
+
+  private Binary16Image(
+    final int inWidth,
+    final int inHeight,
+    final Binary16ImageLayout inLayout)
+  {
+    this.width = inWidth;
+    this.height = inHeight;
+    this.layout = Objects.requireNonNull(inLayout, "layout");
+    this.data = new char[checkSize(inWidth, inHeight)];
+  }
+
+  /**
+   * Create a new image with every channel of every pixel set to positive
+   * zero.
+   *
+   * @param width  The width in pixels
+   * @param height The height in pixels
+   * @param layout The layout of the channels in memory
+   *
+   * @return A new image
+   *
+   * @throws IllegalArgumentException If either dimension is not positive, or
+   *                                  the image is too large to be stored in
+   *                                  an array
+   */
+
+  public static Binary16Image create(
+    final int width,
+    final int height,
+    final Binary16ImageLayout layout)
+  {
+    return new Binary16Image(width, height, layout);
+  }
+
+  private static int checkSize(
+    final int width,
+    final int height)
+  {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Image dimensions %dx%d must be positive",
+          Integer.valueOf(width),
+          Integer.valueOf(height))
+      );
+    }
+
+    final long size = (long) width * (long) height * (long) CHANNELS;
+    if (size > (long) (Integer.MAX_VALUE - 8)) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Image dimensions %dx%d exceed the maximum array size",
+          Integer.valueOf(width),
+          Integer.valueOf(height))
+      );
+    }
+    return (int) size;
+  }
+
+  /**
+   * @return The width in pixels
+   */
+
+  public int width()
+  {
+    return this.width;
+  }
+
+  /**
+   * @return The height in pixels
+   */
+
+  public int height()
+  {
+    return this.height;
+  }
+
+  /**
+   * @return The layout of the channels in memory
+   */
+
+  public Binary16ImageLayout layout()
+  {
+    return this.layout;
+  }
+
+  /**
+   * @param x       The x coordinate
+   * @param y       The y coordinate
+   * @param channel The channel index
+   *
+   * @return The packed value of the given channel
+   */
+
+  public char getPacked(
+    final int x,
+    final int y,
+    final int channel)
+  {
+    return this.data[this.indexOf(x, y, channel)];
+  }
+
+  /**
+   * Set the packed value of the given channel.
+   *
+   * @param x       The x coordinate
+   * @param y       The y coordinate
+   * @param channel The channel index
+   * @param value   The packed value
+   */
+
+  public void setPacked(
+    final int x,
+    final int y,
+    final int channel,
+    final char value)
+  {
+    this.data[this.indexOf(x, y, channel)] = value;
+  }
+
+  /**
+   * @param x       The x coordinate
+   * @param y       The y coordinate
+   * @param channel The channel index
+   *
+   * @return The value of the given channel, unpacked with
+   * {@link Binary16#unpackFloat(char)}
+   */
+
+  public float getFloat(
+    final int x,
+    final int y,
+    final int channel)
+  {
+    return Binary16.unpackFloat(this.getPacked(x, y, channel));
+  }
+
+  /**
+   * Set the given channel to a value packed with
+   * {@link Binary16#packFloat(float)}.
+   *
+   * @param x       The x coordinate
+   * @param y       The y coordinate
+   * @param channel The channel index
+   * @param value   The value
+   */
+
+  public void setFloat(
+    final int x,
+    final int y,
+    final int channel,
+    final float value)
+  {
+    this.setPacked(x, y, channel, Binary16.packFloat(value));
+  }
+
+  /**
+   * Pack every pixel of the image from a framebuffer of
+   * {@code width * height * 4} interleaved RGBA values.
+   *
+   * @param source       The framebuffer
+   * @param sourceOffset The offset of the first value in the framebuffer
+   *
+   * @throws IndexOutOfBoundsException If the framebuffer is too small
+   */
+
+  public void packFloats(
+    final float[] source,
+    final int sourceOffset)
+  {
+    Objects.checkFromIndexSize(sourceOffset, this.data.length, source.length);
+    this.packRows(source, sourceOffset, 0, this.height);
+  }
+
+  /**
+   * Pack every pixel of the image from a framebuffer in parallel.
+   *
+   * @param source       The framebuffer
+   * @param sourceOffset The offset of the first value in the framebuffer
+   *
+   * @throws IndexOutOfBoundsException If the framebuffer is too small
+   * @see #packFloats(float[], int)
+   */
+
+  public void packFloatsParallel(
+    final float[] source,
+    final int sourceOffset)
+  {
+    Objects.checkFromIndexSize(sourceOffset, this.data.length, source.length);
+    this.bands().forEach(band -> {
+      final int y0 = band * BAND_HEIGHT;
+      this.packRows(
+        source, sourceOffset, y0, Math.min(this.height, y0 + BAND_HEIGHT));
+    });
+  }
+
+  /**
+   * Unpack every pixel of the image into a framebuffer of
+   * {@code width * height * 4} interleaved RGBA values.
+   *
+   * @param target       The framebuffer
+   * @param targetOffset The offset of the first value in the framebuffer
+   *
+   * @throws IndexOutOfBoundsException If the framebuffer is too small
+   */
+
+  public void unpackFloats(
+    final float[] target,
+    final int targetOffset)
+  {
+    Objects.checkFromIndexSize(targetOffset, this.data.length, target.length);
+    this.unpackRows(target, targetOffset, 0, this.height);
+  }
+
+  /**
+   * Unpack every pixel of the image into a framebuffer in parallel.
+   *
+   * @param target       The framebuffer
+   * @param targetOffset The offset of the first value in the framebuffer
+   *
+   * @throws IndexOutOfBoundsException If the framebuffer is too small
+   * @see #unpackFloats(float[], int)
+   */
+
+  public void unpackFloatsParallel(
+    final float[] target,
+    final int targetOffset)
+  {
+    Objects.checkFromIndexSize(targetOffset, this.data.length, target.length);
+    this.bands().forEach(band -> {
+      final int y0 = band * BAND_HEIGHT;
+      this.unpackRows(
+        target, targetOffset, y0, Math.min(this.height, y0 + BAND_HEIGHT));
+    });
+  }
+
+  private IntStream bands()
+  {
+    return IntStream.range(0, (this.height + BAND_HEIGHT - 1) / BAND_HEIGHT)
+      .parallel();
+  }
+
+  private void packRows(
+    final float[] source,
+    final int sourceOffset,
+    final int y0,
+    final int y1)
+  {
+    final int rowSize = this.width * CHANNELS;
+    switch (this.layout) {
+      case LAYOUT_INTERLEAVED -> {
+        final int start = y0 * rowSize;
+        final int end = y1 * rowSize;
+        for (int index = start; index < end; ++index) {
+          this.data[index] = Binary16.packFloat(source[sourceOffset + index]);
+        }
+      }
+      case LAYOUT_PLANAR -> {
+        final int plane = this.width * this.height;
+        for (int y = y0; y < y1; ++y) {
+          int from = sourceOffset + y * rowSize;
+          final int start = y * this.width;
+          final int end = start + this.width;
+          for (int index = start; index < end; ++index) {
+            this.data[index] = Binary16.packFloat(source[from]);
+            this.data[plane + index] = Binary16.packFloat(source[from + 1]);
+            this.data[plane * 2 + index] = Binary16.packFloat(source[from + 2]);
+            this.data[plane * 3 + index] = Binary16.packFloat(source[from + 3]);
+            from += CHANNELS;
+          }
+        }
+      }
+    }
+  }
+
+  private void unpackRows(
+    final float[] target,
+    final int targetOffset,
+    final int y0,
+    final int y1)
+  {
+    final int rowSize = this.width * CHANNELS;
+    switch (this.layout) {
+      case LAYOUT_INTERLEAVED -> {
+        final int start = y0 * rowSize;
+        final int end = y1 * rowSize;
+        for (int index = start; index < end; ++index) {
+          target[targetOffset + index] = Binary16.unpackFloat(this.data[index]);
+        }
+      }
+      case LAYOUT_PLANAR -> {
+        final int plane = this.width * this.height;
+        for (int y = y0; y < y1; ++y) {
+          int to = targetOffset + y * rowSize;
+          final int start = y * this.width;
+          final int end = start + this.width;
+          for (int index = start; index < end; ++index) {
+            target[to] = Binary16.unpackFloat(this.data[index]);
+            target[to + 1] = Binary16.unpackFloat(this.data[plane + index]);
+            target[to + 2] = Binary16.unpackFloat(this.data[plane * 2 + index]);
+            target[to + 3] = Binary16.unpackFloat(this.data[plane * 3 + index]);
+            to += CHANNELS;
+          }
+        }
+      }
+    }
+  }
+
+  int indexOf(
+    final int x,
+    final int y,
+    final int channel)
+  {
+    Objects.checkIndex(x, this.width);
+    Objects.checkIndex(y, this.height);
+    Objects.checkIndex(channel, CHANNELS);
+
+    return switch (this.layout) {
+      case LAYOUT_INTERLEAVED -> (y * this.width + x) * CHANNELS + channel;
+      case LAYOUT_PLANAR -> (channel * this.height + y) * this.width + x;
+    };
+  }
+
+  /* The index of channel {@code channel} of the first pixel of row {@code y}. */
+
+  int rowBase(
+    final int y,
+    final int channel)
+  {
+    return switch (this.layout) {
+      case LAYOUT_INTERLEAVED -> y * this.width * CHANNELS + channel;
+      case LAYOUT_PLANAR -> (channel * this.height + y) * this.width;
+    };
+  }
+
+  /* The distance between the same channel of adjacent pixels in a row. */
+
+  int pixelStride()
+  {
+    return switch (this.layout) {
+      case LAYOUT_INTERLEAVED -> CHANNELS;
+      case LAYOUT_PLANAR -> 1;
+    };
+  }
+
+  char[] data()
+  {
+    return this.data;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final Binary16Image that = (Binary16Image) other;
+    return this.width == that.width
+      && this.height == that.height
+      && this.layout == that.layout
+      && Arrays.equals(this.data, that.data);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(
+      Integer.valueOf(this.width),
+      Integer.valueOf(this.height),
+      this.layout,
+      Integer.valueOf(Arrays.hashCode(this.data)));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[Binary16Image %dx%d %s]",
+      Integer.valueOf(this.width),
+      Integer.valueOf(this.height),
+      this.layout);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+/**
+ * The arrangement of the channels of a {@link Binary16Image} in memory.
+ */
+
+public enum Binary16ImageLayout
+{
+  /**
+   * The four channels of each pixel are stored together: {@code RGBARGBA...}.
+   * This matches the layout of most framebuffers and texture uploads.
+   */
+
+  LAYOUT_INTERLEAVED,
+
+  /**
+   * Each channel is stored as a separate plane of {@code width * height}
+   * values: {@code RR...GG...BB...AA...}. This matches the layout of
+   * scanline data in OpenEXR files.
+   */
+
+  LAYOUT_PLANAR
+}
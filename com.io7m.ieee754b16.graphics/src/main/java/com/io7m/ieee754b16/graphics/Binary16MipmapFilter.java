@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+/**
+ * The filters available for generating mipmaps.
+ *
+ * @see Binary16Mipmaps
+ */
+
+public enum Binary16MipmapFilter
+{
+  /**
+   * Each pixel is the average of the 2x2 block of pixels beneath it. This
+   * is the cheapest filter, but aliases and blurs more than
+   * {@link #FILTER_KAISER}.
+   */
+
+  FILTER_BOX,
+
+  /**
+   * A separable 6x6 sinc filter with a Kaiser window. This preserves more
+   * detail than {@link #FILTER_BOX} with less aliasing, but has small
+   * negative lobes and so can overshoot slightly around sharp edges.
+   */
+
+  FILTER_KAISER
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Functions to generate mipmaps directly from {@link Binary16Image} values.
+ * </p>
+ * <p>
+ * Each level is half the size of the previous level in each dimension,
+ * rounding down, with a minimum of one pixel. The source image is read and
+ * the result written in {@code binary16} form; only the pixels of the
+ * 32x32 output tile being processed are held as {@code float} values, in a
+ * small buffer that is reused from tile to tile. Samples beyond the edges
+ * of the source image are clamped to the nearest edge pixel.
+ * </p>
+ * <p>
+ * The {@code Parallel} variants process rows of tiles on the common
+ * fork/join pool and produce identical results. Each level of a chain is
+ * computed from the one before it, so the levels of a single chain are
+ * produced in order; only the tiles within each level are processed in
+ * parallel.
+ * </p>
+ */
+
+public final class Binary16Mipmaps
+{
+  private static final int TILE = 32;
+  private static final int TAPS = 6;
+  private static final double KAISER_ALPHA = 4.0;
+  private static final double KAISER_RADIUS = 1.5;
+  private static final float[] KAISER_WEIGHTS = kaiserWeights();
+
+  private Binary16Mipmaps()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Downsample an image to the next mipmap level.
+   *
+   * @param source The source image
+   * @param filter The filter
+   *
+   * @return A new image of the same layout, half the size of the source
+   */
+
+  public static Binary16Image downsample(
+    final Binary16Image source,
+    final Binary16MipmapFilter filter)
+  {
+    final Binary16Image target = nextLevel(source, filter);
+    final float[] scratch = scratchFor(filter);
+    for (int tileY = 0; tileY < tileCount(target.height()); ++tileY) {
+      downsampleTileRow(source, target, filter, tileY, scratch);
+    }
+    return target;
+  }
+
+  /**
+   * Downsample an image to the next mipmap level in parallel.
+   *
+   * @param source The source image
+   * @param filter The filter
+   *
+   * @return A new image of the same layout, half the size of the source
+   *
+   * @see #downsample(Binary16Image, Binary16MipmapFilter)
+   */
+
+  public static Binary16Image downsampleParallel(
+    final Binary16Image source,
+    final Binary16MipmapFilter filter)
+  {
+    final Binary16Image target = nextLevel(source, filter);
+    IntStream.range(0, tileCount(target.height()))
+      .parallel()
+      .forEach(tileY -> {
+        downsampleTileRow(source, target, filter, tileY, scratchFor(filter));
+      });
+    return target;
+  }
+
+  /**
+   * Generate a complete mipmap chain.
+   *
+   * @param source The source image
+   * @param filter The filter
+   *
+   * @return Every level of the chain, starting with {@code source} itself
+   * and ending with a 1x1 image
+   */
+
+  public static List<Binary16Image> generate(
+    final Binary16Image source,
+    final Binary16MipmapFilter filter)
+  {
+    final List<Binary16Image> levels = new ArrayList<>(levelCount(source));
+    Binary16Image level = Objects.requireNonNull(source, "source");
+    levels.add(level);
+    while (level.width() > 1 || level.height() > 1) {
+      level = downsample(level, filter);
+      levels.add(level);
+    }
+    return levels;
+  }
+
+  /**
+   * Generate a complete mipmap chain, downsampling each level in parallel.
+   *
+   * @param source The source image
+   * @param filter The filter
+   *
+   * @return Every level of the chain, starting with {@code source} itself
+   * and ending with a 1x1 image
+   *
+   * @see #generate(Binary16Image, Binary16MipmapFilter)
+   */
+
+  public static List<Binary16Image> generateParallel(
+    final Binary16Image source,
+    final Binary16MipmapFilter filter)
+  {
+    final List<Binary16Image> levels = new ArrayList<>(levelCount(source));
+    Binary16Image level = Objects.requireNonNull(source, "source");
+    levels.add(level);
+    while (level.width() > 1 || level.height() > 1) {
+      level = downsampleParallel(level, filter);
+      levels.add(level);
+    }
+    return levels;
+  }
+
+  /**
+   * @param source The source image
+   *
+   * @return The number of levels in a complete mipmap chain for the image,
+   * including the image itself
+   */
+
+  public static int levelCount(
+    final Binary16Image source)
+  {
+    final int largest = Math.max(source.width(), source.height());
+    return 32 - Integer.numberOfLeadingZeros(largest);
+  }
+
+  private static Binary16Image nextLevel(
+    final Binary16Image source,
+    final Binary16MipmapFilter filter)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(filter, "filter");
+    return Binary16Image.create(
+      Math.max(1, source.width() >>> 1),
+      Math.max(1, source.height() >>> 1),
+      source.layout());
+  }
+
+  private static int tileCount(
+    final int size)
+  {
+    return (size + TILE - 1) / TILE;
+  }
+
+  private static float[] scratchFor(
+    final Binary16MipmapFilter filter)
+  {
+    return switch (filter) {
+      case FILTER_BOX -> new float[0];
+      case FILTER_KAISER -> new float[(2 * TILE + TAPS - 2) * (TILE + 1)];
+    };
+  }
+
+  private static void downsampleTileRow(
+    final Binary16Image source,
+    final Binary16Image target,
+    final Binary16MipmapFilter filter,
+    final int tileY,
+    final float[] scratch)
+  {
+    final int y0 = tileY * TILE;
+    final int y1 = Math.min(target.height(), y0 + TILE);
+    for (int x0 = 0; x0 < target.width(); x0 += TILE) {
+      final int x1 = Math.min(target.width(), x0 + TILE);
+      for (int channel = 0; channel < Binary16Image.CHANNELS; ++channel) {
+        switch (filter) {
+          case FILTER_BOX -> box(source, target, channel, x0, x1, y0, y1);
+          case FILTER_KAISER -> kaiser(source, target, channel, x0, x1, y0, y1, scratch);
+        }
+      }
+    }
+  }
+
+  private static void box(
+    final Binary16Image source,
+    final Binary16Image target,
+    final int channel,
+    final int x0,
+    final int x1,
+    final int y0,
+    final int y1)
+  {
+    final char[] src = source.data();
+    final char[] dst = target.data();
+    final int srcStride = source.pixelStride();
+    final int dstStride = target.pixelStride();
+    final int maxX = source.width() - 1;
+    final int maxY = source.height() - 1;
+
+    for (int y = y0; y < y1; ++y) {
+      final int row0 = source.rowBase(Math.min(2 * y, maxY), channel);
+      final int row1 = source.rowBase(Math.min(2 * y + 1, maxY), channel);
+      int out = target.rowBase(y, channel) + x0 * dstStride;
+      for (int x = x0; x < x1; ++x) {
+        final int sx0 = Math.min(2 * x, maxX) * srcStride;
+        final int sx1 = Math.min(2 * x + 1, maxX) * srcStride;
+        final float sum =
+          Binary16.unpackFloat(src[row0 + sx0])
+            + Binary16.unpackFloat(src[row0 + sx1])
+            + Binary16.unpackFloat(src[row1 + sx0])
+            + Binary16.unpackFloat(src[row1 + sx1]);
+        dst[out] = Binary16.packFloat(sum * 0.25f);
+        out += dstStride;
+      }
+    }
+  }
+
+  /*
+   * Filter one channel of a tile in two passes: horizontally from the
+   * source rows beneath the tile into the scratch buffer, and then
+   * vertically from the scratch buffer into the target. Each source row is
+   * unpacked once into the end of the scratch buffer before filtering.
+   */
+
+  private static void kaiser(
+    final Binary16Image source,
+    final Binary16Image target,
+    final int channel,
+    final int x0,
+    final int x1,
+    final int y0,
+    final int y1,
+    final float[] scratch)
+  {
+    final char[] src = source.data();
+    final int srcStride = source.pixelStride();
+    final int maxX = source.width() - 1;
+    final int maxY = source.height() - 1;
+    final int tileWidth = x1 - x0;
+    final int rows = 2 * (y1 - y0) + TAPS - 2;
+    final int firstRow = 2 * y0 - (TAPS / 2 - 1);
+
+    final int span = 2 * tileWidth + TAPS - 2;
+    final int firstColumn = 2 * x0 - (TAPS / 2 - 1);
+    final int line = rows * tileWidth;
+
+    for (int row = 0; row < rows; ++row) {
+      final int base = source.rowBase(clamp(firstRow + row, maxY), channel);
+      for (int index = 0; index < span; ++index) {
+        final int sx = clamp(firstColumn + index, maxX);
+        scratch[line + index] = Binary16.unpackFloat(src[base + sx * srcStride]);
+      }
+      for (int x = 0; x < tileWidth; ++x) {
+        float sum = 0.0f;
+        for (int tap = 0; tap < TAPS; ++tap) {
+          sum += KAISER_WEIGHTS[tap] * scratch[line + 2 * x + tap];
+        }
+        scratch[row * tileWidth + x] = sum;
+      }
+    }
+
+    final char[] dst = target.data();
+    final int dstStride = target.pixelStride();
+    for (int y = y0; y < y1; ++y) {
+      final int firstScratchRow = 2 * (y - y0);
+      int out = target.rowBase(y, channel) + x0 * dstStride;
+      for (int x = 0; x < tileWidth; ++x) {
+        float sum = 0.0f;
+        for (int tap = 0; tap < TAPS; ++tap) {
+          sum += KAISER_WEIGHTS[tap] * scratch[(firstScratchRow + tap) * tileWidth + x];
+        }
+        dst[out] = Binary16.packFloat(sum);
+        out += dstStride;
+      }
+    }
+  }
+
+  private static int clamp(
+    final int index,
+    final int max)
+  {
+    return Math.max(0, Math.min(index, max));
+  }
+
+  /*
+   * The weights of a Kaiser-windowed sinc filter that halves the resolution.
+   * The tap positions are the centres of the six source pixels nearest the
+   * centre of a target pixel, measured in target pixels.
+   */
+
+  private static float[] kaiserWeights()
+  {
+    final double[] weights = new double[TAPS];
+    double total = 0.0;
+    for (int tap = 0; tap < TAPS; ++tap) {
+      final double t = ((double) tap - (double) TAPS / 2.0 + 0.5) / 2.0;
+      final double ratio = t / KAISER_RADIUS;
+      final double window =
+        besselI0(KAISER_ALPHA * Math.sqrt(1.0 - ratio * ratio))
+          / besselI0(KAISER_ALPHA);
+      weights[tap] = sinc(t) * window;
+      total += weights[tap];
+    }
+
+    final float[] result = new float[TAPS];
+    for (int tap = 0; tap < TAPS; ++tap) {
+      result[tap] = (float) (weights[tap] / total);
+    }
+    return result;
+  }
+
+  private static double sinc(
+    final double x)
+  {
+    final double px = Math.PI * x;
+    return Math.sin(px) / px;
+  }
+
+  /* The zeroth-order modified Bessel function of the first kind. */
+
+  private static double besselI0(
+    final double x)
+  {
+    final double q = x * x / 4.0;
+    double term = 1.0;
+    double sum = 1.0;
+    for (int k = 1; k < 32; ++k) {
+      term *= q / ((double) k * (double) k);
+      sum += term;
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to encode unit vectors as pairs of {@code binary16} values
+ * using the octahedral mapping.
+ * </p>
+ * <p>
+ * A direction is projected onto the octahedron {@code |x| + |y| + |z| = 1},
+ * and the lower half of the octahedron is folded over the upper half onto
+ * the square {@code [-1, 1]^2}. The two coordinates in the square are
+ * stored as {@code binary16} values, so a direction occupies four bytes
+ * rather than the six needed for three {@code binary16} components.
+ * </p>
+ * <p>
+ * The worst-case angular error of a round trip, measured over a dense
+ * sampling of the sphere, is {@value #MAXIMUM_ERROR_DEGREES} degrees. This
+ * is roughly two and a half times the error of storing three
+ * {@code binary16} components, because {@code binary16} values are least
+ * precise close to the edges of the square, where {@code |u|} or
+ * {@code |v|} approaches {@code 1}.
+ * </p>
+ * <p>
+ * Input vectors need not be normalized, but must be finite; the zero
+ * vector encodes as {@code (0, 0, 1)}. Decoded vectors are normalized.
+ * </p>
+ */
+
+public final class Binary16Octahedral
+{
+  /**
+   * The worst-case angular error in degrees of encoding and then decoding a
+   * unit vector.
+   */
+
+  public static final double MAXIMUM_ERROR_DEGREES = 0.06;
+
+  private Binary16Octahedral()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Encode a direction.
+   *
+   * @param x The x component
+   * @param y The y component
+   * @param z The z component
+   *
+   * @return The packed {@code u} coordinate in the high 16 bits and the
+   * packed {@code v} coordinate in the low 16 bits
+   */
+
+  public static int encode(
+    final float x,
+    final float y,
+    final float z)
+  {
+    final float ax = Math.abs(x);
+    final float ay = Math.abs(y);
+    final float length = ax + ay + Math.abs(z);
+    if (length == 0.0f) {
+      return 0;
+    }
+
+    float u = x / length;
+    float v = y / length;
+    if (z < 0.0f) {
+      final float fu = (1.0f - Math.abs(v)) * signNotZero(u);
+      final float fv = (1.0f - Math.abs(u)) * signNotZero(v);
+      u = fu;
+      v = fv;
+    }
+    return (int) Binary16.packFloat(u) << 16 | (int) Binary16.packFloat(v);
+  }
+
+  /**
+   * Decode a direction.
+   *
+   * @param u            The packed {@code u} coordinate
+   * @param v            The packed {@code v} coordinate
+   * @param target       The target array
+   * @param targetOffset The offset at which to write the three components
+   *
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public static void decode(
+    final char u,
+    final char v,
+    final float[] target,
+    final int targetOffset)
+  {
+    Objects.checkFromIndexSize(targetOffset, 3, target.length);
+    decodeUnchecked(
+      Binary16.unpackFloatExact(u),
+      Binary16.unpackFloatExact(v),
+      target,
+      targetOffset);
+  }
+
+  /**
+   * Encode directions.
+   *
+   * @param source       The source components, three per direction
+   * @param sourceOffset The offset of the first source component
+   * @param target       The target array, two values per direction
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of directions
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encode(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 3), source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 2), target.length);
+
+    int from = sourceOffset;
+    int to = targetOffset;
+    for (int index = 0; index < count; ++index) {
+      final int uv = encode(source[from], source[from + 1], source[from + 2]);
+      target[to] = (char) (uv >>> 16);
+      target[to + 1] = (char) uv;
+      from += 3;
+      to += 2;
+    }
+  }
+
+  /**
+   * Decode directions.
+   *
+   * @param source       The source values, two per direction
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array, three components per direction
+   * @param targetOffset The offset of the first target component
+   * @param count        The number of directions
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decode(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 2), source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 3), target.length);
+
+    int from = sourceOffset;
+    int to = targetOffset;
+    for (int index = 0; index < count; ++index) {
+      decodeUnchecked(
+        Binary16.unpackFloatExact(source[from]),
+        Binary16.unpackFloatExact(source[from + 1]),
+        target,
+        to);
+      from += 2;
+      to += 3;
+    }
+  }
+
+  /**
+   * Encode directions into one attribute of an interleaved vertex buffer,
+   * in the manner of {@link Binary16VertexPacking}. Each direction is
+   * written as two {@code binary16} values, {@code u} followed by
+   * {@code v}, in the byte order of the buffer, with a single four-byte
+   * store. The position and limit of the buffer are not used or modified.
+   *
+   * @param source       The source components, three per direction
+   * @param sourceOffset The offset of the first source component
+   * @param target       The vertex buffer
+   * @param targetOffset The byte offset of the attribute in the first vertex
+   * @param targetStride The distance in bytes between vertices
+   * @param count        The number of directions
+   *
+   * @throws IllegalArgumentException  If the stride is less than four
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encode(
+    final float[] source,
+    final int sourceOffset,
+    final ByteBuffer target,
+    final int targetOffset,
+    final int targetStride,
+    final int count)
+  {
+    if (targetStride < 4) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Stride %d is smaller than an encoded direction",
+          Integer.valueOf(targetStride))
+      );
+    }
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 3), source.length);
+    if (count > 0) {
+      final long size = (long) (count - 1) * (long) targetStride + 4L;
+      Objects.checkFromIndexSize((long) targetOffset, size, (long) target.limit());
+    }
+
+    final boolean big = target.order() == ByteOrder.BIG_ENDIAN;
+    int from = sourceOffset;
+    int at = targetOffset;
+    for (int index = 0; index < count; ++index) {
+      final int uv = encode(source[from], source[from + 1], source[from + 2]);
+      if (big) {
+        target.putInt(at, uv);
+      } else {
+        target.putInt(at, uv >>> 16 | uv << 16);
+      }
+      from += 3;
+      at += targetStride;
+    }
+  }
+
+  private static void decodeUnchecked(
+    final float u,
+    final float v,
+    final float[] target,
+    final int targetOffset)
+  {
+    final float au = Math.abs(u);
+    final float av = Math.abs(v);
+    final float z = 1.0f - au - av;
+    float x = u;
+    float y = v;
+    if (z < 0.0f) {
+      x = (1.0f - av) * signNotZero(u);
+      y = (1.0f - au) * signNotZero(v);
+    }
+
+    final float scale = (float) (1.0 / Math.sqrt(x * x + y * y + z * z));
+    target[targetOffset] = x * scale;
+    target[targetOffset + 1] = y * scale;
+    target[targetOffset + 2] = z * scale;
+  }
+
+  private static float signNotZero(
+    final float x)
+  {
+    if (x < 0.0f) {
+      return -1.0f;
+    }
+    return 1.0f;
+  }
+}
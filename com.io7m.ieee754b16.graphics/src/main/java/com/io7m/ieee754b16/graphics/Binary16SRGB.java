@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Table-driven conversions between linear {@code binary16} values and
+ * 8-bit sRGB-encoded values.
+ * </p>
+ * <p>
+ * Encoding applies the sRGB transfer function to a linear value clamped to
+ * {@code [0, 1]} and rounds the result to the nearest of the 256 sRGB
+ * levels; {@code NaN} encodes as {@code 0}. Because a {@code binary16}
+ * value has only 65536 possible bit patterns, encoding is a single lookup
+ * in a 64 KiB table. The table is computed exactly ahead of time and
+ * loaded from a resource on first use, so initializing this class costs
+ * nothing. Decoding is a lookup in a 256-entry table holding the linear
+ * value of each sRGB level, rounded to the nearest {@code binary16} value.
+ * Decoding and then encoding any sRGB level yields the same level.
+ * </p>
+ * <p>
+ * The {@link ByteBuffer} variants read and write {@code binary16} values
+ * in the byte order of the buffer holding them.
+ * </p>
+ */
+
+public final class Binary16SRGB
+{
+  private static final String ENCODE_RESOURCE = "srgb-encode.bin";
+
+  private Binary16SRGB()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Encode a linear value as an 8-bit sRGB level.
+   *
+   * @param value A packed {@code binary16} linear value
+   *
+   * @return The sRGB level in the range {@code [0, 255]}
+   */
+
+  public static int encodeSRGB8(
+    final char value)
+  {
+    return EncodeTable.ENCODE[value] & 0xff;
+  }
+
+  /**
+   * Decode an 8-bit sRGB level to a linear value.
+   *
+   * @param level An sRGB level; only the low eight bits are used
+   *
+   * @return The packed {@code binary16} linear value
+   */
+
+  public static char decodeSRGB8(
+    final int level)
+  {
+    return DecodeTable.DECODE[level & 0xff];
+  }
+
+  /**
+   * Encode linear values as 8-bit sRGB levels.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target level
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeSRGB8(
+    final char[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] = EncodeTable.ENCODE[source[sourceOffset + index]];
+    }
+  }
+
+  /**
+   * Decode 8-bit sRGB levels to linear values.
+   *
+   * @param source       The source levels
+   * @param sourceOffset The offset of the first source level
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of levels
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeSRGB8(
+    final byte[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] = DecodeTable.DECODE[source[sourceOffset + index] & 0xff];
+    }
+  }
+
+  /**
+   * Encode the linear values between the position and limit of
+   * {@code source} as sRGB levels in {@code target}, advancing the
+   * position of both.
+   *
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source holds an odd number of
+   *                                  bytes
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   */
+
+  public static void encodeSRGB8(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int size = source.remaining();
+    if ((size & 1) != 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Source size %d is not a whole number of values",
+          Integer.valueOf(size))
+      );
+    }
+
+    final int count = size >>> 1;
+    if (target.remaining() < count) {
+      throw new BufferOverflowException();
+    }
+
+    final int sourceStart = source.position();
+    final int targetStart = target.position();
+    for (int index = 0; index < count; ++index) {
+      target.put(
+        targetStart + index,
+        EncodeTable.ENCODE[source.getChar(sourceStart + (index << 1))]);
+    }
+    source.position(sourceStart + size);
+    target.position(targetStart + count);
+  }
+
+  /**
+   * Decode the sRGB levels between the position and limit of
+   * {@code source} as linear values in {@code target}, advancing the
+   * position of both.
+   *
+   * @param source The source levels
+   * @param target The target buffer
+   *
+   * @throws BufferOverflowException If the target has insufficient space;
+   *                                 neither buffer is modified
+   */
+
+  public static void decodeSRGB8(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int count = source.remaining();
+    if (target.remaining() < count << 1) {
+      throw new BufferOverflowException();
+    }
+
+    final int sourceStart = source.position();
+    final int targetStart = target.position();
+    for (int index = 0; index < count; ++index) {
+      target.putChar(
+        targetStart + (index << 1),
+        DecodeTable.DECODE[source.get(sourceStart + index) & 0xff]);
+    }
+    source.position(sourceStart + count);
+    target.position(targetStart + (count << 1));
+  }
+
+  /* The inverse sRGB transfer function, for encoded values in [0, 1]. */
+
+  private static double decode(
+    final double encoded)
+  {
+    if (encoded <= 0.04045) {
+      return encoded / 12.92;
+    }
+    return Math.pow((encoded + 0.055) / 1.055, 2.4);
+  }
+
+  /*
+   * The encoding table, generated by mk-srgb.c and loaded on first use.
+   */
+
+  private static final class EncodeTable
+  {
+    private static final byte[] ENCODE = load();
+
+    private EncodeTable()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    private static byte[] load()
+    {
+      try (InputStream stream =
+             Binary16SRGB.class.getResourceAsStream(ENCODE_RESOURCE)) {
+        if (stream == null) {
+          throw new IllegalStateException(
+            "Missing resource: " + ENCODE_RESOURCE);
+        }
+        final byte[] table = stream.readAllBytes();
+        if (table.length != 65536) {
+          throw new IllegalStateException(
+            String.format(
+              "Resource %s has size %d, expected 65536",
+              ENCODE_RESOURCE,
+              Integer.valueOf(table.length))
+          );
+        }
+        return table;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /*
+   * The decoding table, computed on first use.
+   */
+
+  private static final class DecodeTable
+  {
+    private static final char[] DECODE = decodeTable();
+
+    private DecodeTable()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    private static char[] decodeTable()
+    {
+      final char[] table = new char[256];
+      for (int level = 0; level < 256; ++level) {
+        table[level] = Binary16.packDouble(decode((double) level / 255.0));
+      }
+      return table;
+    }
+  }
+}
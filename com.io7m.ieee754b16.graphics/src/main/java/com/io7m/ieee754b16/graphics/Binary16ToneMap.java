@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+import com.io7m.ieee754b16.Binary16;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * <p>
+ * A tone-mapping operator applied to {@code binary16} values by table
+ * lookup.
+ * </p>
+ * <p>
+ * An operator is evaluated once for each of the 65536 possible
+ * {@code binary16} inputs when it is created, and the results are packed
+ * with {@link Binary16#packDouble(double)} into a 128 KiB table. Applying
+ * the operator is then a single lookup per value, regardless of the cost
+ * of the function. Before evaluation, negative inputs and {@code NaN} are
+ * replaced with zero, and positive infinity with the largest finite
+ * {@code binary16} value, so that the function only ever sees finite,
+ * non-negative input.
+ * </p>
+ * <p>
+ * The operators are applied to each channel independently. Instances are
+ * immutable and may be shared between threads.
+ * </p>
+ */
+
+public final class Binary16ToneMap
+{
+  private static final double MAXIMUM = 65504.0;
+
+  private final char[] table;
+
+  private Binary16ToneMap(
+    final char[] inTable)
+  {
+    this.table = inTable;
+  }
+
+  /**
+   * Create an operator from an arbitrary function.
+   *
+   * @param function The function from linear input to output values
+   *
+   * @return A tone-mapping operator
+   */
+
+  public static Binary16ToneMap of(
+    final DoubleUnaryOperator function)
+  {
+    Objects.requireNonNull(function, "function");
+
+    final char[] table = new char[65536];
+    for (int bits = 0; bits < 65536; ++bits) {
+      final double value = (double) Binary16.unpackFloatExact((char) bits);
+      table[bits] = Binary16.packDouble(function.applyAsDouble(sanitize(value)));
+    }
+    return new Binary16ToneMap(table);
+  }
+
+  /**
+   * Create an extended Reinhard operator
+   * {@code f(x) = L * (1 + L / w^2) / (1 + L)}, where
+   * {@code L = exposure * x} and {@code w} is the white point: the
+   * smallest exposed value mapped to {@code 1.0}. Results are clamped to
+   * at most {@code 1.0}. A white point of positive infinity gives the basic
+   * operator {@code L / (1 + L)}.
+   *
+   * @param exposure   The exposure scale
+   * @param whitePoint The white point
+   *
+   * @return A tone-mapping operator
+   *
+   * @throws IllegalArgumentException If the exposure is not positive and
+   *                                  finite, or the white point is not
+   *                                  positive
+   */
+
+  public static Binary16ToneMap reinhard(
+    final double exposure,
+    final double whitePoint)
+  {
+    checkExposure(exposure);
+    if (!(whitePoint > 0.0)) {
+      throw new IllegalArgumentException(
+        String.format("White point %f must be positive", Double.valueOf(whitePoint)));
+    }
+
+    final double inverseWhite2 = 1.0 / (whitePoint * whitePoint);
+    return of(x -> {
+      final double l = exposure * x;
+      return Math.min(1.0, l * (1.0 + l * inverseWhite2) / (1.0 + l));
+    });
+  }
+
+  /**
+   * Create Krzysztof Narkowicz's fitted approximation of the ACES filmic
+   * curve, {@code f(L) = L (2.51 L + 0.03) / (L (2.43 L + 0.59) + 0.14)}
+   * clamped to {@code [0, 1]}, where {@code L = exposure * x}. This is the
+   * per-channel form of the fit; it does not apply the ACES input and
+   * output colour space transforms.
+   *
+   * @param exposure The exposure scale
+   *
+   * @return A tone-mapping operator
+   *
+   * @throws IllegalArgumentException If the exposure is not positive and
+   *                                  finite
+   */
+
+  public static Binary16ToneMap acesFitted(
+    final double exposure)
+  {
+    checkExposure(exposure);
+    return of(x -> {
+      final double l = exposure * x;
+      final double y = l * (2.51 * l + 0.03) / (l * (2.43 * l + 0.59) + 0.14);
+      return Math.max(0.0, Math.min(1.0, y));
+    });
+  }
+
+  private static void checkExposure(
+    final double exposure)
+  {
+    if (!(exposure > 0.0 && Double.isFinite(exposure))) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Exposure %f must be positive and finite",
+          Double.valueOf(exposure))
+      );
+    }
+  }
+
+  private static double sanitize(
+    final double value)
+  {
+    if (value > 0.0) {
+      return Math.min(value, MAXIMUM);
+    }
+    return 0.0;
+  }
+
+  /**
+   * Apply the operator to a value.
+   *
+   * @param value A packed {@code binary16} value
+   *
+   * @return The packed result
+   */
+
+  public char apply(
+    final char value)
+  {
+    return this.table[value];
+  }
+
+  /**
+   * Apply the operator to an array of values. The source and target may be
+   * the same array.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void apply(
+    final char[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final char[] lookup = this.table;
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] = lookup[source[sourceOffset + index]];
+    }
+  }
+
+  /**
+   * Apply the operator to the values between the position and limit of
+   * {@code source}, writing the results to {@code target} and advancing
+   * the position of both.
+   *
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the source holds an odd number of
+   *                                  bytes
+   * @throws BufferOverflowException  If the target has insufficient space;
+   *                                  neither buffer is modified
+   */
+
+  public void apply(
+    final ByteBuffer source,
+    final ByteBuffer target)
+  {
+    final int size = source.remaining();
+    if ((size & 1) != 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Source size %d is not a whole number of values",
+          Integer.valueOf(size))
+      );
+    }
+    if (target.remaining() < size) {
+      throw new BufferOverflowException();
+    }
+
+    final char[] lookup = this.table;
+    final int sourceStart = source.position();
+    final int targetStart = target.position();
+    for (int offset = 0; offset < size; offset += 2) {
+      target.putChar(targetStart + offset, lookup[source.getChar(sourceStart + offset)]);
+    }
+    source.position(sourceStart + size);
+    target.position(targetStart + size);
+  }
+}
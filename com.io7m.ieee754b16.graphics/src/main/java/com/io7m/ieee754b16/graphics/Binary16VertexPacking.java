@@ -0,0 +1,400 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.graphics;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to pack and unpack interleaved vertex attributes.
+ * </p>
+ * <p>
+ * A vertex buffer holds a sequence of vertices, each {@code stride} bytes
+ * long. An attribute with {@code components} {@code binary16} components
+ * (such as a {@code vec3} position) occupies {@code 2 * components}
+ * contiguous bytes at the same {@code offset} within every vertex. The
+ * functions here convert one attribute of {@code count} consecutive
+ * vertices at a time, to or from a tightly packed {@code float[]} array
+ * holding {@code components} values per vertex.
+ * </p>
+ * <p>
+ * Values are written in the byte order of the buffer using absolute
+ * operations: the position and limit of the buffer are not used or
+ * modified, and the whole range is checked before anything is written.
+ * Attributes with two, three, or four components are written with one
+ * wide store per vertex rather than one store per component.
+ * </p>
+ */
+
+public final class Binary16VertexPacking
+{
+  private Binary16VertexPacking()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Pack one attribute of consecutive vertices with
+   * {@link Binary16#packFloat(float)}.
+   *
+   * @param source       The source values, {@code components} per vertex
+   * @param sourceOffset The offset of the first source value
+   * @param components   The number of components in the attribute
+   * @param target       The vertex buffer
+   * @param targetOffset The byte offset of the attribute in the first vertex
+   * @param targetStride The distance in bytes between vertices
+   * @param count        The number of vertices
+   *
+   * @throws IllegalArgumentException  If {@code components} is not positive,
+   *                                   or the stride is smaller than the
+   *                                   attribute
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final int components,
+    final ByteBuffer target,
+    final int targetOffset,
+    final int targetStride,
+    final int count)
+  {
+    checkLayout(components, targetStride);
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, components), source.length);
+    checkBuffer(target, targetOffset, targetStride, components, count);
+
+    final boolean little = target.order() == ByteOrder.LITTLE_ENDIAN;
+    switch (components) {
+      case 2 -> pack2(source, sourceOffset, target, targetOffset, targetStride, count, little);
+      case 3 -> pack3(source, sourceOffset, target, targetOffset, targetStride, count, little);
+      case 4 -> pack4(source, sourceOffset, target, targetOffset, targetStride, count, little);
+      default -> packN(source, sourceOffset, components, target, targetOffset, targetStride, count);
+    }
+  }
+
+  /**
+   * Unpack one attribute of consecutive vertices with
+   * {@link Binary16#unpackFloat(char)}.
+   *
+   * @param source       The vertex buffer
+   * @param sourceOffset The byte offset of the attribute in the first vertex
+   * @param sourceStride The distance in bytes between vertices
+   * @param components   The number of components in the attribute
+   * @param target       The target values, {@code components} per vertex
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of vertices
+   *
+   * @throws IllegalArgumentException  If {@code components} is not positive,
+   *                                   or the stride is smaller than the
+   *                                   attribute
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unpackFloats(
+    final ByteBuffer source,
+    final int sourceOffset,
+    final int sourceStride,
+    final int components,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    checkLayout(components, sourceStride);
+    checkBuffer(source, sourceOffset, sourceStride, components, count);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, components), target.length);
+
+    final boolean little = source.order() == ByteOrder.LITTLE_ENDIAN;
+    switch (components) {
+      case 2 -> unpack2(source, sourceOffset, sourceStride, target, targetOffset, count, little);
+      case 3 -> unpack3(source, sourceOffset, sourceStride, target, targetOffset, count, little);
+      case 4 -> unpack4(source, sourceOffset, sourceStride, target, targetOffset, count, little);
+      default -> unpackN(source, sourceOffset, sourceStride, components, target, targetOffset, count);
+    }
+  }
+
+  private static void pack2(
+    final float[] source,
+    final int sourceOffset,
+    final ByteBuffer target,
+    final int targetOffset,
+    final int targetStride,
+    final int count,
+    final boolean little)
+  {
+    int at = targetOffset;
+    int from = sourceOffset;
+    if (little) {
+      for (int index = 0; index < count; ++index) {
+        target.putInt(at, pair(source[from], source[from + 1]));
+        at += targetStride;
+        from += 2;
+      }
+    } else {
+      for (int index = 0; index < count; ++index) {
+        target.putInt(at, pair(source[from + 1], source[from]));
+        at += targetStride;
+        from += 2;
+      }
+    }
+  }
+
+  private static void pack3(
+    final float[] source,
+    final int sourceOffset,
+    final ByteBuffer target,
+    final int targetOffset,
+    final int targetStride,
+    final int count,
+    final boolean little)
+  {
+    int at = targetOffset;
+    int from = sourceOffset;
+    if (little) {
+      for (int index = 0; index < count; ++index) {
+        target.putInt(at, pair(source[from], source[from + 1]));
+        target.putChar(at + 4, Binary16.packFloat(source[from + 2]));
+        at += targetStride;
+        from += 3;
+      }
+    } else {
+      for (int index = 0; index < count; ++index) {
+        target.putInt(at, pair(source[from + 1], source[from]));
+        target.putChar(at + 4, Binary16.packFloat(source[from + 2]));
+        at += targetStride;
+        from += 3;
+      }
+    }
+  }
+
+  private static void pack4(
+    final float[] source,
+    final int sourceOffset,
+    final ByteBuffer target,
+    final int targetOffset,
+    final int targetStride,
+    final int count,
+    final boolean little)
+  {
+    int at = targetOffset;
+    int from = sourceOffset;
+    if (little) {
+      for (int index = 0; index < count; ++index) {
+        target.putLong(at, quad(
+          source[from], source[from + 1], source[from + 2], source[from + 3]));
+        at += targetStride;
+        from += 4;
+      }
+    } else {
+      for (int index = 0; index < count; ++index) {
+        target.putLong(at, quad(
+          source[from + 3], source[from + 2], source[from + 1], source[from]));
+        at += targetStride;
+        from += 4;
+      }
+    }
+  }
+
+  private static void packN(
+    final float[] source,
+    final int sourceOffset,
+    final int components,
+    final ByteBuffer target,
+    final int targetOffset,
+    final int targetStride,
+    final int count)
+  {
+    int at = targetOffset;
+    int from = sourceOffset;
+    for (int index = 0; index < count; ++index) {
+      for (int component = 0; component < components; ++component) {
+        target.putChar(at + (component << 1), Binary16.packFloat(source[from + component]));
+      }
+      at += targetStride;
+      from += components;
+    }
+  }
+
+  /* Pack two values into an int, with the first in the low half. */
+
+  private static int pair(
+    final float low,
+    final float high)
+  {
+    return (int) Binary16.packFloat(low) | (int) Binary16.packFloat(high) << 16;
+  }
+
+  /* Pack four values into a long, with the first in the lowest quarter. */
+
+  private static long quad(
+    final float x0,
+    final float x1,
+    final float x2,
+    final float x3)
+  {
+    return (long) Binary16.packFloat(x0)
+      | (long) Binary16.packFloat(x1) << 16
+      | (long) Binary16.packFloat(x2) << 32
+      | (long) Binary16.packFloat(x3) << 48;
+  }
+
+  private static void unpack2(
+    final ByteBuffer source,
+    final int sourceOffset,
+    final int sourceStride,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final boolean little)
+  {
+    int at = sourceOffset;
+    int to = targetOffset;
+    int first = 0;
+    if (!little) {
+      first = 16;
+    }
+    final int second = 16 - first;
+    for (int index = 0; index < count; ++index) {
+      final int bits = source.getInt(at);
+      target[to] = Binary16.unpackFloat((char) (bits >>> first));
+      target[to + 1] = Binary16.unpackFloat((char) (bits >>> second));
+      at += sourceStride;
+      to += 2;
+    }
+  }
+
+  private static void unpack3(
+    final ByteBuffer source,
+    final int sourceOffset,
+    final int sourceStride,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final boolean little)
+  {
+    int at = sourceOffset;
+    int to = targetOffset;
+    int first = 0;
+    if (!little) {
+      first = 16;
+    }
+    final int second = 16 - first;
+    for (int index = 0; index < count; ++index) {
+      final int bits = source.getInt(at);
+      target[to] = Binary16.unpackFloat((char) (bits >>> first));
+      target[to + 1] = Binary16.unpackFloat((char) (bits >>> second));
+      target[to + 2] = Binary16.unpackFloat(source.getChar(at + 4));
+      at += sourceStride;
+      to += 3;
+    }
+  }
+
+  private static void unpack4(
+    final ByteBuffer source,
+    final int sourceOffset,
+    final int sourceStride,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final boolean little)
+  {
+    int at = sourceOffset;
+    int to = targetOffset;
+    int shift = 0;
+    int step = 16;
+    if (!little) {
+      shift = 48;
+      step = -16;
+    }
+    for (int index = 0; index < count; ++index) {
+      final long bits = source.getLong(at);
+      target[to] = Binary16.unpackFloat((char) (bits >>> shift));
+      target[to + 1] = Binary16.unpackFloat((char) (bits >>> (shift + step)));
+      target[to + 2] = Binary16.unpackFloat((char) (bits >>> (shift + step * 2)));
+      target[to + 3] = Binary16.unpackFloat((char) (bits >>> (shift + step * 3)));
+      at += sourceStride;
+      to += 4;
+    }
+  }
+
+  private static void unpackN(
+    final ByteBuffer source,
+    final int sourceOffset,
+    final int sourceStride,
+    final int components,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    int at = sourceOffset;
+    int to = targetOffset;
+    for (int index = 0; index < count; ++index) {
+      for (int component = 0; component < components; ++component) {
+        target[to + component] = Binary16.unpackFloat(source.getChar(at + (component << 1)));
+      }
+      at += sourceStride;
+      to += components;
+    }
+  }
+
+  private static void checkLayout(
+    final int components,
+    final int stride)
+  {
+    if (components <= 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Component count %d must be positive",
+          Integer.valueOf(components))
+      );
+    }
+    if (stride < components * 2) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Stride %d is smaller than an attribute of %d components",
+          Integer.valueOf(stride),
+          Integer.valueOf(components))
+      );
+    }
+  }
+
+  private static void checkBuffer(
+    final ByteBuffer buffer,
+    final int offset,
+    final int stride,
+    final int components,
+    final int count)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    if (count < 0) {
+      throw new IndexOutOfBoundsException("Negative vertex count");
+    }
+    if (count == 0) {
+      return;
+    }
+    final long size =
+      (long) (count - 1) * (long) stride + (long) components * 2L;
+    Objects.checkFromIndexSize((long) offset, size, (long) buffer.limit());
+  }
+}
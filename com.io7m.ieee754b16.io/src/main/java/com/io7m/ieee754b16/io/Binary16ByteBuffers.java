@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.io;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Functions to move values between arrays and the buffers used by the
+ * streams and channels. Each function transfers as many values as fit,
+ * advances the position of the buffer, and returns the number of values
+ * transferred.
+ */
+
+final class Binary16ByteBuffers
+{
+  private Binary16ByteBuffers()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static int putChars(
+    final ByteBuffer target,
+    final char[] source,
+    final int sourceOffset,
+    final int count)
+  {
+    final int size = Math.min(count, target.remaining() >>> 1);
+    final int start = target.position();
+    for (int index = 0; index < size; ++index) {
+      target.putChar(start + (index << 1), source[sourceOffset + index]);
+    }
+    target.position(start + (size << 1));
+    return size;
+  }
+
+  static int putFloats(
+    final ByteBuffer target,
+    final float[] source,
+    final int sourceOffset,
+    final int count)
+  {
+    final int size = Math.min(count, target.remaining() >>> 1);
+    final int start = target.position();
+    for (int index = 0; index < size; ++index) {
+      target.putChar(
+        start + (index << 1),
+        Binary16.packFloat(source[sourceOffset + index]));
+    }
+    target.position(start + (size << 1));
+    return size;
+  }
+
+  static int putDoubles(
+    final ByteBuffer target,
+    final double[] source,
+    final int sourceOffset,
+    final int count)
+  {
+    final int size = Math.min(count, target.remaining() >>> 1);
+    final int start = target.position();
+    for (int index = 0; index < size; ++index) {
+      target.putChar(
+        start + (index << 1),
+        Binary16.packDouble(source[sourceOffset + index]));
+    }
+    target.position(start + (size << 1));
+    return size;
+  }
+
+  static int getChars(
+    final ByteBuffer source,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final int size = Math.min(count, source.remaining() >>> 1);
+    final int start = source.position();
+    for (int index = 0; index < size; ++index) {
+      target[targetOffset + index] = source.getChar(start + (index << 1));
+    }
+    source.position(start + (size << 1));
+    return size;
+  }
+
+  static int getFloats(
+    final ByteBuffer source,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final int size = Math.min(count, source.remaining() >>> 1);
+    final int start = source.position();
+    for (int index = 0; index < size; ++index) {
+      target[targetOffset + index] =
+        Binary16.unpackFloat(source.getChar(start + (index << 1)));
+    }
+    source.position(start + (size << 1));
+    return size;
+  }
+
+  static int getDoubles(
+    final ByteBuffer source,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final int size = Math.min(count, source.remaining() >>> 1);
+    final int start = source.position();
+    for (int index = 0; index < size; ++index) {
+      target[targetOffset + index] =
+        Binary16.unpackDouble(source.getChar(start + (index << 1)));
+    }
+    source.position(start + (size << 1));
+    return size;
+  }
+
+  static int checkCapacity(
+    final int capacity)
+  {
+    if (capacity < 2) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Buffer capacity %d must be at least 2",
+          Integer.valueOf(capacity))
+      );
+    }
+    return capacity;
+  }
+}
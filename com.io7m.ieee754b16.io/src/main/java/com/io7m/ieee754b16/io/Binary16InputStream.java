@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An input stream that reads {@code binary16} values from an underlying
+ * stream and unpacks them to floating point values.
+ * </p>
+ * <p>
+ * The underlying stream is read in large blocks into a single internal
+ * buffer that is allocated when the stream is created. Reading values
+ * therefore never allocates. Raw bytes read with the ordinary
+ * {@link InputStream} methods are taken from the same buffer, and so may
+ * be freely interleaved with values.
+ * </p>
+ * <p>
+ * As with {@link InputStream#read(byte[], int, int)}, the bulk read methods
+ * may read fewer values than requested. They block only if no complete
+ * value is buffered.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @see Binary16OutputStream
+ */
+
+public final class Binary16InputStream extends InputStream
+{
+  /**
+   * The default buffer capacity in bytes.
+   */
+
+  public static final int DEFAULT_CAPACITY = 65536;
+
+  private final InputStream stream;
+  private final byte[] bytes;
+  private final ByteBuffer buffer;
+
+  /**
+   * Create a stream with a buffer of {@link #DEFAULT_CAPACITY} bytes.
+   *
+   * @param inStream The underlying stream
+   * @param order    The byte order of read values
+   */
+
+  public Binary16InputStream(
+    final InputStream inStream,
+    final ByteOrder order)
+  {
+    this(inStream, order, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a stream.
+   *
+   * @param inStream The underlying stream
+   * @param order    The byte order of read values
+   * @param capacity The buffer capacity in bytes
+   *
+   * @throws IllegalArgumentException If {@code capacity < 2}
+   */
+
+  public Binary16InputStream(
+    final InputStream inStream,
+    final ByteOrder order,
+    final int capacity)
+  {
+    this.stream = Objects.requireNonNull(inStream, "stream");
+    Objects.requireNonNull(order, "order");
+    this.bytes = new byte[Binary16ByteBuffers.checkCapacity(capacity)];
+    this.buffer = ByteBuffer.wrap(this.bytes).order(order);
+    this.buffer.limit(0);
+  }
+
+  /**
+   * @return The byte order of read values
+   */
+
+  public ByteOrder order()
+  {
+    return this.buffer.order();
+  }
+
+  /**
+   * Read packed {@code binary16} values.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} at the end of the stream
+   *
+   * @throws IOException               On I/O errors, or if the stream ends
+   *                                   partway through a value
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readChars(
+    final char[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+    if (count == 0) {
+      return 0;
+    }
+    if (!this.fillValue()) {
+      return -1;
+    }
+    return Binary16ByteBuffers.getChars(
+      this.buffer, target, targetOffset, count);
+  }
+
+  /**
+   * Read values, unpacking them with
+   * {@link com.io7m.ieee754b16.Binary16#unpackFloat(char)}.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} at the end of the stream
+   *
+   * @throws IOException               On I/O errors, or if the stream ends
+   *                                   partway through a value
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readFloats(
+    final float[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+    if (count == 0) {
+      return 0;
+    }
+    if (!this.fillValue()) {
+      return -1;
+    }
+    return Binary16ByteBuffers.getFloats(
+      this.buffer, target, targetOffset, count);
+  }
+
+  /**
+   * Read values, unpacking them with
+   * {@link com.io7m.ieee754b16.Binary16#unpackDouble(char)}.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} at the end of the stream
+   *
+   * @throws IOException               On I/O errors, or if the stream ends
+   *                                   partway through a value
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readDoubles(
+    final double[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+    if (count == 0) {
+      return 0;
+    }
+    if (!this.fillValue()) {
+      return -1;
+    }
+    return Binary16ByteBuffers.getDoubles(
+      this.buffer, target, targetOffset, count);
+  }
+
+  @Override
+  public int read()
+    throws IOException
+  {
+    if (this.fill(1) == 0) {
+      return -1;
+    }
+    return this.buffer.get() & 0xff;
+  }
+
+  @Override
+  public int read(
+    final byte[] data,
+    final int offset,
+    final int length)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(offset, length, data.length);
+    if (length == 0) {
+      return 0;
+    }
+
+    if (!this.buffer.hasRemaining() && length >= this.bytes.length) {
+      return this.stream.read(data, offset, length);
+    }
+
+    final int available = this.fill(1);
+    if (available == 0) {
+      return -1;
+    }
+    final int size = Math.min(length, available);
+    this.buffer.get(data, offset, size);
+    return size;
+  }
+
+  @Override
+  public int available()
+    throws IOException
+  {
+    return this.buffer.remaining() + this.stream.available();
+  }
+
+  /*
+   * Ensure that at least one complete value is buffered, returning false
+   * at the end of the stream.
+   */
+
+  private boolean fillValue()
+    throws IOException
+  {
+    final int available = this.fill(2);
+    if (available == 1) {
+      throw new EOFException("Unexpected end of stream within a value");
+    }
+    return available != 0;
+  }
+
+  /*
+   * Ensure that at least the given number of bytes are buffered, unless the
+   * stream ends first. Returns the number of buffered bytes.
+   */
+
+  private int fill(
+    final int minimum)
+    throws IOException
+  {
+    if (this.buffer.remaining() >= minimum) {
+      return this.buffer.remaining();
+    }
+
+    this.buffer.compact();
+    try {
+      while (this.buffer.position() < minimum) {
+        final int read = this.stream.read(
+          this.bytes, this.buffer.position(), this.buffer.remaining());
+        if (read < 0) {
+          break;
+        }
+        this.buffer.position(this.buffer.position() + read);
+      }
+    } finally {
+      this.buffer.flip();
+    }
+    return this.buffer.remaining();
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.stream.close();
+  }
+}
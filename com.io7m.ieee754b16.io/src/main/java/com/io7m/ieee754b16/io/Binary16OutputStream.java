@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An output stream that packs floating point values to {@code binary16}
+ * values and writes them to an underlying stream.
+ * </p>
+ * <p>
+ * Values are packed into a single internal buffer that is allocated when
+ * the stream is created, and the buffer is written to the underlying stream
+ * in one call whenever it fills. Writing values therefore never allocates.
+ * Raw bytes written with the ordinary {@link OutputStream} methods pass
+ * through the same buffer, and so may be freely interleaved with values.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @see Binary16InputStream
+ */
+
+public final class Binary16OutputStream extends OutputStream
+{
+  /**
+   * The default buffer capacity in bytes.
+   */
+
+  public static final int DEFAULT_CAPACITY = 65536;
+
+  private final OutputStream stream;
+  private final byte[] bytes;
+  private final ByteBuffer buffer;
+
+  /**
+   * Create a stream with a buffer of {@link #DEFAULT_CAPACITY} bytes.
+   *
+   * @param inStream The underlying stream
+   * @param order    The byte order of written values
+   */
+
+  public Binary16OutputStream(
+    final OutputStream inStream,
+    final ByteOrder order)
+  {
+    this(inStream, order, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a stream.
+   *
+   * @param inStream The underlying stream
+   * @param order    The byte order of written values
+   * @param capacity The buffer capacity in bytes
+   *
+   * @throws IllegalArgumentException If {@code capacity < 2}
+   */
+
+  public Binary16OutputStream(
+    final OutputStream inStream,
+    final ByteOrder order,
+    final int capacity)
+  {
+    this.stream = Objects.requireNonNull(inStream, "stream");
+    Objects.requireNonNull(order, "order");
+    this.bytes = new byte[Binary16ByteBuffers.checkCapacity(capacity)];
+    this.buffer = ByteBuffer.wrap(this.bytes).order(order);
+  }
+
+  /**
+   * @return The byte order of written values
+   */
+
+  public ByteOrder order()
+  {
+    return this.buffer.order();
+  }
+
+  /**
+   * Write a packed {@code binary16} value.
+   *
+   * @param k The packed value
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void writeChar(
+    final char k)
+    throws IOException
+  {
+    if (this.buffer.remaining() < 2) {
+      this.drain();
+    }
+    this.buffer.putChar(k);
+  }
+
+  /**
+   * Write packed {@code binary16} values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeChars(
+    final char[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+
+    int done = 0;
+    while (done < count) {
+      if (this.buffer.remaining() < 2) {
+        this.drain();
+      }
+      done += Binary16ByteBuffers.putChars(
+        this.buffer, source, sourceOffset + done, count - done);
+    }
+  }
+
+  /**
+   * Write values, packing them with
+   * {@link com.io7m.ieee754b16.Binary16#packFloat(float)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeFloats(
+    final float[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+
+    int done = 0;
+    while (done < count) {
+      if (this.buffer.remaining() < 2) {
+        this.drain();
+      }
+      done += Binary16ByteBuffers.putFloats(
+        this.buffer, source, sourceOffset + done, count - done);
+    }
+  }
+
+  /**
+   * Write values, packing them with
+   * {@link com.io7m.ieee754b16.Binary16#packDouble(double)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeDoubles(
+    final double[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+
+    int done = 0;
+    while (done < count) {
+      if (this.buffer.remaining() < 2) {
+        this.drain();
+      }
+      done += Binary16ByteBuffers.putDoubles(
+        this.buffer, source, sourceOffset + done, count - done);
+    }
+  }
+
+  @Override
+  public void write(
+    final int b)
+    throws IOException
+  {
+    if (!this.buffer.hasRemaining()) {
+      this.drain();
+    }
+    this.buffer.put((byte) b);
+  }
+
+  @Override
+  public void write(
+    final byte[] data,
+    final int offset,
+    final int length)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(offset, length, data.length);
+
+    if (length >= this.bytes.length) {
+      this.drain();
+      this.stream.write(data, offset, length);
+      return;
+    }
+    if (length > this.buffer.remaining()) {
+      this.drain();
+    }
+    this.buffer.put(data, offset, length);
+  }
+
+  /* Write the contents of the buffer to the underlying stream. */
+
+  private void drain()
+    throws IOException
+  {
+    final int size = this.buffer.position();
+    if (size > 0) {
+      this.stream.write(this.bytes, 0, size);
+      this.buffer.clear();
+    }
+  }
+
+  @Override
+  public void flush()
+    throws IOException
+  {
+    this.drain();
+    this.stream.flush();
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    try {
+      this.drain();
+    } finally {
+      this.stream.close();
+    }
+  }
+}
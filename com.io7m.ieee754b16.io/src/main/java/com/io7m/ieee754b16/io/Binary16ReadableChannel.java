@@ -0,0 +1,365 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A channel that reads {@code binary16} values from an underlying channel
+ * and unpacks them to floating point values.
+ * </p>
+ * <p>
+ * The underlying channel is read in large blocks into a single direct
+ * buffer that is allocated when the channel is created. Reading values
+ * therefore never allocates. Raw bytes read with
+ * {@link #read(ByteBuffer)} are taken from the same buffer, and so may be
+ * freely interleaved with values.
+ * </p>
+ * <p>
+ * As with {@link ReadableByteChannel#read(ByteBuffer)}, the bulk read
+ * methods may read fewer values than requested. They block only if no
+ * complete value is buffered.
+ * </p>
+ * <p>
+ * The underlying channel must be in blocking mode. Instances are not
+ * thread-safe.
+ * </p>
+ *
+ * @see Binary16WritableChannel
+ */
+
+public final class Binary16ReadableChannel implements ReadableByteChannel
+{
+  /**
+   * The default buffer capacity in bytes.
+   */
+
+  public static final int DEFAULT_CAPACITY = 65536;
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buffer;
+
+  /**
+   * Create a channel with a buffer of {@link #DEFAULT_CAPACITY} bytes.
+   *
+   * @param inChannel The underlying channel
+   * @param order     The byte order of read values
+   */
+
+  public Binary16ReadableChannel(
+    final ReadableByteChannel inChannel,
+    final ByteOrder order)
+  {
+    this(inChannel, order, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a channel.
+   *
+   * @param inChannel The underlying channel
+   * @param order     The byte order of read values
+   * @param capacity  The buffer capacity in bytes
+   *
+   * @throws IllegalArgumentException If {@code capacity < 2}
+   */
+
+  public Binary16ReadableChannel(
+    final ReadableByteChannel inChannel,
+    final ByteOrder order,
+    final int capacity)
+  {
+    this.channel = Objects.requireNonNull(inChannel, "channel");
+    Objects.requireNonNull(order, "order");
+    this.buffer =
+      ByteBuffer.allocateDirect(Binary16ByteBuffers.checkCapacity(capacity))
+        .order(order);
+    this.buffer.limit(0);
+  }
+
+  /**
+   * @return The byte order of read values
+   */
+
+  public ByteOrder order()
+  {
+    return this.buffer.order();
+  }
+
+  /**
+   * Read packed {@code binary16} values.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} at the end of the
+   * channel
+   *
+   * @throws IOException               On I/O errors, or if the channel ends
+   *                                   partway through a value
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readChars(
+    final char[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+    if (count == 0) {
+      return 0;
+    }
+    if (!this.fillValue()) {
+      return -1;
+    }
+    return Binary16ByteBuffers.getChars(
+      this.buffer, target, targetOffset, count);
+  }
+
+  /**
+   * Read values, unpacking them with
+   * {@link com.io7m.ieee754b16.Binary16#unpackFloat(char)}.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} at the end of the
+   * channel
+   *
+   * @throws IOException               On I/O errors, or if the channel ends
+   *                                   partway through a value
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readFloats(
+    final float[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+    if (count == 0) {
+      return 0;
+    }
+    if (!this.fillValue()) {
+      return -1;
+    }
+    return Binary16ByteBuffers.getFloats(
+      this.buffer, target, targetOffset, count);
+  }
+
+  /**
+   * Read values, unpacking them with
+   * {@link com.io7m.ieee754b16.Binary16#unpackDouble(char)}.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} at the end of the
+   * channel
+   *
+   * @throws IOException               On I/O errors, or if the channel ends
+   *                                   partway through a value
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readDoubles(
+    final double[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+    if (count == 0) {
+      return 0;
+    }
+    if (!this.fillValue()) {
+      return -1;
+    }
+    return Binary16ByteBuffers.getDoubles(
+      this.buffer, target, targetOffset, count);
+  }
+
+  @Override
+  public int read(
+    final ByteBuffer target)
+    throws IOException
+  {
+    if (!target.hasRemaining()) {
+      return 0;
+    }
+    if (this.fill(1) == 0) {
+      return -1;
+    }
+
+    final int size = Math.min(target.remaining(), this.buffer.remaining());
+    final int limit = this.buffer.limit();
+    this.buffer.limit(this.buffer.position() + size);
+    target.put(this.buffer);
+    this.buffer.limit(limit);
+    return size;
+  }
+
+  /**
+   * <p>
+   * Transfer every remaining byte to the given channel without unpacking
+   * any values.
+   * </p>
+   * <p>
+   * Buffered bytes are written first. The rest are transferred with
+   * {@link FileChannel#transferTo(long, long, WritableByteChannel)} if the
+   * underlying channel is a file channel, or with
+   * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} if the
+   * target is a file channel. Either allows the operating system to move
+   * the data without copying it through the JVM. Otherwise, the data is
+   * copied through the buffer of this channel.
+   * </p>
+   *
+   * @param target The target channel
+   *
+   * @return The number of bytes transferred
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public long transferTo(
+    final WritableByteChannel target)
+    throws IOException
+  {
+    Objects.requireNonNull(target, "target");
+
+    long total = this.buffer.remaining();
+    while (this.buffer.hasRemaining()) {
+      target.write(this.buffer);
+    }
+
+    if (this.channel instanceof FileChannel) {
+      total += transferFromFile((FileChannel) this.channel, target);
+    } else if (target instanceof FileChannel) {
+      total += transferToFile(this.channel, (FileChannel) target);
+    } else {
+      while (this.fill(1) != 0) {
+        total += this.buffer.remaining();
+        while (this.buffer.hasRemaining()) {
+          target.write(this.buffer);
+        }
+      }
+    }
+    return total;
+  }
+
+  private static long transferFromFile(
+    final FileChannel source,
+    final WritableByteChannel target)
+    throws IOException
+  {
+    final long start = source.position();
+    long position = start;
+    final long size = source.size();
+    while (position < size) {
+      position += source.transferTo(position, size - position, target);
+    }
+    source.position(position);
+    return position - start;
+  }
+
+  private long transferToFile(
+    final ReadableByteChannel source,
+    final FileChannel target)
+    throws IOException
+  {
+    long total = 0L;
+    while (true) {
+      final long position = target.position();
+      final long size = target.transferFrom(
+        source, position, this.buffer.capacity() * 16L);
+      if (size == 0L) {
+        break;
+      }
+      target.position(position + size);
+      total += size;
+    }
+
+    /*
+     * A transfer of zero bytes does not distinguish the end of the source
+     * from a source that is momentarily empty, so check explicitly.
+     */
+
+    while (this.fill(1) != 0) {
+      total += this.buffer.remaining();
+      while (this.buffer.hasRemaining()) {
+        target.write(this.buffer);
+      }
+    }
+    return total;
+  }
+
+  private boolean fillValue()
+    throws IOException
+  {
+    final int available = this.fill(2);
+    if (available == 1) {
+      throw new EOFException("Unexpected end of channel within a value");
+    }
+    return available != 0;
+  }
+
+  private int fill(
+    final int minimum)
+    throws IOException
+  {
+    if (this.buffer.remaining() >= minimum) {
+      return this.buffer.remaining();
+    }
+
+    this.buffer.compact();
+    try {
+      while (this.buffer.position() < minimum) {
+        if (this.channel.read(this.buffer) < 0) {
+          break;
+        }
+      }
+    } finally {
+      this.buffer.flip();
+    }
+    return this.buffer.remaining();
+  }
+
+  @Override
+  public boolean isOpen()
+  {
+    return this.channel.isOpen();
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.channel.close();
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A channel that packs floating point values to {@code binary16} values and
+ * writes them to an underlying channel.
+ * </p>
+ * <p>
+ * Values are packed into a single direct buffer that is allocated when the
+ * channel is created, and the buffer is written to the underlying channel
+ * whenever it fills. Because the buffer is direct, the JDK does not need to
+ * copy it into a temporary buffer before writing it to a file or socket,
+ * and writing values never allocates. Raw bytes written with
+ * {@link #write(ByteBuffer)} are written after any buffered values.
+ * </p>
+ * <p>
+ * The underlying channel must be in blocking mode. Instances are not
+ * thread-safe.
+ * </p>
+ *
+ * @see Binary16ReadableChannel
+ */
+
+public final class Binary16WritableChannel implements WritableByteChannel
+{
+  /**
+   * The default buffer capacity in bytes.
+   */
+
+  public static final int DEFAULT_CAPACITY = 65536;
+
+  private final WritableByteChannel channel;
+  private final ByteBuffer buffer;
+
+  /**
+   * Create a channel with a buffer of {@link #DEFAULT_CAPACITY} bytes.
+   *
+   * @param inChannel The underlying channel
+   * @param order     The byte order of written values
+   */
+
+  public Binary16WritableChannel(
+    final WritableByteChannel inChannel,
+    final ByteOrder order)
+  {
+    this(inChannel, order, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a channel.
+   *
+   * @param inChannel The underlying channel
+   * @param order     The byte order of written values
+   * @param capacity  The buffer capacity in bytes
+   *
+   * @throws IllegalArgumentException If {@code capacity < 2}
+   */
+
+  public Binary16WritableChannel(
+    final WritableByteChannel inChannel,
+    final ByteOrder order,
+    final int capacity)
+  {
+    this.channel = Objects.requireNonNull(inChannel, "channel");
+    Objects.requireNonNull(order, "order");
+    this.buffer =
+      ByteBuffer.allocateDirect(Binary16ByteBuffers.checkCapacity(capacity))
+        .order(order);
+  }
+
+  /**
+   * @return The byte order of written values
+   */
+
+  public ByteOrder order()
+  {
+    return this.buffer.order();
+  }
+
+  /**
+   * Write packed {@code binary16} values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeChars(
+    final char[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+
+    int done = 0;
+    while (done < count) {
+      if (this.buffer.remaining() < 2) {
+        this.drain();
+      }
+      done += Binary16ByteBuffers.putChars(
+        this.buffer, source, sourceOffset + done, count - done);
+    }
+  }
+
+  /**
+   * Write values, packing them with
+   * {@link com.io7m.ieee754b16.Binary16#packFloat(float)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeFloats(
+    final float[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+
+    int done = 0;
+    while (done < count) {
+      if (this.buffer.remaining() < 2) {
+        this.drain();
+      }
+      done += Binary16ByteBuffers.putFloats(
+        this.buffer, source, sourceOffset + done, count - done);
+    }
+  }
+
+  /**
+   * Write values, packing them with
+   * {@link com.io7m.ieee754b16.Binary16#packDouble(double)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeDoubles(
+    final double[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+
+    int done = 0;
+    while (done < count) {
+      if (this.buffer.remaining() < 2) {
+        this.drain();
+      }
+      done += Binary16ByteBuffers.putDoubles(
+        this.buffer, source, sourceOffset + done, count - done);
+    }
+  }
+
+  @Override
+  public int write(
+    final ByteBuffer source)
+    throws IOException
+  {
+    final int size = source.remaining();
+    if (size <= this.buffer.remaining()) {
+      this.buffer.put(source);
+      return size;
+    }
+
+    this.drain();
+    while (source.hasRemaining()) {
+      this.channel.write(source);
+    }
+    return size;
+  }
+
+  /**
+   * Write any buffered values to the underlying channel.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void flush()
+    throws IOException
+  {
+    this.drain();
+  }
+
+  private void drain()
+    throws IOException
+  {
+    this.buffer.flip();
+    try {
+      while (this.buffer.hasRemaining()) {
+        this.channel.write(this.buffer);
+      }
+    } finally {
+      this.buffer.compact();
+    }
+  }
+
+  @Override
+  public boolean isOpen()
+  {
+    return this.channel.isOpen();
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    try {
+      this.drain();
+    } finally {
+      this.channel.close();
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>
+ * An event recorded for a single bulk conversion.
+ * </p>
+ * <p>
+ * The event duration is the time taken by the conversion. The event is
+ * disabled by default so that code that does not enable it pays nothing
+ * beyond a single {@link #isEnabled()} check per bulk call.
+ * </p>
+ *
+ * @see Binary16RecordedArrays
+ */
+
+@Name(Binary16ConversionEvent.NAME)
+@Label("Binary16 Conversion")
+@Category({"io7m", "ieee754b16"})
+@Description("A bulk conversion to or from the binary16 format")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("0 ms")
+public final class Binary16ConversionEvent extends jdk.jfr.Event
+{
+  /**
+   * The name of the event.
+   */
+
+  public static final String NAME = "com.io7m.ieee754b16.Conversion";
+
+  @Label("Operation")
+  @Description("The name of the bulk conversion function")
+  private String operation;
+
+  @Label("Mode")
+  @Description("The conversion mode, or DEFAULT if no mode was given")
+  private String mode;
+
+  @Label("Count")
+  @Description("The number of values converted")
+  private long count;
+
+  @Label("Bytes")
+  @Description("The number of bytes read and written by the conversion")
+  @DataAmount
+  private long bytes;
+
+  Binary16ConversionEvent()
+  {
+
+  }
+
+  void finish(
+    final String inOperation,
+    final String inMode,
+    final int inCount,
+    final int elementBytes)
+  {
+    this.operation = inOperation;
+    this.mode = inMode;
+    this.count = (long) inCount;
+    this.bytes = (long) inCount * (long) elementBytes;
+    this.commit();
+  }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.jfr;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.Binary16ConversionStatistics;
+import com.io7m.ieee754b16.Binary16NaNMode;
+import com.io7m.ieee754b16.Binary16SubnormalMode;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * Bulk conversion functions that record a {@link Binary16ConversionEvent}
+ * for each call.
+ * </p>
+ * <p>
+ * Each function produces exactly the same results as the corresponding
+ * function in {@link Binary16Arrays}. If the event is not enabled in any
+ * running recording, the function calls the corresponding function
+ * directly after a single {@link jdk.jfr.Event#isEnabled()} check.
+ * </p>
+ */
+
+public final class Binary16RecordedArrays
+{
+  private Binary16RecordedArrays()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packFloats(float[], int, char[], int, int)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packFloats(
+        source, sourceOffset, target, targetOffset, count);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packFloats(
+      source, sourceOffset, target, targetOffset, count);
+    event.finish("packFloats", "DEFAULT", count, 6);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packFloats(float[], int, char[], int, int, Binary16ConversionStatistics)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param statistics   The statistics to be updated
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16ConversionStatistics statistics)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packFloats(
+        source, sourceOffset, target, targetOffset, count, statistics);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packFloats(
+      source, sourceOffset, target, targetOffset, count, statistics);
+    event.finish("packFloats", "STATISTICS", count, 6);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packFloats(float[], int, char[], int, int, Binary16NaNMode)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The {@code NaN} mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16NaNMode mode)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packFloats(
+        source, sourceOffset, target, targetOffset, count, mode);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packFloats(
+      source, sourceOffset, target, targetOffset, count, mode);
+    event.finish("packFloats", mode.name(), count, 6);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packFloats(float[], int, char[], int, int, Binary16SubnormalMode)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packFloats(
+        source, sourceOffset, target, targetOffset, count, mode);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packFloats(
+      source, sourceOffset, target, targetOffset, count, mode);
+    event.finish("packFloats", mode.name(), count, 6);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packDoubles(double[], int, char[], int, int)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packDoubles(
+    final double[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packDoubles(
+        source, sourceOffset, target, targetOffset, count);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packDoubles(
+      source, sourceOffset, target, targetOffset, count);
+    event.finish("packDoubles", "DEFAULT", count, 10);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packDoubles(double[], int, char[], int, int, Binary16NaNMode)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The {@code NaN} mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packDoubles(
+    final double[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16NaNMode mode)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packDoubles(
+        source, sourceOffset, target, targetOffset, count, mode);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packDoubles(
+      source, sourceOffset, target, targetOffset, count, mode);
+    event.finish("packDoubles", mode.name(), count, 10);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packFloatsSaturating(float[], int, char[], int, int, Binary16SubnormalMode)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packFloatsSaturating(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packFloatsSaturating(
+        source, sourceOffset, target, targetOffset, count, mode);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packFloatsSaturating(
+      source, sourceOffset, target, targetOffset, count, mode);
+    event.finish("packFloatsSaturating", mode.name(), count, 6);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#packDoublesSaturating(double[], int, char[], int, int, Binary16SubnormalMode)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void packDoublesSaturating(
+    final double[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.packDoublesSaturating(
+        source, sourceOffset, target, targetOffset, count, mode);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.packDoublesSaturating(
+      source, sourceOffset, target, targetOffset, count, mode);
+    event.finish("packDoublesSaturating", mode.name(), count, 10);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#unpackFloats(char[], int, float[], int, int)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unpackFloats(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.unpackFloats(
+        source, sourceOffset, target, targetOffset, count);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.unpackFloats(
+      source, sourceOffset, target, targetOffset, count);
+    event.finish("unpackFloats", "DEFAULT", count, 6);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#unpackFloats(char[], int, float[], int, int, Binary16SubnormalMode)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   * @param mode         The subnormal mode
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unpackFloats(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final Binary16SubnormalMode mode)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.unpackFloats(
+        source, sourceOffset, target, targetOffset, count, mode);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.unpackFloats(
+      source, sourceOffset, target, targetOffset, count, mode);
+    event.finish("unpackFloats", mode.name(), count, 6);
+  }
+
+  /**
+   * Equivalent to
+   * {@link Binary16Arrays#unpackDoubles(char[], int, double[], int, int)},
+   * recording a {@link Binary16ConversionEvent} if the event is enabled.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unpackDoubles(
+    final char[] source,
+    final int sourceOffset,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    final Binary16ConversionEvent event = new Binary16ConversionEvent();
+    if (!event.isEnabled()) {
+      Binary16Arrays.unpackDoubles(
+        source, sourceOffset, target, targetOffset, count);
+      return;
+    }
+
+    event.begin();
+    Binary16Arrays.unpackDoubles(
+      source, sourceOffset, target, targetOffset, count);
+    event.finish("unpackDoubles", "DEFAULT", count, 10);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.jfr;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.jfr.Configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+/**
+ * Access to the bundled flight recorder configuration.
+ */
+
+public final class Binary16RecordingConfigurations
+{
+  private static final String RESOURCE = "ieee754b16.jfc";
+
+  private Binary16RecordingConfigurations()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Load the bundled configuration, which enables
+   * {@link Binary16ConversionEvent} and nothing else. The configuration is
+   * intended to be used in addition to one of the JDK's own configurations,
+   * or passed directly to {@link jdk.jfr.Recording#Recording(Configuration)}.
+   *
+   * @return The configuration
+   *
+   * @throws IOException    On I/O errors
+   * @throws ParseException If the configuration cannot be parsed
+   */
+
+  public static Configuration create()
+    throws IOException, ParseException
+  {
+    try (InputStream stream =
+           Binary16RecordingConfigurations.class.getResourceAsStream(RESOURCE)) {
+      if (stream == null) {
+        throw new IOException("Missing resource: " + RESOURCE);
+      }
+      try (Reader reader =
+             new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+        return Configuration.create(reader);
+      }
+    }
+  }
+}
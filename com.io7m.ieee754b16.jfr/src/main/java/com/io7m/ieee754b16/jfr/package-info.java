@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/**
+ * <p>
+ * Java Flight Recorder events for bulk {@code binary16} conversions.
+ * </p>
+ * <p>
+ * The functions in {@link com.io7m.ieee754b16.jfr.Binary16RecordedArrays}
+ * behave exactly as those in {@link com.io7m.ieee754b16.Binary16Arrays},
+ * but emit a {@link com.io7m.ieee754b16.jfr.Binary16ConversionEvent} for
+ * each call when the event is enabled in a running recording. The event is
+ * disabled by default; the bundled {@code ieee754b16.jfc} configuration
+ * enables it, and can be combined with the JDK's own configurations:
+ * </p>
+ * <pre>
+ * -XX:StartFlightRecording:settings=default,settings=/path/to/ieee754b16.jfc
+ * </pre>
+ */
+
+@Export
+@Version("1.0.0")
+package com.io7m.ieee754b16.jfr;
+
+import org.osgi.annotation.bundle.Export;
+import org.osgi.annotation.versioning.Version;
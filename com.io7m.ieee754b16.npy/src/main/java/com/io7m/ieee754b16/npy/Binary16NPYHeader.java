@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.npy;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The header of a NumPy {@code .npy} file containing a {@code float16} array.
+ * </p>
+ * <p>
+ * Instances are immutable.
+ * </p>
+ */
+
+public final class Binary16NPYHeader
+{
+  private final ByteOrder byteOrder;
+  private final Binary16NPYOrder order;
+  private final long[] shape;
+  private final long elementCount;
+
+  private Binary16NPYHeader(
+    final ByteOrder inByteOrder,
+    final Binary16NPYOrder inOrder,
+    final long[] inShape,
+    final long inElementCount)
+  {
+    this.byteOrder = inByteOrder;
+    this.order = inOrder;
+    this.shape = inShape;
+    this.elementCount = inElementCount;
+  }
+
+  /**
+   * Create a header. An empty shape denotes a scalar, which has exactly one
+   * element.
+   *
+   * @param byteOrder The byte order of the elements
+   * @param order     The order of the elements
+   * @param shape     The size of each dimension
+   *
+   * @return A header
+   *
+   * @throws IllegalArgumentException If any dimension is negative
+   * @throws ArithmeticException      If the number of elements, or the size
+   *                                  of the data in bytes, does not fit in a
+   *                                  {@code long}
+   */
+
+  public static Binary16NPYHeader of(
+    final ByteOrder byteOrder,
+    final Binary16NPYOrder order,
+    final long... shape)
+  {
+    Objects.requireNonNull(byteOrder, "byteOrder");
+    Objects.requireNonNull(order, "order");
+    Objects.requireNonNull(shape, "shape");
+
+    final long[] copy = shape.clone();
+    long count = 1L;
+    for (int index = 0; index < copy.length; ++index) {
+      final long size = copy[index];
+      if (size < 0L) {
+        throw new IllegalArgumentException(
+          String.format(
+            "Dimension %d has negative size %d",
+            Integer.valueOf(index),
+            Long.valueOf(size))
+        );
+      }
+      count = Math.multiplyExact(count, size);
+    }
+    Math.multiplyExact(count, 2L);
+    return new Binary16NPYHeader(byteOrder, order, copy, count);
+  }
+
+  /**
+   * @return The byte order of the elements
+   */
+
+  public ByteOrder byteOrder()
+  {
+    return this.byteOrder;
+  }
+
+  /**
+   * @return The order of the elements
+   */
+
+  public Binary16NPYOrder order()
+  {
+    return this.order;
+  }
+
+  /**
+   * @return The number of dimensions
+   */
+
+  public int dimensions()
+  {
+    return this.shape.length;
+  }
+
+  /**
+   * @param dimension The dimension
+   *
+   * @return The size of the given dimension
+   *
+   * @throws IndexOutOfBoundsException If the dimension does not exist
+   */
+
+  public long size(
+    final int dimension)
+  {
+    return this.shape[Objects.checkIndex(dimension, this.shape.length)];
+  }
+
+  /**
+   * @return A copy of the size of each dimension
+   */
+
+  public long[] shape()
+  {
+    return this.shape.clone();
+  }
+
+  /**
+   * @return The total number of elements
+   */
+
+  public long elementCount()
+  {
+    return this.elementCount;
+  }
+
+  /**
+   * @return The size of the element data in bytes
+   */
+
+  public long dataSize()
+  {
+    return this.elementCount * 2L;
+  }
+
+  /**
+   * Calculate the position in the flat element data of the element at the
+   * given multidimensional index, taking the element order into account.
+   *
+   * @param position One index per dimension
+   *
+   * @return The index of the element in the flat element data
+   *
+   * @throws IllegalArgumentException  If the number of indices does not
+   *                                   match the number of dimensions
+   * @throws IndexOutOfBoundsException If any index is out of bounds
+   */
+
+  public long indexOf(
+    final long... position)
+  {
+    Objects.requireNonNull(position, "position");
+
+    if (position.length != this.shape.length) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Expected %d indices, but received %d",
+          Integer.valueOf(this.shape.length),
+          Integer.valueOf(position.length))
+      );
+    }
+
+    long result = 0L;
+    if (this.order == Binary16NPYOrder.ORDER_C) {
+      for (int index = 0; index < this.shape.length; ++index) {
+        final long size = this.shape[index];
+        result = result * size + Objects.checkIndex(position[index], size);
+      }
+    } else {
+      for (int index = this.shape.length - 1; index >= 0; --index) {
+        final long size = this.shape[index];
+        result = result * size + Objects.checkIndex(position[index], size);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final Binary16NPYHeader that = (Binary16NPYHeader) other;
+    return Objects.equals(this.byteOrder, that.byteOrder)
+      && this.order == that.order
+      && Arrays.equals(this.shape, that.shape);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(
+      this.byteOrder,
+      this.order,
+      Integer.valueOf(Arrays.hashCode(this.shape)));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[Binary16NPYHeader %s %s %s]",
+      this.byteOrder,
+      this.order,
+      Arrays.toString(this.shape));
+  }
+}
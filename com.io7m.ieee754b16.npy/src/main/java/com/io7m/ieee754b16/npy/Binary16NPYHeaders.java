@@ -0,0 +1,450 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.npy;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Functions to encode and decode {@code .npy} headers.
+ */
+
+final class Binary16NPYHeaders
+{
+  private static final byte[] MAGIC = {
+    (byte) 0x93, 'N', 'U', 'M', 'P', 'Y',
+  };
+
+  private static final int ALIGNMENT = 64;
+  private static final int PREFIX_V1 = 10;
+  private static final int PREFIX_V2 = 12;
+  private static final int HEADER_MAXIMUM = 1 << 20;
+
+  private static final String KEY_DESCR = "descr";
+  private static final String KEY_FORTRAN = "fortran_order";
+  private static final String KEY_SHAPE = "shape";
+
+  private Binary16NPYHeaders()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * A decoded header, and the offset of the element data that follows it.
+   */
+
+  static final class Decoded
+  {
+    private final Binary16NPYHeader header;
+    private final long dataOffset;
+
+    Decoded(
+      final Binary16NPYHeader inHeader,
+      final long inDataOffset)
+    {
+      this.header = inHeader;
+      this.dataOffset = inDataOffset;
+    }
+
+    Binary16NPYHeader header()
+    {
+      return this.header;
+    }
+
+    long dataOffset()
+    {
+      return this.dataOffset;
+    }
+  }
+
+  /**
+   * Encode a header, including the magic number, version, and padding.
+   *
+   * @param header The header
+   *
+   * @return The encoded header
+   */
+
+  static byte[] encode(
+    final Binary16NPYHeader header)
+  {
+    final StringBuilder text = new StringBuilder(128);
+    text.append("{'descr': '");
+    if (header.byteOrder() == ByteOrder.LITTLE_ENDIAN) {
+      text.append('<');
+    } else {
+      text.append('>');
+    }
+    text.append("f2', 'fortran_order': ");
+    if (header.order() == Binary16NPYOrder.ORDER_FORTRAN) {
+      text.append("True");
+    } else {
+      text.append("False");
+    }
+    text.append(", 'shape': (");
+    final long[] shape = header.shape();
+    for (final long size : shape) {
+      text.append(size);
+      text.append(", ");
+    }
+    if (shape.length > 1) {
+      text.setLength(text.length() - 2);
+    } else if (shape.length == 1) {
+      text.setLength(text.length() - 1);
+    }
+    text.append("), }");
+
+    int prefix = PREFIX_V1;
+    int major = 1;
+    if (padded(PREFIX_V1, text.length()) > 0xffff) {
+      prefix = PREFIX_V2;
+      major = 2;
+    }
+
+    final int length = padded(prefix, text.length());
+    while (text.length() < length - 1) {
+      text.append(' ');
+    }
+    text.append('\n');
+
+    final ByteBuffer buffer = ByteBuffer.allocate(prefix + length);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(MAGIC);
+    buffer.put((byte) major);
+    buffer.put((byte) 0);
+    if (major == 1) {
+      buffer.putShort((short) length);
+    } else {
+      buffer.putInt(length);
+    }
+    buffer.put(text.toString().getBytes(StandardCharsets.ISO_8859_1));
+    return buffer.array();
+  }
+
+  /* The length of the header text including padding and the newline. */
+
+  private static int padded(
+    final int prefix,
+    final int textLength)
+  {
+    final int total = prefix + textLength + 1;
+    final int aligned = (total + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    return aligned - prefix;
+  }
+
+  /**
+   * Read and decode a header. Exactly the bytes of the header are consumed
+   * from the stream.
+   *
+   * @param stream The stream
+   *
+   * @return The decoded header
+   *
+   * @throws IOException On I/O errors, or if the header is malformed or does
+   *                     not describe a {@code float16} array
+   */
+
+  static Decoded read(
+    final InputStream stream)
+    throws IOException
+  {
+    final byte[] start = readExactly(stream, PREFIX_V1);
+    if (!Arrays.equals(start, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+      throw new IOException("Not a .npy file: Bad magic number");
+    }
+
+    final int major = start[6] & 0xff;
+    final ByteBuffer lengthBytes;
+    final Charset charset;
+    final int prefix;
+    switch (major) {
+      case 1 -> {
+        lengthBytes = ByteBuffer.wrap(start, 8, 2);
+        charset = StandardCharsets.ISO_8859_1;
+        prefix = PREFIX_V1;
+      }
+      case 2 -> {
+        lengthBytes = readLength32(stream, start);
+        charset = StandardCharsets.ISO_8859_1;
+        prefix = PREFIX_V2;
+      }
+      case 3 -> {
+        lengthBytes = readLength32(stream, start);
+        charset = StandardCharsets.UTF_8;
+        prefix = PREFIX_V2;
+      }
+      default -> {
+        throw new IOException(
+          String.format("Unsupported .npy format version %d", Integer.valueOf(major)));
+      }
+    }
+
+    lengthBytes.order(ByteOrder.LITTLE_ENDIAN);
+    final long length;
+    if (major == 1) {
+      length = Short.toUnsignedLong(lengthBytes.getShort());
+    } else {
+      length = Integer.toUnsignedLong(lengthBytes.getInt());
+    }
+    if (length > HEADER_MAXIMUM) {
+      throw new IOException(
+        String.format("Header length %d is too large", Long.valueOf(length)));
+    }
+
+    final String text =
+      charset.decode(ByteBuffer.wrap(readExactly(stream, (int) length)))
+        .toString();
+    return new Decoded(parse(text), prefix + length);
+  }
+
+  private static ByteBuffer readLength32(
+    final InputStream stream,
+    final byte[] start)
+    throws IOException
+  {
+    final byte[] rest = readExactly(stream, 2);
+    return ByteBuffer.wrap(new byte[]{start[8], start[9], rest[0], rest[1]});
+  }
+
+  private static byte[] readExactly(
+    final InputStream stream,
+    final int count)
+    throws IOException
+  {
+    final byte[] data = stream.readNBytes(count);
+    if (data.length != count) {
+      throw new EOFException("Unexpected end of .npy header");
+    }
+    return data;
+  }
+
+  /**
+   * Parse the Python dictionary literal that forms the text of a header.
+   *
+   * @param text The header text
+   *
+   * @return The header
+   *
+   * @throws IOException If the text is malformed or does not describe a
+   *                     {@code float16} array
+   */
+
+  static Binary16NPYHeader parse(
+    final String text)
+    throws IOException
+  {
+    final Map<String, Object> values = new Literals(text).dictionary();
+
+    final Object descr = values.get(KEY_DESCR);
+    final ByteOrder byteOrder;
+    if ("<f2".equals(descr)) {
+      byteOrder = ByteOrder.LITTLE_ENDIAN;
+    } else if (">f2".equals(descr)) {
+      byteOrder = ByteOrder.BIG_ENDIAN;
+    } else {
+      throw new IOException(
+        String.format("Unsupported dtype %s: Only <f2 and >f2 are supported", descr));
+    }
+
+    final Object fortran = values.get(KEY_FORTRAN);
+    if (!(fortran instanceof Boolean)) {
+      throw new IOException("Missing or malformed 'fortran_order'");
+    }
+    final Object shape = values.get(KEY_SHAPE);
+    if (!(shape instanceof long[])) {
+      throw new IOException("Missing or malformed 'shape'");
+    }
+
+    final Binary16NPYOrder order;
+    if (((Boolean) fortran).booleanValue()) {
+      order = Binary16NPYOrder.ORDER_FORTRAN;
+    } else {
+      order = Binary16NPYOrder.ORDER_C;
+    }
+
+    try {
+      return Binary16NPYHeader.of(byteOrder, order, (long[]) shape);
+    } catch (final IllegalArgumentException | ArithmeticException e) {
+      throw new IOException("Malformed 'shape': " + e.getMessage(), e);
+    }
+  }
+
+  /*
+   * A parser for the small subset of Python literal syntax that NumPy uses
+   * in headers: a dictionary with string keys whose values are strings,
+   * booleans, or tuples of integers.
+   */
+
+  private static final class Literals
+  {
+    private final String text;
+    private int position;
+
+    Literals(
+      final String inText)
+    {
+      this.text = inText;
+    }
+
+    Map<String, Object> dictionary()
+      throws IOException
+    {
+      final Map<String, Object> values = new HashMap<>(4);
+      this.expect('{');
+      while (this.peek() != '}') {
+        final String key = this.string();
+        this.expect(':');
+        values.put(key, this.value());
+        if (this.peek() != ',') {
+          break;
+        }
+        this.expect(',');
+      }
+      this.expect('}');
+      return values;
+    }
+
+    private Object value()
+      throws IOException
+    {
+      final char c = this.peek();
+      if (c == '\'' || c == '"') {
+        return this.string();
+      }
+      if (c == '(') {
+        return this.tuple();
+      }
+      if (this.text.startsWith("True", this.position)) {
+        this.position += 4;
+        return Boolean.TRUE;
+      }
+      if (this.text.startsWith("False", this.position)) {
+        this.position += 5;
+        return Boolean.FALSE;
+      }
+      throw this.error("a value");
+    }
+
+    private long[] tuple()
+      throws IOException
+    {
+      this.expect('(');
+      long[] values = new long[4];
+      int count = 0;
+      while (this.peek() != ')') {
+        if (count == values.length) {
+          values = Arrays.copyOf(values, count << 1);
+        }
+        values[count] = this.integer();
+        ++count;
+        if (this.peek() != ',') {
+          break;
+        }
+        this.expect(',');
+      }
+      this.expect(')');
+      return Arrays.copyOf(values, count);
+    }
+
+    private long integer()
+      throws IOException
+    {
+      final int start = this.position;
+      while (this.position < this.text.length()
+        && Character.isDigit(this.text.charAt(this.position))) {
+        ++this.position;
+      }
+      if (start == this.position) {
+        throw this.error("an integer");
+      }
+
+      final long result;
+      try {
+        result = Long.parseLong(this.text, start, this.position, 10);
+      } catch (final NumberFormatException e) {
+        throw new IOException("Malformed header integer: " + e.getMessage(), e);
+      }
+
+      /* Python 2 writes long integers with a suffix. */
+      if (this.position < this.text.length()
+        && this.text.charAt(this.position) == 'L') {
+        ++this.position;
+      }
+      return result;
+    }
+
+    private String string()
+      throws IOException
+    {
+      final char quote = this.peek();
+      if (quote != '\'' && quote != '"') {
+        throw this.error("a string");
+      }
+      final int end = this.text.indexOf(quote, this.position + 1);
+      if (end < 0) {
+        throw this.error("the end of a string");
+      }
+      final String result = this.text.substring(this.position + 1, end);
+      this.position = end + 1;
+      return result;
+    }
+
+    private void expect(
+      final char c)
+      throws IOException
+    {
+      if (this.peek() != c) {
+        throw this.error("'" + c + "'");
+      }
+      ++this.position;
+    }
+
+    private char peek()
+      throws IOException
+    {
+      while (this.position < this.text.length()
+        && Character.isWhitespace(this.text.charAt(this.position))) {
+        ++this.position;
+      }
+      if (this.position >= this.text.length()) {
+        throw this.error("more input");
+      }
+      return this.text.charAt(this.position);
+    }
+
+    private IOException error(
+      final String expected)
+    {
+      return new IOException(
+        String.format(
+          "Malformed .npy header: Expected %s at offset %d",
+          expected,
+          Integer.valueOf(this.position))
+      );
+    }
+  }
+}
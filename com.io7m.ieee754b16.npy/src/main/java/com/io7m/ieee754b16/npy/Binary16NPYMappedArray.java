@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.npy;
+
+import com.io7m.ieee754b16.Binary16;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A read-only {@code float16} array backed by a memory-mapped {@code .npy}
+ * file.
+ * </p>
+ * <p>
+ * The element data is never copied onto the heap unless explicitly requested
+ * with one of the bulk methods, and so arrays may be far larger than the
+ * maximum size of a Java array. Files larger than 1GiB are mapped as a
+ * sequence of segments, and every method accepts {@code long} indices.
+ * </p>
+ * <p>
+ * Elements are indexed in the order in which they are stored in the file;
+ * use {@link Binary16NPYHeader#indexOf(long...)} to find the element at a
+ * given multidimensional index for either {@link Binary16NPYOrder}.
+ * </p>
+ * <p>
+ * The mapping remains valid until the array is garbage collected, even after
+ * the file that backed it is closed. Instances are safe for concurrent use
+ * by multiple threads.
+ * </p>
+ */
+
+public final class Binary16NPYMappedArray
+{
+  private static final int SEGMENT_SHIFT = 29;
+  private static final long SEGMENT_ELEMENTS = 1L << SEGMENT_SHIFT;
+  private static final long SEGMENT_MASK = SEGMENT_ELEMENTS - 1L;
+
+  private final Binary16NPYHeader header;
+  private final CharBuffer[] segments;
+
+  private Binary16NPYMappedArray(
+    final Binary16NPYHeader inHeader,
+    final CharBuffer[] inSegments)
+  {
+    this.header = inHeader;
+    this.segments = inSegments;
+  }
+
+  /**
+   * Map the given {@code .npy} file into memory.
+   *
+   * @param file The file
+   *
+   * @return A mapped array
+   *
+   * @throws IOException On I/O errors, if the file is malformed or truncated,
+   *                     or if the file does not contain a {@code float16}
+   *                     array
+   */
+
+  public static Binary16NPYMappedArray open(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final Binary16NPYHeaders.Decoded decoded =
+        Binary16NPYHeaders.read(Channels.newInputStream(channel));
+      return map(channel, decoded.header(), decoded.dataOffset());
+    }
+  }
+
+  /**
+   * Map the element data of a {@code .npy} file. This is useful for element
+   * data stored at a known offset within a larger file, such as an
+   * uncompressed entry in a {@code .npz} archive.
+   *
+   * @param channel    The channel
+   * @param header     The header describing the element data
+   * @param dataOffset The offset of the element data within the channel
+   *
+   * @return A mapped array
+   *
+   * @throws IOException On I/O errors, or if the channel is too small
+   */
+
+  public static Binary16NPYMappedArray map(
+    final FileChannel channel,
+    final Binary16NPYHeader header,
+    final long dataOffset)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(header, "header");
+
+    final long count = header.elementCount();
+    final long available = channel.size() - dataOffset;
+    if (dataOffset < 0L || available < header.dataSize()) {
+      throw new IOException(
+        String.format(
+          "Truncated .npy data: Expected %d bytes but %d are available",
+          Long.valueOf(header.dataSize()),
+          Long.valueOf(Math.max(0L, available)))
+      );
+    }
+
+    final int segmentCount =
+      Math.toIntExact((count + SEGMENT_ELEMENTS - 1L) >>> SEGMENT_SHIFT);
+    final CharBuffer[] segments = new CharBuffer[segmentCount];
+    for (int index = 0; index < segmentCount; ++index) {
+      final long first = (long) index << SEGMENT_SHIFT;
+      final long size = Math.min(SEGMENT_ELEMENTS, count - first);
+      final MappedByteBuffer buffer = channel.map(
+        FileChannel.MapMode.READ_ONLY,
+        dataOffset + first * 2L,
+        size * 2L);
+      buffer.order(header.byteOrder());
+      segments[index] = buffer.asCharBuffer();
+    }
+    return new Binary16NPYMappedArray(header, segments);
+  }
+
+  /**
+   * @return The header of the array
+   */
+
+  public Binary16NPYHeader header()
+  {
+    return this.header;
+  }
+
+  /**
+   * @return The number of elements in the array
+   */
+
+  public long size()
+  {
+    return this.header.elementCount();
+  }
+
+  /**
+   * @param index The index of the element
+   *
+   * @return The packed {@code binary16} value at the given index
+   *
+   * @throws IndexOutOfBoundsException If the index is out of bounds
+   */
+
+  public char get(
+    final long index)
+  {
+    Objects.checkIndex(index, this.size());
+    return this.segments[(int) (index >>> SEGMENT_SHIFT)]
+      .get((int) (index & SEGMENT_MASK));
+  }
+
+  /**
+   * @param index The index of the element
+   *
+   * @return The value at the given index, unpacked with
+   * {@link Binary16#unpackFloat(char)}
+   *
+   * @throws IndexOutOfBoundsException If the index is out of bounds
+   */
+
+  public float getFloat(
+    final long index)
+  {
+    return Binary16.unpackFloat(this.get(index));
+  }
+
+  /**
+   * Copy packed {@code binary16} values out of the array.
+   *
+   * @param index        The index of the first element
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void getChars(
+    final long index,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    long position = index;
+    int offset = targetOffset;
+    int remaining = count;
+    while (remaining > 0) {
+      final CharBuffer segment =
+        this.segments[(int) (position >>> SEGMENT_SHIFT)];
+      final int start = (int) (position & SEGMENT_MASK);
+      final int size = Math.min(remaining, segment.limit() - start);
+      segment.get(start, target, offset, size);
+      position += size;
+      offset += size;
+      remaining -= size;
+    }
+  }
+
+  /**
+   * Unpack values out of the array with {@link Binary16#unpackFloat(char)}.
+   *
+   * @param index        The index of the first element
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void getFloats(
+    final long index,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    long position = index;
+    int offset = targetOffset;
+    int remaining = count;
+    while (remaining > 0) {
+      final CharBuffer segment =
+        this.segments[(int) (position >>> SEGMENT_SHIFT)];
+      final int start = (int) (position & SEGMENT_MASK);
+      final int size = Math.min(remaining, segment.limit() - start);
+      for (int k = 0; k < size; ++k) {
+        target[offset + k] = Binary16.unpackFloat(segment.get(start + k));
+      }
+      position += size;
+      offset += size;
+      remaining -= size;
+    }
+  }
+}
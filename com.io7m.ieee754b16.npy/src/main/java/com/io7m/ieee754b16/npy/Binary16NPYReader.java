@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.npy;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A reader that streams the elements of a {@code .npy} file in the order in
+ * which they are stored, without holding more than a small buffer of the
+ * element data in memory at any one time.
+ * </p>
+ * <p>
+ * Use {@link Binary16NPYMappedArray} instead for random access to files.
+ * The reader is intended for sources that cannot be mapped, such as
+ * compressed entries of {@code .npz} archives and network streams.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+
+public final class Binary16NPYReader implements Closeable
+{
+  private static final int BUFFER_CHARS = 4096;
+
+  private final InputStream stream;
+  private final Binary16NPYHeader header;
+  private final byte[] bytes;
+  private final CharBuffer chars;
+  private final char[] scratch;
+  private long remaining;
+
+  private Binary16NPYReader(
+    final InputStream inStream,
+    final Binary16NPYHeader inHeader)
+  {
+    this.stream = inStream;
+    this.header = inHeader;
+    this.bytes = new byte[BUFFER_CHARS * 2];
+    this.chars =
+      ByteBuffer.wrap(this.bytes)
+        .order(inHeader.byteOrder())
+        .asCharBuffer();
+    this.scratch = new char[BUFFER_CHARS];
+    this.remaining = inHeader.elementCount();
+  }
+
+  /**
+   * Read the header of a {@code .npy} file from the given stream, and
+   * return a reader positioned at the first element. Closing the reader
+   * closes the stream.
+   *
+   * @param stream The stream
+   *
+   * @return A reader
+   *
+   * @throws IOException On I/O errors, if the header is malformed, or if the
+   *                     stream does not contain a {@code float16} array
+   */
+
+  public static Binary16NPYReader open(
+    final InputStream stream)
+    throws IOException
+  {
+    Objects.requireNonNull(stream, "stream");
+    return new Binary16NPYReader(
+      stream, Binary16NPYHeaders.read(stream).header());
+  }
+
+  /**
+   * @return The header of the array
+   */
+
+  public Binary16NPYHeader header()
+  {
+    return this.header;
+  }
+
+  /**
+   * @return The number of elements that have not yet been read
+   */
+
+  public long remaining()
+  {
+    return this.remaining;
+  }
+
+  /**
+   * Read packed {@code binary16} values. Fewer than {@code count} values
+   * are read only if fewer than {@code count} elements remain.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} if no elements remain
+   *
+   * @throws IOException               On I/O errors, or if the stream ends
+   *                                   before the last element
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readChars(
+    final char[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    if (this.remaining == 0L) {
+      return -1;
+    }
+
+    final int total = (int) Math.min((long) count, this.remaining);
+    int done = 0;
+    while (done < total) {
+      final int size = Math.min(total - done, BUFFER_CHARS);
+      this.fill(size);
+      this.chars.get(0, target, targetOffset + done, size);
+      done += size;
+    }
+    return total;
+  }
+
+  /**
+   * Read values, unpacking them with
+   * {@link com.io7m.ieee754b16.Binary16#unpackFloat(char)}. Fewer than
+   * {@code count} values are read only if fewer than {@code count} elements
+   * remain.
+   *
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The maximum number of values
+   *
+   * @return The number of values read, or {@code -1} if no elements remain
+   *
+   * @throws IOException               On I/O errors, or if the stream ends
+   *                                   before the last element
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int readFloats(
+    final float[] target,
+    final int targetOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    if (this.remaining == 0L) {
+      return -1;
+    }
+
+    final int total = (int) Math.min((long) count, this.remaining);
+    int done = 0;
+    while (done < total) {
+      final int size = Math.min(total - done, BUFFER_CHARS);
+      this.fill(size);
+      this.chars.get(0, this.scratch, 0, size);
+      Binary16Arrays.unpackFloats(
+        this.scratch, 0, target, targetOffset + done, size);
+      done += size;
+    }
+    return total;
+  }
+
+  /**
+   * Read every remaining element into a new array.
+   *
+   * @return The packed {@code binary16} values
+   *
+   * @throws IOException           On I/O errors, or if the stream ends
+   *                               before the last element
+   * @throws IllegalStateException If the remaining elements do not fit in
+   *                               an array
+   */
+
+  public char[] readAllChars()
+    throws IOException
+  {
+    if (this.remaining > (long) (Integer.MAX_VALUE - 8)) {
+      throw new IllegalStateException(
+        String.format(
+          "%d elements exceed the maximum array size",
+          Long.valueOf(this.remaining))
+      );
+    }
+
+    final char[] result = new char[(int) this.remaining];
+    this.readChars(result, 0, result.length);
+    return result;
+  }
+
+  /* Read exactly {@code count} elements into the byte buffer. */
+
+  private void fill(
+    final int count)
+    throws IOException
+  {
+    final int size = count * 2;
+    final int read = this.stream.readNBytes(this.bytes, 0, size);
+    if (read != size) {
+      throw new EOFException(
+        String.format(
+          "Unexpected end of .npy data: %d elements are missing",
+          Long.valueOf(this.remaining - read / 2))
+      );
+    }
+    this.remaining -= count;
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.stream.close();
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.npy;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A writer that streams the elements of a {@code .npy} file to an output
+ * stream, without holding more than a small buffer of the element data in
+ * memory at any one time.
+ * </p>
+ * <p>
+ * Elements must be written in the order in which they are to be stored,
+ * which is determined by the {@link Binary16NPYOrder} of the header.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+
+public final class Binary16NPYWriter implements Closeable
+{
+  private static final int BUFFER_CHARS = 4096;
+
+  private final OutputStream stream;
+  private final Binary16NPYHeader header;
+  private final byte[] bytes;
+  private final CharBuffer chars;
+  private final char[] scratch;
+  private long remaining;
+  private boolean finished;
+
+  private Binary16NPYWriter(
+    final OutputStream inStream,
+    final Binary16NPYHeader inHeader)
+  {
+    this.stream = inStream;
+    this.header = inHeader;
+    this.bytes = new byte[BUFFER_CHARS * 2];
+    this.chars =
+      ByteBuffer.wrap(this.bytes)
+        .order(inHeader.byteOrder())
+        .asCharBuffer();
+    this.scratch = new char[BUFFER_CHARS];
+    this.remaining = inHeader.elementCount();
+  }
+
+  /**
+   * Write the given header to the stream, and return a writer that expects
+   * exactly {@link Binary16NPYHeader#elementCount()} elements. Closing the
+   * writer closes the stream.
+   *
+   * @param stream The stream
+   * @param header The header
+   *
+   * @return A writer
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static Binary16NPYWriter open(
+    final OutputStream stream,
+    final Binary16NPYHeader header)
+    throws IOException
+  {
+    Objects.requireNonNull(stream, "stream");
+    Objects.requireNonNull(header, "header");
+
+    stream.write(Binary16NPYHeaders.encode(header));
+    return new Binary16NPYWriter(stream, header);
+  }
+
+  /**
+   * @return The header of the array
+   */
+
+  public Binary16NPYHeader header()
+  {
+    return this.header;
+  }
+
+  /**
+   * @return The number of elements that have not yet been written
+   */
+
+  public long remaining()
+  {
+    return this.remaining;
+  }
+
+  /**
+   * Write packed {@code binary16} values.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IllegalStateException     If more values would be written than
+   *                                   the header declares
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeChars(
+    final char[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    this.checkRemaining(count);
+
+    int done = 0;
+    while (done < count) {
+      final int size = Math.min(count - done, BUFFER_CHARS);
+      this.chars.put(0, source, sourceOffset + done, size);
+      this.flush(size);
+      done += size;
+    }
+  }
+
+  /**
+   * Write values, packing them with
+   * {@link com.io7m.ieee754b16.Binary16#packFloat(float)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IllegalStateException     If more values would be written than
+   *                                   the header declares
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeFloats(
+    final float[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    this.checkRemaining(count);
+
+    int done = 0;
+    while (done < count) {
+      final int size = Math.min(count - done, BUFFER_CHARS);
+      Binary16Arrays.packFloats(
+        source, sourceOffset + done, this.scratch, 0, size);
+      this.chars.put(0, this.scratch, 0, size);
+      this.flush(size);
+      done += size;
+    }
+  }
+
+  private void checkRemaining(
+    final int count)
+  {
+    if ((long) count > this.remaining) {
+      throw new IllegalStateException(
+        String.format(
+          "Cannot write %d elements: Only %d elements remain",
+          Integer.valueOf(count),
+          Long.valueOf(this.remaining))
+      );
+    }
+  }
+
+  private void flush(
+    final int count)
+    throws IOException
+  {
+    this.stream.write(this.bytes, 0, count * 2);
+    this.remaining -= count;
+  }
+
+  /**
+   * Check that every element has been written, and flush the stream. The
+   * stream is not closed.
+   *
+   * @throws IOException On I/O errors, or if fewer elements have been
+   *                     written than the header declares
+   */
+
+  public void finish()
+    throws IOException
+  {
+    if (this.remaining != 0L) {
+      throw new IOException(
+        String.format(
+          "Incomplete .npy data: %d elements were not written",
+          Long.valueOf(this.remaining))
+      );
+    }
+    if (!this.finished) {
+      this.stream.flush();
+      this.finished = true;
+    }
+  }
+
+  /**
+   * Call {@link #finish()} and close the stream. The stream is closed even
+   * if {@link #finish()} fails.
+   *
+   * @throws IOException On I/O errors, or if fewer elements have been
+   *                     written than the header declares
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    try {
+      this.finish();
+    } finally {
+      this.stream.close();
+    }
+  }
+}
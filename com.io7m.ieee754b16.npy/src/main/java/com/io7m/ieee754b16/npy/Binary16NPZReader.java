@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.npy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * <p>
+ * A reader for NumPy {@code .npz} archives, as produced by
+ * {@code numpy.savez} and {@code numpy.savez_compressed}.
+ * </p>
+ * <p>
+ * Arrays are streamed out of the archive with {@link Binary16NPYReader};
+ * entries are decompressed on the fly and never held in memory in their
+ * entirety. Entries that do not contain {@code float16} arrays are listed,
+ * but cannot be opened.
+ * </p>
+ */
+
+public final class Binary16NPZReader implements Closeable
+{
+  private static final String SUFFIX = ".npy";
+
+  private final ZipFile zip;
+  private final List<String> names;
+
+  private Binary16NPZReader(
+    final ZipFile inZip,
+    final List<String> inNames)
+  {
+    this.zip = inZip;
+    this.names = inNames;
+  }
+
+  /**
+   * Open an archive.
+   *
+   * @param file The archive file
+   *
+   * @return A reader
+   *
+   * @throws IOException On I/O errors, or if the file is not a valid archive
+   */
+
+  public static Binary16NPZReader open(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    final ZipFile zip = new ZipFile(file.toFile());
+    final List<String> names = new ArrayList<>();
+    zip.stream()
+      .map(ZipEntry::getName)
+      .filter(name -> name.endsWith(SUFFIX))
+      .forEach(name -> names.add(name.substring(0, name.length() - SUFFIX.length())));
+    return new Binary16NPZReader(zip, Collections.unmodifiableList(names));
+  }
+
+  /**
+   * @return The names of the arrays in the archive, in archive order
+   */
+
+  public List<String> names()
+  {
+    return this.names;
+  }
+
+  /**
+   * Open the array with the given name. The returned reader must be closed
+   * before the archive is closed.
+   *
+   * @param name The name of the array, without the {@code .npy} suffix
+   *
+   * @return A reader positioned at the first element of the array
+   *
+   * @throws IOException On I/O errors, if no such array exists, or if the
+   *                     array is not a {@code float16} array
+   */
+
+  public Binary16NPYReader openArray(
+    final String name)
+    throws IOException
+  {
+    Objects.requireNonNull(name, "name");
+
+    final ZipEntry entry = this.zip.getEntry(name + SUFFIX);
+    if (entry == null) {
+      throw new IOException("No such array: " + name);
+    }
+    return Binary16NPYReader.open(this.zip.getInputStream(entry));
+  }
+
+  /**
+   * Read the array with the given name into a new array.
+   *
+   * @param name The name of the array, without the {@code .npy} suffix
+   *
+   * @return The packed {@code binary16} values, in storage order
+   *
+   * @throws IOException On I/O errors, if no such array exists, or if the
+   *                     array is not a {@code float16} array
+   * @see Binary16NPYReader#readAllChars()
+   */
+
+  public char[] readArray(
+    final String name)
+    throws IOException
+  {
+    try (Binary16NPYReader reader = this.openArray(name)) {
+      return reader.readAllChars();
+    }
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.zip.close();
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.npy;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * <p>
+ * A writer for NumPy {@code .npz} archives, readable with
+ * {@code numpy.load}.
+ * </p>
+ * <p>
+ * Arrays are added one at a time with {@link #createArray(String,
+ * Binary16NPYHeader)}, and each must be closed before the next is created.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+
+public final class Binary16NPZWriter implements Closeable
+{
+  private final ZipOutputStream zip;
+  private boolean entryOpen;
+
+  private Binary16NPZWriter(
+    final ZipOutputStream inZip)
+  {
+    this.zip = inZip;
+  }
+
+  /**
+   * Create an archive writer. Closing the writer closes the stream.
+   *
+   * @param stream     The output stream
+   * @param compressed {@code true} if entries should be compressed, as with
+   *                   {@code numpy.savez_compressed}
+   *
+   * @return A writer
+   */
+
+  public static Binary16NPZWriter open(
+    final OutputStream stream,
+    final boolean compressed)
+  {
+    Objects.requireNonNull(stream, "stream");
+
+    final ZipOutputStream zip = new ZipOutputStream(stream);
+    zip.setMethod(ZipOutputStream.DEFLATED);
+    if (compressed) {
+      zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+    } else {
+      zip.setLevel(Deflater.NO_COMPRESSION);
+    }
+    return new Binary16NPZWriter(zip);
+  }
+
+  /**
+   * Start a new array in the archive. Closing the returned writer completes
+   * the array, but does not close the archive.
+   *
+   * @param name   The name of the array, without the {@code .npy} suffix
+   * @param header The header of the array
+   *
+   * @return A writer for the elements of the array
+   *
+   * @throws IOException           On I/O errors
+   * @throws IllegalStateException If the writer for the previous array has
+   *                               not been closed
+   */
+
+  public Binary16NPYWriter createArray(
+    final String name,
+    final Binary16NPYHeader header)
+    throws IOException
+  {
+    Objects.requireNonNull(name, "name");
+    Objects.requireNonNull(header, "header");
+
+    if (this.entryOpen) {
+      throw new IllegalStateException(
+        "The writer for the previous array has not been closed");
+    }
+
+    this.zip.putNextEntry(new ZipEntry(name + ".npy"));
+    this.entryOpen = true;
+    return Binary16NPYWriter.open(new EntryStream(this), header);
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.zip.close();
+  }
+
+  /*
+   * A stream that writes to the current entry, and closes the entry rather
+   * than the archive when closed.
+   */
+
+  private static final class EntryStream extends FilterOutputStream
+  {
+    private final Binary16NPZWriter owner;
+
+    EntryStream(
+      final Binary16NPZWriter inOwner)
+    {
+      super(inOwner.zip);
+      this.owner = inOwner;
+    }
+
+    @Override
+    public void write(
+      final byte[] data,
+      final int offset,
+      final int length)
+      throws IOException
+    {
+      this.out.write(data, offset, length);
+    }
+
+    @Override
+    public void close()
+      throws IOException
+    {
+      if (this.owner.entryOpen) {
+        this.owner.zip.closeEntry();
+        this.owner.entryOpen = false;
+      }
+    }
+  }
+}
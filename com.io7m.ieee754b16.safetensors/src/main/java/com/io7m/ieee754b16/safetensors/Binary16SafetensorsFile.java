@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.safetensors;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A memory-mapped {@code .safetensors} file.
+ * </p>
+ * <p>
+ * Opening a file reads only the header; the data of each {@code F16} and
+ * {@code BF16} tensor is mapped, not read, and so opening is fast
+ * regardless of the size of the file. Tensors of other element types are
+ * checked for consistency with the header and are otherwise ignored.
+ * </p>
+ * <p>
+ * Instances are safe for concurrent use by multiple threads.
+ * </p>
+ */
+
+public final class Binary16SafetensorsFile
+{
+  private final Binary16SafetensorsHeader header;
+  private final List<Binary16SafetensorsTensor> tensors;
+  private final Map<String, Binary16SafetensorsTensor> tensorsByName;
+
+  private Binary16SafetensorsFile(
+    final Binary16SafetensorsHeader inHeader,
+    final List<Binary16SafetensorsTensor> inTensors,
+    final Map<String, Binary16SafetensorsTensor> inTensorsByName)
+  {
+    this.header = inHeader;
+    this.tensors = inTensors;
+    this.tensorsByName = inTensorsByName;
+  }
+
+  /**
+   * Map the given {@code .safetensors} file into memory.
+   *
+   * @param file The file
+   *
+   * @return A mapped file
+   *
+   * @throws IOException On I/O errors, or if the file is malformed or
+   *                     truncated
+   */
+
+  public static Binary16SafetensorsFile open(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final Binary16SafetensorsHeaders.Decoded decoded =
+        Binary16SafetensorsHeaders.read(channel);
+      final Binary16SafetensorsHeader header = decoded.header();
+      final List<Binary16SafetensorsTensorInfo> infos = header.tensors();
+
+      final List<Binary16SafetensorsTensor> tensors =
+        new ArrayList<>(infos.size());
+      final Map<String, Binary16SafetensorsTensor> byName =
+        new HashMap<>(infos.size());
+      for (int index = 0; index < infos.size(); ++index) {
+        final Binary16SafetensorsTensorInfo info = infos.get(index);
+        final Binary16SafetensorsTensor tensor =
+          Binary16SafetensorsTensor.map(channel, info, decoded.offset(index));
+        tensors.add(tensor);
+        byName.put(info.name(), tensor);
+      }
+
+      return new Binary16SafetensorsFile(
+        header,
+        Collections.unmodifiableList(tensors),
+        byName);
+    }
+  }
+
+  /**
+   * @return The header of the file, excluding tensors of element types
+   * other than {@code F16} and {@code BF16}
+   */
+
+  public Binary16SafetensorsHeader header()
+  {
+    return this.header;
+  }
+
+  /**
+   * @return The tensors, in the order in which their data is stored
+   */
+
+  public List<Binary16SafetensorsTensor> tensors()
+  {
+    return this.tensors;
+  }
+
+  /**
+   * @param name The name of a tensor
+   *
+   * @return The tensor with the given name
+   *
+   * @throws NoSuchElementException If there is no {@code F16} or
+   *                                {@code BF16} tensor with the given name
+   */
+
+  public Binary16SafetensorsTensor tensor(
+    final String name)
+  {
+    Objects.requireNonNull(name, "name");
+
+    final Binary16SafetensorsTensor tensor = this.tensorsByName.get(name);
+    if (tensor == null) {
+      throw new NoSuchElementException(
+        String.format("No F16 or BF16 tensor named '%s'", name));
+    }
+    return tensor;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.safetensors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * The header of a {@code .safetensors} file: the tensors that the file
+ * contains, in the order in which their data is stored, and a free-form
+ * set of string metadata.
+ */
+
+public final class Binary16SafetensorsHeader
+{
+  private final List<Binary16SafetensorsTensorInfo> tensors;
+  private final Map<String, String> metadata;
+  private final long dataSize;
+
+  private Binary16SafetensorsHeader(
+    final List<Binary16SafetensorsTensorInfo> inTensors,
+    final Map<String, String> inMetadata,
+    final long inDataSize)
+  {
+    this.tensors = inTensors;
+    this.metadata = inMetadata;
+    this.dataSize = inDataSize;
+  }
+
+  /**
+   * Create a header.
+   *
+   * @param tensors  The tensors, in the order in which their data is stored
+   * @param metadata The metadata
+   *
+   * @return A header
+   *
+   * @throws IllegalArgumentException If two tensors have the same name
+   * @throws ArithmeticException      If the total size of the data in bytes
+   *                                  does not fit in a {@code long}
+   */
+
+  public static Binary16SafetensorsHeader of(
+    final List<Binary16SafetensorsTensorInfo> tensors,
+    final Map<String, String> metadata)
+  {
+    Objects.requireNonNull(tensors, "tensors");
+    Objects.requireNonNull(metadata, "metadata");
+
+    final List<Binary16SafetensorsTensorInfo> tensorsCopy =
+      new ArrayList<>(tensors);
+    final HashSet<String> names = new HashSet<>(tensorsCopy.size());
+    long size = 0L;
+    for (final Binary16SafetensorsTensorInfo tensor : tensorsCopy) {
+      Objects.requireNonNull(tensor, "tensor");
+      if (!names.add(tensor.name())) {
+        throw new IllegalArgumentException(
+          String.format("Duplicate tensor name '%s'", tensor.name()));
+      }
+      size = Math.addExact(size, tensor.dataSize());
+    }
+
+    final TreeMap<String, String> metadataCopy = new TreeMap<>();
+    for (final Map.Entry<String, String> entry : metadata.entrySet()) {
+      metadataCopy.put(
+        Objects.requireNonNull(entry.getKey(), "key"),
+        Objects.requireNonNull(entry.getValue(), "value"));
+    }
+
+    return new Binary16SafetensorsHeader(
+      Collections.unmodifiableList(tensorsCopy),
+      Collections.unmodifiableMap(metadataCopy),
+      size);
+  }
+
+  /**
+   * @return The tensors, in the order in which their data is stored
+   */
+
+  public List<Binary16SafetensorsTensorInfo> tensors()
+  {
+    return this.tensors;
+  }
+
+  /**
+   * @return The metadata
+   */
+
+  public Map<String, String> metadata()
+  {
+    return this.metadata;
+  }
+
+  /**
+   * @return The total size of the tensor data in bytes
+   */
+
+  public long dataSize()
+  {
+    return this.dataSize;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final Binary16SafetensorsHeader that = (Binary16SafetensorsHeader) other;
+    return Objects.equals(this.tensors, that.tensors)
+      && Objects.equals(this.metadata, that.metadata);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(this.tensors, this.metadata);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[Binary16SafetensorsHeader %s %s]",
+      this.tensors,
+      this.metadata);
+  }
+}
@@ -0,0 +1,672 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.safetensors;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Functions to encode and decode {@code .safetensors} headers.
+ */
+
+final class Binary16SafetensorsHeaders
+{
+  static final String KEY_METADATA = "__metadata__";
+
+  private static final String KEY_DTYPE = "dtype";
+  private static final String KEY_SHAPE = "shape";
+  private static final String KEY_OFFSETS = "data_offsets";
+
+  private static final int PREFIX = 8;
+  private static final int ALIGNMENT = 8;
+  private static final long HEADER_MAXIMUM = 100L << 20;
+
+  private Binary16SafetensorsHeaders()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * A decoded header, and the absolute offset within the file of the data
+   * of each tensor.
+   */
+
+  static final class Decoded
+  {
+    private final Binary16SafetensorsHeader header;
+    private final long[] offsets;
+
+    Decoded(
+      final Binary16SafetensorsHeader inHeader,
+      final long[] inOffsets)
+    {
+      this.header = inHeader;
+      this.offsets = inOffsets;
+    }
+
+    Binary16SafetensorsHeader header()
+    {
+      return this.header;
+    }
+
+    long offset(
+      final int tensor)
+    {
+      return this.offsets[tensor];
+    }
+  }
+
+  /**
+   * Encode a header, including the length prefix and padding. The data of
+   * the tensors is laid out contiguously in the order of
+   * {@link Binary16SafetensorsHeader#tensors()}.
+   *
+   * @param header The header
+   *
+   * @return The encoded header
+   */
+
+  static byte[] encode(
+    final Binary16SafetensorsHeader header)
+  {
+    final StringBuilder text = new StringBuilder(128);
+    text.append('{');
+
+    final Map<String, String> metadata = header.metadata();
+    if (!metadata.isEmpty()) {
+      quote(text, KEY_METADATA);
+      text.append(":{");
+      for (final Map.Entry<String, String> entry : metadata.entrySet()) {
+        quote(text, entry.getKey());
+        text.append(':');
+        quote(text, entry.getValue());
+        text.append(',');
+      }
+      text.setLength(text.length() - 1);
+      text.append("},");
+    }
+
+    long offset = 0L;
+    for (final Binary16SafetensorsTensorInfo tensor : header.tensors()) {
+      quote(text, tensor.name());
+      text.append(":{\"dtype\":\"");
+      text.append(tensor.type().dtype());
+      text.append("\",\"shape\":[");
+      for (final long size : tensor.shape()) {
+        text.append(size);
+        text.append(',');
+      }
+      if (text.charAt(text.length() - 1) == ',') {
+        text.setLength(text.length() - 1);
+      }
+      text.append("],\"data_offsets\":[");
+      text.append(offset);
+      text.append(',');
+      offset += tensor.dataSize();
+      text.append(offset);
+      text.append("]},");
+    }
+
+    if (text.charAt(text.length() - 1) == ',') {
+      text.setLength(text.length() - 1);
+    }
+    text.append('}');
+
+    final byte[] json = text.toString().getBytes(StandardCharsets.UTF_8);
+    final int length = (json.length + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    final ByteBuffer buffer = ByteBuffer.allocate(PREFIX + length);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(length);
+    buffer.put(json);
+    while (buffer.hasRemaining()) {
+      buffer.put((byte) ' ');
+    }
+    return buffer.array();
+  }
+
+  private static void quote(
+    final StringBuilder text,
+    final String value)
+  {
+    text.append('"');
+    for (int index = 0; index < value.length(); ++index) {
+      final char c = value.charAt(index);
+      if (c == '"' || c == '\\') {
+        text.append('\\');
+        text.append(c);
+      } else if (c < 0x20) {
+        text.append(String.format("\\u%04x", Integer.valueOf(c)));
+      } else {
+        text.append(c);
+      }
+    }
+    text.append('"');
+  }
+
+  /**
+   * Read and decode the header at the start of a file. Tensors whose element
+   * types are not 16-bit floating point types are checked for consistency
+   * and then omitted from the header.
+   *
+   * @param channel The file
+   *
+   * @return The decoded header
+   *
+   * @throws IOException On I/O errors, or if the header is malformed or
+   *                     inconsistent with the size of the file
+   */
+
+  static Decoded read(
+    final FileChannel channel)
+    throws IOException
+  {
+    final long fileSize = channel.size();
+    final ByteBuffer prefix = readExactly(channel, 0L, PREFIX);
+    final long length = prefix.order(ByteOrder.LITTLE_ENDIAN).getLong(0);
+    if (length < 2L || length > HEADER_MAXIMUM) {
+      throw new IOException(
+        String.format(
+          "Not a .safetensors file: Header length %d is out of range",
+          Long.valueOf(length))
+      );
+    }
+    if (PREFIX + length > fileSize) {
+      throw new EOFException(
+        String.format(
+          "Truncated .safetensors header: Expected %d bytes but %d are available",
+          Long.valueOf(length),
+          Long.valueOf(fileSize - PREFIX))
+      );
+    }
+
+    final String text =
+      StandardCharsets.UTF_8.newDecoder()
+        .decode(readExactly(channel, PREFIX, (int) length))
+        .toString();
+
+    return decode(new JSON(text).document(), PREFIX + length, fileSize);
+  }
+
+  private static ByteBuffer readExactly(
+    final FileChannel channel,
+    final long position,
+    final int count)
+    throws IOException
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(count);
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new EOFException("Unexpected end of .safetensors header");
+      }
+    }
+    return buffer.flip();
+  }
+
+  /*
+   * A tensor entry of a header, before it has been combined with the other
+   * entries.
+   */
+
+  private static final class Entry
+  {
+    private final Binary16SafetensorsTensorInfo info;
+    private final long begin;
+
+    Entry(
+      final Binary16SafetensorsTensorInfo inInfo,
+      final long inBegin)
+    {
+      this.info = inInfo;
+      this.begin = inBegin;
+    }
+  }
+
+  private static Decoded decode(
+    final Map<String, Object> document,
+    final long dataOffset,
+    final long fileSize)
+    throws IOException
+  {
+    final Map<String, String> metadata = new HashMap<>();
+    final List<Entry> entries = new ArrayList<>(document.size());
+    final long dataSize = fileSize - dataOffset;
+
+    for (final Map.Entry<String, Object> field : document.entrySet()) {
+      final String name = field.getKey();
+      final Map<String, Object> value = object(field.getValue(), name);
+      if (KEY_METADATA.equals(name)) {
+        for (final Map.Entry<String, Object> item : value.entrySet()) {
+          if (!(item.getValue() instanceof String)) {
+            throw new IOException(
+              String.format("Metadata value '%s' is not a string", item.getKey()));
+          }
+          metadata.put(item.getKey(), (String) item.getValue());
+        }
+      } else {
+        final Entry entry = entry(name, value, dataSize);
+        if (entry != null) {
+          entries.add(entry);
+        }
+      }
+    }
+
+    entries.sort(Comparator.comparingLong(entry -> entry.begin));
+    final List<Binary16SafetensorsTensorInfo> tensors =
+      new ArrayList<>(entries.size());
+    final long[] offsets = new long[entries.size()];
+    for (int index = 0; index < offsets.length; ++index) {
+      final Entry entry = entries.get(index);
+      tensors.add(entry.info);
+      offsets[index] = dataOffset + entry.begin;
+    }
+
+    try {
+      return new Decoded(Binary16SafetensorsHeader.of(tensors, metadata), offsets);
+    } catch (final IllegalArgumentException | ArithmeticException e) {
+      throw new IOException("Malformed .safetensors header: " + e.getMessage(), e);
+    }
+  }
+
+  /*
+   * Decode a tensor entry, returning null if the tensor does not have a
+   * 16-bit floating point type.
+   */
+
+  private static Entry entry(
+    final String name,
+    final Map<String, Object> value,
+    final long dataSize)
+    throws IOException
+  {
+    final Object dtype = value.get(KEY_DTYPE);
+    if (!(dtype instanceof String)) {
+      throw malformed(name, KEY_DTYPE);
+    }
+    final long[] shape = integers(value.get(KEY_SHAPE), name, KEY_SHAPE);
+    final long[] range = integers(value.get(KEY_OFFSETS), name, KEY_OFFSETS);
+    if (range.length != 2) {
+      throw malformed(name, KEY_OFFSETS);
+    }
+    if (range[0] < 0L || range[0] > range[1] || range[1] > dataSize) {
+      throw new IOException(
+        String.format(
+          "Tensor '%s' has data offsets [%d, %d] outside of the %d bytes of data",
+          name,
+          Long.valueOf(range[0]),
+          Long.valueOf(range[1]),
+          Long.valueOf(dataSize))
+      );
+    }
+
+    final Binary16SafetensorsType type =
+      Binary16SafetensorsType.ofDtype((String) dtype);
+    if (type == null) {
+      return null;
+    }
+
+    final Binary16SafetensorsTensorInfo info;
+    try {
+      info = Binary16SafetensorsTensorInfo.of(name, type, shape);
+    } catch (final IllegalArgumentException | ArithmeticException e) {
+      throw new IOException(
+        String.format("Tensor '%s' has a malformed shape: %s", name, e.getMessage()),
+        e);
+    }
+
+    if (range[1] - range[0] != info.dataSize()) {
+      throw new IOException(
+        String.format(
+          "Tensor '%s' has %d bytes of data but its shape requires %d",
+          name,
+          Long.valueOf(range[1] - range[0]),
+          Long.valueOf(info.dataSize()))
+      );
+    }
+    return new Entry(info, range[0]);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> object(
+    final Object value,
+    final String name)
+    throws IOException
+  {
+    if (!(value instanceof Map)) {
+      throw new IOException(
+        String.format("Header entry '%s' is not an object", name));
+    }
+    return (Map<String, Object>) value;
+  }
+
+  private static long[] integers(
+    final Object value,
+    final String name,
+    final String key)
+    throws IOException
+  {
+    if (!(value instanceof List)) {
+      throw malformed(name, key);
+    }
+
+    final List<?> list = (List<?>) value;
+    final long[] result = new long[list.size()];
+    for (int index = 0; index < result.length; ++index) {
+      final Object element = list.get(index);
+      if (!(element instanceof Long)) {
+        throw malformed(name, key);
+      }
+      result[index] = ((Long) element).longValue();
+    }
+    return result;
+  }
+
+  private static IOException malformed(
+    final String name,
+    final String key)
+  {
+    return new IOException(
+      String.format("Tensor '%s' has a missing or malformed '%s'", name, key));
+  }
+
+  /*
+   * A parser for JSON documents. Integers are returned as Long values, other
+   * numbers as Double values, objects as Map values, and arrays as List
+   * values.
+   */
+
+  private static final class JSON
+  {
+    private static final int DEPTH_MAXIMUM = 64;
+
+    private final String text;
+    private int position;
+    private int depth;
+
+    JSON(
+      final String inText)
+    {
+      this.text = inText;
+    }
+
+    Map<String, Object> document()
+      throws IOException
+    {
+      if (this.peek() != '{') {
+        throw this.error("'{'");
+      }
+      final Map<String, Object> result = this.object();
+      while (this.position < this.text.length()) {
+        if (!Character.isWhitespace(this.text.charAt(this.position))) {
+          throw this.error("the end of the header");
+        }
+        ++this.position;
+      }
+      return result;
+    }
+
+    private Object value()
+      throws IOException
+    {
+      final char c = this.peek();
+      return switch (c) {
+        case '{' -> this.object();
+        case '[' -> this.array();
+        case '"' -> this.string();
+        case 't' -> this.literal("true", Boolean.TRUE);
+        case 'f' -> this.literal("false", Boolean.FALSE);
+        case 'n' -> this.literal("null", null);
+        default -> this.number();
+      };
+    }
+
+    private Map<String, Object> object()
+      throws IOException
+    {
+      this.enter();
+      this.expect('{');
+      final Map<String, Object> values = new LinkedHashMap<>();
+      if (this.peek() != '}') {
+        do {
+          final int start = this.position;
+          final String key = this.string();
+          this.expect(':');
+          if (values.containsKey(key)) {
+            this.position = start;
+            throw this.error("a unique key");
+          }
+          values.put(key, this.value());
+        } while (this.accept(','));
+      }
+      this.expect('}');
+      --this.depth;
+      return values;
+    }
+
+    private List<Object> array()
+      throws IOException
+    {
+      this.enter();
+      this.expect('[');
+      final List<Object> values = new ArrayList<>();
+      if (this.peek() != ']') {
+        do {
+          values.add(this.value());
+        } while (this.accept(','));
+      }
+      this.expect(']');
+      --this.depth;
+      return values;
+    }
+
+    private void enter()
+      throws IOException
+    {
+      ++this.depth;
+      if (this.depth > DEPTH_MAXIMUM) {
+        throw this.error("less deeply nested values");
+      }
+    }
+
+    private Object literal(
+      final String word,
+      final Object result)
+      throws IOException
+    {
+      if (!this.text.startsWith(word, this.position)) {
+        throw this.error(word);
+      }
+      this.position += word.length();
+      return result;
+    }
+
+    private Object number()
+      throws IOException
+    {
+      final int start = this.position;
+      this.accept('-');
+      final int digits = this.digits();
+      boolean integral = true;
+      if (this.accept('.')) {
+        integral = false;
+        this.digits();
+      }
+      if (this.position < this.text.length()
+        && (this.text.charAt(this.position) | 0x20) == 'e') {
+        integral = false;
+        ++this.position;
+        if (!this.accept('+')) {
+          this.accept('-');
+        }
+        this.digits();
+      }
+      if (digits == 0) {
+        this.position = start;
+        throw this.error("a value");
+      }
+
+      final String number = this.text.substring(start, this.position);
+      try {
+        if (integral) {
+          return Long.valueOf(Long.parseLong(number));
+        }
+        return Double.valueOf(Double.parseDouble(number));
+      } catch (final NumberFormatException e) {
+        this.position = start;
+        throw this.error("a number in range");
+      }
+    }
+
+    private int digits()
+    {
+      final int start = this.position;
+      while (this.position < this.text.length()) {
+        final char c = this.text.charAt(this.position);
+        if (c < '0' || c > '9') {
+          break;
+        }
+        ++this.position;
+      }
+      return this.position - start;
+    }
+
+    private String string()
+      throws IOException
+    {
+      this.expect('"');
+      final StringBuilder result = new StringBuilder(16);
+      while (true) {
+        if (this.position >= this.text.length()) {
+          throw this.error("the end of a string");
+        }
+        final char c = this.text.charAt(this.position);
+        ++this.position;
+        if (c == '"') {
+          return result.toString();
+        }
+        if (c == '\\') {
+          result.append(this.escape());
+        } else if (c < 0x20) {
+          --this.position;
+          throw this.error("an escaped control character");
+        } else {
+          result.append(c);
+        }
+      }
+    }
+
+    private char escape()
+      throws IOException
+    {
+      if (this.position >= this.text.length()) {
+        throw this.error("an escape sequence");
+      }
+      final char c = this.text.charAt(this.position);
+      ++this.position;
+      return switch (c) {
+        case '"', '\\', '/' -> c;
+        case 'b' -> '\b';
+        case 'f' -> '\f';
+        case 'n' -> '\n';
+        case 'r' -> '\r';
+        case 't' -> '\t';
+        case 'u' -> this.unicode();
+        default -> {
+          --this.position;
+          throw this.error("an escape sequence");
+        }
+      };
+    }
+
+    private char unicode()
+      throws IOException
+    {
+      if (this.position + 4 > this.text.length()) {
+        throw this.error("four hexadecimal digits");
+      }
+      try {
+        final int code =
+          Integer.parseInt(this.text, this.position, this.position + 4, 16);
+        this.position += 4;
+        return (char) code;
+      } catch (final NumberFormatException e) {
+        throw this.error("four hexadecimal digits");
+      }
+    }
+
+    private boolean accept(
+      final char c)
+    {
+      while (this.position < this.text.length()
+        && Character.isWhitespace(this.text.charAt(this.position))) {
+        ++this.position;
+      }
+      if (this.position < this.text.length()
+        && this.text.charAt(this.position) == c) {
+        ++this.position;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(
+      final char c)
+      throws IOException
+    {
+      if (this.peek() != c) {
+        throw this.error("'" + c + "'");
+      }
+      ++this.position;
+    }
+
+    private char peek()
+      throws IOException
+    {
+      while (this.position < this.text.length()
+        && Character.isWhitespace(this.text.charAt(this.position))) {
+        ++this.position;
+      }
+      if (this.position >= this.text.length()) {
+        throw this.error("more input");
+      }
+      return this.text.charAt(this.position);
+    }
+
+    private IOException error(
+      final String expected)
+    {
+      return new IOException(
+        String.format(
+          "Malformed .safetensors header: Expected %s at offset %d",
+          expected,
+          Integer.valueOf(this.position))
+      );
+    }
+  }
+}
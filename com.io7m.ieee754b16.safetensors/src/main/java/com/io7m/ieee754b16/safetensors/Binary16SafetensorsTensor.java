@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.safetensors;
+
+import com.io7m.ieee754b16.Binary16;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A read-only tensor backed by a region of a memory-mapped
+ * {@code .safetensors} file.
+ * </p>
+ * <p>
+ * The element data is never copied onto the heap unless explicitly requested
+ * with one of the bulk methods. Tensors larger than 1GiB are mapped as a
+ * sequence of segments, and every method accepts {@code long} indices.
+ * Elements are indexed in row-major order.
+ * </p>
+ * <p>
+ * The mapping remains valid until the tensor is garbage collected, even
+ * after the file that backed it is closed. Instances are safe for concurrent
+ * use by multiple threads.
+ * </p>
+ */
+
+public final class Binary16SafetensorsTensor
+{
+  private static final int SEGMENT_SHIFT = 29;
+  private static final long SEGMENT_ELEMENTS = 1L << SEGMENT_SHIFT;
+  private static final long SEGMENT_MASK = SEGMENT_ELEMENTS - 1L;
+
+  private final Binary16SafetensorsTensorInfo info;
+  private final CharBuffer[] segments;
+
+  private Binary16SafetensorsTensor(
+    final Binary16SafetensorsTensorInfo inInfo,
+    final CharBuffer[] inSegments)
+  {
+    this.info = inInfo;
+    this.segments = inSegments;
+  }
+
+  static Binary16SafetensorsTensor map(
+    final FileChannel channel,
+    final Binary16SafetensorsTensorInfo info,
+    final long dataOffset)
+    throws IOException
+  {
+    final long count = info.elementCount();
+    final int segmentCount =
+      Math.toIntExact((count + SEGMENT_ELEMENTS - 1L) >>> SEGMENT_SHIFT);
+    final CharBuffer[] segments = new CharBuffer[segmentCount];
+    for (int index = 0; index < segmentCount; ++index) {
+      final long first = (long) index << SEGMENT_SHIFT;
+      final long size = Math.min(SEGMENT_ELEMENTS, count - first);
+      final MappedByteBuffer buffer = channel.map(
+        FileChannel.MapMode.READ_ONLY,
+        dataOffset + first * 2L,
+        size * 2L);
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      segments[index] = buffer.asCharBuffer();
+    }
+    return new Binary16SafetensorsTensor(info, segments);
+  }
+
+  /**
+   * @return The name, element type, and shape of the tensor
+   */
+
+  public Binary16SafetensorsTensorInfo info()
+  {
+    return this.info;
+  }
+
+  /**
+   * @return The number of elements in the tensor
+   */
+
+  public long size()
+  {
+    return this.info.elementCount();
+  }
+
+  /**
+   * Return a read-only view of the element data. No data is copied.
+   *
+   * @return A view of the packed element values
+   *
+   * @throws IllegalStateException If the tensor is mapped as more than one
+   *                               segment
+   */
+
+  public CharBuffer asCharBuffer()
+  {
+    if (this.segments.length == 0) {
+      return CharBuffer.allocate(0).asReadOnlyBuffer();
+    }
+    if (this.segments.length > 1) {
+      throw new IllegalStateException(
+        String.format(
+          "Tensor '%s' with %d elements is too large for a single buffer",
+          this.info.name(),
+          Long.valueOf(this.size()))
+      );
+    }
+    return this.segments[0].asReadOnlyBuffer();
+  }
+
+  /**
+   * @param index The index of the element
+   *
+   * @return The packed value at the given index
+   *
+   * @throws IndexOutOfBoundsException If the index is out of bounds
+   */
+
+  public char get(
+    final long index)
+  {
+    Objects.checkIndex(index, this.size());
+    return this.segments[(int) (index >>> SEGMENT_SHIFT)]
+      .get((int) (index & SEGMENT_MASK));
+  }
+
+  /**
+   * @param index The index of the element
+   *
+   * @return The value at the given index, unpacked according to the element
+   * type of the tensor
+   *
+   * @throws IndexOutOfBoundsException If the index is out of bounds
+   */
+
+  public float getFloat(
+    final long index)
+  {
+    final char k = this.get(index);
+    return switch (this.info.type()) {
+      case TYPE_F16 -> Binary16.unpackFloat(k);
+      case TYPE_BF16 -> unpackBFloat16(k);
+    };
+  }
+
+  /**
+   * Copy packed values out of the tensor.
+   *
+   * @param index        The index of the first element
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void getChars(
+    final long index,
+    final char[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    long position = index;
+    int offset = targetOffset;
+    int remaining = count;
+    while (remaining > 0) {
+      final CharBuffer segment =
+        this.segments[(int) (position >>> SEGMENT_SHIFT)];
+      final int start = (int) (position & SEGMENT_MASK);
+      final int size = Math.min(remaining, segment.limit() - start);
+      segment.get(start, target, offset, size);
+      position += size;
+      offset += size;
+      remaining -= size;
+    }
+  }
+
+  /**
+   * Unpack values out of the tensor according to its element type.
+   * {@code F16} values are unpacked with {@link Binary16#unpackFloat(char)};
+   * {@code BF16} values are unpacked exactly.
+   *
+   * @param index        The index of the first element
+   * @param target       The target array
+   * @param targetOffset The offset of the first target value
+   * @param count        The number of values
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void getFloats(
+    final long index,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final boolean bfloat = this.info.type() == Binary16SafetensorsType.TYPE_BF16;
+    long position = index;
+    int offset = targetOffset;
+    int remaining = count;
+    while (remaining > 0) {
+      final CharBuffer segment =
+        this.segments[(int) (position >>> SEGMENT_SHIFT)];
+      final int start = (int) (position & SEGMENT_MASK);
+      final int size = Math.min(remaining, segment.limit() - start);
+      if (bfloat) {
+        for (int k = 0; k < size; ++k) {
+          target[offset + k] = unpackBFloat16(segment.get(start + k));
+        }
+      } else {
+        for (int k = 0; k < size; ++k) {
+          target[offset + k] = Binary16.unpackFloat(segment.get(start + k));
+        }
+      }
+      position += size;
+      offset += size;
+      remaining -= size;
+    }
+  }
+
+  /**
+   * Unpack every element of the tensor into a new array.
+   *
+   * @return The unpacked values
+   *
+   * @throws IllegalStateException If the tensor does not fit in an array
+   * @see #getFloats(long, float[], int, int)
+   */
+
+  public float[] toFloats()
+  {
+    if (this.size() > (long) (Integer.MAX_VALUE - 8)) {
+      throw new IllegalStateException(
+        String.format(
+          "%d elements exceed the maximum array size",
+          Long.valueOf(this.size()))
+      );
+    }
+
+    final float[] result = new float[(int) this.size()];
+    this.getFloats(0L, result, 0, result.length);
+    return result;
+  }
+
+  static float unpackBFloat16(
+    final char k)
+  {
+    return Float.intBitsToFloat((int) k << 16);
+  }
+
+  /*
+   * Pack a bfloat16 value, rounding to nearest with ties to even, and
+   * preserving the quietened payload of NaN values.
+   */
+
+  static char packBFloat16(
+    final float k)
+  {
+    final int bits = Float.floatToRawIntBits(k);
+    if (Float.isNaN(k)) {
+      return (char) ((bits >>> 16) | 0x40);
+    }
+    final int rounding = 0x7fff + ((bits >>> 16) & 1);
+    return (char) ((bits + rounding) >>> 16);
+  }
+}
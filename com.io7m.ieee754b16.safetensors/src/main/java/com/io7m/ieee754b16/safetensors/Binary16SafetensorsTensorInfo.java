@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.safetensors;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The name, element type, and shape of a tensor.
+ */
+
+public final class Binary16SafetensorsTensorInfo
+{
+  private final String name;
+  private final Binary16SafetensorsType type;
+  private final long[] shape;
+  private final long elementCount;
+
+  private Binary16SafetensorsTensorInfo(
+    final String inName,
+    final Binary16SafetensorsType inType,
+    final long[] inShape,
+    final long inElementCount)
+  {
+    this.name = inName;
+    this.type = inType;
+    this.shape = inShape;
+    this.elementCount = inElementCount;
+  }
+
+  /**
+   * Create a tensor description. An empty shape denotes a scalar, which has
+   * exactly one element.
+   *
+   * @param name  The name of the tensor
+   * @param type  The element type
+   * @param shape The size of each dimension
+   *
+   * @return A tensor description
+   *
+   * @throws IllegalArgumentException If the name is empty or reserved, or
+   *                                  any dimension is negative
+   * @throws ArithmeticException      If the size of the data in bytes does
+   *                                  not fit in a {@code long}
+   */
+
+  public static Binary16SafetensorsTensorInfo of(
+    final String name,
+    final Binary16SafetensorsType type,
+    final long... shape)
+  {
+    Objects.requireNonNull(name, "name");
+    Objects.requireNonNull(type, "type");
+    Objects.requireNonNull(shape, "shape");
+
+    if (name.isEmpty() || Binary16SafetensorsHeaders.KEY_METADATA.equals(name)) {
+      throw new IllegalArgumentException(
+        String.format("Tensor name '%s' is empty or reserved", name));
+    }
+
+    final long[] copy = shape.clone();
+    long count = 1L;
+    for (int index = 0; index < copy.length; ++index) {
+      final long size = copy[index];
+      if (size < 0L) {
+        throw new IllegalArgumentException(
+          String.format(
+            "Dimension %d has negative size %d",
+            Integer.valueOf(index),
+            Long.valueOf(size))
+        );
+      }
+      count = Math.multiplyExact(count, size);
+    }
+    Math.multiplyExact(count, 2L);
+    return new Binary16SafetensorsTensorInfo(name, type, copy, count);
+  }
+
+  /**
+   * @return The name of the tensor
+   */
+
+  public String name()
+  {
+    return this.name;
+  }
+
+  /**
+   * @return The element type
+   */
+
+  public Binary16SafetensorsType type()
+  {
+    return this.type;
+  }
+
+  /**
+   * @return A copy of the size of each dimension
+   */
+
+  public long[] shape()
+  {
+    return this.shape.clone();
+  }
+
+  /**
+   * @return The number of elements in the tensor
+   */
+
+  public long elementCount()
+  {
+    return this.elementCount;
+  }
+
+  /**
+   * @return The size of the element data in bytes
+   */
+
+  public long dataSize()
+  {
+    return this.elementCount * 2L;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final Binary16SafetensorsTensorInfo that =
+      (Binary16SafetensorsTensorInfo) other;
+    return Objects.equals(this.name, that.name)
+      && this.type == that.type
+      && Arrays.equals(this.shape, that.shape);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(
+      this.name,
+      this.type,
+      Integer.valueOf(Arrays.hashCode(this.shape)));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[Binary16SafetensorsTensorInfo %s %s %s]",
+      this.name,
+      this.type.dtype(),
+      Arrays.toString(this.shape));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.safetensors;
+
+/**
+ * The 16-bit element types that can be read and written.
+ */
+
+public enum Binary16SafetensorsType
+{
+  /**
+   * IEEE 754 {@code binary16} values.
+   */
+
+  TYPE_F16("F16"),
+
+  /**
+   * {@code bfloat16} values: the upper 16 bits of an IEEE 754
+   * {@code binary32} value.
+   */
+
+  TYPE_BF16("BF16");
+
+  private final String dtype;
+
+  Binary16SafetensorsType(
+    final String inDtype)
+  {
+    this.dtype = inDtype;
+  }
+
+  /**
+   * @return The name of the type in {@code .safetensors} headers
+   */
+
+  public String dtype()
+  {
+    return this.dtype;
+  }
+
+  /**
+   * @param dtype The name of a type in a {@code .safetensors} header
+   *
+   * @return The type with the given name, or {@code null} if the type is not
+   * a 16-bit floating point type
+   */
+
+  static Binary16SafetensorsType ofDtype(
+    final String dtype)
+  {
+    for (final Binary16SafetensorsType type : values()) {
+      if (type.dtype.equals(dtype)) {
+        return type;
+      }
+    }
+    return null;
+  }
+}
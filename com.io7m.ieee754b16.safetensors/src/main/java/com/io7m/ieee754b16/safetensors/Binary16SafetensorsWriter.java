@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.safetensors;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A writer that streams the tensors of a {@code .safetensors} file to an
+ * output stream, without holding more than a small buffer of the element
+ * data in memory at any one time.
+ * </p>
+ * <p>
+ * Elements are written in the order of
+ * {@link Binary16SafetensorsHeader#tensors()}: all of the elements of the
+ * first tensor, then all of the elements of the second, and so on. A single
+ * call may write elements of more than one tensor.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+
+public final class Binary16SafetensorsWriter implements Closeable
+{
+  private static final int BUFFER_CHARS = 4096;
+
+  private final OutputStream stream;
+  private final Binary16SafetensorsHeader header;
+  private final List<Binary16SafetensorsTensorInfo> tensors;
+  private final byte[] bytes;
+  private final CharBuffer chars;
+  private final char[] scratch;
+  private long remaining;
+  private int tensor;
+  private long tensorRemaining;
+  private boolean finished;
+
+  private Binary16SafetensorsWriter(
+    final OutputStream inStream,
+    final Binary16SafetensorsHeader inHeader)
+  {
+    this.stream = inStream;
+    this.header = inHeader;
+    this.tensors = inHeader.tensors();
+    this.bytes = new byte[BUFFER_CHARS * 2];
+    this.chars =
+      ByteBuffer.wrap(this.bytes)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .asCharBuffer();
+    this.scratch = new char[BUFFER_CHARS];
+    this.remaining = inHeader.dataSize() / 2L;
+    this.tensor = -1;
+    this.tensorRemaining = 0L;
+  }
+
+  /**
+   * Write the given header to the stream, and return a writer that expects
+   * exactly the elements of every tensor in the header. Closing the writer
+   * closes the stream.
+   *
+   * @param stream The stream
+   * @param header The header
+   *
+   * @return A writer
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static Binary16SafetensorsWriter open(
+    final OutputStream stream,
+    final Binary16SafetensorsHeader header)
+    throws IOException
+  {
+    Objects.requireNonNull(stream, "stream");
+    Objects.requireNonNull(header, "header");
+
+    stream.write(Binary16SafetensorsHeaders.encode(header));
+    return new Binary16SafetensorsWriter(stream, header);
+  }
+
+  /**
+   * @return The header of the file
+   */
+
+  public Binary16SafetensorsHeader header()
+  {
+    return this.header;
+  }
+
+  /**
+   * @return The number of elements, over all tensors, that have not yet been
+   * written
+   */
+
+  public long remaining()
+  {
+    return this.remaining;
+  }
+
+  /**
+   * Write packed values. The values are written unchanged, whatever the
+   * element type of the tensor.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IllegalStateException     If more values would be written than
+   *                                   the header declares
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeChars(
+    final char[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    this.checkRemaining(count);
+
+    int done = 0;
+    while (done < count) {
+      final int size = this.nextChunk(count - done);
+      this.chars.put(0, source, sourceOffset + done, size);
+      this.flush(size);
+      done += size;
+    }
+  }
+
+  /**
+   * Write values, packing them according to the element type of the tensor
+   * to which they belong. {@code F16} values are packed with
+   * {@link com.io7m.ieee754b16.Binary16#packFloat(float)}; {@code BF16}
+   * values are rounded to nearest, with ties to even.
+   *
+   * @param source       The source values
+   * @param sourceOffset The offset of the first source value
+   * @param count        The number of values
+   *
+   * @throws IOException               On I/O errors
+   * @throws IllegalStateException     If more values would be written than
+   *                                   the header declares
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public void writeFloats(
+    final float[] source,
+    final int sourceOffset,
+    final int count)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    this.checkRemaining(count);
+
+    int done = 0;
+    while (done < count) {
+      final int size = this.nextChunk(count - done);
+      final int offset = sourceOffset + done;
+      switch (this.tensors.get(this.tensor).type()) {
+        case TYPE_F16 -> {
+          Binary16Arrays.packFloats(source, offset, this.scratch, 0, size);
+        }
+        case TYPE_BF16 -> {
+          for (int index = 0; index < size; ++index) {
+            this.scratch[index] =
+              Binary16SafetensorsTensor.packBFloat16(source[offset + index]);
+          }
+        }
+      }
+      this.chars.put(0, this.scratch, 0, size);
+      this.flush(size);
+      done += size;
+    }
+  }
+
+  private void checkRemaining(
+    final int count)
+  {
+    if ((long) count > this.remaining) {
+      throw new IllegalStateException(
+        String.format(
+          "Cannot write %d elements: Only %d elements remain",
+          Integer.valueOf(count),
+          Long.valueOf(this.remaining))
+      );
+    }
+  }
+
+  /*
+   * The size of the next chunk of at most {@code count} elements, which
+   * must not cross the end of the current tensor.
+   */
+
+  private int nextChunk(
+    final int count)
+  {
+    while (this.tensorRemaining == 0L) {
+      ++this.tensor;
+      this.tensorRemaining = this.tensors.get(this.tensor).elementCount();
+    }
+    return (int) Math.min(
+      Math.min(count, BUFFER_CHARS), this.tensorRemaining);
+  }
+
+  private void flush(
+    final int count)
+    throws IOException
+  {
+    this.stream.write(this.bytes, 0, count * 2);
+    this.remaining -= count;
+    this.tensorRemaining -= count;
+  }
+
+  /**
+   * Check that every element has been written, and flush the stream. The
+   * stream is not closed.
+   *
+   * @throws IOException On I/O errors, or if fewer elements have been
+   *                     written than the header declares
+   */
+
+  public void finish()
+    throws IOException
+  {
+    if (this.remaining != 0L) {
+      throw new IOException(
+        String.format(
+          "Incomplete .safetensors data: %d elements were not written",
+          Long.valueOf(this.remaining))
+      );
+    }
+    if (!this.finished) {
+      this.stream.flush();
+      this.finished = true;
+    }
+  }
+
+  /**
+   * Call {@link #finish()} and close the stream. The stream is closed even
+   * if {@link #finish()} fails.
+   *
+   * @throws IOException On I/O errors, or if fewer elements have been
+   *                     written than the header declares
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    try {
+      this.finish();
+    } finally {
+      this.stream.close();
+    }
+  }
+}
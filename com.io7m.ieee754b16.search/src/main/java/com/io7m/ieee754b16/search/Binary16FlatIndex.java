@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * An exact nearest-neighbour index that compares a query against every
+ * vector in a {@link Binary16VectorStore}.
+ * </p>
+ * <p>
+ * {@link #searchParallel(float[], int)} divides the store into blocks that
+ * are scanned on the common fork/join pool, and is intended for single
+ * queries against large stores. {@link #searchBatch(float[][], int)}
+ * answers a batch of queries in parallel, one query per task, and is
+ * intended for throughput. All of the search functions return identical
+ * results. The index reads the store directly, so vectors added to the
+ * store through the index or otherwise are immediately searchable.
+ * </p>
+ */
+
+public final class Binary16FlatIndex
+{
+  private static final int PARALLEL_BLOCK = 4096;
+
+  private final Binary16VectorStore store;
+  private final Binary16Metric metric;
+
+  private Binary16FlatIndex(
+    final Binary16VectorStore inStore,
+    final Binary16Metric inMetric)
+  {
+    this.store = Objects.requireNonNull(inStore, "store");
+    this.metric = Objects.requireNonNull(inMetric, "metric");
+  }
+
+  /**
+   * Create an index over a store.
+   *
+   * @param store  The store
+   * @param metric The metric
+   *
+   * @return An index
+   */
+
+  public static Binary16FlatIndex create(
+    final Binary16VectorStore store,
+    final Binary16Metric metric)
+  {
+    return new Binary16FlatIndex(store, metric);
+  }
+
+  /**
+   * @return The store holding the indexed vectors
+   */
+
+  public Binary16VectorStore store()
+  {
+    return this.store;
+  }
+
+  /**
+   * @return The metric used to compare vectors
+   */
+
+  public Binary16Metric metric()
+  {
+    return this.metric;
+  }
+
+  /**
+   * Add a vector to the underlying store.
+   *
+   * @param vector The array holding the vector
+   * @param offset The offset of the first component
+   *
+   * @return The identifier of the new vector
+   *
+   * @see Binary16VectorStore#add(float[], int)
+   */
+
+  public int add(
+    final float[] vector,
+    final int offset)
+  {
+    return this.store.add(vector, offset);
+  }
+
+  /**
+   * Find the nearest vectors to a query.
+   *
+   * @param query The query, with exactly {@link Binary16VectorStore#dimensions()}
+   *              components
+   * @param k     The maximum number of results
+   *
+   * @return At most {@code k} neighbors, ordered by increasing distance
+   */
+
+  public List<Binary16Neighbor> search(
+    final float[] query,
+    final int k)
+  {
+    this.checkQuery(query, k);
+    return this.scan(query, queryNorm(query), k, 0, this.store.size()).toList();
+  }
+
+  /**
+   * Find the nearest vectors to a query, scanning blocks of the store in
+   * parallel.
+   *
+   * @param query The query, with exactly {@link Binary16VectorStore#dimensions()}
+   *              components
+   * @param k     The maximum number of results
+   *
+   * @return At most {@code k} neighbors, ordered by increasing distance
+   */
+
+  public List<Binary16Neighbor> searchParallel(
+    final float[] query,
+    final int k)
+  {
+    this.checkQuery(query, k);
+
+    final float norm = queryNorm(query);
+    final int size = this.store.size();
+    final int blocks = (size + PARALLEL_BLOCK - 1) / PARALLEL_BLOCK;
+    return IntStream.range(0, blocks)
+      .parallel()
+      .mapToObj(block -> {
+        final int start = block * PARALLEL_BLOCK;
+        return this.scan(query, norm, k, start, Math.min(size, start + PARALLEL_BLOCK));
+      })
+      .reduce(new Binary16TopK(k), (a, b) -> {
+        final Binary16TopK merged = new Binary16TopK(k);
+        merged.offerAll(a);
+        merged.offerAll(b);
+        return merged;
+      })
+      .toList();
+  }
+
+  /**
+   * Find the nearest vectors to each of a batch of queries, answering the
+   * queries in parallel.
+   *
+   * @param queries The queries
+   * @param k       The maximum number of results per query
+   *
+   * @return The results for each query, in the order of the queries
+   */
+
+  public List<List<Binary16Neighbor>> searchBatch(
+    final float[][] queries,
+    final int k)
+  {
+    for (final float[] query : queries) {
+      this.checkQuery(query, k);
+    }
+    return Arrays.stream(queries)
+      .parallel()
+      .map(query -> this.scan(query, queryNorm(query), k, 0, this.store.size()).toList())
+      .collect(Collectors.toList());
+  }
+
+  private Binary16TopK scan(
+    final float[] query,
+    final float norm,
+    final int k,
+    final int start,
+    final int end)
+  {
+    final Binary16TopK best = new Binary16TopK(k);
+    for (int id = start; id < end; ++id) {
+      best.offer(id, this.store.distanceUnchecked(this.metric, query, 0, norm, id));
+    }
+    return best;
+  }
+
+  private static float queryNorm(
+    final float[] query)
+  {
+    return Binary16VectorKernels.norm(query, 0, query.length);
+  }
+
+  private void checkQuery(
+    final float[] query,
+    final int k)
+  {
+    checkQuery(this.store, query, k);
+  }
+
+  static void checkQuery(
+    final Binary16VectorStore store,
+    final float[] query,
+    final int k)
+  {
+    if (query.length != store.dimensions()) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Query has %d components; the store has %d dimensions",
+          Integer.valueOf(query.length),
+          Integer.valueOf(store.dimensions()))
+      );
+    }
+    if (k < 0) {
+      throw new IllegalArgumentException(
+        String.format("Result count %d must be non-negative", Integer.valueOf(k)));
+    }
+  }
+}
@@ -0,0 +1,502 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.search;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * An approximate nearest-neighbour index that partitions the vectors of a
+ * {@link Binary16VectorStore} into inverted lists.
+ * </p>
+ * <p>
+ * Training runs k-means over a random sample of the store to choose one
+ * centroid per list, and then assigns each vector to the list of its
+ * nearest centroid under the index metric. A search compares the query
+ * against the centroids, and then compares it exactly against the vectors
+ * in the {@code probes} nearest lists only. Searching more lists improves
+ * recall at the cost of latency; searching every list gives the same
+ * results as a {@link Binary16FlatIndex}.
+ * </p>
+ * <p>
+ * Vectors added with {@link #add(float[], int)} are assigned to a list
+ * immediately. Vectors added to the store by other means are not
+ * searchable until {@link #refresh()} is called. The centroids are not
+ * retrained as vectors are added.
+ * </p>
+ */
+
+public final class Binary16IVFIndex
+{
+  private static final int SAMPLES_PER_LIST = 256;
+
+  private final Binary16VectorStore store;
+  private final Binary16Metric metric;
+  private final int dimensions;
+  private final float[] centroids;
+  private final float[] centroidNorms;
+  private final int[][] lists;
+  private final int[] listSizes;
+  private int indexed;
+
+  private Binary16IVFIndex(
+    final Binary16VectorStore inStore,
+    final Binary16Metric inMetric,
+    final float[] inCentroids)
+  {
+    this.store = inStore;
+    this.metric = inMetric;
+    this.dimensions = inStore.dimensions();
+    this.centroids = inCentroids;
+
+    final int count = inCentroids.length / this.dimensions;
+    this.centroidNorms = new float[count];
+    for (int list = 0; list < count; ++list) {
+      this.centroidNorms[list] =
+        Binary16VectorKernels.norm(inCentroids, list * this.dimensions, this.dimensions);
+    }
+    this.lists = new int[count][];
+    this.listSizes = new int[count];
+    for (int list = 0; list < count; ++list) {
+      this.lists[list] = new int[16];
+    }
+    this.indexed = 0;
+  }
+
+  /**
+   * Train an index over the vectors currently in a store, and assign every
+   * vector to a list.
+   *
+   * @param store      The store
+   * @param metric     The metric
+   * @param listCount  The number of lists
+   * @param iterations The number of k-means iterations
+   * @param seed       The seed for the random sampling of training vectors
+   *
+   * @return An index
+   *
+   * @throws IllegalArgumentException If {@code listCount} is not positive or
+   *                                  exceeds the number of stored vectors,
+   *                                  or {@code iterations} is negative
+   */
+
+  public static Binary16IVFIndex train(
+    final Binary16VectorStore store,
+    final Binary16Metric metric,
+    final int listCount,
+    final int iterations,
+    final long seed)
+  {
+    Objects.requireNonNull(store, "store");
+    Objects.requireNonNull(metric, "metric");
+
+    if (listCount <= 0 || listCount > store.size()) {
+      throw new IllegalArgumentException(
+        String.format(
+          "List count %d must be in the range [1, %d]",
+          Integer.valueOf(listCount),
+          Integer.valueOf(store.size()))
+      );
+    }
+    if (iterations < 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Iteration count %d must be non-negative",
+          Integer.valueOf(iterations))
+      );
+    }
+
+    final Random random = new Random(seed);
+    final boolean normalize = metric == Binary16Metric.METRIC_COSINE;
+    final float[] samples = sample(store, listCount, random, normalize);
+    final float[] centroids =
+      kmeans(samples, store.dimensions(), listCount, iterations, random, normalize);
+
+    final Binary16IVFIndex index = new Binary16IVFIndex(store, metric, centroids);
+    index.refresh();
+    return index;
+  }
+
+  /**
+   * @return The store holding the indexed vectors
+   */
+
+  public Binary16VectorStore store()
+  {
+    return this.store;
+  }
+
+  /**
+   * @return The metric used to compare vectors
+   */
+
+  public Binary16Metric metric()
+  {
+    return this.metric;
+  }
+
+  /**
+   * @return The number of lists
+   */
+
+  public int listCount()
+  {
+    return this.listSizes.length;
+  }
+
+  /**
+   * @param list The list index
+   *
+   * @return The number of vectors in the given list
+   */
+
+  public int listSize(
+    final int list)
+  {
+    return this.listSizes[list];
+  }
+
+  /**
+   * Add a vector to the underlying store and assign it to a list.
+   *
+   * @param vector The array holding the vector
+   * @param offset The offset of the first component
+   *
+   * @return The identifier of the new vector
+   *
+   * @see Binary16VectorStore#add(float[], int)
+   */
+
+  public int add(
+    final float[] vector,
+    final int offset)
+  {
+    final int id = this.store.add(vector, offset);
+
+    /*
+     * Assign a single new vector directly rather than paying for a parallel
+     * stream. If other vectors were added to the store since the last
+     * refresh, catch up on all of them in bulk.
+     */
+
+    if (id == this.indexed) {
+      this.append(this.nearestList(id), id);
+      this.indexed = id + 1;
+    } else {
+      this.refresh();
+    }
+    return id;
+  }
+
+  /**
+   * Assign every vector that has been added to the store since the last
+   * refresh to a list, in parallel.
+   */
+
+  public void refresh()
+  {
+    final int start = this.indexed;
+    final int end = this.store.size();
+    final int[] assignments = IntStream.range(start, end)
+      .parallel()
+      .map(this::nearestList)
+      .toArray();
+
+    for (int id = start; id < end; ++id) {
+      this.append(assignments[id - start], id);
+    }
+    this.indexed = end;
+  }
+
+  /**
+   * Find the approximate nearest vectors to a query.
+   *
+   * @param query  The query, with exactly
+   *               {@link Binary16VectorStore#dimensions()} components
+   * @param k      The maximum number of results
+   * @param probes The number of lists to search
+   *
+   * @return At most {@code k} neighbors, ordered by increasing distance
+   */
+
+  public List<Binary16Neighbor> search(
+    final float[] query,
+    final int k,
+    final int probes)
+  {
+    this.checkSearch(query, k, probes);
+    return this.searchUnchecked(query, k, probes);
+  }
+
+  /**
+   * Find the approximate nearest vectors to each of a batch of queries,
+   * answering the queries in parallel.
+   *
+   * @param queries The queries
+   * @param k       The maximum number of results per query
+   * @param probes  The number of lists to search per query
+   *
+   * @return The results for each query, in the order of the queries
+   */
+
+  public List<List<Binary16Neighbor>> searchBatch(
+    final float[][] queries,
+    final int k,
+    final int probes)
+  {
+    for (final float[] query : queries) {
+      this.checkSearch(query, k, probes);
+    }
+    return Arrays.stream(queries)
+      .parallel()
+      .map(query -> this.searchUnchecked(query, k, probes))
+      .collect(Collectors.toList());
+  }
+
+  private List<Binary16Neighbor> searchUnchecked(
+    final float[] query,
+    final int k,
+    final int probes)
+  {
+    final float norm = Binary16VectorKernels.norm(query, 0, this.dimensions);
+    final Binary16TopK nearestLists = new Binary16TopK(probes);
+    for (int list = 0; list < this.listSizes.length; ++list) {
+      nearestLists.offer(list, this.centroidDistance(query, norm, list));
+    }
+
+    final Binary16TopK best = new Binary16TopK(k);
+    for (final int list : nearestLists.ids()) {
+      final int[] ids = this.lists[list];
+      final int size = this.listSizes[list];
+      for (int index = 0; index < size; ++index) {
+        final int id = ids[index];
+        best.offer(id, this.store.distanceUnchecked(this.metric, query, 0, norm, id));
+      }
+    }
+    return best.toList();
+  }
+
+  private void checkSearch(
+    final float[] query,
+    final int k,
+    final int probes)
+  {
+    Binary16FlatIndex.checkQuery(this.store, query, k);
+    if (probes <= 0 || probes > this.listSizes.length) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Probe count %d must be in the range [1, %d]",
+          Integer.valueOf(probes),
+          Integer.valueOf(this.listSizes.length))
+      );
+    }
+  }
+
+  private float centroidDistance(
+    final float[] query,
+    final float queryNorm,
+    final int list)
+  {
+    final int offset = list * this.dimensions;
+    final float raw;
+    if (this.metric == Binary16Metric.METRIC_EUCLIDEAN) {
+      raw = Binary16VectorKernels.squaredEuclidean(
+        query, 0, this.centroids, offset, this.dimensions);
+    } else {
+      raw = Binary16VectorKernels.dot(
+        query, 0, this.centroids, offset, this.dimensions);
+    }
+    return Binary16VectorKernels.distance(
+      this.metric, raw, queryNorm, this.centroidNorms[list]);
+  }
+
+  private int nearestList(
+    final int id)
+  {
+    int nearest = 0;
+    float nearestDistance = Float.POSITIVE_INFINITY;
+    for (int list = 0; list < this.listSizes.length; ++list) {
+      final float distance = this.store.distanceUnchecked(
+        this.metric,
+        this.centroids,
+        list * this.dimensions,
+        this.centroidNorms[list],
+        id);
+      if (distance < nearestDistance) {
+        nearest = list;
+        nearestDistance = distance;
+      }
+    }
+    return nearest;
+  }
+
+  private void append(
+    final int list,
+    final int id)
+  {
+    final int size = this.listSizes[list];
+    if (size == this.lists[list].length) {
+      this.lists[list] = Arrays.copyOf(this.lists[list], size << 1);
+    }
+    this.lists[list][size] = id;
+    this.listSizes[list] = size + 1;
+  }
+
+  /*
+   * Unpack a random sample of distinct stored vectors, chosen with Floyd's
+   * algorithm, into a single array in random order.
+   */
+
+  private static float[] sample(
+    final Binary16VectorStore store,
+    final int listCount,
+    final Random random,
+    final boolean normalize)
+  {
+    final int size = store.size();
+    final int count =
+      (int) Math.min((long) size, (long) listCount * (long) SAMPLES_PER_LIST);
+
+    final Set<Integer> chosen = new HashSet<>(count * 2);
+    for (int j = size - count; j < size; ++j) {
+      final Integer candidate = Integer.valueOf(random.nextInt(j + 1));
+      if (!chosen.add(candidate)) {
+        chosen.add(Integer.valueOf(j));
+      }
+    }
+
+    final int[] ids = chosen.stream().mapToInt(Integer::intValue).sorted().toArray();
+    for (int index = ids.length - 1; index > 0; --index) {
+      final int other = random.nextInt(index + 1);
+      final int id = ids[index];
+      ids[index] = ids[other];
+      ids[other] = id;
+    }
+
+    final int dimensions = store.dimensions();
+    final float[] samples = new float[count * dimensions];
+    for (int index = 0; index < count; ++index) {
+      store.get(ids[index], samples, index * dimensions);
+      if (normalize) {
+        normalize(samples, index * dimensions, dimensions);
+      }
+    }
+    return samples;
+  }
+
+  /*
+   * Lloyd's algorithm, starting from the first samples. Clusters that
+   * become empty are restarted from a random sample.
+   */
+
+  private static float[] kmeans(
+    final float[] samples,
+    final int dimensions,
+    final int listCount,
+    final int iterations,
+    final Random random,
+    final boolean normalize)
+  {
+    final int count = samples.length / dimensions;
+    final float[] centroids = Arrays.copyOf(samples, listCount * dimensions);
+
+    for (int iteration = 0; iteration < iterations; ++iteration) {
+      final int[] assignments = IntStream.range(0, count)
+        .parallel()
+        .map(index -> nearestCentroid(samples, index * dimensions, centroids, dimensions))
+        .toArray();
+
+      final double[] sums = new double[listCount * dimensions];
+      final int[] counts = new int[listCount];
+      for (int index = 0; index < count; ++index) {
+        final int list = assignments[index];
+        ++counts[list];
+        for (int d = 0; d < dimensions; ++d) {
+          sums[list * dimensions + d] += samples[index * dimensions + d];
+        }
+      }
+
+      for (int list = 0; list < listCount; ++list) {
+        updateCentroid(samples, centroids, sums, counts[list], list, dimensions, random);
+        if (normalize) {
+          normalize(centroids, list * dimensions, dimensions);
+        }
+      }
+    }
+    return centroids;
+  }
+
+  private static void updateCentroid(
+    final float[] samples,
+    final float[] centroids,
+    final double[] sums,
+    final int count,
+    final int list,
+    final int dimensions,
+    final Random random)
+  {
+    final int offset = list * dimensions;
+    if (count == 0) {
+      final int sample = random.nextInt(samples.length / dimensions);
+      System.arraycopy(samples, sample * dimensions, centroids, offset, dimensions);
+      return;
+    }
+    for (int d = 0; d < dimensions; ++d) {
+      centroids[offset + d] = (float) (sums[offset + d] / (double) count);
+    }
+  }
+
+  private static int nearestCentroid(
+    final float[] samples,
+    final int sampleOffset,
+    final float[] centroids,
+    final int dimensions)
+  {
+    int nearest = 0;
+    float nearestDistance = Float.POSITIVE_INFINITY;
+    final int count = centroids.length / dimensions;
+    for (int list = 0; list < count; ++list) {
+      final float distance = Binary16VectorKernels.squaredEuclidean(
+        samples, sampleOffset, centroids, list * dimensions, dimensions);
+      if (distance < nearestDistance) {
+        nearest = list;
+        nearestDistance = distance;
+      }
+    }
+    return nearest;
+  }
+
+  private static void normalize(
+    final float[] values,
+    final int offset,
+    final int dimensions)
+  {
+    final float norm = Binary16VectorKernels.norm(values, offset, dimensions);
+    if (norm > 0.0f) {
+      for (int d = 0; d < dimensions; ++d) {
+        values[offset + d] /= norm;
+      }
+    }
+  }
+}
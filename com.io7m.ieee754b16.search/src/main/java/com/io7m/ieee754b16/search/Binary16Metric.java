@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.search;
+
+/**
+ * The measures of distance between vectors.
+ *
+ * <p>
+ * In every case, smaller distances indicate closer vectors, and search
+ * results are ordered by increasing distance.
+ * </p>
+ */
+
+public enum Binary16Metric
+{
+  /**
+   * The negated inner product {@code -(q . v)}, for maximum inner product
+   * search.
+   */
+
+  METRIC_DOT_PRODUCT,
+
+  /**
+   * The cosine distance {@code 1 - (q . v) / (|q| |v|)}. The distance
+   * between a zero vector and any other vector is {@code 1}.
+   */
+
+  METRIC_COSINE,
+
+  /**
+   * The squared Euclidean distance {@code |q - v|^2}.
+   */
+
+  METRIC_EUCLIDEAN
+}
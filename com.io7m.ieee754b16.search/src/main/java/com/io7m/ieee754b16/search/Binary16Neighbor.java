@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.search;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A vector found by a search, and its distance from the query.
+ * </p>
+ * <p>
+ * Instances are immutable.
+ * </p>
+ */
+
+public final class Binary16Neighbor
+{
+  private final int id;
+  private final float distance;
+
+  Binary16Neighbor(
+    final int inId,
+    final float inDistance)
+  {
+    this.id = inId;
+    this.distance = inDistance;
+  }
+
+  /**
+   * @return The identifier of the vector in its store
+   */
+
+  public int id()
+  {
+    return this.id;
+  }
+
+  /**
+   * @return The distance of the vector from the query
+   *
+   * @see Binary16Metric
+   */
+
+  public float distance()
+  {
+    return this.distance;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final Binary16Neighbor that = (Binary16Neighbor) other;
+    return this.id == that.id
+      && Float.compare(this.distance, that.distance) == 0;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(Integer.valueOf(this.id), Float.valueOf(this.distance));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[Binary16Neighbor %d %s]",
+      Integer.valueOf(this.id),
+      Float.valueOf(this.distance));
+  }
+}
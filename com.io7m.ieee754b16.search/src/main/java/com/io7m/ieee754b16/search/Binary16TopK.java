@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded collection of the {@code k} nearest candidates seen so far,
+ * held as a binary max-heap on distance so that the farthest candidate
+ * can be replaced in logarithmic time. Ties are broken by identifier, so
+ * that results do not depend on the order in which candidates are offered.
+ */
+
+final class Binary16TopK
+{
+  private final int capacity;
+  private final int[] ids;
+  private final float[] distances;
+  private int size;
+
+  Binary16TopK(
+    final int inCapacity)
+  {
+    this.capacity = inCapacity;
+    this.ids = new int[inCapacity];
+    this.distances = new float[inCapacity];
+    this.size = 0;
+  }
+
+  int size()
+  {
+    return this.size;
+  }
+
+  /* The distance a candidate must beat to be accepted. */
+
+  float bound()
+  {
+    if (this.size < this.capacity) {
+      return Float.POSITIVE_INFINITY;
+    }
+    return this.distances[0];
+  }
+
+  void offer(
+    final int id,
+    final float distance)
+  {
+    if (this.size < this.capacity) {
+      this.ids[this.size] = id;
+      this.distances[this.size] = distance;
+      this.siftUp(this.size);
+      ++this.size;
+      return;
+    }
+    if (this.capacity > 0 && farther(this.distances[0], this.ids[0], distance, id)) {
+      this.ids[0] = id;
+      this.distances[0] = distance;
+      this.siftDown(0);
+    }
+  }
+
+  void offerAll(
+    final Binary16TopK other)
+  {
+    for (int index = 0; index < other.size; ++index) {
+      this.offer(other.ids[index], other.distances[index]);
+    }
+  }
+
+  int[] ids()
+  {
+    final int[] result = new int[this.size];
+    final List<Binary16Neighbor> sorted = this.toList();
+    for (int index = 0; index < result.length; ++index) {
+      result[index] = sorted.get(index).id();
+    }
+    return result;
+  }
+
+  List<Binary16Neighbor> toList()
+  {
+    final List<Binary16Neighbor> result = new ArrayList<>(this.size);
+    for (int index = 0; index < this.size; ++index) {
+      result.add(new Binary16Neighbor(this.ids[index], this.distances[index]));
+    }
+    result.sort((a, b) -> {
+      final int c = Float.compare(a.distance(), b.distance());
+      if (c != 0) {
+        return c;
+      }
+      return Integer.compare(a.id(), b.id());
+    });
+    return result;
+  }
+
+  /* Whether the candidate (d0, i0) is farther than (d1, i1). */
+
+  private static boolean farther(
+    final float d0,
+    final int i0,
+    final float d1,
+    final int i1)
+  {
+    final int c = Float.compare(d0, d1);
+    return c > 0 || (c == 0 && i0 > i1);
+  }
+
+  private void siftUp(
+    final int start)
+  {
+    int child = start;
+    while (child > 0) {
+      final int parent = (child - 1) >>> 1;
+      if (!farther(this.distances[child], this.ids[child], this.distances[parent], this.ids[parent])) {
+        return;
+      }
+      this.swap(child, parent);
+      child = parent;
+    }
+  }
+
+  private void siftDown(
+    final int start)
+  {
+    int parent = start;
+    while (true) {
+      final int left = 2 * parent + 1;
+      if (left >= this.size) {
+        return;
+      }
+      int largest = left;
+      final int right = left + 1;
+      if (right < this.size
+        && farther(this.distances[right], this.ids[right], this.distances[left], this.ids[left])) {
+        largest = right;
+      }
+      if (!farther(this.distances[largest], this.ids[largest], this.distances[parent], this.ids[parent])) {
+        return;
+      }
+      this.swap(parent, largest);
+      parent = largest;
+    }
+  }
+
+  private void swap(
+    final int a,
+    final int b)
+  {
+    final int id = this.ids[a];
+    this.ids[a] = this.ids[b];
+    this.ids[b] = id;
+    final float distance = this.distances[a];
+    this.distances[a] = this.distances[b];
+    this.distances[b] = distance;
+  }
+}
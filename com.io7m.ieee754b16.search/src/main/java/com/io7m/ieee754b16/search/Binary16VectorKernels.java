@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.search;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.CharBuffer;
+
+/**
+ * <p>
+ * Distance kernels that unpack {@code binary16} values as they are
+ * consumed, without materializing the vector as {@code float} values.
+ * </p>
+ * <p>
+ * The stored values are known to be finite, and so are converted with a
+ * branch-free exact conversion rather than with the general conversion
+ * functions: the exponent and significand bits are moved into the
+ * corresponding positions of a {@code float}, and the result is rescaled
+ * by {@code 2^112} to correct the exponent bias. This also yields the
+ * correct result for subnormal values. The sums are spread across four
+ * accumulators to shorten the chain of dependent additions.
+ * </p>
+ */
+
+final class Binary16VectorKernels
+{
+  private static final float REBIAS = 0x1.0p112f;
+
+  private Binary16VectorKernels()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static float toFloat(
+    final char k)
+  {
+    final float magnitude = Float.intBitsToFloat(((int) k & 0x7fff) << 13) * REBIAS;
+    return Float.intBitsToFloat(Float.floatToRawIntBits(magnitude) | ((int) k & 0x8000) << 16);
+  }
+
+  static float dot(
+    final float[] query,
+    final int queryOffset,
+    final char[] vector,
+    final int vectorOffset,
+    final int count)
+  {
+    float s0 = 0.0f;
+    float s1 = 0.0f;
+    float s2 = 0.0f;
+    float s3 = 0.0f;
+    int index = 0;
+    for (; index + 3 < count; index += 4) {
+      final int q = queryOffset + index;
+      final int v = vectorOffset + index;
+      s0 += query[q] * toFloat(vector[v]);
+      s1 += query[q + 1] * toFloat(vector[v + 1]);
+      s2 += query[q + 2] * toFloat(vector[v + 2]);
+      s3 += query[q + 3] * toFloat(vector[v + 3]);
+    }
+    for (; index < count; ++index) {
+      s0 += query[queryOffset + index] * toFloat(vector[vectorOffset + index]);
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  static float dot(
+    final float[] query,
+    final int queryOffset,
+    final CharBuffer vector,
+    final int vectorOffset,
+    final int count)
+  {
+    float s0 = 0.0f;
+    float s1 = 0.0f;
+    float s2 = 0.0f;
+    float s3 = 0.0f;
+    int index = 0;
+    for (; index + 3 < count; index += 4) {
+      final int q = queryOffset + index;
+      final int v = vectorOffset + index;
+      s0 += query[q] * toFloat(vector.get(v));
+      s1 += query[q + 1] * toFloat(vector.get(v + 1));
+      s2 += query[q + 2] * toFloat(vector.get(v + 2));
+      s3 += query[q + 3] * toFloat(vector.get(v + 3));
+    }
+    for (; index < count; ++index) {
+      s0 += query[queryOffset + index] * toFloat(vector.get(vectorOffset + index));
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  static float squaredEuclidean(
+    final float[] query,
+    final int queryOffset,
+    final char[] vector,
+    final int vectorOffset,
+    final int count)
+  {
+    float s0 = 0.0f;
+    float s1 = 0.0f;
+    float s2 = 0.0f;
+    float s3 = 0.0f;
+    int index = 0;
+    for (; index + 3 < count; index += 4) {
+      final int q = queryOffset + index;
+      final int v = vectorOffset + index;
+      final float d0 = query[q] - toFloat(vector[v]);
+      final float d1 = query[q + 1] - toFloat(vector[v + 1]);
+      final float d2 = query[q + 2] - toFloat(vector[v + 2]);
+      final float d3 = query[q + 3] - toFloat(vector[v + 3]);
+      s0 += d0 * d0;
+      s1 += d1 * d1;
+      s2 += d2 * d2;
+      s3 += d3 * d3;
+    }
+    for (; index < count; ++index) {
+      final float d = query[queryOffset + index] - toFloat(vector[vectorOffset + index]);
+      s0 += d * d;
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  static float squaredEuclidean(
+    final float[] query,
+    final int queryOffset,
+    final CharBuffer vector,
+    final int vectorOffset,
+    final int count)
+  {
+    float s0 = 0.0f;
+    float s1 = 0.0f;
+    float s2 = 0.0f;
+    float s3 = 0.0f;
+    int index = 0;
+    for (; index + 3 < count; index += 4) {
+      final int q = queryOffset + index;
+      final int v = vectorOffset + index;
+      final float d0 = query[q] - toFloat(vector.get(v));
+      final float d1 = query[q + 1] - toFloat(vector.get(v + 1));
+      final float d2 = query[q + 2] - toFloat(vector.get(v + 2));
+      final float d3 = query[q + 3] - toFloat(vector.get(v + 3));
+      s0 += d0 * d0;
+      s1 += d1 * d1;
+      s2 += d2 * d2;
+      s3 += d3 * d3;
+    }
+    for (; index < count; ++index) {
+      final float d = query[queryOffset + index] - toFloat(vector.get(vectorOffset + index));
+      s0 += d * d;
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  static float dot(
+    final float[] a,
+    final int aOffset,
+    final float[] b,
+    final int bOffset,
+    final int count)
+  {
+    float sum = 0.0f;
+    for (int index = 0; index < count; ++index) {
+      sum += a[aOffset + index] * b[bOffset + index];
+    }
+    return sum;
+  }
+
+  static float squaredEuclidean(
+    final float[] a,
+    final int aOffset,
+    final float[] b,
+    final int bOffset,
+    final int count)
+  {
+    float sum = 0.0f;
+    for (int index = 0; index < count; ++index) {
+      final float d = a[aOffset + index] - b[bOffset + index];
+      sum += d * d;
+    }
+    return sum;
+  }
+
+  static float norm(
+    final float[] a,
+    final int aOffset,
+    final int count)
+  {
+    return (float) Math.sqrt((double) dot(a, aOffset, a, aOffset, count));
+  }
+
+  /* The distance given a dot product or squared distance and the norms. */
+
+  static float distance(
+    final Binary16Metric metric,
+    final float raw,
+    final float queryNorm,
+    final float vectorNorm)
+  {
+    return switch (metric) {
+      case METRIC_DOT_PRODUCT -> -raw;
+      case METRIC_EUCLIDEAN -> raw;
+      case METRIC_COSINE -> cosine(raw, queryNorm * vectorNorm);
+    };
+  }
+
+  private static float cosine(
+    final float dot,
+    final float norms)
+  {
+    if (norms == 0.0f) {
+      return 1.0f;
+    }
+    return 1.0f - dot / norms;
+  }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.search;
+
+import com.io7m.ieee754b16.Binary16;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A growable collection of fixed-dimension vectors stored as
+ * {@code binary16} values, identified by consecutive integers starting at
+ * zero.
+ * </p>
+ * <p>
+ * Vectors are stored in segments of at most 32 MiB, either on the Java heap
+ * or in direct buffers outside it. Only the last segment grows by copying;
+ * once a segment is full it is never copied again, and a store can hold
+ * more values than fit in a single array. The Euclidean norm of each vector
+ * is computed when the vector is added, and kept alongside it for cosine
+ * distances.
+ * </p>
+ * <p>
+ * Distances are computed by unpacking each {@code binary16} value as it is
+ * consumed; stored vectors are never materialized as {@code float} values.
+ * Every stored value must therefore be finite: adding a vector with a
+ * component that is {@code NaN}, infinite, or too large to be represented
+ * as a finite {@code binary16} value is an error.
+ * </p>
+ * <p>
+ * Any number of threads may compute distances concurrently, but adding
+ * vectors must not happen concurrently with any other operation.
+ * </p>
+ */
+
+public final class Binary16VectorStore
+{
+  private static final int SEGMENT_VALUES = 1 << 24;
+
+  private final int dimensions;
+  private final int segmentVectors;
+  private final boolean direct;
+  private final List<char[]> heapSegments;
+  private final List<CharBuffer> directSegments;
+  private float[] norms;
+  private int size;
+
+  private Binary16VectorStore(
+    final int inDimensions,
+    final boolean inDirect)
+  {
+    if (inDimensions <= 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Dimensions %d must be positive", Integer.valueOf(inDimensions)));
+    }
+    this.dimensions = inDimensions;
+    this.segmentVectors = Math.max(1, SEGMENT_VALUES / inDimensions);
+    this.direct = inDirect;
+    this.heapSegments = new ArrayList<>();
+    this.directSegments = new ArrayList<>();
+    this.norms = new float[64];
+    this.size = 0;
+  }
+
+  /**
+   * Create an empty store that keeps vectors on the Java heap.
+   *
+   * @param dimensions The number of components in each vector
+   *
+   * @return A new store
+   *
+   * @throws IllegalArgumentException If {@code dimensions} is not positive
+   */
+
+  public static Binary16VectorStore createHeap(
+    final int dimensions)
+  {
+    return new Binary16VectorStore(dimensions, false);
+  }
+
+  /**
+   * Create an empty store that keeps vectors in direct buffers outside the
+   * Java heap.
+   *
+   * @param dimensions The number of components in each vector
+   *
+   * @return A new store
+   *
+   * @throws IllegalArgumentException If {@code dimensions} is not positive
+   */
+
+  public static Binary16VectorStore createDirect(
+    final int dimensions)
+  {
+    return new Binary16VectorStore(dimensions, true);
+  }
+
+  /**
+   * @return The number of components in each vector
+   */
+
+  public int dimensions()
+  {
+    return this.dimensions;
+  }
+
+  /**
+   * @return The number of vectors in the store
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return {@code true} if vectors are stored outside the Java heap
+   */
+
+  public boolean isDirect()
+  {
+    return this.direct;
+  }
+
+  /**
+   * Pack a vector with {@link Binary16#packFloat(float)} and add it to the
+   * store.
+   *
+   * @param vector The array holding the vector
+   * @param offset The offset of the first component
+   *
+   * @return The identifier of the new vector
+   *
+   * @throws IllegalArgumentException  If a component cannot be represented
+   *                                   as a finite {@code binary16} value
+   * @throws IndexOutOfBoundsException If the vector is out of bounds
+   * @throws IllegalStateException     If the store is full
+   */
+
+  public int add(
+    final float[] vector,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, this.dimensions, vector.length);
+
+    final char[] packed = new char[this.dimensions];
+    for (int index = 0; index < this.dimensions; ++index) {
+      packed[index] = Binary16.packFloat(vector[offset + index]);
+    }
+    return this.addPacked(packed, 0);
+  }
+
+  /**
+   * Add an already-packed vector to the store.
+   *
+   * @param vector The array holding the vector
+   * @param offset The offset of the first component
+   *
+   * @return The identifier of the new vector
+   *
+   * @throws IllegalArgumentException  If a component is not finite
+   * @throws IndexOutOfBoundsException If the vector is out of bounds
+   * @throws IllegalStateException     If the store is full
+   */
+
+  public int addPacked(
+    final char[] vector,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, this.dimensions, vector.length);
+
+    float sum = 0.0f;
+    for (int index = 0; index < this.dimensions; ++index) {
+      final char k = vector[offset + index];
+      if ((k & 0x7c00) == 0x7c00) {
+        throw new IllegalArgumentException(
+          String.format(
+            "Component %d of the vector is not finite",
+            Integer.valueOf(index))
+        );
+      }
+      final float x = Binary16VectorKernels.toFloat(k);
+      sum += x * x;
+    }
+
+    if (this.size == Integer.MAX_VALUE) {
+      throw new IllegalStateException("Vector store is full");
+    }
+
+    final int id = this.size;
+    final int segment = id / this.segmentVectors;
+    final int base = (id % this.segmentVectors) * this.dimensions;
+    this.reserve(segment, base + this.dimensions);
+
+    if (this.direct) {
+      final CharBuffer target = this.directSegments.get(segment);
+      for (int index = 0; index < this.dimensions; ++index) {
+        target.put(base + index, vector[offset + index]);
+      }
+    } else {
+      System.arraycopy(
+        vector, offset, this.heapSegments.get(segment), base, this.dimensions);
+    }
+
+    if (id == this.norms.length) {
+      this.norms = Arrays.copyOf(this.norms, Math.max(64, id + (id >>> 1)));
+    }
+    this.norms[id] = (float) Math.sqrt((double) sum);
+    this.size = id + 1;
+    return id;
+  }
+
+  /**
+   * Unpack a vector with {@link Binary16#unpackFloat(char)}.
+   *
+   * @param id     The vector identifier
+   * @param target The target array
+   * @param offset The offset at which to write the first component
+   *
+   * @throws IndexOutOfBoundsException If the identifier or the target range
+   *                                   is out of bounds
+   */
+
+  public void get(
+    final int id,
+    final float[] target,
+    final int offset)
+  {
+    Objects.checkIndex(id, this.size);
+    Objects.checkFromIndexSize(offset, this.dimensions, target.length);
+
+    final int segment = id / this.segmentVectors;
+    final int base = (id % this.segmentVectors) * this.dimensions;
+    for (int index = 0; index < this.dimensions; ++index) {
+      target[offset + index] =
+        Binary16.unpackFloat(this.packedAt(segment, base + index));
+    }
+  }
+
+  /**
+   * @param id The vector identifier
+   *
+   * @return The Euclidean norm of the vector
+   *
+   * @throws IndexOutOfBoundsException If the identifier is out of bounds
+   */
+
+  public float norm(
+    final int id)
+  {
+    return this.norms[Objects.checkIndex(id, this.size)];
+  }
+
+  /**
+   * Compute the distance between a query and a stored vector.
+   *
+   * @param metric      The metric
+   * @param query       The array holding the query
+   * @param queryOffset The offset of the first component of the query
+   * @param id          The vector identifier
+   *
+   * @return The distance
+   *
+   * @throws IndexOutOfBoundsException If the identifier or the query is out
+   *                                   of bounds
+   */
+
+  public float distance(
+    final Binary16Metric metric,
+    final float[] query,
+    final int queryOffset,
+    final int id)
+  {
+    Objects.requireNonNull(metric, "metric");
+    Objects.checkIndex(id, this.size);
+    Objects.checkFromIndexSize(queryOffset, this.dimensions, query.length);
+
+    final float queryNorm =
+      Binary16VectorKernels.norm(query, queryOffset, this.dimensions);
+    return this.distanceUnchecked(metric, query, queryOffset, queryNorm, id);
+  }
+
+  float distanceUnchecked(
+    final Binary16Metric metric,
+    final float[] query,
+    final int queryOffset,
+    final float queryNorm,
+    final int id)
+  {
+    final int segment = id / this.segmentVectors;
+    final int base = (id % this.segmentVectors) * this.dimensions;
+
+    final float raw;
+    if (metric == Binary16Metric.METRIC_EUCLIDEAN) {
+      raw = this.squaredEuclidean(query, queryOffset, segment, base);
+    } else {
+      raw = this.dot(query, queryOffset, segment, base);
+    }
+    return Binary16VectorKernels.distance(metric, raw, queryNorm, this.norms[id]);
+  }
+
+  private float dot(
+    final float[] query,
+    final int queryOffset,
+    final int segment,
+    final int base)
+  {
+    if (this.direct) {
+      return Binary16VectorKernels.dot(
+        query, queryOffset, this.directSegments.get(segment), base, this.dimensions);
+    }
+    return Binary16VectorKernels.dot(
+      query, queryOffset, this.heapSegments.get(segment), base, this.dimensions);
+  }
+
+  private float squaredEuclidean(
+    final float[] query,
+    final int queryOffset,
+    final int segment,
+    final int base)
+  {
+    if (this.direct) {
+      return Binary16VectorKernels.squaredEuclidean(
+        query, queryOffset, this.directSegments.get(segment), base, this.dimensions);
+    }
+    return Binary16VectorKernels.squaredEuclidean(
+      query, queryOffset, this.heapSegments.get(segment), base, this.dimensions);
+  }
+
+  private char packedAt(
+    final int segment,
+    final int index)
+  {
+    if (this.direct) {
+      return this.directSegments.get(segment).get(index);
+    }
+    return this.heapSegments.get(segment)[index];
+  }
+
+  /*
+   * Ensure that the given segment exists and can hold the given number of
+   * values. Only the last segment is ever smaller than the full segment
+   * size, and it grows geometrically, so small stores stay small.
+   */
+
+  private void reserve(
+    final int segment,
+    final int values)
+  {
+    final int full = this.segmentVectors * this.dimensions;
+    if (segment == this.segmentCount()) {
+      this.allocateSegment(Math.min(full, Math.max(values, 256 * this.dimensions)));
+      return;
+    }
+
+    final int capacity = this.segmentCapacity(segment);
+    if (capacity < values) {
+      final int grown = Math.min(full, Math.max(values, capacity << 1));
+      if (this.direct) {
+        final CharBuffer old = this.directSegments.get(segment);
+        final CharBuffer copy = directBuffer(grown);
+        copy.put(old.duplicate().clear());
+        copy.clear();
+        this.directSegments.set(segment, copy);
+      } else {
+        this.heapSegments.set(segment, Arrays.copyOf(this.heapSegments.get(segment), grown));
+      }
+    }
+  }
+
+  private int segmentCount()
+  {
+    if (this.direct) {
+      return this.directSegments.size();
+    }
+    return this.heapSegments.size();
+  }
+
+  private int segmentCapacity(
+    final int segment)
+  {
+    if (this.direct) {
+      return this.directSegments.get(segment).capacity();
+    }
+    return this.heapSegments.get(segment).length;
+  }
+
+  private void allocateSegment(
+    final int values)
+  {
+    if (this.direct) {
+      this.directSegments.add(directBuffer(values));
+    } else {
+      this.heapSegments.add(new char[values]);
+    }
+  }
+
+  private static CharBuffer directBuffer(
+    final int values)
+  {
+    return ByteBuffer.allocateDirect(values * 2)
+      .order(ByteOrder.nativeOrder())
+      .asCharBuffer();
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.startup;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Measure the time taken for a freshly launched process to complete its
+ * first conversion, for each {@link Binary16StartupWorkload}, under each of
+ * the following launch modes:
+ * </p>
+ * <ul>
+ *   <li>{@code jvm-noshare}: a JVM with class data sharing disabled.</li>
+ *   <li>{@code jvm}: a JVM with the default CDS archive of the JDK.</li>
+ *   <li>{@code jvm-appcds}: a JVM with a dynamic AppCDS archive, created
+ *   beforehand by a training run of the same workload.</li>
+ *   <li>{@code native}: a native executable of {@link Binary16StartupMain},
+ *   if one is given with {@code --native}.</li>
+ * </ul>
+ * <p>
+ * Usage: {@code java -jar startup.jar [--iterations n] [--native path]}.
+ * Each measurement is the wall-clock time from just before the process is
+ * started to the moment the process reports that its first conversion is
+ * complete, and so excludes the time taken for the process to exit.
+ * </p>
+ */
+
+public final class Binary16StartupBenchmark
+{
+  private Binary16StartupBenchmark()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Run the benchmarks.
+   *
+   * @param args The command-line arguments
+   *
+   * @throws Exception On errors
+   */
+
+  public static void main(
+    final String[] args)
+    throws Exception
+  {
+    int iterations = 20;
+    Path nativeExecutable = null;
+
+    for (int index = 0; index < args.length; ++index) {
+      switch (args[index]) {
+        case "--iterations":
+          iterations = Integer.parseInt(args[++index]);
+          break;
+        case "--native":
+          nativeExecutable = Path.of(args[++index]);
+          break;
+        default:
+          throw new IllegalArgumentException(
+            "Unrecognized argument: " + args[index]);
+      }
+    }
+
+    final String java =
+      Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    final String classPath = System.getProperty("java.class.path");
+    final String main = Binary16StartupMain.class.getCanonicalName();
+    final Path directory = Files.createTempDirectory("ieee754b16-startup-");
+
+    System.out.printf(
+      "%-16s %-16s %10s %10s %10s%n",
+      "Mode", "Workload", "Min (ms)", "Median", "Max");
+
+    for (final Binary16StartupWorkload workload :
+      Binary16StartupWorkload.values()) {
+      final String name = workload.workloadName();
+
+      report("jvm-noshare", name, measure(iterations, List.of(
+        java, "-Xshare:off", "-cp", classPath, main, name)));
+
+      report("jvm", name, measure(iterations, List.of(
+        java, "-Xshare:auto", "-cp", classPath, main, name)));
+
+      final Path archive = directory.resolve(name + ".jsa");
+      run(List.of(
+        java,
+        "-XX:ArchiveClassesAtExit=" + archive,
+        "-cp",
+        classPath,
+        main,
+        name));
+      report("jvm-appcds", name, measure(iterations, List.of(
+        java,
+        "-XX:SharedArchiveFile=" + archive,
+        "-cp",
+        classPath,
+        main,
+        name)));
+      Files.deleteIfExists(archive);
+
+      if (nativeExecutable != null) {
+        report("native", name, measure(iterations, List.of(
+          nativeExecutable.toString(), name)));
+      }
+    }
+
+    Files.deleteIfExists(directory);
+  }
+
+  private static void report(
+    final String mode,
+    final String workload,
+    final double[] times)
+  {
+    Arrays.sort(times);
+    System.out.printf(
+      "%-16s %-16s %10.2f %10.2f %10.2f%n",
+      mode,
+      workload,
+      Double.valueOf(times[0]),
+      Double.valueOf(times[times.length / 2]),
+      Double.valueOf(times[times.length - 1]));
+  }
+
+  private static double[] measure(
+    final int iterations,
+    final List<String> command)
+    throws IOException, InterruptedException
+  {
+    /* One untimed launch to warm the file system cache. */
+    run(command);
+
+    final double[] times = new double[iterations];
+    for (int index = 0; index < iterations; ++index) {
+      times[index] = run(command);
+    }
+    return times;
+  }
+
+  /*
+   * Run the command, and return the number of milliseconds that elapsed
+   * between starting the process and the time reported by the process.
+   */
+
+  private static double run(
+    final List<String> command)
+    throws IOException, InterruptedException
+  {
+    final List<String> output = new ArrayList<>();
+    final ProcessBuilder builder = new ProcessBuilder(command);
+    builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+
+    final Instant start = Instant.now();
+    final Process process = builder.start();
+    try (BufferedReader reader = new BufferedReader(
+      new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line = reader.readLine();
+      while (line != null) {
+        output.add(line);
+        line = reader.readLine();
+      }
+    }
+
+    final int status = process.waitFor();
+    if (status != 0 || output.isEmpty()) {
+      throw new IOException(
+        String.format("Command %s failed with status %d", command, Integer.valueOf(status)));
+    }
+
+    final long startNanos =
+      start.getEpochSecond() * 1_000_000_000L + (long) start.getNano();
+    final long endNanos = Long.parseLong(output.get(0));
+    return (double) (endNanos - startNanos) / 1_000_000.0;
+  }
+}
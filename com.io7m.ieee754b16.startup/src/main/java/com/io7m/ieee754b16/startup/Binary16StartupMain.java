@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.startup;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Strings;
+import com.io7m.ieee754b16.graphics.Binary16SRGB;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ * The process launched by {@link Binary16StartupBenchmark}. The process
+ * performs the first conversion of the given workload, and then prints the
+ * wall-clock time at which the conversion completed (in nanoseconds since
+ * the epoch) followed by the result of the conversion.
+ * </p>
+ * <p>
+ * To measure a native executable, build one from the startup jar with:
+ * </p>
+ * <pre>
+ * native-image -cp startup.jar com.io7m.ieee754b16.startup.Binary16StartupMain startup
+ * </pre>
+ */
+
+public final class Binary16StartupMain
+{
+  private Binary16StartupMain()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Run a workload.
+   *
+   * @param args The workload name
+   */
+
+  public static void main(
+    final String[] args)
+  {
+    if (args.length != 1) {
+      System.err.println("usage: workload");
+      System.exit(1);
+      return;
+    }
+
+    final String result = run(Binary16StartupWorkload.ofName(args[0]));
+    final Instant time = Instant.now();
+
+    System.out.println(time.getEpochSecond() * 1_000_000_000L + time.getNano());
+    System.out.println(result);
+  }
+
+  /*
+   * Lambdas and method references are avoided here, as bootstrapping them
+   * would dominate the time being measured.
+   */
+
+  private static String run(
+    final Binary16StartupWorkload workload)
+  {
+    switch (workload) {
+      case WORKLOAD_CONVERT:
+        return convert();
+      case WORKLOAD_DECIMAL_STRING:
+        return decimalString();
+      case WORKLOAD_SRGB:
+        return srgb();
+      default:
+        throw new UnreachableCodeException();
+    }
+  }
+
+  private static String convert()
+  {
+    final char packed = Binary16.packFloat(1.5f);
+    return Float.toString(Binary16.unpackFloat(packed));
+  }
+
+  private static String decimalString()
+  {
+    return Binary16Strings.toDecimalString(Binary16.packFloat(3.14159f));
+  }
+
+  private static String srgb()
+  {
+    return Integer.toString(Binary16SRGB.encodeSRGB8(Binary16.packFloat(0.5f)));
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.startup;
+
+import java.util.Objects;
+
+/**
+ * The workloads measured by the startup benchmarks.
+ */
+
+public enum Binary16StartupWorkload
+{
+  /**
+   * Pack and unpack a single value with {@code Binary16}.
+   */
+
+  WORKLOAD_CONVERT("convert"),
+
+  /**
+   * Format a single value with {@code Binary16Strings}, which builds its
+   * decimal table on first use.
+   */
+
+  WORKLOAD_DECIMAL_STRING("decimal-string"),
+
+  /**
+   * Encode a single value with {@code Binary16SRGB}, which loads its
+   * encoding table on first use.
+   */
+
+  WORKLOAD_SRGB("srgb");
+
+  private final String workloadName;
+
+  Binary16StartupWorkload(
+    final String inName)
+  {
+    this.workloadName = Objects.requireNonNull(inName, "name");
+  }
+
+  /**
+   * @param name The workload name
+   *
+   * @return The workload with the given name
+   *
+   * @throws IllegalArgumentException If there is no such workload
+   */
+
+  public static Binary16StartupWorkload ofName(
+    final String name)
+  {
+    for (final Binary16StartupWorkload workload : values()) {
+      if (workload.workloadName.equals(name)) {
+        return workload;
+      }
+    }
+    throw new IllegalArgumentException("Unrecognized workload: " + name);
+  }
+
+  /**
+   * @return The workload name
+   */
+
+  public String workloadName()
+  {
+    return this.workloadName;
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16ArrayBuilder;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for Binary16ArrayBuilder.
+ */
+
+public final class Binary16ArrayBuilderTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  /**
+   * An empty builder produces an empty array.
+   */
+
+  @Test
+  public void testEmpty()
+  {
+    final Binary16ArrayBuilder b = new Binary16ArrayBuilder();
+    Assert.assertEquals(0L, b.size());
+    Assert.assertEquals(0L, (long) b.toArray().length);
+  }
+
+  /**
+   * Values are accumulated in order across many chunks.
+   */
+
+  @Test
+  public void testManyChunks()
+  {
+    final Binary16ArrayBuilder b = new Binary16ArrayBuilder();
+    for (int i = 0; i < 200_000; ++i) {
+      b.addPacked((char) i);
+    }
+
+    Assert.assertEquals(200_000L, b.size());
+    final char[] r = b.toArray();
+    for (int i = 0; i < r.length; ++i) {
+      Assert.assertEquals((long) (char) i, (long) r[i]);
+    }
+  }
+
+  /**
+   * Values are packed as expected.
+   */
+
+  @Test
+  public void testPacking()
+  {
+    final Binary16ArrayBuilder b = new Binary16ArrayBuilder();
+    b.addDouble(1.0);
+    b.addFloat(2.0f);
+    b.addDouble(Double.POSITIVE_INFINITY);
+
+    Assert.assertArrayEquals(
+      new char[]{
+        Binary16.packDouble(1.0),
+        Binary16.packFloat(2.0f),
+        Binary16.POSITIVE_INFINITY,
+      },
+      b.toArray());
+  }
+
+  /**
+   * Combining builders transfers values and preserves order, including
+   * partially filled chunks.
+   */
+
+  @Test
+  public void testAddAll()
+  {
+    final Binary16ArrayBuilder b0 = new Binary16ArrayBuilder();
+    final Binary16ArrayBuilder b1 = new Binary16ArrayBuilder();
+
+    for (int i = 0; i < 100; ++i) {
+      b0.addPacked((char) i);
+    }
+    for (int i = 100; i < 1000; ++i) {
+      b1.addPacked((char) i);
+    }
+
+    for (int k = 0; k < 10; ++k) {
+      final Binary16ArrayBuilder bx = new Binary16ArrayBuilder();
+      bx.addAll(b1);
+      b1.addAll(bx);
+    }
+
+    b0.addAll(b1);
+    Assert.assertEquals(0L, b1.size());
+    Assert.assertEquals(0L, (long) b1.toArray().length);
+
+    b0.addPacked((char) 1000);
+
+    final char[] r = b0.toArray();
+    Assert.assertEquals(1001L, (long) r.length);
+    for (int i = 0; i < r.length; ++i) {
+      Assert.assertEquals((long) i, (long) r[i]);
+    }
+  }
+
+  /**
+   * Builders cannot be combined with themselves.
+   */
+
+  @Test
+  public void testAddAllSelf()
+  {
+    final Binary16ArrayBuilder b = new Binary16ArrayBuilder();
+    this.expected.expect(IllegalArgumentException.class);
+    b.addAll(b);
+  }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.Binary16NaNMode;
+import com.io7m.ieee754b16.Binary16SubnormalMode;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+
+/**
+ * Tests for Binary16Arrays.
+ */
+
+public final class Binary16ArraysTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] randomFloats()
+  {
+    final Random random = new Random(0x5deece66dL);
+    final float[] values = new float[100_000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = Float.intBitsToFloat(random.nextInt());
+    }
+    values[0] = Float.intBitsToFloat(0x7f800001);
+    values[1] = Float.intBitsToFloat(0xffc00000);
+    return values;
+  }
+
+  /**
+   * Bulk packing matches scalar packing.
+   */
+
+  @Test
+  public void testPackFloats()
+  {
+    final float[] values = randomFloats();
+    final char[] r0 = new char[values.length + 2];
+    final char[] r1 = new char[values.length + 2];
+    final char[] r2 = new char[values.length + 2];
+
+    Binary16Arrays.packFloats(values, 0, r0, 2, values.length);
+    Binary16Arrays.packFloats(
+      values, 0, r1, 2, values.length, Binary16NaNMode.NAN_CANONICAL);
+    Binary16Arrays.packFloats(
+      values, 0, r2, 2, values.length, Binary16NaNMode.NAN_PRESERVE_PAYLOAD);
+
+    for (int i = 0; i < values.length; ++i) {
+      final float f = values[i];
+      Assert.assertEquals((long) Binary16.packFloat(f), (long) r0[i + 2]);
+      Assert.assertEquals((long) Binary16.packFloat(f), (long) r1[i + 2]);
+      Assert.assertEquals(
+        (long) Binary16.packFloatPreservingNaN(f),
+        (long) r2[i + 2]);
+    }
+  }
+
+  /**
+   * Bulk packing matches scalar packing.
+   */
+
+  @Test
+  public void testPackDoubles()
+  {
+    final float[] floats = randomFloats();
+    final double[] values = new double[floats.length];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (double) floats[i];
+    }
+    values[0] = Double.longBitsToDouble(0xfff8000000000001L);
+
+    final char[] r0 = new char[values.length];
+    final char[] r1 = new char[values.length];
+    final char[] r2 = new char[values.length];
+
+    Binary16Arrays.packDoubles(values, 0, r0, 0, values.length);
+    Binary16Arrays.packDoubles(
+      values, 0, r1, 0, values.length, Binary16NaNMode.NAN_CANONICAL);
+    Binary16Arrays.packDoubles(
+      values, 0, r2, 0, values.length, Binary16NaNMode.NAN_PRESERVE_PAYLOAD);
+
+    for (int i = 0; i < values.length; ++i) {
+      final double d = values[i];
+      Assert.assertEquals((long) Binary16.packDouble(d), (long) r0[i]);
+      Assert.assertEquals((long) Binary16.packDouble(d), (long) r1[i]);
+      Assert.assertEquals(
+        (long) Binary16.packDoublePreservingNaN(d),
+        (long) r2[i]);
+    }
+  }
+
+  /**
+   * Bulk saturating packing matches scalar saturating packing.
+   */
+
+  @Test
+  public void testPackSaturating()
+  {
+    final float[] values = randomFloats();
+    final double[] doubles = new double[values.length];
+    for (int i = 0; i < values.length; ++i) {
+      doubles[i] = (double) values[i];
+    }
+
+    final char[] r0 = new char[values.length];
+    final char[] r1 = new char[values.length];
+    final char[] r2 = new char[values.length];
+    final char[] r3 = new char[values.length];
+
+    Binary16Arrays.packFloatsSaturating(
+      values, 0, r0, 0, values.length, Binary16SubnormalMode.SUBNORMAL_PRESERVE);
+    Binary16Arrays.packFloatsSaturating(
+      values, 0, r1, 0, values.length, Binary16SubnormalMode.SUBNORMAL_FLUSH_TO_ZERO);
+    Binary16Arrays.packDoublesSaturating(
+      doubles, 0, r2, 0, values.length, Binary16SubnormalMode.SUBNORMAL_PRESERVE);
+    Binary16Arrays.packDoublesSaturating(
+      doubles, 0, r3, 0, values.length, Binary16SubnormalMode.SUBNORMAL_FLUSH_TO_ZERO);
+
+    for (int i = 0; i < values.length; ++i) {
+      final float f = values[i];
+      Assert.assertEquals(
+        (long) Binary16.packFloatSaturating(f), (long) r0[i]);
+      Assert.assertEquals(
+        (long) Binary16.packFloatSaturatingFlushToZero(f), (long) r1[i]);
+      Assert.assertEquals(
+        (long) Binary16.packFloatSaturating(f), (long) r2[i]);
+      Assert.assertEquals(
+        (long) Binary16.packFloatSaturatingFlushToZero(f), (long) r3[i]);
+    }
+  }
+
+  /**
+   * Bulk unpacking matches scalar unpacking.
+   */
+
+  @Test
+  public void testUnpack()
+  {
+    final char[] values = new char[65536];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (char) i;
+    }
+
+    final float[] f = new float[values.length];
+    final double[] d = new double[values.length];
+    Binary16Arrays.unpackFloats(values, 0, f, 0, values.length);
+    Binary16Arrays.unpackDoubles(values, 0, d, 0, values.length);
+
+    for (int i = 0; i < values.length; ++i) {
+      Assert.assertEquals(
+        (long) Float.floatToRawIntBits(Binary16.unpackFloat(values[i])),
+        (long) Float.floatToRawIntBits(f[i]));
+      Assert.assertEquals(
+        Double.doubleToRawLongBits(Binary16.unpackDouble(values[i])),
+        Double.doubleToRawLongBits(d[i]));
+    }
+  }
+
+  /**
+   * Bulk flush-to-zero and denormals-are-zero conversions match the scalar
+   * functions.
+   */
+
+  @Test
+  public void testSubnormalModes()
+  {
+    final float[] values = randomFloats();
+    final char[] p0 = new char[values.length];
+    final char[] p1 = new char[values.length];
+
+    Binary16Arrays.packFloats(
+      values, 0, p0, 0, values.length, Binary16SubnormalMode.SUBNORMAL_PRESERVE);
+    Binary16Arrays.packFloats(
+      values, 0, p1, 0, values.length, Binary16SubnormalMode.SUBNORMAL_FLUSH_TO_ZERO);
+
+    for (int i = 0; i < values.length; ++i) {
+      Assert.assertEquals((long) Binary16.packFloat(values[i]), (long) p0[i]);
+      Assert.assertEquals(
+        (long) Binary16.packFloatFlushToZero(values[i]), (long) p1[i]);
+    }
+
+    final char[] all = new char[65536];
+    for (int i = 0; i < all.length; ++i) {
+      all[i] = (char) i;
+    }
+
+    final float[] u0 = new float[all.length];
+    final float[] u1 = new float[all.length];
+    Binary16Arrays.unpackFloats(
+      all, 0, u0, 0, all.length, Binary16SubnormalMode.SUBNORMAL_PRESERVE);
+    Binary16Arrays.unpackFloats(
+      all, 0, u1, 0, all.length, Binary16SubnormalMode.SUBNORMAL_FLUSH_TO_ZERO);
+
+    for (int i = 0; i < all.length; ++i) {
+      Assert.assertEquals(
+        (long) Float.floatToRawIntBits(Binary16.unpackFloat(all[i])),
+        (long) Float.floatToRawIntBits(u0[i]));
+      Assert.assertEquals(
+        (long) Float.floatToRawIntBits(Binary16.unpackFloatDenormalsAreZero(all[i])),
+        (long) Float.floatToRawIntBits(u1[i]));
+    }
+  }
+
+  /**
+   * Canonicalizing NaNs in bulk matches the scalar function.
+   */
+
+  @Test
+  public void testCanonicalizeNaNs()
+  {
+    final char[] values = new char[65536];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (char) i;
+    }
+
+    Binary16Arrays.canonicalizeNaNs(values, 1, values.length - 1);
+    Assert.assertEquals(0L, (long) values[0]);
+    for (int i = 0; i < values.length; ++i) {
+      Assert.assertEquals(
+        (long) Binary16.canonicalizeNaN((char) i),
+        (long) values[i]);
+    }
+  }
+
+  /**
+   * Out of range source ranges are rejected.
+   */
+
+  @Test
+  public void testPackSourceOutOfRange()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Arrays.packFloats(new float[4], 1, new char[8], 0, 4);
+  }
+
+  /**
+   * Out of range target ranges are rejected.
+   */
+
+  @Test
+  public void testPackTargetOutOfRange()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Arrays.unpackFloats(new char[8], 0, new float[4], 1, 4);
+  }
+
+  /**
+   * The bulk ulp distances agree with the scalar distances.
+   */
+
+  @Test
+  public void testUlpDistances()
+  {
+    final Random random = new Random(0x5deece66dL);
+    final char[] x = new char[1000];
+    final char[] y = new char[1000];
+    for (int index = 0; index < x.length; ++index) {
+      x[index] = (char) random.nextInt(0x10000);
+      y[index] = (char) (x[index] + random.nextInt(9) - 4);
+    }
+
+    final int[] target = new int[1003];
+    Binary16Arrays.ulpDistances(x, 1, y, 2, target, 3, 997);
+    Assert.assertEquals(0, target[0]);
+    Assert.assertEquals(0, target[1]);
+    Assert.assertEquals(0, target[2]);
+
+    int maximum = 0;
+    for (int index = 0; index < 997; ++index) {
+      final int distance = Binary16.ulpDistance(x[1 + index], y[2 + index]);
+      Assert.assertEquals(distance, target[3 + index]);
+      maximum = Math.max(maximum, distance);
+    }
+    Assert.assertEquals(
+      maximum, Binary16Arrays.maxUlpDistance(x, 1, y, 2, 997));
+  }
+
+  /**
+   * The maximum ulp distance is the largest error between the arrays.
+   */
+
+  @Test
+  public void testMaxUlpDistance()
+  {
+    final char[] x = new char[100];
+    final char[] y = new char[100];
+    for (int index = 0; index < x.length; ++index) {
+      x[index] = Binary16.packFloat((float) index);
+      y[index] = x[index];
+    }
+
+    Assert.assertEquals(0, Binary16Arrays.maxUlpDistance(x, 0, y, 0, 100));
+    Assert.assertEquals(0, Binary16Arrays.maxUlpDistance(x, 0, y, 0, 0));
+
+    y[50] = Binary16.nextUp(Binary16.nextUp(y[50]));
+    y[60] = Binary16.nextDown(y[60]);
+    Assert.assertEquals(2, Binary16Arrays.maxUlpDistance(x, 0, y, 0, 100));
+    Assert.assertEquals(1, Binary16Arrays.maxUlpDistance(x, 51, y, 51, 49));
+
+    y[99] = Binary16.CANONICAL_NAN;
+    Assert.assertEquals(
+      Integer.MAX_VALUE, Binary16Arrays.maxUlpDistance(x, 0, y, 0, 100));
+    x[99] = (char) 0xfe01;
+    Assert.assertEquals(2, Binary16Arrays.maxUlpDistance(x, 0, y, 0, 100));
+  }
+
+  /**
+   * Out of bounds ranges are rejected.
+   */
+
+  @Test
+  public void testMaxUlpDistanceOutOfBounds()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Arrays.maxUlpDistance(new char[8], 0, new char[4], 0, 8);
+  }
+
+  /**
+   * Out of bounds ranges are rejected.
+   */
+
+  @Test
+  public void testUlpDistancesTargetOutOfBounds()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Arrays.ulpDistances(
+      new char[8], 0, new char[8], 0, new int[8], 1, 8);
+  }
+
+  /**
+   * The largest finite values pack as infinities in every bulk mode.
+   */
+
+  @Test
+  public void testPackLargestFiniteModes()
+  {
+    final float[] floats = {Float.MAX_VALUE, -Float.MAX_VALUE};
+    final double[] doubles = {(double) Float.MAX_VALUE, -Double.MAX_VALUE};
+    final char[] expected =
+      {Binary16.POSITIVE_INFINITY, Binary16.NEGATIVE_INFINITY};
+    final char[] target = new char[2];
+
+    Binary16Arrays.packFloats(floats, 0, target, 0, 2);
+    Assert.assertArrayEquals(expected, target);
+    Binary16Arrays.packDoubles(doubles, 0, target, 0, 2);
+    Assert.assertArrayEquals(expected, target);
+
+    for (final Binary16NaNMode mode : Binary16NaNMode.values()) {
+      Binary16Arrays.packFloats(floats, 0, target, 0, 2, mode);
+      Assert.assertArrayEquals(expected, target);
+      Binary16Arrays.packDoubles(doubles, 0, target, 0, 2, mode);
+      Assert.assertArrayEquals(expected, target);
+    }
+    for (final Binary16SubnormalMode mode : Binary16SubnormalMode.values()) {
+      Binary16Arrays.packFloats(floats, 0, target, 0, 2, mode);
+      Assert.assertArrayEquals(expected, target);
+    }
+  }
+
+  /**
+   * The constructor is unreachable.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Arrays> c =
+      Binary16Arrays.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.io.Binary16ReadableChannel;
+import com.io7m.ieee754b16.io.Binary16WritableChannel;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Tests for Binary16ReadableChannel and Binary16WritableChannel.
+ */
+
+public final class Binary16ChannelsTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] sequence(
+    final int count)
+  {
+    final float[] values = new float[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = (float) index * 0.25f;
+    }
+    return values;
+  }
+
+  private static void writeFile(
+    final Path file,
+    final float[] values,
+    final ByteOrder order)
+    throws IOException
+  {
+    try (Binary16WritableChannel output = new Binary16WritableChannel(
+      FileChannel.open(file, StandardOpenOption.WRITE), order, 100)) {
+      output.writeFloats(values, 0, values.length);
+    }
+  }
+
+  private static void checkSequence(
+    final Binary16ReadableChannel input,
+    final int count)
+    throws IOException
+  {
+    final float[] values = new float[count];
+    int done = 0;
+    while (done < count) {
+      done += input.readFloats(values, done, count - done);
+    }
+    for (int index = 0; index < count; ++index) {
+      Assert.assertEquals(
+        (long) Binary16.packFloat((float) index * 0.25f),
+        (long) Binary16.packFloat(values[index]));
+    }
+    Assert.assertEquals(-1L, (long) input.readFloats(values, 0, 1));
+  }
+
+  @Test
+  public void testFileRoundTrip()
+    throws IOException
+  {
+    final Path file = Files.createTempFile("ieee754b16-", ".bin");
+    try {
+      for (final ByteOrder order : new ByteOrder[]{
+        ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN,
+      }) {
+        writeFile(file, sequence(5000), order);
+        Assert.assertEquals(10000L, Files.size(file));
+
+        try (Binary16ReadableChannel input = new Binary16ReadableChannel(
+          FileChannel.open(file, StandardOpenOption.READ), order, 33)) {
+          checkSequence(input, 5000);
+        }
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testRawInterleaved()
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Binary16WritableChannel output = new Binary16WritableChannel(
+      Channels.newChannel(bytes), ByteOrder.BIG_ENDIAN, 4)) {
+      output.write(ByteBuffer.wrap(new byte[]{9}));
+      output.writeChars(new char[]{0x3c00, 0x4000}, 0, 2);
+      output.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+      output.writeDoubles(new double[]{-2.0}, 0, 1);
+    }
+    Assert.assertArrayEquals(
+      new byte[]{9, 0x3c, 0x00, 0x40, 0x00, 1, 2, 3, 4, 5, (byte) 0xc0, 0x00},
+      bytes.toByteArray());
+
+    try (Binary16ReadableChannel input = new Binary16ReadableChannel(
+      Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())),
+      ByteOrder.BIG_ENDIAN,
+      4)) {
+      final ByteBuffer one = ByteBuffer.allocate(1);
+      Assert.assertEquals(1L, (long) input.read(one));
+      Assert.assertEquals(9L, (long) one.get(0));
+
+      final char[] chars = new char[2];
+      int done = 0;
+      while (done < 2) {
+        done += input.readChars(chars, done, 2 - done);
+      }
+      Assert.assertArrayEquals(new char[]{0x3c00, 0x4000}, chars);
+
+      final ByteBuffer five = ByteBuffer.allocate(5);
+      while (five.hasRemaining()) {
+        input.read(five);
+      }
+      Assert.assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, five.array());
+
+      final double[] doubles = new double[1];
+      Assert.assertEquals(1L, (long) input.readDoubles(doubles, 0, 1));
+      Assert.assertEquals(0xc000L, (long) Binary16.packDouble(doubles[0]));
+      one.clear();
+      Assert.assertEquals(-1L, (long) input.read(one));
+    }
+  }
+
+  @Test
+  public void testTransferFromFile()
+    throws IOException
+  {
+    final Path source = Files.createTempFile("ieee754b16-", ".bin");
+    final Path target = Files.createTempFile("ieee754b16-", ".bin");
+    try {
+      writeFile(source, sequence(3000), ByteOrder.LITTLE_ENDIAN);
+
+      try (Binary16ReadableChannel input = new Binary16ReadableChannel(
+        FileChannel.open(source, StandardOpenOption.READ),
+        ByteOrder.LITTLE_ENDIAN,
+        64);
+           FileChannel output =
+             FileChannel.open(target, StandardOpenOption.WRITE)) {
+        final float[] first = new float[1];
+        Assert.assertEquals(1L, (long) input.readFloats(first, 0, 1));
+        Assert.assertEquals(5998L, input.transferTo(output));
+      }
+
+      final byte[] expected = Files.readAllBytes(source);
+      final byte[] received = Files.readAllBytes(target);
+      Assert.assertArrayEquals(
+        Arrays.copyOfRange(expected, 2, expected.length),
+        received);
+    } finally {
+      Files.deleteIfExists(source);
+      Files.deleteIfExists(target);
+    }
+  }
+
+  @Test
+  public void testTransferToFile()
+    throws IOException
+  {
+    final Path source = Files.createTempFile("ieee754b16-", ".bin");
+    final Path target = Files.createTempFile("ieee754b16-", ".bin");
+    try {
+      writeFile(source, sequence(3000), ByteOrder.LITTLE_ENDIAN);
+      final byte[] expected = Files.readAllBytes(source);
+
+      try (Binary16ReadableChannel input = new Binary16ReadableChannel(
+        Channels.newChannel(new ByteArrayInputStream(expected)),
+        ByteOrder.LITTLE_ENDIAN,
+        64);
+           FileChannel output =
+             FileChannel.open(target, StandardOpenOption.WRITE)) {
+        Assert.assertEquals(6000L, input.transferTo(output));
+      }
+      Assert.assertArrayEquals(expected, Files.readAllBytes(target));
+
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (Binary16ReadableChannel input = new Binary16ReadableChannel(
+        Channels.newChannel(new ByteArrayInputStream(expected)),
+        ByteOrder.LITTLE_ENDIAN,
+        64)) {
+        Assert.assertEquals(
+          6000L, input.transferTo(Channels.newChannel(bytes)));
+      }
+      Assert.assertArrayEquals(expected, bytes.toByteArray());
+    } finally {
+      Files.deleteIfExists(source);
+      Files.deleteIfExists(target);
+    }
+  }
+
+  @Test
+  public void testTruncated()
+    throws IOException
+  {
+    final Binary16ReadableChannel input = new Binary16ReadableChannel(
+      Channels.newChannel(new ByteArrayInputStream(new byte[]{0x3c})),
+      ByteOrder.BIG_ENDIAN);
+
+    this.expected.expect(EOFException.class);
+    input.readChars(new char[1], 0, 1);
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.codecs.Binary16CompressedBlocks;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Tests for Binary16CompressedBlocks.
+ */
+
+public final class Binary16CompressedBlocksTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  @Test
+  public void testRoundTrip()
+  {
+    final char[] values = Binary16XORCodecTest.sensorSeries(10000);
+    for (final int blockSize : new int[]{1, 7, 1024, 10000, 20000}) {
+      final Binary16CompressedBlocks blocks =
+        Binary16CompressedBlocks.encode(values, 0, values.length, blockSize);
+
+      Assert.assertEquals(10000L, (long) blocks.size());
+      Assert.assertEquals((long) blockSize, (long) blocks.blockSize());
+      Assert.assertEquals(
+        (long) ((10000 + blockSize - 1) / blockSize),
+        (long) blocks.blockCount());
+      Assert.assertArrayEquals(values, blocks.decode());
+    }
+  }
+
+  @Test
+  public void testRandomAccess()
+  {
+    final char[] values = Binary16XORCodecTest.sensorSeries(10000);
+    final Binary16CompressedBlocks blocks =
+      Binary16CompressedBlocks.encode(values, 0, values.length);
+
+    Assert.assertEquals(10L, (long) blocks.blockCount());
+    Assert.assertEquals(784L, (long) blocks.blockLength(9));
+
+    final char[] block = new char[1024];
+    Assert.assertEquals(1024L, (long) blocks.decodeBlock(5, block, 0));
+    Assert.assertArrayEquals(
+      Arrays.copyOfRange(values, 5 * 1024, 6 * 1024), block);
+
+    Assert.assertEquals(784L, (long) blocks.decodeBlock(9, block, 0));
+    Assert.assertArrayEquals(
+      Arrays.copyOfRange(values, 9 * 1024, 10000),
+      Arrays.copyOf(block, 784));
+
+    for (final int index : new int[]{0, 1023, 1024, 5000, 9999}) {
+      Assert.assertEquals((long) values[index], (long) blocks.get(index));
+    }
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final Binary16CompressedBlocks blocks =
+      Binary16CompressedBlocks.encode(new char[0], 0, 0);
+    Assert.assertEquals(0L, (long) blocks.blockCount());
+    Assert.assertEquals(0L, (long) blocks.decode().length);
+    Assert.assertEquals(
+      0L,
+      (long) Binary16CompressedBlocks.fromByteArray(blocks.toByteArray()).size());
+  }
+
+  @Test
+  public void testSerialization()
+  {
+    final char[] values = Binary16XORCodecTest.sensorSeries(5000);
+    final Binary16CompressedBlocks blocks =
+      Binary16CompressedBlocks.encode(values, 0, values.length, 300);
+    final Binary16CompressedBlocks read =
+      Binary16CompressedBlocks.fromByteArray(blocks.toByteArray());
+
+    Assert.assertEquals((long) blocks.size(), (long) read.size());
+    Assert.assertEquals((long) blocks.blockSize(), (long) read.blockSize());
+    Assert.assertEquals((long) blocks.encodedSize(), (long) read.encodedSize());
+    Assert.assertArrayEquals(values, read.decode());
+  }
+
+  @Test
+  public void testSerializationTruncated()
+  {
+    final char[] values = Binary16XORCodecTest.sensorSeries(5000);
+    final byte[] bytes =
+      Binary16CompressedBlocks.encode(values, 0, values.length).toByteArray();
+
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16CompressedBlocks.fromByteArray(Arrays.copyOf(bytes, 30));
+  }
+
+  private static byte[] forgedHeader(
+    final int size,
+    final int blockSize)
+  {
+    final byte[] bytes =
+      Binary16CompressedBlocks.encode(new char[4], 0, 4).toByteArray();
+    final ByteBuffer buffer = ByteBuffer.wrap(Arrays.copyOf(bytes, 16));
+    buffer.putInt(8, size);
+    buffer.putInt(12, blockSize);
+    return buffer.array();
+  }
+
+  @Test
+  public void testSerializationBlockCountOverflow()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16CompressedBlocks.fromByteArray(
+      forgedHeader(Integer.MAX_VALUE, 1));
+  }
+
+  @Test
+  public void testSerializationBlockCountExceedsInput()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16CompressedBlocks.fromByteArray(
+      forgedHeader(Integer.MAX_VALUE - 8, 4));
+  }
+
+  @Test
+  public void testSerializationConstant()
+  {
+    final char[] values = new char[10000];
+    Arrays.fill(values, (char) 0x3c00);
+    final Binary16CompressedBlocks blocks =
+      Binary16CompressedBlocks.encode(values, 0, values.length, 100);
+    Assert.assertArrayEquals(
+      values,
+      Binary16CompressedBlocks.fromByteArray(blocks.toByteArray()).decode());
+  }
+
+  @Test
+  public void testSerializationSizeExceedsData()
+  {
+    final byte[] bytes =
+      Binary16CompressedBlocks.encode(new char[4], 0, 4, 4).toByteArray();
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    buffer.putInt(8, Integer.MAX_VALUE - 8);
+    buffer.putInt(12, Integer.MAX_VALUE);
+
+    this.expected.expect(IllegalArgumentException.class);
+    this.expected.expectMessage("exceeds the encoded data");
+    Binary16CompressedBlocks.fromByteArray(bytes);
+  }
+
+  @Test
+  public void testSerializationBlockExceedsData()
+  {
+    final char[] values = Binary16XORCodecTest.sensorSeries(64);
+    final byte[] bytes =
+      Binary16CompressedBlocks.encode(values, 0, 64, 32).toByteArray();
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    final int first = buffer.getInt(16 + 4);
+    final int total = buffer.getInt(16 + 8);
+
+    /*
+     * Move almost all of the data into the second block, so the first
+     * block claims 32 values held in a single byte.
+     */
+
+    Assert.assertTrue(first > 4);
+    Assert.assertTrue(total > first);
+    buffer.putInt(16 + 4, 1);
+
+    this.expected.expect(IllegalArgumentException.class);
+    this.expected.expectMessage("Block size exceeds the encoded data");
+    Binary16CompressedBlocks.fromByteArray(bytes);
+  }
+
+  @Test
+  public void testSerializationBadMagic()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16CompressedBlocks.fromByteArray(new byte[64]);
+  }
+
+  @Test
+  public void testBlockOutOfBounds()
+  {
+    final Binary16CompressedBlocks blocks =
+      Binary16CompressedBlocks.encode(new char[10], 0, 10);
+
+    this.expected.expect(IndexOutOfBoundsException.class);
+    blocks.decodeBlock(1, new char[10], 0);
+  }
+
+  @Test
+  public void testBadBlockSize()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16CompressedBlocks.encode(new char[10], 0, 10, 0);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.Binary16ConversionStatistics;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for Binary16ConversionStatistics.
+ */
+
+public final class Binary16ConversionStatisticsTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] values()
+  {
+    return new float[]{
+      1.0f,
+      1.0001f,
+      70000.0f,
+      Float.POSITIVE_INFINITY,
+      Float.NaN,
+      1.0e-10f,
+      1.0e-6f,
+      0x1.0p-20f,
+      -0.0f,
+    };
+  }
+
+  /**
+   * Each kind of exception is counted.
+   */
+
+  @Test
+  public void testCounts()
+  {
+    final float[] values = values();
+    final char[] r0 = new char[values.length];
+    final char[] r1 = new char[values.length];
+    final Binary16ConversionStatistics stats =
+      new Binary16ConversionStatistics();
+
+    Binary16Arrays.packFloats(values, 0, r0, 0, values.length);
+    Binary16Arrays.packFloats(values, 0, r1, 0, values.length, stats);
+    Assert.assertArrayEquals(r0, r1);
+
+    Assert.assertEquals((long) values.length, stats.conversions());
+    Assert.assertEquals(1L, stats.nans());
+    Assert.assertEquals(4L, stats.inexact());
+    Assert.assertEquals(1L, stats.overflows());
+    Assert.assertEquals(1L, stats.underflowsToZero());
+    Assert.assertEquals(1L, stats.underflowsToSubnormal());
+    Assert.assertEquals(1.0, stats.maximumRelativeError(), 0.0);
+    Assert.assertEquals(
+      (double) 1.0001f - 1.0, stats.maximumAbsoluteError(), 0.0);
+  }
+
+  /**
+   * The largest finite values are counted as overflows, and do not affect
+   * the maximum errors.
+   */
+
+  @Test
+  public void testLargestFinite()
+  {
+    final float[] values = {Float.MAX_VALUE, 1.0e6f, -Float.MAX_VALUE, 1.0001f};
+    final char[] result = new char[values.length];
+    final Binary16ConversionStatistics stats =
+      new Binary16ConversionStatistics();
+    Binary16Arrays.packFloats(values, 0, result, 0, values.length, stats);
+
+    Assert.assertEquals(0L, stats.nans());
+    Assert.assertEquals(3L, stats.overflows());
+    Assert.assertEquals(4L, stats.inexact());
+    Assert.assertFalse(Double.isNaN(stats.maximumAbsoluteError()));
+    Assert.assertFalse(Double.isNaN(stats.maximumRelativeError()));
+    Assert.assertEquals(
+      (double) 1.0001f - 1.0, stats.maximumAbsoluteError(), 0.0);
+  }
+
+  /**
+   * Exactly representable values are not counted as exceptions.
+   */
+
+  @Test
+  public void testExact()
+  {
+    final float[] values = new float[65536];
+    int count = 0;
+    for (int index = 0; index < 65536; ++index) {
+      final char k = (char) index;
+      if (!Binary16.isNaN(k)) {
+        values[count] = Binary16.unpackFloat(k);
+        ++count;
+      }
+    }
+
+    final char[] result = new char[count];
+    final Binary16ConversionStatistics stats =
+      new Binary16ConversionStatistics();
+    Binary16Arrays.packFloats(values, 0, result, 0, count, stats);
+
+    Assert.assertEquals((long) count, stats.conversions());
+    Assert.assertEquals(0L, stats.nans());
+    Assert.assertEquals(0L, stats.overflows());
+    Assert.assertEquals(0L, stats.underflowsToZero());
+    Assert.assertEquals(0L, stats.underflowsToSubnormal());
+  }
+
+  /**
+   * Disabled statistics are not updated.
+   */
+
+  @Test
+  public void testDisabled()
+  {
+    final float[] values = values();
+    final char[] r0 = new char[values.length];
+    final char[] r1 = new char[values.length];
+    final Binary16ConversionStatistics stats =
+      new Binary16ConversionStatistics();
+    stats.setEnabled(false);
+    Assert.assertFalse(stats.isEnabled());
+
+    Binary16Arrays.packFloats(values, 0, r0, 0, values.length);
+    Binary16Arrays.packFloats(values, 0, r1, 0, values.length, stats);
+    Assert.assertArrayEquals(r0, r1);
+    Assert.assertEquals(0L, stats.conversions());
+    Assert.assertEquals(0L, stats.inexact());
+  }
+
+  /**
+   * Statistics can be merged and reset.
+   */
+
+  @Test
+  public void testMergeReset()
+  {
+    final float[] values = values();
+    final char[] r = new char[values.length];
+    final Binary16ConversionStatistics s0 =
+      new Binary16ConversionStatistics();
+    final Binary16ConversionStatistics s1 =
+      new Binary16ConversionStatistics();
+
+    Binary16Arrays.packFloats(values, 0, r, 0, 3, s0);
+    Binary16Arrays.packFloats(values, 3, r, 3, values.length - 3, s1);
+    s0.merge(s1);
+
+    Assert.assertEquals((long) values.length, s0.conversions());
+    Assert.assertEquals(1L, s0.nans());
+    Assert.assertEquals(4L, s0.inexact());
+    Assert.assertEquals(1L, s0.overflows());
+    Assert.assertEquals(1.0, s0.maximumRelativeError(), 0.0);
+
+    s0.reset();
+    Assert.assertTrue(s0.isEnabled());
+    Assert.assertEquals(0L, s0.conversions());
+    Assert.assertEquals(0L, s0.nans());
+    Assert.assertEquals(0L, s0.inexact());
+    Assert.assertEquals(0L, s0.overflows());
+    Assert.assertEquals(0L, s0.underflowsToZero());
+    Assert.assertEquals(0L, s0.underflowsToSubnormal());
+    Assert.assertEquals(0.0, s0.maximumAbsoluteError(), 0.0);
+    Assert.assertEquals(0.0, s0.maximumRelativeError(), 0.0);
+  }
+
+  /**
+   * Out of range arguments are rejected.
+   */
+
+  @Test
+  public void testRange()
+  {
+    final Binary16ConversionStatistics stats =
+      new Binary16ConversionStatistics();
+
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Arrays.packFloats(new float[4], 1, new char[4], 0, 4, stats);
+  }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16EXR;
+import com.io7m.ieee754b16.graphics.Binary16Image;
+import com.io7m.ieee754b16.graphics.Binary16ImageLayout;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tests for Binary16EXR.
+ */
+
+public final class Binary16EXRTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static byte[] write(
+    final Binary16Image image)
+    throws IOException
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Binary16EXR.write(out, image);
+    return out.toByteArray();
+  }
+
+  private static Binary16Image read(
+    final byte[] data,
+    final Binary16ImageLayout layout)
+    throws IOException
+  {
+    return Binary16EXR.read(new ByteArrayInputStream(data), layout);
+  }
+
+  private static int indexOf(
+    final byte[] data,
+    final String text)
+  {
+    final byte[] pattern = text.getBytes(StandardCharsets.US_ASCII);
+    for (int index = 0; index + pattern.length <= data.length; ++index) {
+      if (Arrays.equals(
+        data, index, index + pattern.length, pattern, 0, pattern.length)) {
+        return index;
+      }
+    }
+    throw new IllegalStateException("Missing " + text);
+  }
+
+  private static void putString(
+    final ByteBuffer buffer,
+    final String text)
+  {
+    buffer.put(text.getBytes(StandardCharsets.US_ASCII));
+    buffer.put((byte) 0);
+  }
+
+  private static void putChannel(
+    final ByteBuffer buffer,
+    final String name,
+    final int type)
+  {
+    putString(buffer, name);
+    buffer.putInt(type);
+    buffer.putInt(0);
+    buffer.putInt(1);
+    buffer.putInt(1);
+  }
+
+  /*
+   * A 2x1 image with HALF channels G and R, and a FLOAT channel Z, with a
+   * data window whose origin is not zero.
+   */
+
+  private static byte[] partialChannels()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(20000630);
+    buffer.putInt(2);
+
+    putString(buffer, "channels");
+    putString(buffer, "chlist");
+    buffer.putInt(3 * 18 + 1);
+    putChannel(buffer, "G", 1);
+    putChannel(buffer, "R", 1);
+    putChannel(buffer, "Z", 2);
+    buffer.put((byte) 0);
+
+    putString(buffer, "compression");
+    putString(buffer, "compression");
+    buffer.putInt(1);
+    buffer.put((byte) 0);
+
+    putString(buffer, "dataWindow");
+    putString(buffer, "box2i");
+    buffer.putInt(16);
+    buffer.putInt(10);
+    buffer.putInt(20);
+    buffer.putInt(11);
+    buffer.putInt(20);
+
+    putString(buffer, "owner");
+    putString(buffer, "string");
+    buffer.putInt(3);
+    buffer.put("abc".getBytes(StandardCharsets.US_ASCII));
+    buffer.put((byte) 0);
+
+    buffer.putLong(buffer.position() + 8L);
+    buffer.putInt(20);
+    buffer.putInt(2 * 2 + 2 * 2 + 2 * 4);
+    buffer.putChar(Binary16.packFloat(1.0f));
+    buffer.putChar(Binary16.packFloat(2.0f));
+    buffer.putChar(Binary16.packFloat(3.0f));
+    buffer.putChar(Binary16.packFloat(4.0f));
+    buffer.putFloat(100.0f);
+    buffer.putFloat(200.0f);
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16EXR> c =
+      Binary16EXR.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testRoundTrip()
+    throws Exception
+  {
+    for (final Binary16ImageLayout writeLayout : Binary16ImageLayout.values()) {
+      for (final Binary16ImageLayout readLayout : Binary16ImageLayout.values()) {
+        final int width = 23;
+        final int height = 17;
+        final float[] source =
+          Binary16ImageTest.randomFramebuffer(width, height);
+        final Binary16Image image =
+          Binary16Image.create(width, height, writeLayout);
+        image.packFloats(source, 0);
+
+        final Binary16Image result = read(write(image), readLayout);
+        Assert.assertEquals(readLayout, result.layout());
+        Assert.assertEquals(width, result.width());
+        Assert.assertEquals(height, result.height());
+
+        for (int y = 0; y < height; ++y) {
+          for (int x = 0; x < width; ++x) {
+            for (int c = 0; c < Binary16Image.CHANNELS; ++c) {
+              Assert.assertEquals(
+                image.getPacked(x, y, c),
+                result.getPacked(x, y, c));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testWriteStructure()
+    throws Exception
+  {
+    final Binary16Image image =
+      Binary16Image.create(3, 2, Binary16ImageLayout.LAYOUT_PLANAR);
+    image.setFloat(0, 1, 0, 0.5f);
+    image.setFloat(0, 1, 3, 0.25f);
+
+    final byte[] data = write(image);
+    final ByteBuffer buffer =
+      ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+
+    Assert.assertEquals(0x76, data[0] & 0xff);
+    Assert.assertEquals(0x2f, data[1] & 0xff);
+    Assert.assertEquals(0x31, data[2] & 0xff);
+    Assert.assertEquals(0x01, data[3] & 0xff);
+    Assert.assertEquals(2, buffer.getInt(4));
+
+    final int chunkSize = 8 + 3 * 4 * 2;
+    final int headerEnd = data.length - 2 * 8 - 2 * chunkSize;
+    Assert.assertEquals(0, data[headerEnd - 1]);
+    Assert.assertEquals(headerEnd + 16, buffer.getLong(headerEnd));
+    Assert.assertEquals(headerEnd + 16 + chunkSize, buffer.getLong(headerEnd + 8));
+
+    final int chunk1 = headerEnd + 16 + chunkSize;
+    Assert.assertEquals(1, buffer.getInt(chunk1));
+    Assert.assertEquals(chunkSize - 8, buffer.getInt(chunk1 + 4));
+    Assert.assertEquals(Binary16.packFloat(0.25f), buffer.getChar(chunk1 + 8));
+    Assert.assertEquals(Binary16.packFloat(0.5f), buffer.getChar(chunk1 + 8 + 18));
+
+    indexOf(data, "channels\0chlist\0");
+    indexOf(data, "dataWindow\0box2i\0");
+    indexOf(data, "displayWindow\0box2i\0");
+    indexOf(data, "lineOrder\0lineOrder\0");
+    indexOf(data, "pixelAspectRatio\0float\0");
+    indexOf(data, "screenWindowCenter\0v2f\0");
+    indexOf(data, "screenWindowWidth\0float\0");
+  }
+
+  @Test
+  public void testReadPartialChannels()
+    throws Exception
+  {
+    final Binary16Image image =
+      read(partialChannels(), Binary16ImageLayout.LAYOUT_INTERLEAVED);
+
+    Assert.assertEquals(2, image.width());
+    Assert.assertEquals(1, image.height());
+    Assert.assertEquals(Binary16.packFloat(3.0f), image.getPacked(0, 0, 0));
+    Assert.assertEquals(Binary16.packFloat(4.0f), image.getPacked(1, 0, 0));
+    Assert.assertEquals(Binary16.packFloat(1.0f), image.getPacked(0, 0, 1));
+    Assert.assertEquals(Binary16.packFloat(2.0f), image.getPacked(1, 0, 1));
+    Assert.assertEquals(0, image.getPacked(0, 0, 2));
+    Assert.assertEquals(0, image.getPacked(1, 0, 2));
+    Assert.assertEquals(Binary16.packFloat(1.0f), image.getPacked(0, 0, 3));
+    Assert.assertEquals(Binary16.packFloat(1.0f), image.getPacked(1, 0, 3));
+  }
+
+  @Test
+  public void testReadBadMagic()
+    throws Exception
+  {
+    final byte[] data = partialChannels();
+    data[0] = 0;
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("magic");
+    read(data, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testReadTiled()
+    throws Exception
+  {
+    final byte[] data = partialChannels();
+    data[5] = 0x02;
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("scanline");
+    read(data, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testReadCompressed()
+    throws Exception
+  {
+    final byte[] data = partialChannels();
+    data[indexOf(data, "compression\0compression\0") + 28] = 3;
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("NO_COMPRESSION");
+    read(data, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testReadFloatColour()
+    throws Exception
+  {
+    final byte[] data = partialChannels();
+    data[indexOf(data, "R\0") + 2] = 2;
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("HALF");
+    read(data, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testReadMissingDataWindow()
+    throws Exception
+  {
+    final byte[] data = partialChannels();
+    data[indexOf(data, "dataWindow")] = 'x';
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("required");
+    read(data, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testReadTruncated()
+    throws Exception
+  {
+    final byte[] data = partialChannels();
+    this.expected.expect(IOException.class);
+    read(Arrays.copyOf(data, data.length - 3), Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testReadForgedDataWindow()
+    throws Exception
+  {
+    final Binary16Image image =
+      Binary16Image.create(1, 1, Binary16ImageLayout.LAYOUT_PLANAR);
+    final byte[] data = write(image);
+
+    final ByteBuffer buffer =
+      ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    final int window = indexOf(data, "dataWindow\0box2i\0") + 17 + 4;
+    buffer.putInt(window + 8, 16383);
+    buffer.putInt(window + 12, 16383);
+
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("16384x16384");
+    read(data, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testReadOverflowingDataWindow()
+    throws Exception
+  {
+    final byte[] data = partialChannels();
+    final ByteBuffer buffer =
+      ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    final int window = indexOf(data, "dataWindow\0box2i\0") + 17 + 4;
+    buffer.putInt(window, Integer.MIN_VALUE);
+    buffer.putInt(window + 8, Integer.MAX_VALUE);
+
+    this.expected.expect(IOException.class);
+    read(data, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+}
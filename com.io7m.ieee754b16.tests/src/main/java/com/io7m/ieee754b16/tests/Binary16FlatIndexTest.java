@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.search.Binary16FlatIndex;
+import com.io7m.ieee754b16.search.Binary16Metric;
+import com.io7m.ieee754b16.search.Binary16Neighbor;
+import com.io7m.ieee754b16.search.Binary16VectorStore;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Tests for Binary16FlatIndex.
+ */
+
+public final class Binary16FlatIndexTest
+{
+  private static final int DIMENSIONS = 24;
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static Binary16FlatIndex index(
+    final Binary16VectorStore store,
+    final Binary16Metric metric,
+    final float[] vectors)
+  {
+    final Binary16FlatIndex index = Binary16FlatIndex.create(store, metric);
+    for (int offset = 0; offset < vectors.length; offset += DIMENSIONS) {
+      index.add(vectors, offset);
+    }
+    return index;
+  }
+
+  private static int[] referenceIds(
+    final Binary16Metric metric,
+    final float[] query,
+    final float[] vectors,
+    final int k)
+  {
+    final int count = vectors.length / DIMENSIONS;
+    final double[] distances = new double[count];
+    for (int id = 0; id < count; ++id) {
+      distances[id] = Binary16VectorStoreTest.referenceDistance(
+        metric, query, vectors, id * DIMENSIONS);
+    }
+    return IntStream.range(0, count)
+      .boxed()
+      .sorted(Comparator.comparingDouble(id -> distances[id]))
+      .limit(k)
+      .mapToInt(Integer::intValue)
+      .toArray();
+  }
+
+  private static int[] ids(
+    final List<Binary16Neighbor> neighbors)
+  {
+    return neighbors.stream().mapToInt(Binary16Neighbor::id).toArray();
+  }
+
+  @Test
+  public void testSearchMatchesReference()
+  {
+    final float[] vectors =
+      Binary16VectorStoreTest.randomVectors(2000, DIMENSIONS, 10L);
+    final float[] queries =
+      Binary16VectorStoreTest.randomVectors(20, DIMENSIONS, 11L);
+
+    for (final Binary16Metric metric : Binary16Metric.values()) {
+      final Binary16FlatIndex index =
+        index(Binary16VectorStore.createHeap(DIMENSIONS), metric, vectors);
+      Assert.assertEquals(metric, index.metric());
+      Assert.assertEquals(2000, index.store().size());
+
+      for (int q = 0; q < 20; ++q) {
+        final float[] query =
+          Arrays.copyOfRange(queries, q * DIMENSIONS, (q + 1) * DIMENSIONS);
+        final List<Binary16Neighbor> result = index.search(query, 10);
+        Assert.assertArrayEquals(
+          referenceIds(metric, query, vectors, 10), ids(result));
+
+        for (int r = 1; r < result.size(); ++r) {
+          Assert.assertTrue(
+            result.get(r - 1).distance() <= result.get(r).distance());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParallelAndBatchMatchSequential()
+  {
+    final float[] vectors =
+      Binary16VectorStoreTest.randomVectors(10000, DIMENSIONS, 12L);
+    final float[][] queries = new float[8][];
+    for (int q = 0; q < queries.length; ++q) {
+      queries[q] = Binary16VectorStoreTest.randomVectors(1, DIMENSIONS, 100L + q);
+    }
+
+    for (final Binary16Metric metric : Binary16Metric.values()) {
+      final Binary16FlatIndex heap =
+        index(Binary16VectorStore.createHeap(DIMENSIONS), metric, vectors);
+      final Binary16FlatIndex direct =
+        index(Binary16VectorStore.createDirect(DIMENSIONS), metric, vectors);
+
+      final List<List<Binary16Neighbor>> batch = heap.searchBatch(queries, 7);
+      Assert.assertEquals(queries.length, batch.size());
+      for (int q = 0; q < queries.length; ++q) {
+        final List<Binary16Neighbor> sequential = heap.search(queries[q], 7);
+        Assert.assertEquals(7, sequential.size());
+        Assert.assertEquals(sequential, heap.searchParallel(queries[q], 7));
+        Assert.assertEquals(sequential, batch.get(q));
+        Assert.assertEquals(sequential, direct.search(queries[q], 7));
+      }
+    }
+  }
+
+  @Test
+  public void testSmallStore()
+  {
+    final float[] vectors =
+      Binary16VectorStoreTest.randomVectors(3, DIMENSIONS, 13L);
+    final Binary16FlatIndex index = index(
+      Binary16VectorStore.createHeap(DIMENSIONS),
+      Binary16Metric.METRIC_EUCLIDEAN,
+      vectors);
+
+    final float[] query = Arrays.copyOfRange(vectors, DIMENSIONS, DIMENSIONS * 2);
+    final List<Binary16Neighbor> result = index.search(query, 10);
+    Assert.assertEquals(3, result.size());
+    Assert.assertEquals(1, result.get(0).id());
+    Assert.assertEquals(result, index.searchParallel(query, 10));
+    Assert.assertEquals(List.of(), index.search(query, 0));
+  }
+
+  @Test
+  public void testEmptyStore()
+  {
+    final Binary16FlatIndex index = Binary16FlatIndex.create(
+      Binary16VectorStore.createHeap(2), Binary16Metric.METRIC_COSINE);
+    Assert.assertEquals(List.of(), index.search(new float[2], 4));
+    Assert.assertEquals(List.of(), index.searchParallel(new float[2], 4));
+  }
+
+  @Test
+  public void testWrongDimensions()
+  {
+    final Binary16FlatIndex index = Binary16FlatIndex.create(
+      Binary16VectorStore.createHeap(2), Binary16Metric.METRIC_COSINE);
+    this.expected.expect(IllegalArgumentException.class);
+    index.search(new float[3], 4);
+  }
+
+  @Test
+  public void testNegativeK()
+  {
+    final Binary16FlatIndex index = Binary16FlatIndex.create(
+      Binary16VectorStore.createHeap(2), Binary16Metric.METRIC_COSINE);
+    this.expected.expect(IllegalArgumentException.class);
+    index.searchBatch(new float[][]{new float[2]}, -1);
+  }
+
+  @Test
+  public void testNeighborEquality()
+  {
+    final float[] vectors =
+      Binary16VectorStoreTest.randomVectors(2, DIMENSIONS, 14L);
+    final Binary16FlatIndex index = index(
+      Binary16VectorStore.createHeap(DIMENSIONS),
+      Binary16Metric.METRIC_DOT_PRODUCT,
+      vectors);
+    final float[] query = Arrays.copyOf(vectors, DIMENSIONS);
+    final List<Binary16Neighbor> a = index.search(query, 2);
+    final List<Binary16Neighbor> b = index.search(query, 2);
+
+    Assert.assertEquals(a.get(0), a.get(0));
+    Assert.assertEquals(a.get(0), b.get(0));
+    Assert.assertEquals(a.get(0).hashCode(), b.get(0).hashCode());
+    Assert.assertNotEquals(a.get(0), a.get(1));
+    Assert.assertNotEquals(a.get(0), null);
+    Assert.assertNotEquals(a.get(0), Integer.valueOf(23));
+    Assert.assertTrue(a.get(0).toString().contains("Binary16Neighbor"));
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.search.Binary16FlatIndex;
+import com.io7m.ieee754b16.search.Binary16IVFIndex;
+import com.io7m.ieee754b16.search.Binary16Metric;
+import com.io7m.ieee754b16.search.Binary16Neighbor;
+import com.io7m.ieee754b16.search.Binary16VectorStore;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for Binary16IVFIndex.
+ */
+
+public final class Binary16IVFIndexTest
+{
+  private static final int DIMENSIONS = 16;
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  /*
+   * Vectors scattered around a number of random cluster centers.
+   */
+
+  private static Binary16VectorStore clustered(
+    final int count,
+    final int clusters,
+    final long seed)
+  {
+    final Random random = new Random(seed);
+    final float[] centers = new float[clusters * DIMENSIONS];
+    for (int index = 0; index < centers.length; ++index) {
+      centers[index] = (float) (random.nextGaussian() * 4.0);
+    }
+
+    final Binary16VectorStore store = Binary16VectorStore.createHeap(DIMENSIONS);
+    final float[] vector = new float[DIMENSIONS];
+    for (int index = 0; index < count; ++index) {
+      final int cluster = random.nextInt(clusters);
+      for (int d = 0; d < DIMENSIONS; ++d) {
+        vector[d] = centers[cluster * DIMENSIONS + d]
+          + (float) random.nextGaussian();
+      }
+      store.add(vector, 0);
+    }
+    return store;
+  }
+
+  private static Set<Integer> idSet(
+    final List<Binary16Neighbor> neighbors)
+  {
+    return neighbors.stream()
+      .map(n -> Integer.valueOf(n.id()))
+      .collect(Collectors.toSet());
+  }
+
+  @Test
+  public void testAllProbesMatchesFlat()
+  {
+    final Binary16VectorStore store = clustered(3000, 20, 1L);
+    for (final Binary16Metric metric : Binary16Metric.values()) {
+      final Binary16IVFIndex ivf =
+        Binary16IVFIndex.train(store, metric, 16, 8, 2L);
+      final Binary16FlatIndex flat = Binary16FlatIndex.create(store, metric);
+      Assert.assertEquals(16, ivf.listCount());
+      Assert.assertEquals(metric, ivf.metric());
+      Assert.assertSame(store, ivf.store());
+
+      int total = 0;
+      for (int list = 0; list < ivf.listCount(); ++list) {
+        total += ivf.listSize(list);
+      }
+      Assert.assertEquals(store.size(), total);
+
+      for (int q = 0; q < 10; ++q) {
+        final float[] query =
+          Binary16VectorStoreTest.randomVectors(1, DIMENSIONS, 50L + q);
+        Assert.assertEquals(
+          flat.search(query, 10),
+          ivf.search(query, 10, ivf.listCount()));
+      }
+    }
+  }
+
+  @Test
+  public void testRecall()
+  {
+    final Binary16VectorStore store = clustered(20000, 64, 3L);
+    for (final Binary16Metric metric : Binary16Metric.values()) {
+      final Binary16IVFIndex ivf =
+        Binary16IVFIndex.train(store, metric, 64, 10, 4L);
+      final Binary16FlatIndex flat = Binary16FlatIndex.create(store, metric);
+
+      final float[][] queries = new float[50][];
+      final float[] vector = new float[DIMENSIONS];
+      for (int q = 0; q < queries.length; ++q) {
+        store.get(q * 97, vector, 0);
+        queries[q] = vector.clone();
+        queries[q][0] += 0.5f;
+      }
+
+      final List<List<Binary16Neighbor>> approximate =
+        ivf.searchBatch(queries, 10, 8);
+      int found = 0;
+      for (int q = 0; q < queries.length; ++q) {
+        final Set<Integer> exact = idSet(flat.search(queries[q], 10));
+        exact.retainAll(idSet(approximate.get(q)));
+        found += exact.size();
+      }
+
+      final double recall = (double) found / (double) (queries.length * 10);
+      Assert.assertTrue(
+        String.format("%s recall %f", metric, Double.valueOf(recall)),
+        recall >= 0.9);
+    }
+  }
+
+  @Test
+  public void testAdd()
+  {
+    final Binary16VectorStore store = clustered(1000, 8, 5L);
+    final Binary16IVFIndex ivf =
+      Binary16IVFIndex.train(store, Binary16Metric.METRIC_EUCLIDEAN, 8, 4, 6L);
+
+    final float[] vector = new float[DIMENSIONS];
+    vector[3] = 1000.0f;
+    final int id = ivf.add(vector, 0);
+    Assert.assertEquals(1000, id);
+
+    final List<Binary16Neighbor> result = ivf.search(vector, 1, 1);
+    Assert.assertEquals(id, result.get(0).id());
+    Assert.assertEquals(0.0f, result.get(0).distance(), 0.0f);
+  }
+
+  @Test
+  public void testRefresh()
+  {
+    final Binary16VectorStore store = clustered(1000, 8, 7L);
+    final Binary16IVFIndex ivf =
+      Binary16IVFIndex.train(store, Binary16Metric.METRIC_COSINE, 8, 4, 8L);
+
+    final float[] vector = new float[DIMENSIONS];
+    vector[0] = 1.0f;
+    final int id = store.add(vector, 0);
+    Assert.assertFalse(
+      idSet(ivf.search(vector, 10, 8)).contains(Integer.valueOf(id)));
+
+    ivf.refresh();
+    Assert.assertEquals(id, ivf.search(vector, 1, 8).get(0).id());
+  }
+
+  @Test
+  public void testAddAfterStoreAdd()
+  {
+    final Binary16VectorStore store = clustered(1000, 8, 9L);
+    final Binary16IVFIndex ivf =
+      Binary16IVFIndex.train(store, Binary16Metric.METRIC_EUCLIDEAN, 8, 4, 10L);
+
+    final float[] first = new float[DIMENSIONS];
+    first[1] = 1000.0f;
+    final int firstId = store.add(first, 0);
+
+    final float[] second = new float[DIMENSIONS];
+    second[2] = 1000.0f;
+    final int secondId = ivf.add(second, 0);
+    final float[] third = new float[DIMENSIONS];
+    third[3] = 1000.0f;
+    final int thirdId = ivf.add(third, 0);
+
+    Assert.assertEquals(firstId, ivf.search(first, 1, 8).get(0).id());
+    Assert.assertEquals(secondId, ivf.search(second, 1, 8).get(0).id());
+    Assert.assertEquals(thirdId, ivf.search(third, 1, 8).get(0).id());
+
+    int total = 0;
+    for (int list = 0; list < ivf.listCount(); ++list) {
+      total += ivf.listSize(list);
+    }
+    Assert.assertEquals(store.size(), total);
+  }
+
+  @Test
+  public void testListCountZero()
+  {
+    final Binary16VectorStore store = clustered(10, 2, 9L);
+    this.expected.expect(IllegalArgumentException.class);
+    this.expected.expectMessage("List count");
+    Binary16IVFIndex.train(store, Binary16Metric.METRIC_EUCLIDEAN, 0, 1, 0L);
+  }
+
+  @Test
+  public void testListCountTooLarge()
+  {
+    final Binary16VectorStore store = clustered(10, 2, 10L);
+    this.expected.expect(IllegalArgumentException.class);
+    this.expected.expectMessage("List count");
+    Binary16IVFIndex.train(store, Binary16Metric.METRIC_EUCLIDEAN, 11, 1, 0L);
+  }
+
+  @Test
+  public void testIterationsNegative()
+  {
+    final Binary16VectorStore store = clustered(10, 2, 11L);
+    this.expected.expect(IllegalArgumentException.class);
+    this.expected.expectMessage("Iteration count");
+    Binary16IVFIndex.train(store, Binary16Metric.METRIC_EUCLIDEAN, 2, -1, 0L);
+  }
+
+  @Test
+  public void testProbesInvalid()
+  {
+    final Binary16VectorStore store = clustered(10, 2, 12L);
+    final Binary16IVFIndex ivf =
+      Binary16IVFIndex.train(store, Binary16Metric.METRIC_EUCLIDEAN, 2, 1, 0L);
+    this.expected.expect(IllegalArgumentException.class);
+    this.expected.expectMessage("Probe count");
+    ivf.search(new float[DIMENSIONS], 1, 3);
+  }
+
+  @Test
+  public void testQueryInvalid()
+  {
+    final Binary16VectorStore store = clustered(10, 2, 13L);
+    final Binary16IVFIndex ivf =
+      Binary16IVFIndex.train(store, Binary16Metric.METRIC_EUCLIDEAN, 2, 1, 0L);
+    this.expected.expect(IllegalArgumentException.class);
+    ivf.searchBatch(new float[][]{new float[DIMENSIONS - 1]}, 1, 1);
+  }
+}
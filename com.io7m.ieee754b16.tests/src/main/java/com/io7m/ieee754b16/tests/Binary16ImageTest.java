@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16Image;
+import com.io7m.ieee754b16.graphics.Binary16ImageLayout;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Random;
+
+/**
+ * Tests for Binary16Image.
+ */
+
+public final class Binary16ImageTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  static float[] randomFramebuffer(
+    final int width,
+    final int height)
+  {
+    final Random random = new Random(0x5deece66dL + width * 31L + height);
+    final float[] values = new float[width * height * Binary16Image.CHANNELS];
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = (random.nextFloat() - 0.25f) * 8.0f;
+    }
+    return values;
+  }
+
+  @Test
+  public void testCreate()
+  {
+    for (final Binary16ImageLayout layout : Binary16ImageLayout.values()) {
+      final Binary16Image image = Binary16Image.create(3, 2, layout);
+      Assert.assertEquals(3, image.width());
+      Assert.assertEquals(2, image.height());
+      Assert.assertEquals(layout, image.layout());
+      for (int y = 0; y < 2; ++y) {
+        for (int x = 0; x < 3; ++x) {
+          for (int c = 0; c < Binary16Image.CHANNELS; ++c) {
+            Assert.assertEquals(0, image.getPacked(x, y, c));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCreateZeroWidth()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16Image.create(0, 1, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testCreateTooLarge()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16Image.create(65536, 65536, Binary16ImageLayout.LAYOUT_PLANAR);
+  }
+
+  @Test
+  public void testSetGet()
+  {
+    for (final Binary16ImageLayout layout : Binary16ImageLayout.values()) {
+      final Binary16Image image = Binary16Image.create(3, 2, layout);
+      image.setFloat(2, 1, 3, 0.5f);
+      image.setPacked(0, 1, 2, (char) 0x3c00);
+      Assert.assertEquals(Binary16.packFloat(0.5f), image.getPacked(2, 1, 3));
+      Assert.assertEquals(1.0f, image.getFloat(0, 1, 2), 0.001f);
+      Assert.assertEquals(0, image.getPacked(2, 1, 2));
+    }
+  }
+
+  @Test
+  public void testGetOutOfRange()
+  {
+    final Binary16Image image =
+      Binary16Image.create(3, 2, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    image.getPacked(3, 0, 0);
+  }
+
+  @Test
+  public void testGetChannelOutOfRange()
+  {
+    final Binary16Image image =
+      Binary16Image.create(3, 2, Binary16ImageLayout.LAYOUT_PLANAR);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    image.getPacked(0, 0, 4);
+  }
+
+  @Test
+  public void testPackUnpack()
+  {
+    for (final Binary16ImageLayout layout : Binary16ImageLayout.values()) {
+      final int width = 37;
+      final int height = 41;
+      final float[] source = randomFramebuffer(width, height);
+      final Binary16Image image = Binary16Image.create(width, height, layout);
+      image.packFloats(source, 0);
+
+      for (int y = 0; y < height; ++y) {
+        for (int x = 0; x < width; ++x) {
+          for (int c = 0; c < Binary16Image.CHANNELS; ++c) {
+            Assert.assertEquals(
+              Binary16.packFloat(source[(y * width + x) * 4 + c]),
+              image.getPacked(x, y, c));
+          }
+        }
+      }
+
+      final float[] target = new float[source.length + 2];
+      image.unpackFloats(target, 2);
+      for (int index = 0; index < source.length; ++index) {
+        Assert.assertEquals(
+          Binary16.unpackFloat(Binary16.packFloat(source[index])),
+          target[index + 2],
+          0.0f);
+      }
+    }
+  }
+
+  @Test
+  public void testParallelMatchesSequential()
+  {
+    for (final Binary16ImageLayout layout : Binary16ImageLayout.values()) {
+      final int width = 129;
+      final int height = 67;
+      final float[] source = randomFramebuffer(width, height);
+
+      final Binary16Image sequential = Binary16Image.create(width, height, layout);
+      sequential.packFloats(source, 0);
+      final Binary16Image parallel = Binary16Image.create(width, height, layout);
+      parallel.packFloatsParallel(source, 0);
+      Assert.assertEquals(sequential, parallel);
+      Assert.assertEquals(sequential.hashCode(), parallel.hashCode());
+
+      final float[] expectedValues = new float[source.length];
+      final float[] values = new float[source.length];
+      sequential.unpackFloats(expectedValues, 0);
+      parallel.unpackFloatsParallel(values, 0);
+      Assert.assertArrayEquals(expectedValues, values, 0.0f);
+    }
+  }
+
+  @Test
+  public void testEquality()
+  {
+    final Binary16Image a =
+      Binary16Image.create(2, 2, Binary16ImageLayout.LAYOUT_PLANAR);
+    final Binary16Image b =
+      Binary16Image.create(2, 2, Binary16ImageLayout.LAYOUT_PLANAR);
+    final Binary16Image c =
+      Binary16Image.create(2, 2, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+
+    Assert.assertEquals(a, a);
+    Assert.assertEquals(a, b);
+    Assert.assertNotEquals(a, c);
+    Assert.assertNotEquals(a, null);
+    Assert.assertNotEquals(a, Integer.valueOf(23));
+    b.setFloat(1, 1, 0, 1.0f);
+    Assert.assertNotEquals(a, b);
+    Assert.assertTrue(a.toString().contains("2x2"));
+  }
+
+  @Test
+  public void testPackTooSmall()
+  {
+    final Binary16Image image =
+      Binary16Image.create(2, 2, Binary16ImageLayout.LAYOUT_PLANAR);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    image.packFloats(new float[16], 1);
+  }
+
+  @Test
+  public void testUnpackParallelTooSmall()
+  {
+    final Binary16Image image =
+      Binary16Image.create(2, 2, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    image.unpackFloatsParallel(new float[15], 0);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.io.Binary16InputStream;
+import com.io7m.ieee754b16.io.Binary16OutputStream;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+/**
+ * Tests for Binary16InputStream and Binary16OutputStream.
+ */
+
+public final class Binary16InputOutputStreamTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] randomFloats(
+    final int count)
+  {
+    final Random random = new Random(0x5deece66dL);
+    final float[] values = new float[count];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (random.nextFloat() - 0.5f) * 1000.0f;
+    }
+    return values;
+  }
+
+  @Test
+  public void testByteOrder()
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Binary16OutputStream big =
+           new Binary16OutputStream(bytes, ByteOrder.BIG_ENDIAN)) {
+      big.writeChar(Binary16.packFloat(1.0f));
+    }
+    try (Binary16OutputStream little =
+           new Binary16OutputStream(bytes, ByteOrder.LITTLE_ENDIAN)) {
+      little.writeChar(Binary16.packFloat(1.0f));
+    }
+    Assert.assertArrayEquals(
+      new byte[]{0x3c, 0x00, 0x00, 0x3c}, bytes.toByteArray());
+  }
+
+  @Test
+  public void testRoundTrip()
+    throws IOException
+  {
+    final float[] floats = randomFloats(10000);
+    final double[] doubles = new double[floats.length];
+    final char[] chars = new char[floats.length];
+    for (int index = 0; index < floats.length; ++index) {
+      doubles[index] = floats[index];
+      chars[index] = Binary16.packFloat(floats[index]);
+    }
+
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN,
+    }) {
+      for (final int capacity : new int[]{2, 3, 17, 65536}) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Binary16OutputStream output =
+               new Binary16OutputStream(bytes, order, capacity)) {
+          output.writeFloats(floats, 0, floats.length);
+          output.write(0x7f);
+          output.writeDoubles(doubles, 0, doubles.length);
+          output.write(new byte[]{1, 2, 3}, 0, 3);
+          output.writeChars(chars, 0, chars.length);
+        }
+
+        try (Binary16InputStream input = new Binary16InputStream(
+          new ByteArrayInputStream(bytes.toByteArray()), order, capacity)) {
+          final float[] floatsRead = new float[floats.length];
+          int done = 0;
+          while (done < floatsRead.length) {
+            done += input.readFloats(floatsRead, done, floatsRead.length - done);
+          }
+          Assert.assertEquals(0x7fL, (long) input.read());
+
+          final double[] doublesRead = new double[doubles.length];
+          done = 0;
+          while (done < doublesRead.length) {
+            done += input.readDoubles(doublesRead, done, doublesRead.length - done);
+          }
+
+          final byte[] raw = new byte[3];
+          Assert.assertEquals(3L, (long) input.readNBytes(raw, 0, 3));
+          Assert.assertArrayEquals(new byte[]{1, 2, 3}, raw);
+
+          final char[] charsRead = new char[chars.length];
+          done = 0;
+          while (done < charsRead.length) {
+            done += input.readChars(charsRead, done, charsRead.length - done);
+          }
+
+          for (int index = 0; index < floats.length; ++index) {
+            Assert.assertEquals(
+              Binary16.unpackFloat(chars[index]), floatsRead[index], 0.0f);
+            Assert.assertEquals(
+              Binary16.unpackDouble(chars[index]), doublesRead[index], 0.0);
+          }
+          Assert.assertArrayEquals(chars, charsRead);
+          Assert.assertEquals(-1L, (long) input.readChars(charsRead, 0, 1));
+          Assert.assertEquals(-1L, (long) input.read());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testTruncated()
+    throws IOException
+  {
+    final Binary16InputStream input = new Binary16InputStream(
+      new ByteArrayInputStream(new byte[]{0x3c, 0x00, 0x3c}),
+      ByteOrder.BIG_ENDIAN);
+    final float[] values = new float[2];
+    Assert.assertEquals(1L, (long) input.readFloats(values, 0, 2));
+
+    this.expected.expect(EOFException.class);
+    input.readFloats(values, 0, 2);
+  }
+
+  @Test
+  public void testCapacityTooSmall()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    new Binary16OutputStream(
+      OutputStream.nullOutputStream(), ByteOrder.BIG_ENDIAN, 1);
+  }
+
+  @Test
+  public void testOutOfBounds()
+    throws IOException
+  {
+    final Binary16OutputStream output = new Binary16OutputStream(
+      OutputStream.nullOutputStream(), ByteOrder.BIG_ENDIAN);
+
+    this.expected.expect(IndexOutOfBoundsException.class);
+    output.writeFloats(new float[4], 2, 3);
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16Image;
+import com.io7m.ieee754b16.graphics.Binary16ImageLayout;
+import com.io7m.ieee754b16.graphics.Binary16MipmapFilter;
+import com.io7m.ieee754b16.graphics.Binary16Mipmaps;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+/**
+ * Tests for Binary16Mipmaps.
+ */
+
+public final class Binary16MipmapsTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static Binary16Image random(
+    final int width,
+    final int height,
+    final Binary16ImageLayout layout)
+  {
+    final Binary16Image image = Binary16Image.create(width, height, layout);
+    image.packFloats(Binary16ImageTest.randomFramebuffer(width, height), 0);
+    return image;
+  }
+
+  private static Binary16Image convert(
+    final Binary16Image image,
+    final Binary16ImageLayout layout)
+  {
+    final float[] values =
+      new float[image.width() * image.height() * Binary16Image.CHANNELS];
+    image.unpackFloats(values, 0);
+    final Binary16Image result =
+      Binary16Image.create(image.width(), image.height(), layout);
+    result.packFloats(values, 0);
+    return result;
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Mipmaps> c =
+      Binary16Mipmaps.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testLevelCount()
+  {
+    final Binary16ImageLayout layout = Binary16ImageLayout.LAYOUT_PLANAR;
+    Assert.assertEquals(
+      1, Binary16Mipmaps.levelCount(Binary16Image.create(1, 1, layout)));
+    Assert.assertEquals(
+      9, Binary16Mipmaps.levelCount(Binary16Image.create(256, 1, layout)));
+    Assert.assertEquals(
+      3, Binary16Mipmaps.levelCount(Binary16Image.create(5, 3, layout)));
+  }
+
+  @Test
+  public void testGenerateSizes()
+  {
+    for (final Binary16MipmapFilter filter : Binary16MipmapFilter.values()) {
+      final Binary16Image source =
+        random(5, 3, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+      final List<Binary16Image> levels =
+        Binary16Mipmaps.generate(source, filter);
+
+      Assert.assertEquals(3, levels.size());
+      Assert.assertSame(source, levels.get(0));
+      Assert.assertEquals(2, levels.get(1).width());
+      Assert.assertEquals(1, levels.get(1).height());
+      Assert.assertEquals(1, levels.get(2).width());
+      Assert.assertEquals(1, levels.get(2).height());
+      Assert.assertEquals(
+        Binary16ImageLayout.LAYOUT_INTERLEAVED, levels.get(2).layout());
+    }
+  }
+
+  @Test
+  public void testBoxAverage()
+  {
+    final Binary16Image source =
+      Binary16Image.create(4, 2, Binary16ImageLayout.LAYOUT_PLANAR);
+    source.setFloat(0, 0, 0, 1.0f);
+    source.setFloat(1, 0, 0, 2.0f);
+    source.setFloat(0, 1, 0, 3.0f);
+    source.setFloat(1, 1, 0, 6.0f);
+    source.setFloat(3, 1, 3, 8.0f);
+
+    final Binary16Image result =
+      Binary16Mipmaps.downsample(source, Binary16MipmapFilter.FILTER_BOX);
+    Assert.assertEquals(2, result.width());
+    Assert.assertEquals(1, result.height());
+    Assert.assertEquals(Binary16.packFloat(3.0f), result.getPacked(0, 0, 0));
+    Assert.assertEquals(0, result.getPacked(1, 0, 0));
+    Assert.assertEquals(0, result.getPacked(0, 0, 3));
+    Assert.assertEquals(Binary16.packFloat(2.0f), result.getPacked(1, 0, 3));
+  }
+
+  @Test
+  public void testBoxMatchesReference()
+  {
+    final Binary16Image source =
+      random(75, 41, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+    final Binary16Image result =
+      Binary16Mipmaps.downsample(source, Binary16MipmapFilter.FILTER_BOX);
+
+    Assert.assertEquals(37, result.width());
+    Assert.assertEquals(20, result.height());
+    for (int y = 0; y < result.height(); ++y) {
+      for (int x = 0; x < result.width(); ++x) {
+        for (int c = 0; c < Binary16Image.CHANNELS; ++c) {
+          final float sum =
+            source.getFloat(2 * x, 2 * y, c)
+              + source.getFloat(2 * x + 1, 2 * y, c)
+              + source.getFloat(2 * x, 2 * y + 1, c)
+              + source.getFloat(2 * x + 1, 2 * y + 1, c);
+          Assert.assertEquals(
+            Binary16.packFloat(sum * 0.25f), result.getPacked(x, y, c));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testConstantPreserved()
+  {
+    for (final Binary16MipmapFilter filter : Binary16MipmapFilter.values()) {
+      final Binary16Image source =
+        Binary16Image.create(67, 35, Binary16ImageLayout.LAYOUT_PLANAR);
+      final float[] values = new float[67 * 35 * 4];
+      for (int index = 0; index < values.length; ++index) {
+        values[index] = 0.75f;
+      }
+      source.packFloats(values, 0);
+
+      for (final Binary16Image level : Binary16Mipmaps.generate(source, filter)) {
+        for (int y = 0; y < level.height(); ++y) {
+          for (int x = 0; x < level.width(); ++x) {
+            for (int c = 0; c < Binary16Image.CHANNELS; ++c) {
+              Assert.assertEquals(
+                Binary16.packFloat(0.75f), level.getPacked(x, y, c));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testKaiserPreservesRamp()
+  {
+    final Binary16Image source =
+      Binary16Image.create(128, 8, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+    for (int y = 0; y < 8; ++y) {
+      for (int x = 0; x < 128; ++x) {
+        source.setFloat(x, y, 0, (float) x);
+        source.setFloat(x, y, 1, (float) y);
+      }
+    }
+
+    final Binary16Image result =
+      Binary16Mipmaps.downsample(source, Binary16MipmapFilter.FILTER_KAISER);
+    for (int x = 2; x < 62; ++x) {
+      Assert.assertEquals(
+        2.0f * x + 0.5f, result.getFloat(x, 1, 0), 0.0625f);
+      Assert.assertEquals(
+        2.0f + 0.5f, result.getFloat(x, 1, 1), 0.01f);
+    }
+  }
+
+  @Test
+  public void testKaiserSupportWiderThanBox()
+  {
+    final Binary16Image source =
+      Binary16Image.create(16, 16, Binary16ImageLayout.LAYOUT_PLANAR);
+    for (int y = 0; y < 16; ++y) {
+      for (int x = 0; x < 16; ++x) {
+        source.setFloat(x, y, 0, (float) ((x / 2) % 2));
+      }
+    }
+
+    final Binary16Image box =
+      Binary16Mipmaps.downsample(source, Binary16MipmapFilter.FILTER_BOX);
+    final Binary16Image kaiser =
+      Binary16Mipmaps.downsample(source, Binary16MipmapFilter.FILTER_KAISER);
+    Assert.assertEquals(0, box.getPacked(4, 4, 0));
+    Assert.assertEquals(Binary16.packFloat(1.0f), box.getPacked(5, 4, 0));
+    Assert.assertTrue(kaiser.getFloat(4, 4, 0) > 0.0f);
+    Assert.assertTrue(kaiser.getPacked(5, 4, 0) < Binary16.packFloat(1.0f));
+  }
+
+  @Test
+  public void testLayoutsAgree()
+  {
+    for (final Binary16MipmapFilter filter : Binary16MipmapFilter.values()) {
+      final Binary16Image interleaved =
+        random(97, 70, Binary16ImageLayout.LAYOUT_INTERLEAVED);
+      final Binary16Image planar =
+        convert(interleaved, Binary16ImageLayout.LAYOUT_PLANAR);
+
+      final List<Binary16Image> a = Binary16Mipmaps.generate(interleaved, filter);
+      final List<Binary16Image> b = Binary16Mipmaps.generate(planar, filter);
+      Assert.assertEquals(a.size(), b.size());
+      for (int level = 0; level < a.size(); ++level) {
+        Assert.assertEquals(
+          a.get(level),
+          convert(b.get(level), Binary16ImageLayout.LAYOUT_INTERLEAVED));
+      }
+    }
+  }
+
+  @Test
+  public void testParallelMatchesSequential()
+  {
+    for (final Binary16MipmapFilter filter : Binary16MipmapFilter.values()) {
+      final Binary16Image source =
+        random(150, 97, Binary16ImageLayout.LAYOUT_PLANAR);
+      Assert.assertEquals(
+        Binary16Mipmaps.generate(source, filter),
+        Binary16Mipmaps.generateParallel(source, filter));
+    }
+  }
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.npy.Binary16NPYHeader;
+import com.io7m.ieee754b16.npy.Binary16NPYMappedArray;
+import com.io7m.ieee754b16.npy.Binary16NPYOrder;
+import com.io7m.ieee754b16.npy.Binary16NPYReader;
+import com.io7m.ieee754b16.npy.Binary16NPYWriter;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Tests for the .npy reader and writer.
+ */
+
+public final class Binary16NPYTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static char[] sequence(
+    final int count)
+  {
+    final char[] values = new char[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = Binary16.packFloat((float) index);
+    }
+    return values;
+  }
+
+  private static byte[] write(
+    final Binary16NPYHeader header,
+    final char[] values)
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Binary16NPYWriter writer = Binary16NPYWriter.open(bytes, header)) {
+      writer.writeChars(values, 0, values.length);
+    }
+    return bytes.toByteArray();
+  }
+
+  /* The bytes that numpy.save produces for a header. */
+
+  private static byte[] numpyHeader(
+    final String dict)
+  {
+    final StringBuilder text = new StringBuilder(dict);
+    while ((10 + text.length() + 1) % 64 != 0) {
+      text.append(' ');
+    }
+    text.append('\n');
+
+    final ByteBuffer buffer = ByteBuffer.allocate(10 + text.length());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(new byte[]{(byte) 0x93, 'N', 'U', 'M', 'P', 'Y', 1, 0});
+    buffer.putShort((short) text.length());
+    buffer.put(text.toString().getBytes(StandardCharsets.ISO_8859_1));
+    return buffer.array();
+  }
+
+  @Test
+  public void testHeaderMatchesNumPy()
+    throws IOException
+  {
+    final Binary16NPYHeader header =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 2L, 3L);
+    final byte[] expected =
+      numpyHeader("{'descr': '<f2', 'fortran_order': False, 'shape': (2, 3), }");
+
+    final byte[] data = write(header, new char[6]);
+    Assert.assertEquals((long) expected.length + 12L, (long) data.length);
+    Assert.assertArrayEquals(expected, Arrays.copyOf(data, expected.length));
+  }
+
+  @Test
+  public void testHeaderShapes()
+    throws IOException
+  {
+    final Binary16NPYHeader scalar =
+      Binary16NPYHeader.of(ByteOrder.BIG_ENDIAN, Binary16NPYOrder.ORDER_FORTRAN);
+    Assert.assertEquals(1L, scalar.elementCount());
+
+    final Binary16NPYHeader vector =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 5L);
+    final byte[] expected =
+      numpyHeader("{'descr': '<f2', 'fortran_order': False, 'shape': (5,), }");
+    Assert.assertArrayEquals(
+      expected, Arrays.copyOf(write(vector, new char[5]), expected.length));
+
+    for (final Binary16NPYHeader header : new Binary16NPYHeader[]{
+      scalar,
+      vector,
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 0L, 7L),
+    }) {
+      final byte[] data = write(header, new char[(int) header.elementCount()]);
+      Assert.assertEquals(0L, (long) (data.length - header.dataSize()) % 64L);
+      try (Binary16NPYReader reader =
+             Binary16NPYReader.open(new ByteArrayInputStream(data))) {
+        Assert.assertEquals(header, reader.header());
+      }
+    }
+  }
+
+  @Test
+  public void testReadNumPyVariants()
+    throws IOException
+  {
+    final String[] dicts = {
+      "{'descr': '>f2', 'fortran_order': True, 'shape': (2, 3), }",
+      "{\"shape\": (2L, 3L), \"fortran_order\": True, \"descr\": \">f2\"}",
+    };
+
+    for (final String dict : dicts) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      bytes.write(numpyHeader(dict));
+      for (int index = 0; index < 6; ++index) {
+        bytes.write(0x3c);
+        bytes.write(index);
+      }
+
+      try (Binary16NPYReader reader =
+             Binary16NPYReader.open(new ByteArrayInputStream(bytes.toByteArray()))) {
+        final Binary16NPYHeader header = reader.header();
+        Assert.assertEquals(ByteOrder.BIG_ENDIAN, header.byteOrder());
+        Assert.assertEquals(Binary16NPYOrder.ORDER_FORTRAN, header.order());
+        Assert.assertArrayEquals(new long[]{2L, 3L}, header.shape());
+
+        final char[] values = reader.readAllChars();
+        for (int index = 0; index < 6; ++index) {
+          Assert.assertEquals((long) (0x3c00 | index), (long) values[index]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testIndexOf()
+  {
+    final Binary16NPYHeader c =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 2L, 3L, 4L);
+    final Binary16NPYHeader f =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_FORTRAN, 2L, 3L, 4L);
+
+    Assert.assertEquals(0L, c.indexOf(0L, 0L, 0L));
+    Assert.assertEquals(1L, c.indexOf(0L, 0L, 1L));
+    Assert.assertEquals(4L, c.indexOf(0L, 1L, 0L));
+    Assert.assertEquals(12L, c.indexOf(1L, 0L, 0L));
+    Assert.assertEquals(23L, c.indexOf(1L, 2L, 3L));
+
+    Assert.assertEquals(0L, f.indexOf(0L, 0L, 0L));
+    Assert.assertEquals(1L, f.indexOf(1L, 0L, 0L));
+    Assert.assertEquals(2L, f.indexOf(0L, 1L, 0L));
+    Assert.assertEquals(6L, f.indexOf(0L, 0L, 1L));
+    Assert.assertEquals(23L, f.indexOf(1L, 2L, 3L));
+
+    this.expected.expect(IndexOutOfBoundsException.class);
+    c.indexOf(2L, 0L, 0L);
+  }
+
+  @Test
+  public void testIndexOfWrongDimensions()
+  {
+    final Binary16NPYHeader c =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 2L, 3L);
+
+    this.expected.expect(IllegalArgumentException.class);
+    c.indexOf(1L);
+  }
+
+  @Test
+  public void testNegativeShape()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 2L, -1L);
+  }
+
+  @Test
+  public void testStreamRoundTrip()
+    throws IOException
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN,
+    }) {
+      final Binary16NPYHeader header =
+        Binary16NPYHeader.of(order, Binary16NPYOrder.ORDER_C, 100L, 100L);
+      final char[] values = sequence(10000);
+      final byte[] data = write(header, values);
+
+      try (Binary16NPYReader reader =
+             Binary16NPYReader.open(new ByteArrayInputStream(data))) {
+        final float[] floats = new float[3];
+        Assert.assertEquals(3L, (long) reader.readFloats(floats, 0, 3));
+        for (int index = 0; index < 3; ++index) {
+          Assert.assertEquals(
+            Binary16.unpackFloat(values[index]), floats[index], 0.0f);
+        }
+        Assert.assertEquals(9997L, reader.remaining());
+
+        final char[] rest = new char[20000];
+        Assert.assertEquals(9997L, (long) reader.readChars(rest, 0, rest.length));
+        Assert.assertArrayEquals(
+          Arrays.copyOfRange(values, 3, 10000),
+          Arrays.copyOf(rest, 9997));
+        Assert.assertEquals(-1L, (long) reader.readChars(rest, 0, 1));
+      }
+    }
+  }
+
+  @Test
+  public void testWriteFloats()
+    throws IOException
+  {
+    final float[] floats = {1.0f, -2.5f, 65504.0f};
+    final Binary16NPYHeader header =
+      Binary16NPYHeader.of(ByteOrder.BIG_ENDIAN, Binary16NPYOrder.ORDER_C, 3L);
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Binary16NPYWriter writer = Binary16NPYWriter.open(bytes, header)) {
+      writer.writeFloats(floats, 0, 3);
+    }
+
+    try (Binary16NPYReader reader =
+           Binary16NPYReader.open(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final float[] result = new float[3];
+      reader.readFloats(result, 0, 3);
+      for (int index = 0; index < 3; ++index) {
+        Assert.assertEquals(
+          (long) Binary16.packFloat(floats[index]),
+          (long) Binary16.packFloat(result[index]));
+      }
+    }
+  }
+
+  @Test
+  public void testWriteTooMany()
+    throws IOException
+  {
+    final Binary16NPYHeader header =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 2L);
+    final Binary16NPYWriter writer =
+      Binary16NPYWriter.open(OutputStream.nullOutputStream(), header);
+
+    this.expected.expect(IllegalStateException.class);
+    writer.writeChars(new char[3], 0, 3);
+  }
+
+  @Test
+  public void testWriteTooFew()
+    throws IOException
+  {
+    final Binary16NPYHeader header =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 2L);
+
+    this.expected.expect(IOException.class);
+    try (Binary16NPYWriter writer =
+           Binary16NPYWriter.open(OutputStream.nullOutputStream(), header)) {
+      writer.writeChars(new char[1], 0, 1);
+    }
+  }
+
+  @Test
+  public void testReadTruncated()
+    throws IOException
+  {
+    final Binary16NPYHeader header =
+      Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 8L);
+    final byte[] data = write(header, sequence(8));
+
+    this.expected.expect(EOFException.class);
+    try (Binary16NPYReader reader = Binary16NPYReader.open(
+      new ByteArrayInputStream(Arrays.copyOf(data, data.length - 1)))) {
+      reader.readAllChars();
+    }
+  }
+
+  @Test
+  public void testReadUnsupportedType()
+    throws IOException
+  {
+    final byte[] data =
+      numpyHeader("{'descr': '<f4', 'fortran_order': False, 'shape': (1,), }");
+
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("<f4");
+    Binary16NPYReader.open(new ByteArrayInputStream(data));
+  }
+
+  @Test
+  public void testReadBadMagic()
+    throws IOException
+  {
+    final byte[] data =
+      numpyHeader("{'descr': '<f2', 'fortran_order': False, 'shape': (1,), }");
+    data[1] = 'X';
+
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("magic");
+    Binary16NPYReader.open(new ByteArrayInputStream(data));
+  }
+
+  @Test
+  public void testReadMalformedHeader()
+    throws IOException
+  {
+    final byte[] data =
+      numpyHeader("{'descr': '<f2', 'fortran_order': False, 'shape': (1,, }");
+
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("Malformed");
+    Binary16NPYReader.open(new ByteArrayInputStream(data));
+  }
+
+  @Test
+  public void testMapped()
+    throws IOException
+  {
+    final Path file = Files.createTempFile("ieee754b16-", ".npy");
+    try {
+      final Binary16NPYHeader header =
+        Binary16NPYHeader.of(ByteOrder.BIG_ENDIAN, Binary16NPYOrder.ORDER_FORTRAN, 30L, 40L);
+      final char[] values = sequence(1200);
+      Files.write(file, write(header, values));
+
+      final Binary16NPYMappedArray array = Binary16NPYMappedArray.open(file);
+      Assert.assertEquals(header, array.header());
+      Assert.assertEquals(1200L, array.size());
+
+      final char[] chars = new char[1200];
+      array.getChars(0L, chars, 0, 1200);
+      Assert.assertArrayEquals(values, chars);
+
+      final float[] floats = new float[10];
+      array.getFloats(100L, floats, 0, 10);
+      for (int index = 0; index < 10; ++index) {
+        Assert.assertEquals(
+          Binary16.unpackFloat(values[100 + index]), floats[index], 0.0f);
+      }
+
+      final long position = header.indexOf(3L, 2L);
+      Assert.assertEquals((long) values[63], (long) array.get(position));
+      Assert.assertEquals(
+        Binary16.unpackFloat(values[63]), array.getFloat(position), 0.0f);
+
+      this.expected.expect(IndexOutOfBoundsException.class);
+      array.get(1200L);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testMappedTruncated()
+    throws IOException
+  {
+    final Path file = Files.createTempFile("ieee754b16-", ".npy");
+    try {
+      final Binary16NPYHeader header =
+        Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 30L);
+      final byte[] data = write(header, sequence(30));
+      Files.write(file, Arrays.copyOf(data, data.length - 2));
+
+      this.expected.expect(IOException.class);
+      this.expected.expectMessage("Truncated");
+      Binary16NPYMappedArray.open(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * A sparse file larger than a single mapping segment. Reads that straddle
+   * the boundary between segments must be stitched together.
+   */
+
+  @Test
+  public void testMappedLarge()
+    throws IOException
+  {
+    final Path file = Files.createTempFile("ieee754b16-", ".npy");
+    try {
+      final long count = (1L << 29) + 16L;
+      final Binary16NPYHeader header =
+        Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, count);
+      final ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+      final Binary16NPYWriter writer = Binary16NPYWriter.open(prefix, header);
+      Assert.assertEquals(count, writer.remaining());
+      final int headerSize = prefix.size();
+
+      try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+        raf.write(prefix.toByteArray());
+        raf.setLength(headerSize + count * 2L);
+      }
+
+      final ByteBuffer marks = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+      for (int index = 0; index < 16; ++index) {
+        marks.putChar((char) (0x3c00 + index));
+      }
+      marks.flip();
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.write(marks, headerSize + ((1L << 29) - 8L) * 2L);
+      }
+
+      final Binary16NPYMappedArray array = Binary16NPYMappedArray.open(file);
+      Assert.assertEquals(count, array.size());
+      Assert.assertEquals(0L, (long) array.get(0L));
+      Assert.assertEquals(0x3c07L, (long) array.get((1L << 29) - 1L));
+      Assert.assertEquals(0x3c08L, (long) array.get(1L << 29));
+
+      final char[] chars = new char[16];
+      array.getChars((1L << 29) - 8L, chars, 0, 16);
+      for (int index = 0; index < 16; ++index) {
+        Assert.assertEquals((long) (0x3c00 + index), (long) chars[index]);
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.npy.Binary16NPYHeader;
+import com.io7m.ieee754b16.npy.Binary16NPYOrder;
+import com.io7m.ieee754b16.npy.Binary16NPYReader;
+import com.io7m.ieee754b16.npy.Binary16NPYWriter;
+import com.io7m.ieee754b16.npy.Binary16NPZReader;
+import com.io7m.ieee754b16.npy.Binary16NPZWriter;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests for the .npz reader and writer.
+ */
+
+public final class Binary16NPZTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static Path writeArchive(
+    final boolean compressed)
+    throws IOException
+  {
+    final Path file = Files.createTempFile("ieee754b16-", ".npz");
+    try (OutputStream stream = Files.newOutputStream(file);
+         Binary16NPZWriter npz = Binary16NPZWriter.open(stream, compressed)) {
+      try (Binary16NPYWriter writer = npz.createArray(
+        "weights",
+        Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 4L, 250L))) {
+        final char[] values = new char[1000];
+        for (int index = 0; index < values.length; ++index) {
+          values[index] = Binary16.packFloat((float) index);
+        }
+        writer.writeChars(values, 0, values.length);
+      }
+      try (Binary16NPYWriter writer = npz.createArray(
+        "bias",
+        Binary16NPYHeader.of(ByteOrder.BIG_ENDIAN, Binary16NPYOrder.ORDER_FORTRAN, 2L))) {
+        writer.writeFloats(new float[]{0.5f, -0.25f}, 0, 2);
+      }
+    }
+    return file;
+  }
+
+  @Test
+  public void testRoundTrip()
+    throws IOException
+  {
+    for (final boolean compressed : new boolean[]{false, true}) {
+      final Path file = writeArchive(compressed);
+      try (Binary16NPZReader npz = Binary16NPZReader.open(file)) {
+        Assert.assertEquals(List.of("weights", "bias"), npz.names());
+
+        final char[] weights = npz.readArray("weights");
+        Assert.assertEquals(1000L, (long) weights.length);
+        for (int index = 0; index < weights.length; ++index) {
+          Assert.assertEquals(
+            (long) Binary16.packFloat((float) index), (long) weights[index]);
+        }
+
+        try (Binary16NPYReader reader = npz.openArray("bias")) {
+          Assert.assertEquals(ByteOrder.BIG_ENDIAN, reader.header().byteOrder());
+          Assert.assertEquals(
+            Binary16NPYOrder.ORDER_FORTRAN, reader.header().order());
+          final float[] bias = new float[2];
+          reader.readFloats(bias, 0, 2);
+          Assert.assertEquals(0x3800L, (long) Binary16.packFloat(bias[0]));
+          Assert.assertEquals(0xb400L, (long) Binary16.packFloat(bias[1]));
+        }
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  @Test
+  public void testMissingArray()
+    throws IOException
+  {
+    final Path file = writeArchive(true);
+    try (Binary16NPZReader npz = Binary16NPZReader.open(file)) {
+      this.expected.expect(IOException.class);
+      this.expected.expectMessage("nonexistent");
+      npz.openArray("nonexistent");
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testCreateWhileOpen()
+    throws IOException
+  {
+    try (Binary16NPZWriter npz =
+           Binary16NPZWriter.open(OutputStream.nullOutputStream(), false)) {
+      final Binary16NPYHeader header =
+        Binary16NPYHeader.of(ByteOrder.LITTLE_ENDIAN, Binary16NPYOrder.ORDER_C, 1L);
+      npz.createArray("a", header);
+
+      this.expected.expect(IllegalStateException.class);
+      npz.createArray("b", header);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16SRGB;
+import com.io7m.ieee754b16.jfr.Binary16RecordingConfigurations;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests for the GraalVM native-image metadata bundled with each module.
+ */
+
+public final class Binary16NativeImageMetadataTest
+{
+  private static final String PREFIX =
+    "/META-INF/native-image/com.io7m.ieee754b16/";
+
+  private static final Pattern QUOTED =
+    Pattern.compile("\"pattern\": \"\\\\\\\\Q(.*)\\\\\\\\E\"");
+
+  private static byte[] resource(
+    final Class<?> owner,
+    final String name)
+    throws IOException
+  {
+    try (InputStream stream = owner.getResourceAsStream(name)) {
+      Assert.assertNotNull("Resource " + name, stream);
+      return stream.readAllBytes();
+    }
+  }
+
+  private static void checkResourceConfig(
+    final Class<?> owner,
+    final String module)
+    throws IOException
+  {
+    final String config = new String(
+      resource(owner, PREFIX + module + "/resource-config.json"),
+      StandardCharsets.UTF_8);
+
+    final Matcher matcher = QUOTED.matcher(config);
+    int count = 0;
+    while (matcher.find()) {
+      final String name = "/" + matcher.group(1);
+      Assert.assertTrue(resource(owner, name).length > 0);
+      ++count;
+    }
+    Assert.assertTrue(count > 0);
+  }
+
+  @Test
+  public void testCoreBuildTimeInitialization()
+    throws Exception
+  {
+    final Properties properties = new Properties();
+    try (InputStream stream = Binary16.class.getResourceAsStream(
+      PREFIX + "com.io7m.ieee754b16.core/native-image.properties")) {
+      Assert.assertNotNull(stream);
+      properties.load(stream);
+    }
+
+    final String args = properties.getProperty("Args");
+    final String option = "--initialize-at-build-time=";
+    Assert.assertTrue(args.startsWith(option));
+
+    final String[] names = args.substring(option.length()).split(",");
+    Assert.assertEquals(3, names.length);
+    for (final String name : names) {
+      Assert.assertEquals(
+        Binary16.class.getModule(),
+        Class.forName(name).getModule());
+    }
+  }
+
+  @Test
+  public void testGraphicsResources()
+    throws Exception
+  {
+    checkResourceConfig(Binary16SRGB.class, "com.io7m.ieee754b16.graphics");
+  }
+
+  @Test
+  public void testJFRResources()
+    throws Exception
+  {
+    checkResourceConfig(
+      Binary16RecordingConfigurations.class, "com.io7m.ieee754b16.jfr");
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.ffm.Binary16Native;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+/**
+ * Tests for Binary16Native. The results must be identical to those of
+ * Binary16Arrays whether or not the native library is available.
+ */
+
+public final class Binary16NativeTest
+{
+  private static final int[] COUNTS = {0, 1, 255, 256, 1000, 100_003};
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] randomFloats(
+    final int count)
+  {
+    final Random random = new Random(0x5deece66dL + count);
+    final float[] values = new float[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = Float.intBitsToFloat(random.nextInt());
+    }
+    return values;
+  }
+
+  private static ByteBuffer directBuffer(
+    final int size,
+    final ByteOrder order)
+  {
+    return ByteBuffer.allocateDirect(size).order(order);
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Native> c =
+      Binary16Native.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testUnpackAllValues()
+  {
+    final char[] source = new char[0x10000];
+    for (int index = 0; index < source.length; ++index) {
+      source[index] = (char) index;
+    }
+
+    final float[] expected = new float[source.length];
+    final float[] received = new float[source.length];
+    Binary16Arrays.unpackFloats(source, 0, expected, 0, source.length);
+    Binary16Native.unpackFloats(source, 0, received, 0, source.length);
+
+    for (int index = 0; index < source.length; ++index) {
+      Assert.assertEquals(
+        Float.floatToRawIntBits(expected[index]),
+        Float.floatToRawIntBits(received[index]));
+    }
+  }
+
+  @Test
+  public void testPackRandomValues()
+  {
+    for (final int count : COUNTS) {
+      final float[] source = randomFloats(count);
+      final char[] expected = new char[count];
+      final char[] received = new char[count];
+      Binary16Arrays.packFloats(source, 0, expected, 0, count);
+      Binary16Native.packFloats(source, 0, received, 0, count);
+      Assert.assertArrayEquals(expected, received);
+    }
+  }
+
+  @Test
+  public void testPackOffsets()
+  {
+    final float[] source = randomFloats(1000);
+    final char[] expected = new char[1000];
+    final char[] received = new char[1000];
+    Binary16Arrays.packFloats(source, 3, expected, 7, 900);
+    Binary16Native.packFloats(source, 3, received, 7, 900);
+    Assert.assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testUnpackOffsets()
+  {
+    final char[] source = new char[1000];
+    for (int index = 0; index < source.length; ++index) {
+      source[index] = Binary16.packFloat((float) index - 500.0f);
+    }
+    final float[] expected = new float[1000];
+    final float[] received = new float[1000];
+    Binary16Arrays.unpackFloats(source, 5, expected, 2, 900);
+    Binary16Native.unpackFloats(source, 5, received, 2, 900);
+    Assert.assertArrayEquals(expected, received, 0.0f);
+  }
+
+  @Test
+  public void testPackOutOfBounds()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Native.packFloats(new float[300], 100, new char[300], 0, 256);
+  }
+
+  @Test
+  public void testUnpackOutOfBounds()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Native.unpackFloats(new char[300], 0, new float[300], 100, 256);
+  }
+
+  @Test
+  public void testPackBuffers()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      for (final int count : COUNTS) {
+        final float[] values = randomFloats(count);
+        final ByteBuffer source = directBuffer(count * 4, order);
+        source.asFloatBuffer().put(values);
+        final ByteBuffer target = directBuffer(count * 2, order);
+
+        Binary16Native.packFloats(source, target);
+        Assert.assertEquals(count * 4, source.position());
+        Assert.assertEquals(count * 2, target.position());
+
+        for (int index = 0; index < count; ++index) {
+          Assert.assertEquals(
+            Binary16.packFloat(values[index]),
+            target.getChar(index * 2));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testUnpackBuffers()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      final ByteBuffer source = directBuffer(0x20000, order);
+      for (int index = 0; index < 0x10000; ++index) {
+        source.putChar(index * 2, (char) index);
+      }
+      final ByteBuffer target = ByteBuffer.allocate(0x40000).order(order);
+
+      Binary16Native.unpackFloats(source, target);
+      Assert.assertEquals(0x20000, source.position());
+      Assert.assertEquals(0x40000, target.position());
+
+      for (int index = 0; index < 0x10000; ++index) {
+        Assert.assertEquals(
+          Float.floatToRawIntBits(Binary16.unpackFloat((char) index)),
+          Float.floatToRawIntBits(target.getFloat(index * 4)));
+      }
+    }
+  }
+
+  @Test
+  public void testBuffersUnaligned()
+  {
+    final ByteBuffer source =
+      directBuffer(4 * 1001, ByteOrder.nativeOrder()).position(4 * 1001 - 4000);
+    final ByteBuffer target =
+      directBuffer(2 * 1001 + 1, ByteOrder.nativeOrder()).position(1);
+    for (int index = 0; index < 1000; ++index) {
+      source.putFloat(source.position() + index * 4, (float) index);
+    }
+
+    Binary16Native.packFloats(source, target);
+    for (int index = 0; index < 1000; ++index) {
+      Assert.assertEquals(
+        Binary16.packFloat((float) index),
+        target.getChar(1 + index * 2));
+    }
+  }
+
+  @Test
+  public void testPackBufferPartial()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16Native.packFloats(ByteBuffer.allocate(6), ByteBuffer.allocate(6));
+  }
+
+  @Test
+  public void testUnpackBufferPartial()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16Native.unpackFloats(ByteBuffer.allocate(3), ByteBuffer.allocate(8));
+  }
+
+  @Test
+  public void testPackBufferOverflow()
+  {
+    final ByteBuffer source = ByteBuffer.allocate(8);
+    final ByteBuffer target = ByteBuffer.allocate(3);
+
+    try {
+      Binary16Native.packFloats(source, target);
+      Assert.fail();
+    } catch (final BufferOverflowException e) {
+      Assert.assertEquals(0, source.position());
+      Assert.assertEquals(0, target.position());
+    }
+  }
+
+  @Test
+  public void testUnpackBufferOverflow()
+  {
+    final ByteBuffer source = ByteBuffer.allocate(4);
+    final ByteBuffer target = ByteBuffer.allocate(7);
+
+    try {
+      Binary16Native.unpackFloats(source, target);
+      Assert.fail();
+    } catch (final BufferOverflowException e) {
+      Assert.assertEquals(0, source.position());
+      Assert.assertEquals(0, target.position());
+    }
+  }
+
+  @Test
+  public void testPackBufferReadOnly()
+  {
+    this.expected.expect(ReadOnlyBufferException.class);
+    Binary16Native.packFloats(
+      ByteBuffer.allocate(8), ByteBuffer.allocate(4).asReadOnlyBuffer());
+  }
+
+  @Test
+  public void testNotAvailable()
+  {
+    Assert.assertFalse(Binary16Native.isAvailable());
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16Octahedral;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+/**
+ * Tests for Binary16Octahedral.
+ */
+
+public final class Binary16OctahedralTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] randomDirections(
+    final int count)
+  {
+    final Random random = new Random(0x5deece66dL + count);
+    final float[] values = new float[count * 3];
+    for (int index = 0; index < values.length; index += 3) {
+      final double x = random.nextGaussian();
+      final double y = random.nextGaussian();
+      final double z = random.nextGaussian();
+      final double length = Math.sqrt(x * x + y * y + z * z);
+      values[index] = (float) (x / length);
+      values[index + 1] = (float) (y / length);
+      values[index + 2] = (float) (z / length);
+    }
+    return values;
+  }
+
+  private static double angleDegrees(
+    final float[] a,
+    final int aOffset,
+    final float[] b,
+    final int bOffset)
+  {
+    final double ax = a[aOffset];
+    final double ay = a[aOffset + 1];
+    final double az = a[aOffset + 2];
+    final double bx = b[bOffset];
+    final double by = b[bOffset + 1];
+    final double bz = b[bOffset + 2];
+    final double cx = ay * bz - az * by;
+    final double cy = az * bx - ax * bz;
+    final double cz = ax * by - ay * bx;
+    final double dot = ax * bx + ay * by + az * bz;
+    return Math.toDegrees(
+      Math.atan2(Math.sqrt(cx * cx + cy * cy + cz * cz), dot));
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Octahedral> c =
+      Binary16Octahedral.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testAxes()
+  {
+    final float[][] axes = {
+      {1.0f, 0.0f, 0.0f},
+      {-1.0f, 0.0f, 0.0f},
+      {0.0f, 1.0f, 0.0f},
+      {0.0f, -1.0f, 0.0f},
+      {0.0f, 0.0f, 1.0f},
+      {0.0f, 0.0f, -1.0f},
+    };
+
+    final float[] result = new float[3];
+    for (final float[] axis : axes) {
+      final int uv = Binary16Octahedral.encode(axis[0], axis[1], axis[2]);
+      Binary16Octahedral.decode((char) (uv >>> 16), (char) uv, result, 0);
+      Assert.assertArrayEquals(axis, result, 0.0f);
+    }
+  }
+
+  @Test
+  public void testEncodeLayout()
+  {
+    final int up = Binary16Octahedral.encode(0.0f, 0.0f, 2.0f);
+    Assert.assertEquals(0, up);
+
+    final int x = Binary16Octahedral.encode(3.0f, 0.0f, 0.0f);
+    Assert.assertEquals(Binary16.packFloat(1.0f), (char) (x >>> 16));
+    Assert.assertEquals(0, (char) x);
+
+    final int down = Binary16Octahedral.encode(0.0f, 0.0f, -1.0f);
+    Assert.assertEquals(Binary16.packFloat(1.0f), (char) (down >>> 16));
+    Assert.assertEquals(Binary16.packFloat(1.0f), (char) down);
+  }
+
+  @Test
+  public void testZero()
+  {
+    final float[] result = new float[3];
+    final int uv = Binary16Octahedral.encode(0.0f, 0.0f, 0.0f);
+    Binary16Octahedral.decode((char) (uv >>> 16), (char) uv, result, 0);
+    Assert.assertArrayEquals(new float[]{0.0f, 0.0f, 1.0f}, result, 0.0f);
+  }
+
+  @Test
+  public void testMaximumError()
+  {
+    final int count = 1_000_000;
+    final float[] directions = randomDirections(count);
+    final char[] encoded = new char[count * 2];
+    final float[] decoded = new float[count * 3];
+    Binary16Octahedral.encode(directions, 0, encoded, 0, count);
+    Binary16Octahedral.decode(encoded, 0, decoded, 0, count);
+
+    double worst = 0.0;
+    for (int index = 0; index < count; ++index) {
+      worst = Math.max(
+        worst, angleDegrees(directions, index * 3, decoded, index * 3));
+      final float x = decoded[index * 3];
+      final float y = decoded[index * 3 + 1];
+      final float z = decoded[index * 3 + 2];
+      Assert.assertEquals(1.0, Math.sqrt(x * x + y * y + z * z), 1.0e-6);
+    }
+    Assert.assertTrue(
+      String.format("Worst error %f", Double.valueOf(worst)),
+      worst <= Binary16Octahedral.MAXIMUM_ERROR_DEGREES);
+  }
+
+  @Test
+  public void testBulkMatchesScalar()
+  {
+    final int count = 100;
+    final float[] directions = randomDirections(count);
+    final char[] encoded = new char[count * 2 + 1];
+    Binary16Octahedral.encode(directions, 0, encoded, 1, count);
+
+    final float[] decoded = new float[count * 3 + 2];
+    Binary16Octahedral.decode(encoded, 1, decoded, 2, count);
+
+    final float[] single = new float[3];
+    for (int index = 0; index < count; ++index) {
+      final int uv = Binary16Octahedral.encode(
+        directions[index * 3],
+        directions[index * 3 + 1],
+        directions[index * 3 + 2]);
+      Assert.assertEquals((char) (uv >>> 16), encoded[1 + index * 2]);
+      Assert.assertEquals((char) uv, encoded[1 + index * 2 + 1]);
+
+      Binary16Octahedral.decode((char) (uv >>> 16), (char) uv, single, 0);
+      Assert.assertEquals(single[0], decoded[2 + index * 3], 0.0f);
+      Assert.assertEquals(single[1], decoded[2 + index * 3 + 1], 0.0f);
+      Assert.assertEquals(single[2], decoded[2 + index * 3 + 2], 0.0f);
+    }
+  }
+
+  @Test
+  public void testBuffer()
+  {
+    final int count = 17;
+    final float[] directions = randomDirections(count);
+    final char[] encoded = new char[count * 2];
+    Binary16Octahedral.encode(directions, 0, encoded, 0, count);
+
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      final ByteBuffer buffer =
+        ByteBuffer.allocate(6 + (count - 1) * 12 + 4).order(order);
+      Binary16Octahedral.encode(directions, 0, buffer, 6, 12, count);
+      Assert.assertEquals(0, buffer.position());
+
+      for (int index = 0; index < count; ++index) {
+        Assert.assertEquals(encoded[index * 2], buffer.getChar(6 + index * 12));
+        Assert.assertEquals(
+          encoded[index * 2 + 1], buffer.getChar(6 + index * 12 + 2));
+      }
+    }
+  }
+
+  @Test
+  public void testBufferTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(6 + 12 + 3);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Octahedral.encode(randomDirections(2), 0, buffer, 6, 12, 2);
+  }
+
+  @Test
+  public void testBufferStrideTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16Octahedral.encode(randomDirections(2), 0, buffer, 0, 3, 2);
+  }
+
+  @Test
+  public void testEncodeOutOfRange()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Octahedral.encode(new float[6], 0, new char[3], 0, 2);
+  }
+
+  @Test
+  public void testDecodeOutOfRange()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Octahedral.decode((char) 0, (char) 0, new float[3], 1);
+  }
+}
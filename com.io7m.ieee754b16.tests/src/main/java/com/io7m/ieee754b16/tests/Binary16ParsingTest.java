@@ -0,0 +1,314 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Parsing;
+import com.io7m.ieee754b16.Binary16Strings;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Tests for Binary16Parsing.
+ */
+
+public final class Binary16ParsingTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static BigDecimal exactOf(
+    final int bits)
+  {
+    final int exponent = (bits >>> 10) & 0x1f;
+    final int fraction = bits & 0x3ff;
+    if (exponent == 0) {
+      return new BigDecimal(Math.scalb((double) fraction, -24));
+    }
+    return new BigDecimal(Math.scalb((double) (0x400 | fraction), exponent - 25));
+  }
+
+  /**
+   * Round a non-negative exact value to the nearest binary16 magnitude,
+   * ties to even, using only exact arithmetic.
+   */
+
+  private static char reference(
+    final BigDecimal value)
+  {
+    int low = 0;
+    int high = 0x7bff;
+    if (value.compareTo(exactOf(high)) >= 0) {
+      final BigDecimal limit = new BigDecimal(65520);
+      if (value.compareTo(limit) >= 0) {
+        return Binary16.POSITIVE_INFINITY;
+      }
+      return (char) high;
+    }
+    while (high - low > 1) {
+      final int middle = (low + high) >>> 1;
+      if (exactOf(middle).compareTo(value) <= 0) {
+        low = middle;
+      } else {
+        high = middle;
+      }
+    }
+
+    final BigDecimal midpoint =
+      exactOf(low).add(exactOf(high)).divide(BigDecimal.valueOf(2L));
+    final int comparison = value.compareTo(midpoint);
+    if (comparison < 0) {
+      return (char) low;
+    }
+    if (comparison > 0) {
+      return (char) high;
+    }
+    if ((low & 1) == 0) {
+      return (char) low;
+    }
+    return (char) high;
+  }
+
+  private static char parseASCII(
+    final String text)
+  {
+    final byte[] bytes = ("xx" + text + "yy").getBytes(StandardCharsets.US_ASCII);
+    return Binary16Parsing.parse(bytes, 2, bytes.length - 4);
+  }
+
+  /**
+   * Every formatted value parses back to itself.
+   */
+
+  @Test
+  public void testRoundTripExhaustive()
+  {
+    for (int index = 0; index <= 0xffff; ++index) {
+      final char k = (char) index;
+      if (Binary16.isNaN(k)) {
+        continue;
+      }
+      final String text = Binary16Strings.toDecimalString(k);
+      Assert.assertEquals(text, (long) k, (long) Binary16Parsing.parse(text));
+      Assert.assertEquals(text, (long) k, (long) parseASCII(text));
+    }
+  }
+
+  /**
+   * Exact midpoints round to even, and values just either side of a
+   * midpoint round towards the nearer value.
+   */
+
+  @Test
+  public void testMidpoints()
+  {
+    final BigDecimal two = BigDecimal.valueOf(2L);
+    final BigDecimal tiny = new BigDecimal("1e-40");
+
+    for (int index = 0; index < 0x7bff; ++index) {
+      final BigDecimal midpoint =
+        exactOf(index).add(exactOf(index + 1)).divide(two);
+
+      final String exact = midpoint.toPlainString();
+      final String above = midpoint.add(tiny).toPlainString();
+      final String below = midpoint.subtract(tiny).toPlainString();
+
+      int even = index;
+      if ((index & 1) != 0) {
+        even = index + 1;
+      }
+
+      Assert.assertEquals(exact, (long) even, (long) Binary16Parsing.parse(exact));
+      Assert.assertEquals(above, (long) index + 1, (long) Binary16Parsing.parse(above));
+      Assert.assertEquals(below, (long) index, (long) Binary16Parsing.parse(below));
+      Assert.assertEquals(
+        "-" + above,
+        (long) (0x8000 | (index + 1)),
+        (long) Binary16Parsing.parse("-" + above));
+    }
+  }
+
+  /**
+   * Random decimal values are rounded correctly.
+   */
+
+  @Test
+  public void testRandom()
+  {
+    final Random random = new Random(0x5deece66dL);
+    for (int index = 0; index < 20_000; ++index) {
+      final long unscaled = random.nextLong() >>> (1 + random.nextInt(63));
+      final int scale = random.nextInt(40) - 10;
+      final BigDecimal value = BigDecimal.valueOf(unscaled, scale);
+      final String text = value.toString();
+
+      Assert.assertEquals(
+        text,
+        (long) reference(value),
+        (long) Binary16Parsing.parse(text));
+    }
+  }
+
+  /**
+   * Specific values are parsed as expected.
+   */
+
+  @Test
+  public void testSpecific()
+  {
+    Assert.assertEquals((long) Binary16.CANONICAL_NAN, (long) Binary16Parsing.parse("NaN"));
+    Assert.assertEquals((long) Binary16.CANONICAL_NAN, (long) Binary16Parsing.parse("-NaN"));
+    Assert.assertEquals((long) Binary16.POSITIVE_INFINITY, (long) Binary16Parsing.parse("Infinity"));
+    Assert.assertEquals((long) Binary16.POSITIVE_INFINITY, (long) Binary16Parsing.parse("+Infinity"));
+    Assert.assertEquals((long) Binary16.NEGATIVE_INFINITY, (long) Binary16Parsing.parse("-Infinity"));
+    Assert.assertEquals((long) Binary16.NEGATIVE_ZERO, (long) Binary16Parsing.parse("-0"));
+    Assert.assertEquals((long) Binary16.POSITIVE_ZERO, (long) Binary16Parsing.parse("0e99999999999"));
+    Assert.assertEquals((long) Binary16.POSITIVE_ZERO, (long) Binary16Parsing.parse("1e-99999999999"));
+    Assert.assertEquals((long) Binary16.POSITIVE_INFINITY, (long) Binary16Parsing.parse("1e99999999999"));
+    Assert.assertEquals((long) Binary16.POSITIVE_MAXIMUM, (long) Binary16Parsing.parse("65519.99"));
+    Assert.assertEquals((long) Binary16.POSITIVE_INFINITY, (long) Binary16Parsing.parse("65520"));
+    Assert.assertEquals(0L, (long) Binary16Parsing.parse("1e-8"));
+    Assert.assertEquals(1L, (long) Binary16Parsing.parse("3e-8"));
+    Assert.assertEquals((long) Binary16.packFloat(2.5f), (long) Binary16Parsing.parse(" \t2.5\r\n"));
+    Assert.assertEquals((long) Binary16.packFloat(1.5f), (long) Binary16Parsing.parse("+.15E+1"));
+    Assert.assertEquals((long) Binary16.packFloat(3.0f), (long) Binary16Parsing.parse("3."));
+    Assert.assertEquals(
+      (long) Binary16.packFloat(1.0f),
+      (long) Binary16Parsing.parse("000000000000000000000000001.000000000000000000000000000"));
+  }
+
+  /**
+   * Parsing rounds once, unlike parsing a float and then packing it.
+   */
+
+  @Test
+  public void testNoDoubleRounding()
+  {
+    // 1 + 2^-11 + 2^-36 rounds to 1 + 2^-11 as a float, which is a
+    // binary16 midpoint, but it is above the midpoint and must round up.
+    final String text =
+      new BigDecimal(1.0 + 0x1.0p-11 + 0x1.0p-36).toPlainString();
+    Assert.assertEquals(0x3c01L, (long) Binary16Parsing.parse(text));
+  }
+
+  /**
+   * Invalid text is rejected.
+   */
+
+  @Test
+  public void testInvalid()
+  {
+    final String[] cases = {
+      "", " ", "-", "+", ".", "e5", "1e", "1e+", "1.2.3", "1f", "0x1p3",
+      "NaNa", "Inf", "1 2", "--1",
+    };
+    for (final String text : cases) {
+      try {
+        Binary16Parsing.parse(text);
+        Assert.fail(text);
+      } catch (final NumberFormatException e) {
+        // Expected
+      }
+      try {
+        parseASCII(text);
+        Assert.fail(text);
+      } catch (final NumberFormatException e) {
+        // Expected
+      }
+    }
+  }
+
+  /**
+   * Delimited fields are parsed in order.
+   */
+
+  @Test
+  public void testDelimited()
+  {
+    final String text = "[1.0, 2.5,\t-3 ,65504,NaN\r]";
+    final char[] target = new char[7];
+
+    final int count =
+      Binary16Parsing.parseDelimited(text, 1, text.length() - 1, ',', target, 1);
+    Assert.assertEquals(5L, (long) count);
+    Assert.assertEquals((long) Binary16.packFloat(1.0f), (long) target[1]);
+    Assert.assertEquals((long) Binary16.packFloat(2.5f), (long) target[2]);
+    Assert.assertEquals((long) Binary16.packFloat(-3.0f), (long) target[3]);
+    Assert.assertEquals((long) Binary16.POSITIVE_MAXIMUM, (long) target[4]);
+    Assert.assertEquals((long) Binary16.CANONICAL_NAN, (long) target[5]);
+
+    final char[] bytesTarget = new char[7];
+    final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+    final int bytesCount =
+      Binary16Parsing.parseDelimited(bytes, 1, bytes.length - 2, (byte) ',', bytesTarget, 1);
+    Assert.assertEquals(5L, (long) bytesCount);
+    Assert.assertArrayEquals(target, bytesTarget);
+
+    Assert.assertEquals(
+      0L, (long) Binary16Parsing.parseDelimited("", 0, 0, ',', target, 0));
+  }
+
+  /**
+   * Empty fields are rejected.
+   */
+
+  @Test
+  public void testDelimitedEmptyField()
+  {
+    this.expected.expect(NumberFormatException.class);
+    Binary16Parsing.parseDelimited("1,,2", 0, 4, ',', new char[3], 0);
+  }
+
+  /**
+   * Fields that do not fit are rejected.
+   */
+
+  @Test
+  public void testDelimitedTooMany()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Parsing.parseDelimited("1,2,3", 0, 5, ',', new char[3], 1);
+  }
+
+  /**
+   * The functions cannot be instantiated.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Parsing> c =
+      Binary16Parsing.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.codecs.Binary16Quantization;
+import com.io7m.ieee754b16.codecs.Binary16QuantizationFormat;
+import com.io7m.ieee754b16.codecs.Binary16QuantizationReport;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+
+/**
+ * Tests for Binary16Quantization.
+ */
+
+public final class Binary16QuantizationTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] gaussian(
+    final int count)
+  {
+    final Random random = new Random(0x5deece66dL);
+    final float[] values = new float[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = (float) (random.nextGaussian() * 0.02);
+    }
+    return values;
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Quantization> c =
+      Binary16Quantization.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testEncodedSize()
+  {
+    Assert.assertEquals(
+      340L,
+      (long) Binary16Quantization.encodedSize(
+        Binary16QuantizationFormat.QUANTIZATION_Q8_0, 320));
+    Assert.assertEquals(
+      180L,
+      (long) Binary16Quantization.encodedSize(
+        Binary16QuantizationFormat.QUANTIZATION_Q4_0, 320));
+  }
+
+  @Test
+  public void testQ80Layout()
+  {
+    final float[] values = new float[32];
+    for (int index = 0; index < 32; ++index) {
+      values[index] = (float) (index - 16);
+    }
+
+    final byte[] bytes = new byte[34];
+    Binary16Quantization.quantize(
+      Binary16QuantizationFormat.QUANTIZATION_Q8_0, values, 0, bytes, 0, 32);
+
+    final char scale = (char) ((bytes[0] & 0xff) | (bytes[1] & 0xff) << 8);
+    Assert.assertEquals(
+      (long) Binary16.packFloat(16.0f / 127.0f), (long) scale);
+    Assert.assertEquals(-127L, (long) bytes[2]);
+    Assert.assertEquals(0L, (long) bytes[2 + 16]);
+    Assert.assertEquals(119L, (long) bytes[2 + 31]);
+
+    final float[] decoded = new float[32];
+    Binary16Quantization.dequantize(
+      Binary16QuantizationFormat.QUANTIZATION_Q8_0, bytes, 0, decoded, 0, 32);
+    for (int index = 0; index < 32; ++index) {
+      Assert.assertEquals(values[index], decoded[index], 0.07f);
+    }
+  }
+
+  @Test
+  public void testQ40Layout()
+  {
+    final float[] values = new float[32];
+    for (int index = 0; index < 32; ++index) {
+      values[index] = (float) (index - 16);
+    }
+
+    final byte[] bytes = new byte[18];
+    Binary16Quantization.quantize(
+      Binary16QuantizationFormat.QUANTIZATION_Q4_0, values, 0, bytes, 0, 32);
+
+    /* The largest magnitude is -16, so the scale is 2 and q = x / 2 + 8. */
+    Assert.assertEquals(0x00L, (long) bytes[0]);
+    Assert.assertEquals(0x40L, (long) bytes[1]);
+    Assert.assertEquals(0x80L, (long) (bytes[2] & 0xff));
+    Assert.assertEquals(0xf8L, (long) (bytes[2 + 15] & 0xff));
+
+    final float[] decoded = new float[32];
+    Binary16Quantization.dequantize(
+      Binary16QuantizationFormat.QUANTIZATION_Q4_0, bytes, 0, decoded, 0, 32);
+    Assert.assertEquals(-16.0f, decoded[0], 0.0f);
+    Assert.assertEquals(0.0f, decoded[16], 0.0f);
+    Assert.assertEquals(14.0f, decoded[31], 0.0f);
+  }
+
+  @Test
+  public void testScaleDecodedExactly()
+  {
+    final byte[] bytes = new byte[34];
+    bytes[1] = 0x40;
+    bytes[2] = 1;
+    bytes[3] = -3;
+
+    final float[] decoded = new float[32];
+    Binary16Quantization.dequantize(
+      Binary16QuantizationFormat.QUANTIZATION_Q8_0, bytes, 0, decoded, 0, 32);
+    Assert.assertEquals(2.0f, decoded[0], 0.0f);
+    Assert.assertEquals(-6.0f, decoded[1], 0.0f);
+  }
+
+  @Test
+  public void testZeroBlock()
+  {
+    for (final Binary16QuantizationFormat format :
+      Binary16QuantizationFormat.values()) {
+      final byte[] bytes = new byte[format.blockBytes()];
+      Binary16Quantization.quantize(format, new float[32], 0, bytes, 0, 32);
+
+      final float[] decoded = new float[32];
+      Binary16Quantization.dequantize(format, bytes, 0, decoded, 0, 32);
+      Assert.assertArrayEquals(new float[32], decoded, 0.0f);
+    }
+  }
+
+  @Test
+  public void testDot()
+  {
+    final float[] weights = gaussian(4096);
+    final float[] vector = gaussian(4096 + 5);
+
+    for (final Binary16QuantizationFormat format :
+      Binary16QuantizationFormat.values()) {
+      final byte[] bytes =
+        new byte[Binary16Quantization.encodedSize(format, 4096) + 3];
+      Binary16Quantization.quantize(format, weights, 0, bytes, 3, 4096);
+
+      final float[] decoded = new float[4096];
+      Binary16Quantization.dequantize(format, bytes, 3, decoded, 0, 4096);
+
+      double expected = 0.0;
+      for (int index = 0; index < 4096; ++index) {
+        expected += (double) decoded[index] * (double) vector[5 + index];
+      }
+
+      final float dot =
+        Binary16Quantization.dot(format, bytes, 3, vector, 5, 4096);
+      Assert.assertEquals(expected, (double) dot, 1.0e-5);
+    }
+  }
+
+  @Test
+  public void testMeasure()
+  {
+    final float[] values = gaussian(32 * 256);
+
+    final Binary16QuantizationReport q8 = Binary16Quantization.measure(
+      Binary16QuantizationFormat.QUANTIZATION_Q8_0, values, 0, values.length);
+    final Binary16QuantizationReport q4 = Binary16Quantization.measure(
+      Binary16QuantizationFormat.QUANTIZATION_Q4_0, values, 0, values.length);
+
+    Assert.assertEquals((long) values.length, (long) q8.count());
+    Assert.assertEquals(
+      Binary16QuantizationFormat.QUANTIZATION_Q8_0, q8.format());
+    Assert.assertTrue(q8.toString(), q8.signalToNoiseRatio() > 35.0);
+    Assert.assertTrue(q4.toString(), q4.signalToNoiseRatio() > 15.0);
+    Assert.assertTrue(q4.toString(), q4.signalToNoiseRatio() < q8.signalToNoiseRatio());
+    Assert.assertTrue(q8.meanAbsoluteError() <= q8.rootMeanSquareError());
+    Assert.assertTrue(q8.rootMeanSquareError() <= q8.maximumAbsoluteError());
+  }
+
+  @Test
+  public void testBadCount()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16Quantization.quantize(
+      Binary16QuantizationFormat.QUANTIZATION_Q8_0,
+      new float[40],
+      0,
+      new byte[68],
+      0,
+      40);
+  }
+
+  @Test
+  public void testTargetTooSmall()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Quantization.quantize(
+      Binary16QuantizationFormat.QUANTIZATION_Q4_0,
+      new float[32],
+      0,
+      new byte[17],
+      0,
+      32);
+  }
+}
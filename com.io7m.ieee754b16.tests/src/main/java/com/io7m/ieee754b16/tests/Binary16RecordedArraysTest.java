@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16Arrays;
+import com.io7m.ieee754b16.Binary16ConversionStatistics;
+import com.io7m.ieee754b16.Binary16NaNMode;
+import com.io7m.ieee754b16.Binary16SubnormalMode;
+import com.io7m.ieee754b16.jfr.Binary16ConversionEvent;
+import com.io7m.ieee754b16.jfr.Binary16RecordedArrays;
+import com.io7m.ieee754b16.jfr.Binary16RecordingConfigurations;
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for Binary16RecordedArrays.
+ */
+
+public final class Binary16RecordedArraysTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] randomFloats()
+  {
+    final Random random = new Random(0x5deece66dL);
+    final float[] values = new float[1000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = Float.intBitsToFloat(random.nextInt());
+    }
+    return values;
+  }
+
+  private static List<RecordedEvent> record(
+    final Runnable action)
+    throws Exception
+  {
+    final Path file = Files.createTempFile("ieee754b16-", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable(Binary16ConversionEvent.NAME);
+        recording.start();
+        action.run();
+        recording.stop();
+        recording.dump(file);
+      }
+      return RecordingFile.readAllEvents(file)
+        .stream()
+        .filter(e -> Binary16ConversionEvent.NAME.equals(e.getEventType().getName()))
+        .collect(Collectors.toList());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * Recorded conversions produce the same results as plain conversions.
+   */
+
+  @Test
+  public void testSameResults()
+  {
+    final float[] values = randomFloats();
+    final char[] r0 = new char[values.length];
+    final char[] r1 = new char[values.length];
+    final float[] u0 = new float[values.length];
+    final float[] u1 = new float[values.length];
+
+    Binary16Arrays.packFloats(
+      values, 0, r0, 0, values.length, Binary16NaNMode.NAN_PRESERVE_PAYLOAD);
+    Binary16RecordedArrays.packFloats(
+      values, 0, r1, 0, values.length, Binary16NaNMode.NAN_PRESERVE_PAYLOAD);
+    Assert.assertArrayEquals(r0, r1);
+
+    Binary16Arrays.unpackFloats(r0, 0, u0, 0, values.length);
+    Binary16RecordedArrays.unpackFloats(r1, 0, u1, 0, values.length);
+    Assert.assertArrayEquals(u0, u1, 0.0f);
+  }
+
+  /**
+   * Enabled events are recorded with the correct fields.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEventsRecorded()
+    throws Exception
+  {
+    final float[] floats = randomFloats();
+    final double[] doubles = new double[floats.length];
+    final char[] packed = new char[floats.length];
+    final Binary16ConversionStatistics stats =
+      new Binary16ConversionStatistics();
+
+    final List<RecordedEvent> events = record(() -> {
+      Binary16RecordedArrays.packFloats(floats, 0, packed, 0, 100);
+      Binary16RecordedArrays.packFloats(floats, 0, packed, 0, 100, stats);
+      Binary16RecordedArrays.packFloatsSaturating(
+        floats, 0, packed, 0, 200, Binary16SubnormalMode.SUBNORMAL_FLUSH_TO_ZERO);
+      Binary16RecordedArrays.unpackDoubles(packed, 0, doubles, 0, 300);
+    });
+
+    Assert.assertThat(Integer.valueOf(events.size()), Is.is(Integer.valueOf(4)));
+
+    final RecordedEvent e0 = events.get(0);
+    Assert.assertEquals("packFloats", e0.getString("operation"));
+    Assert.assertEquals("DEFAULT", e0.getString("mode"));
+    Assert.assertEquals(100L, e0.getLong("count"));
+    Assert.assertEquals(600L, e0.getLong("bytes"));
+
+    final RecordedEvent e1 = events.get(1);
+    Assert.assertEquals("packFloats", e1.getString("operation"));
+    Assert.assertEquals("STATISTICS", e1.getString("mode"));
+
+    final RecordedEvent e2 = events.get(2);
+    Assert.assertEquals("packFloatsSaturating", e2.getString("operation"));
+    Assert.assertEquals("SUBNORMAL_FLUSH_TO_ZERO", e2.getString("mode"));
+    Assert.assertEquals(200L, e2.getLong("count"));
+
+    final RecordedEvent e3 = events.get(3);
+    Assert.assertEquals("unpackDoubles", e3.getString("operation"));
+    Assert.assertEquals(300L, e3.getLong("count"));
+    Assert.assertEquals(3000L, e3.getLong("bytes"));
+    Assert.assertFalse(e3.getDuration().isNegative());
+  }
+
+  /**
+   * The bundled configuration enables the event.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConfiguration()
+    throws Exception
+  {
+    final Configuration configuration =
+      Binary16RecordingConfigurations.create();
+
+    Assert.assertEquals(
+      "true",
+      configuration.getSettings()
+        .get(Binary16ConversionEvent.NAME + "#enabled"));
+  }
+
+  /**
+   * Out of range arguments are rejected whether or not the event is enabled.
+   */
+
+  @Test
+  public void testRange()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16RecordedArrays.packDoubles(
+      new double[4], 1, new char[4], 0, 4);
+  }
+
+  /**
+   * The functions cannot be instantiated.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16RecordedArrays> c =
+      Binary16RecordedArrays.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16SRGB;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Tests for Binary16SRGB.
+ */
+
+public final class Binary16SRGBTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static int referenceEncode(
+    final char value)
+  {
+    final double x = (double) Binary16.unpackFloatExact(value);
+    if (!(x > 0.0)) {
+      return 0;
+    }
+    final double c = Math.min(1.0, x);
+    final double e;
+    if (c <= 0.0031308) {
+      e = c * 12.92;
+    } else {
+      e = 1.055 * Math.pow(c, 1.0 / 2.4) - 0.055;
+    }
+    return (int) Math.round(e * 255.0);
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16SRGB> c =
+      Binary16SRGB.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testEncodeExhaustive()
+  {
+    for (int bits = 0; bits < 65536; ++bits) {
+      Assert.assertEquals(
+        Integer.toHexString(bits),
+        referenceEncode((char) bits),
+        Binary16SRGB.encodeSRGB8((char) bits));
+    }
+  }
+
+  @Test
+  public void testEncodeSpecific()
+  {
+    Assert.assertEquals(0, Binary16SRGB.encodeSRGB8(Binary16.packFloat(0.0f)));
+    Assert.assertEquals(0, Binary16SRGB.encodeSRGB8(Binary16.packFloat(-1.0f)));
+    Assert.assertEquals(0, Binary16SRGB.encodeSRGB8(Binary16.packFloat(Float.NaN)));
+    Assert.assertEquals(188, Binary16SRGB.encodeSRGB8(Binary16.packFloat(0.5f)));
+    Assert.assertEquals(255, Binary16SRGB.encodeSRGB8(Binary16.packFloat(1.0f)));
+    Assert.assertEquals(
+      255, Binary16SRGB.encodeSRGB8(Binary16.packFloat(Float.POSITIVE_INFINITY)));
+  }
+
+  @Test
+  public void testDecodeSpecific()
+  {
+    Assert.assertEquals(0, Binary16SRGB.decodeSRGB8(0));
+    Assert.assertEquals(Binary16.packFloat(1.0f), Binary16SRGB.decodeSRGB8(255));
+    Assert.assertEquals(
+      Binary16.packDouble(Math.pow((188.0 / 255.0 + 0.055) / 1.055, 2.4)),
+      Binary16SRGB.decodeSRGB8(188));
+    Assert.assertEquals(
+      Binary16SRGB.decodeSRGB8(255), Binary16SRGB.decodeSRGB8(-1));
+  }
+
+  @Test
+  public void testRoundTripLevels()
+  {
+    for (int level = 0; level < 256; ++level) {
+      Assert.assertEquals(
+        level, Binary16SRGB.encodeSRGB8(Binary16SRGB.decodeSRGB8(level)));
+    }
+  }
+
+  @Test
+  public void testArrays()
+  {
+    final char[] values = new char[300];
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = Binary16.packFloat((float) index / 299.0f);
+    }
+
+    final byte[] levels = new byte[302];
+    Binary16SRGB.encodeSRGB8(values, 0, levels, 2, values.length);
+    for (int index = 0; index < values.length; ++index) {
+      Assert.assertEquals(
+        Binary16SRGB.encodeSRGB8(values[index]), levels[index + 2] & 0xff);
+    }
+
+    final char[] decoded = new char[levels.length];
+    Binary16SRGB.decodeSRGB8(levels, 0, decoded, 0, levels.length);
+    for (int index = 0; index < levels.length; ++index) {
+      Assert.assertEquals(
+        Binary16SRGB.decodeSRGB8(levels[index]), decoded[index]);
+    }
+  }
+
+  @Test
+  public void testArraysOutOfRange()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16SRGB.encodeSRGB8(new char[4], 1, new byte[4], 0, 4);
+  }
+
+  @Test
+  public void testBuffers()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      final ByteBuffer values = ByteBuffer.allocate(2 + 512).order(order);
+      values.position(2);
+      for (int level = 0; level < 256; ++level) {
+        values.putChar(Binary16SRGB.decodeSRGB8(level));
+      }
+      values.flip();
+      values.position(2);
+
+      final ByteBuffer levels = ByteBuffer.allocate(1 + 256);
+      levels.position(1);
+      Binary16SRGB.encodeSRGB8(values, levels);
+      Assert.assertEquals(514, values.position());
+      Assert.assertEquals(257, levels.position());
+      for (int level = 0; level < 256; ++level) {
+        Assert.assertEquals(level, levels.get(1 + level) & 0xff);
+      }
+
+      levels.position(1);
+      final ByteBuffer decoded = ByteBuffer.allocate(512).order(order);
+      Binary16SRGB.decodeSRGB8(levels, decoded);
+      Assert.assertEquals(257, levels.position());
+      Assert.assertEquals(512, decoded.position());
+      for (int level = 0; level < 256; ++level) {
+        Assert.assertEquals(
+          Binary16SRGB.decodeSRGB8(level), decoded.getChar(level * 2));
+      }
+    }
+  }
+
+  @Test
+  public void testEncodeBufferOdd()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16SRGB.encodeSRGB8(ByteBuffer.allocate(3), ByteBuffer.allocate(8));
+  }
+
+  @Test
+  public void testEncodeBufferOverflow()
+  {
+    final ByteBuffer source = ByteBuffer.allocate(8);
+    final ByteBuffer target = ByteBuffer.allocate(3);
+    try {
+      Binary16SRGB.encodeSRGB8(source, target);
+      Assert.fail();
+    } catch (final BufferOverflowException e) {
+      Assert.assertEquals(0, source.position());
+      Assert.assertEquals(0, target.position());
+    }
+  }
+
+  @Test
+  public void testDecodeBufferOverflow()
+  {
+    this.expected.expect(BufferOverflowException.class);
+    Binary16SRGB.decodeSRGB8(ByteBuffer.allocate(4), ByteBuffer.allocate(7));
+  }
+}
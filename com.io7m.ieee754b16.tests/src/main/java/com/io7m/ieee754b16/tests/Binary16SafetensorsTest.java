@@ -0,0 +1,435 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsFile;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsHeader;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsTensor;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsTensorInfo;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsType;
+import com.io7m.ieee754b16.safetensors.Binary16SafetensorsWriter;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Tests for the .safetensors reader and writer.
+ */
+
+public final class Binary16SafetensorsTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] sequence(
+    final int count)
+  {
+    final float[] values = new float[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = (float) index * 0.37f - 10.0f;
+    }
+    return values;
+  }
+
+  private static byte[] write(
+    final Binary16SafetensorsHeader header,
+    final float[] values)
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Binary16SafetensorsWriter writer =
+           Binary16SafetensorsWriter.open(bytes, header)) {
+      writer.writeFloats(values, 0, values.length);
+    }
+    return bytes.toByteArray();
+  }
+
+  /* A file with the given header text and zeroed data. */
+
+  private static byte[] raw(
+    final String json,
+    final int dataSize)
+  {
+    final byte[] text = json.getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer buffer = ByteBuffer.allocate(8 + text.length + dataSize);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(text.length);
+    buffer.put(text);
+    return buffer.array();
+  }
+
+  private static Binary16SafetensorsFile open(
+    final byte[] data)
+    throws IOException
+  {
+    final Path file = Files.createTempFile("ieee754b16-", ".safetensors");
+    try {
+      Files.write(file, data);
+      return Binary16SafetensorsFile.open(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static float bfloat16(
+    final int bits)
+  {
+    return Float.intBitsToFloat(bits << 16);
+  }
+
+  @Test
+  public void testHeaderMatchesSafetensors()
+    throws IOException
+  {
+    final Binary16SafetensorsHeader header = Binary16SafetensorsHeader.of(
+      List.of(
+        Binary16SafetensorsTensorInfo.of("a", Binary16SafetensorsType.TYPE_F16, 2L),
+        Binary16SafetensorsTensorInfo.of("b", Binary16SafetensorsType.TYPE_BF16, 1L, 3L)),
+      Map.of("format", "pt"));
+
+    final byte[] data = write(header, new float[5]);
+    final long length =
+      ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).getLong(0);
+    Assert.assertEquals(0L, (8L + length) % 8L);
+    Assert.assertEquals(8L + length + 10L, (long) data.length);
+
+    final String text =
+      StandardCharsets.UTF_8.decode(ByteBuffer.wrap(data, 8, (int) length))
+        .toString();
+    Assert.assertEquals(
+      "{\"__metadata__\":{\"format\":\"pt\"},"
+        + "\"a\":{\"dtype\":\"F16\",\"shape\":[2],\"data_offsets\":[0,4]},"
+        + "\"b\":{\"dtype\":\"BF16\",\"shape\":[1,3],\"data_offsets\":[4,10]}}",
+      text.trim());
+  }
+
+  @Test
+  public void testRoundTrip()
+    throws IOException
+  {
+    final Binary16SafetensorsHeader header = Binary16SafetensorsHeader.of(
+      List.of(
+        Binary16SafetensorsTensorInfo.of("weight", Binary16SafetensorsType.TYPE_F16, 30L, 200L),
+        Binary16SafetensorsTensorInfo.of("scalar", Binary16SafetensorsType.TYPE_BF16),
+        Binary16SafetensorsTensorInfo.of("empty", Binary16SafetensorsType.TYPE_F16, 0L),
+        Binary16SafetensorsTensorInfo.of("bias", Binary16SafetensorsType.TYPE_BF16, 5000L)),
+      Map.of("format", "pt", "quote\"d", "line\nbreak"));
+
+    final float[] values = sequence(11001);
+    final Binary16SafetensorsFile file = open(write(header, values));
+    Assert.assertEquals(header, file.header());
+    Assert.assertEquals(4, file.tensors().size());
+
+    final Binary16SafetensorsTensor weight = file.tensor("weight");
+    Assert.assertEquals(6000L, weight.size());
+    final float[] weights = weight.toFloats();
+    final CharBuffer view = weight.asCharBuffer();
+    Assert.assertTrue(view.isReadOnly());
+    Assert.assertEquals(6000, view.remaining());
+    for (int index = 0; index < 6000; ++index) {
+      final char packed = Binary16.packFloat(values[index]);
+      Assert.assertEquals(packed, weight.get(index));
+      Assert.assertEquals(packed, view.get(index));
+      Assert.assertEquals(Binary16.unpackFloat(packed), weights[index], 0.0f);
+      Assert.assertEquals(weights[index], weight.getFloat(index), 0.0f);
+    }
+
+    final Binary16SafetensorsTensor scalar = file.tensor("scalar");
+    Assert.assertEquals(1L, scalar.size());
+    Assert.assertEquals(
+      values[6000], scalar.getFloat(0L), Math.abs(values[6000]) / 128.0f);
+
+    Assert.assertEquals(0L, file.tensor("empty").size());
+    Assert.assertEquals(0, file.tensor("empty").asCharBuffer().remaining());
+
+    final Binary16SafetensorsTensor bias = file.tensor("bias");
+    final float[] biases = new float[5002];
+    bias.getFloats(0L, biases, 1, 5000);
+    final char[] packed = new char[5000];
+    bias.getChars(0L, packed, 0, 5000);
+    for (int index = 0; index < 5000; ++index) {
+      final float value = values[6001 + index];
+      Assert.assertEquals(value, biases[1 + index], Math.abs(value) / 128.0f);
+      Assert.assertEquals(bfloat16(packed[index]), biases[1 + index], 0.0f);
+    }
+  }
+
+  @Test
+  public void testBFloat16Rounding()
+    throws IOException
+  {
+    final Binary16SafetensorsHeader header = Binary16SafetensorsHeader.of(
+      List.of(Binary16SafetensorsTensorInfo.of("x", Binary16SafetensorsType.TYPE_BF16, 6L)),
+      Map.of());
+
+    final float[] values = {
+      Float.intBitsToFloat(0x3f808000),
+      Float.intBitsToFloat(0x3f818000),
+      Float.intBitsToFloat(0x3f808001),
+      Float.MAX_VALUE,
+      Float.NEGATIVE_INFINITY,
+      Float.intBitsToFloat(0x7f800001),
+    };
+
+    final char[] packed = new char[6];
+    open(write(header, values)).tensor("x").getChars(0L, packed, 0, 6);
+    Assert.assertEquals(0x3f80, packed[0]);
+    Assert.assertEquals(0x3f82, packed[1]);
+    Assert.assertEquals(0x3f81, packed[2]);
+    Assert.assertEquals(0x7f80, packed[3]);
+    Assert.assertEquals(0xff80, packed[4]);
+    Assert.assertTrue(Float.isNaN(bfloat16(packed[5])));
+  }
+
+  @Test
+  public void testReadForeignHeader()
+    throws IOException
+  {
+    final String json =
+      "{ \"b\\u00e9\" : {\"shape\": [2], \"dtype\": \"BF16\", \"data_offsets\": [16, 20]},\n"
+        + "  \"other\": {\"dtype\": \"F32\", \"shape\": [2, 2], \"data_offsets\": [0, 16]},\n"
+        + "  \"__metadata__\": {\"k\": \"v\"},\n"
+        + "  \"a\": {\"dtype\": \"F16\", \"shape\": [], \"data_offsets\": [20, 22]} }";
+    final byte[] data = raw(json, 22);
+    final int base = data.length - 22;
+    data[base + 16] = (byte) 0x80;
+    data[base + 17] = (byte) 0x3f;
+    data[base + 20] = (byte) 0x00;
+    data[base + 21] = (byte) 0x40;
+
+    final Binary16SafetensorsFile file = open(data);
+    Assert.assertEquals(Map.of("k", "v"), file.header().metadata());
+    Assert.assertEquals(2, file.tensors().size());
+    Assert.assertEquals("bé", file.tensors().get(0).info().name());
+    Assert.assertEquals(1.0f, file.tensor("bé").getFloat(0L), 0.0f);
+    Assert.assertEquals((char) 0x4000, file.tensor("a").get(0L));
+
+    this.expected.expect(NoSuchElementException.class);
+    file.tensor("other");
+  }
+
+  @Test
+  public void testWriteAcrossTensors()
+    throws IOException
+  {
+    final Binary16SafetensorsHeader header = Binary16SafetensorsHeader.of(
+      List.of(
+        Binary16SafetensorsTensorInfo.of("a", Binary16SafetensorsType.TYPE_F16, 3L),
+        Binary16SafetensorsTensorInfo.of("b", Binary16SafetensorsType.TYPE_BF16, 3L)),
+      Map.of());
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Binary16SafetensorsWriter writer =
+           Binary16SafetensorsWriter.open(bytes, header)) {
+      Assert.assertEquals(6L, writer.remaining());
+      writer.writeFloats(new float[]{1.0f, 2.0f}, 0, 2);
+      writer.writeFloats(new float[]{3.0f, 4.0f, 5.0f}, 0, 3);
+      writer.writeChars(new char[]{0x40c0}, 0, 1);
+      Assert.assertEquals(0L, writer.remaining());
+    }
+
+    final Binary16SafetensorsFile file = open(bytes.toByteArray());
+    Assert.assertEquals(Binary16.packFloat(3.0f), file.tensor("a").get(2L));
+    Assert.assertEquals(4.0f, file.tensor("b").getFloat(0L), 0.0f);
+    Assert.assertEquals(5.0f, file.tensor("b").getFloat(1L), 0.0f);
+    Assert.assertEquals(6.0f, file.tensor("b").getFloat(2L), 0.0f);
+  }
+
+  @Test
+  public void testWriteTooMany()
+    throws IOException
+  {
+    final Binary16SafetensorsHeader header = Binary16SafetensorsHeader.of(
+      List.of(Binary16SafetensorsTensorInfo.of("a", Binary16SafetensorsType.TYPE_F16, 3L)),
+      Map.of());
+    final Binary16SafetensorsWriter writer =
+      Binary16SafetensorsWriter.open(new ByteArrayOutputStream(), header);
+    this.expected.expect(IllegalStateException.class);
+    writer.writeFloats(new float[4], 0, 4);
+  }
+
+  @Test
+  public void testWriteTooFew()
+    throws IOException
+  {
+    final Binary16SafetensorsHeader header = Binary16SafetensorsHeader.of(
+      List.of(Binary16SafetensorsTensorInfo.of("a", Binary16SafetensorsType.TYPE_F16, 3L)),
+      Map.of());
+    final Binary16SafetensorsWriter writer =
+      Binary16SafetensorsWriter.open(new ByteArrayOutputStream(), header);
+    writer.writeFloats(new float[2], 0, 2);
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("Incomplete");
+    writer.close();
+  }
+
+  @Test
+  public void testDuplicateTensorName()
+  {
+    final Binary16SafetensorsTensorInfo tensor =
+      Binary16SafetensorsTensorInfo.of("a", Binary16SafetensorsType.TYPE_F16, 3L);
+    this.expected.expect(IllegalArgumentException.class);
+    this.expected.expectMessage("Duplicate");
+    Binary16SafetensorsHeader.of(List.of(tensor, tensor), Map.of());
+  }
+
+  @Test
+  public void testReservedTensorName()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16SafetensorsTensorInfo.of("__metadata__", Binary16SafetensorsType.TYPE_F16);
+  }
+
+  @Test
+  public void testNegativeShape()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16SafetensorsTensorInfo.of("a", Binary16SafetensorsType.TYPE_F16, 2L, -1L);
+  }
+
+  @Test
+  public void testReadTruncatedHeader()
+    throws IOException
+  {
+    final byte[] data = raw("{\"a\": {}}", 0);
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("Truncated");
+    open(Arrays.copyOf(data, data.length - 1));
+  }
+
+  @Test
+  public void testReadBadHeaderLength()
+    throws IOException
+  {
+    final byte[] data = new byte[16];
+    data[7] = (byte) 0x80;
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("out of range");
+    open(data);
+  }
+
+  @Test
+  public void testReadMalformedJSON()
+    throws IOException
+  {
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("Malformed");
+    open(raw("{\"a\": {\"dtype\": \"F16\",}}", 0));
+  }
+
+  @Test
+  public void testReadDuplicateKey()
+    throws IOException
+  {
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("unique key");
+    open(raw("{\"__metadata__\": {}, \"__metadata__\": {}}", 0));
+  }
+
+  @Test
+  public void testReadOffsetsOutOfRange()
+    throws IOException
+  {
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("outside");
+    open(raw("{\"a\": {\"dtype\": \"F16\", \"shape\": [2], \"data_offsets\": [0, 4]}}", 2));
+  }
+
+  @Test
+  public void testReadSizeMismatch()
+    throws IOException
+  {
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("requires 4");
+    open(raw("{\"a\": {\"dtype\": \"F16\", \"shape\": [2], \"data_offsets\": [0, 6]}}", 6));
+  }
+
+  @Test
+  public void testReadMissingShape()
+    throws IOException
+  {
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("'shape'");
+    open(raw("{\"a\": {\"dtype\": \"F16\", \"data_offsets\": [0, 0]}}", 0));
+  }
+
+  @Test
+  public void testReadMetadataNotString()
+    throws IOException
+  {
+    this.expected.expect(IOException.class);
+    this.expected.expectMessage("not a string");
+    open(raw("{\"__metadata__\": {\"k\": 1.5e3}}", 0));
+  }
+
+  /**
+   * A sparse file with a tensor larger than a single mapping segment. Reads
+   * that straddle the boundary between segments must be stitched together.
+   */
+
+  @Test
+  public void testMappedLarge()
+    throws IOException
+  {
+    final Path path = Files.createTempFile("ieee754b16-", ".safetensors");
+    try {
+      final long count = (1L << 29) + 16L;
+      final Binary16SafetensorsHeader header = Binary16SafetensorsHeader.of(
+        List.of(Binary16SafetensorsTensorInfo.of("big", Binary16SafetensorsType.TYPE_F16, count)),
+        Map.of());
+
+      final ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+      Binary16SafetensorsWriter.open(prefix, header);
+      final long start = prefix.size();
+      try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+        file.write(prefix.toByteArray());
+        file.setLength(start + count * 2L);
+        file.seek(start + ((1L << 29) - 1L) * 2L);
+        file.write(new byte[]{0x00, 0x3c, 0x00, 0x40});
+      }
+
+      final Binary16SafetensorsTensor tensor =
+        Binary16SafetensorsFile.open(path).tensor("big");
+      final float[] floats = new float[4];
+      tensor.getFloats((1L << 29) - 2L, floats, 0, 4);
+      Assert.assertEquals(0.0f, floats[0], 0.0f);
+      Assert.assertEquals(Binary16.unpackFloat((char) 0x3c00), floats[1], 0.0f);
+      Assert.assertEquals(Binary16.unpackFloat((char) 0x4000), floats[2], 0.0f);
+      Assert.assertEquals(0.0f, floats[3], 0.0f);
+
+      this.expected.expect(IllegalStateException.class);
+      tensor.asCharBuffer();
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.codecs.Binary16Shuffle;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests for Binary16Shuffle.
+ */
+
+public final class Binary16ShuffleTest
+{
+  private static final int[] COUNTS = {0, 1, 7, 8, 9, 63, 64, 1000, 200_003};
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static char[] randomValues(
+    final int count)
+  {
+    final Random random = new Random(0x5deece66dL + count);
+    final char[] values = new char[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = (char) random.nextInt(0x10000);
+    }
+    return values;
+  }
+
+  private static byte[] referenceShuffleBytes(
+    final char[] values)
+  {
+    final byte[] result = new byte[values.length * 2];
+    for (int index = 0; index < values.length; ++index) {
+      result[index] = (byte) (values[index] >>> 8);
+      result[values.length + index] = (byte) values[index];
+    }
+    return result;
+  }
+
+  private static byte[] referenceShuffleBits(
+    final char[] values)
+  {
+    final byte[] result = new byte[values.length * 2];
+    final int whole = values.length & ~7;
+    final int planeSize = whole / 8;
+    for (int plane = 0; plane < 16; ++plane) {
+      for (int index = 0; index < whole; ++index) {
+        final int bit = (values[index] >>> (15 - plane)) & 1;
+        result[plane * planeSize + index / 8] |= (byte) (bit << (7 - index % 8));
+      }
+    }
+    for (int index = whole; index < values.length; ++index) {
+      result[index * 2] = (byte) (values[index] >>> 8);
+      result[index * 2 + 1] = (byte) values[index];
+    }
+    return result;
+  }
+
+  private static ByteBuffer toBuffer(
+    final char[] values,
+    final ByteOrder order)
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(values.length * 2).order(order);
+    for (final char value : values) {
+      buffer.putChar(value);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Shuffle> c =
+      Binary16Shuffle.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testShuffleBytes()
+  {
+    for (final int count : COUNTS) {
+      final char[] values = randomValues(count);
+      final byte[] expected = referenceShuffleBytes(values);
+
+      final byte[] shuffled = new byte[count * 2 + 3];
+      Binary16Shuffle.shuffleBytes(values, 0, shuffled, 3, count);
+      Assert.assertArrayEquals(expected, Arrays.copyOfRange(shuffled, 3, shuffled.length));
+
+      final byte[] parallel = new byte[count * 2];
+      Binary16Shuffle.shuffleBytesParallel(values, 0, parallel, 0, count);
+      Assert.assertArrayEquals(expected, parallel);
+
+      final char[] restored = new char[count + 1];
+      Binary16Shuffle.unshuffleBytes(expected, 0, restored, 1, count);
+      Assert.assertArrayEquals(values, Arrays.copyOfRange(restored, 1, restored.length));
+
+      final char[] restoredParallel = new char[count];
+      Binary16Shuffle.unshuffleBytesParallel(expected, 0, restoredParallel, 0, count);
+      Assert.assertArrayEquals(values, restoredParallel);
+    }
+  }
+
+  @Test
+  public void testShuffleBits()
+  {
+    for (final int count : COUNTS) {
+      final char[] values = randomValues(count);
+      final byte[] expected = referenceShuffleBits(values);
+
+      final byte[] shuffled = new byte[count * 2 + 3];
+      Binary16Shuffle.shuffleBits(values, 0, shuffled, 3, count);
+      Assert.assertArrayEquals(expected, Arrays.copyOfRange(shuffled, 3, shuffled.length));
+
+      final byte[] parallel = new byte[count * 2];
+      Binary16Shuffle.shuffleBitsParallel(values, 0, parallel, 0, count);
+      Assert.assertArrayEquals(expected, parallel);
+
+      final char[] restored = new char[count + 1];
+      Binary16Shuffle.unshuffleBits(expected, 0, restored, 1, count);
+      Assert.assertArrayEquals(values, Arrays.copyOfRange(restored, 1, restored.length));
+
+      final char[] restoredParallel = new char[count];
+      Binary16Shuffle.unshuffleBitsParallel(expected, 0, restoredParallel, 0, count);
+      Assert.assertArrayEquals(values, restoredParallel);
+    }
+  }
+
+  @Test
+  public void testShuffleBuffers()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN,
+    }) {
+      for (final int count : COUNTS) {
+        final char[] values = randomValues(count);
+
+        final ByteBuffer bytes = ByteBuffer.allocate(count * 2);
+        Binary16Shuffle.shuffleBytes(toBuffer(values, order), bytes);
+        Assert.assertFalse(bytes.hasRemaining());
+        Assert.assertArrayEquals(referenceShuffleBytes(values), bytes.array());
+
+        final ByteBuffer bits = ByteBuffer.allocateDirect(count * 2);
+        Binary16Shuffle.shuffleBits(toBuffer(values, order), bits);
+        bits.flip();
+        final byte[] bitsArray = new byte[count * 2];
+        bits.duplicate().get(bitsArray);
+        Assert.assertArrayEquals(referenceShuffleBits(values), bitsArray);
+
+        bytes.flip();
+        final ByteBuffer restoredBytes = ByteBuffer.allocate(count * 2).order(order);
+        Binary16Shuffle.unshuffleBytes(bytes, restoredBytes);
+        Assert.assertEquals(toBuffer(values, order), restoredBytes.flip());
+
+        final ByteBuffer restoredBits = ByteBuffer.allocate(count * 2).order(order);
+        Binary16Shuffle.unshuffleBits(bits, restoredBits);
+        Assert.assertEquals(toBuffer(values, order), restoredBits.flip());
+      }
+    }
+  }
+
+  @Test
+  public void testPlanesGatherSigns()
+  {
+    final char[] values = new char[16];
+    for (int index = 0; index < 16; index += 2) {
+      values[index] = (char) 0x8000;
+    }
+    final byte[] shuffled = new byte[32];
+    Binary16Shuffle.shuffleBits(values, 0, shuffled, 0, 16);
+
+    final byte[] expected = new byte[32];
+    expected[0] = (byte) 0b1010_1010;
+    expected[1] = (byte) 0b1010_1010;
+    Assert.assertArrayEquals(expected, shuffled);
+  }
+
+  @Test
+  public void testBufferOddSize()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16Shuffle.shuffleBytes(ByteBuffer.allocate(3), ByteBuffer.allocate(4));
+  }
+
+  @Test
+  public void testBufferOverflow()
+  {
+    final ByteBuffer source = ByteBuffer.allocate(4);
+    final ByteBuffer target = ByteBuffer.allocate(2);
+
+    this.expected.expect(BufferOverflowException.class);
+    try {
+      Binary16Shuffle.shuffleBits(source, target);
+    } finally {
+      Assert.assertEquals(0L, (long) source.position());
+      Assert.assertEquals(0L, (long) target.position());
+    }
+  }
+
+  @Test
+  public void testOutOfBounds()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Shuffle.shuffleBits(new char[8], 0, new byte[15], 0, 8);
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Streams;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Tests for Binary16Streams.
+ */
+
+public final class Binary16StreamsTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static char[] allValues()
+  {
+    final char[] values = new char[65536];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (char) i;
+    }
+    return values;
+  }
+
+  /**
+   * Streams unpack every value in order.
+   */
+
+  @Test
+  public void testDoubleStreamOrder()
+  {
+    final char[] values = allValues();
+    final double[] unpacked = Binary16Streams.doubleStream(values).toArray();
+    Assert.assertEquals((long) values.length, (long) unpacked.length);
+
+    for (int i = 0; i < values.length; ++i) {
+      Assert.assertEquals(
+        Double.doubleToLongBits(Binary16.unpackDouble(values[i])),
+        Double.doubleToLongBits(unpacked[i]));
+    }
+  }
+
+  /**
+   * Parallel streams produce the same results as sequential streams.
+   */
+
+  @Test
+  public void testDoubleStreamParallel()
+  {
+    final char[] values = new char[100_000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = Binary16.packDouble((double) (i % 2048));
+    }
+
+    final double seq =
+      Binary16Streams.doubleStream(values).sum();
+    final double par =
+      Binary16Streams.doubleStream(values).parallel().sum();
+
+    Assert.assertEquals(seq, par, 0.0);
+  }
+
+  /**
+   * Subranges are respected.
+   */
+
+  @Test
+  public void testDoubleStreamRange()
+  {
+    final char[] values = new char[]{
+      Binary16.packDouble(1.0),
+      Binary16.packDouble(2.0),
+      Binary16.packDouble(3.0),
+      Binary16.packDouble(4.0),
+    };
+
+    final double[] unpacked =
+      Binary16Streams.doubleStream(values, 1, 3).toArray();
+    Assert.assertArrayEquals(
+      new double[]{
+        Binary16.unpackDouble(values[1]),
+        Binary16.unpackDouble(values[2]),
+      },
+      unpacked,
+      0.0);
+  }
+
+  /**
+   * Out of bounds ranges are rejected.
+   */
+
+  @Test
+  public void testDoubleStreamRangeBad()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Streams.doubleStream(new char[4], 2, 5);
+  }
+
+  /**
+   * Spliterators are sized and split evenly.
+   */
+
+  @Test
+  public void testDoubleSpliteratorSplit()
+  {
+    final Spliterator.OfDouble s0 =
+      Binary16Streams.doubleSpliterator(new char[10], 0, 10);
+
+    Assert.assertTrue(s0.hasCharacteristics(Spliterator.SIZED));
+    Assert.assertTrue(s0.hasCharacteristics(Spliterator.SUBSIZED));
+    Assert.assertTrue(s0.hasCharacteristics(Spliterator.ORDERED));
+    Assert.assertEquals(10L, s0.getExactSizeIfKnown());
+
+    final Spliterator.OfDouble s1 = s0.trySplit();
+    Assert.assertEquals(5L, s0.estimateSize());
+    Assert.assertEquals(5L, s1.estimateSize());
+
+    final Spliterator.OfDouble s2 =
+      Binary16Streams.doubleSpliterator(new char[1], 0, 1);
+    Assert.assertNull(s2.trySplit());
+    Assert.assertTrue(s2.tryAdvance((double x) -> Assert.assertEquals(0.0, x, 0.0)));
+    Assert.assertFalse(s2.tryAdvance((double x) -> Assert.fail()));
+  }
+
+  /**
+   * Raw streams yield the encodings of values.
+   */
+
+  @Test
+  public void testRawStream()
+  {
+    final char[] values = allValues();
+    final int[] raw = Binary16Streams.rawStream(values).parallel().toArray();
+    for (int i = 0; i < values.length; ++i) {
+      Assert.assertEquals((long) i, (long) raw[i]);
+    }
+
+    final Spliterator.OfInt s =
+      Binary16Streams.rawSpliterator(values, 0, 1);
+    Assert.assertNull(s.trySplit());
+    Assert.assertTrue(s.tryAdvance((int x) -> Assert.assertEquals(0L, (long) x)));
+    Assert.assertFalse(s.tryAdvance((int x) -> Assert.fail()));
+  }
+
+  /**
+   * Packing a stream of doubles produces the same results as packing each
+   * value individually.
+   */
+
+  @Test
+  public void testToArray()
+  {
+    final char[] packed =
+      Binary16Streams.toArray(
+        IntStream.range(0, 100_000).mapToDouble(x -> (double) x / 16.0));
+
+    Assert.assertEquals(100_000L, (long) packed.length);
+    for (int i = 0; i < packed.length; ++i) {
+      Assert.assertEquals(
+        (long) Binary16.packDouble((double) i / 16.0),
+        (long) packed[i]);
+    }
+  }
+
+  /**
+   * Packing a parallel stream preserves encounter order.
+   */
+
+  @Test
+  public void testToArrayParallel()
+  {
+    final char[] packed =
+      Binary16Streams.toArray(
+        IntStream.range(0, 100_000)
+          .parallel()
+          .mapToDouble(x -> (double) (x % 2048)));
+
+    Assert.assertEquals(100_000L, (long) packed.length);
+    for (int i = 0; i < packed.length; ++i) {
+      Assert.assertEquals(
+        (long) Binary16.packDouble((double) (i % 2048)),
+        (long) packed[i]);
+    }
+  }
+
+  /**
+   * Packing an empty stream produces an empty array.
+   */
+
+  @Test
+  public void testToArrayEmpty()
+  {
+    Assert.assertEquals(
+      0L, (long) Binary16Streams.toArray(DoubleStream.empty()).length);
+  }
+
+  /**
+   * Raw streams round trip.
+   */
+
+  @Test
+  public void testToArrayRaw()
+  {
+    final char[] values = allValues();
+    final char[] result =
+      Binary16Streams.toArrayRaw(Binary16Streams.rawStream(values).parallel());
+    Assert.assertArrayEquals(values, result);
+  }
+
+  /**
+   * The collector packs boxed streams.
+   */
+
+  @Test
+  public void testCollector()
+  {
+    final List<Float> values =
+      IntStream.range(0, 10_000)
+        .mapToObj(x -> Float.valueOf((float) x))
+        .collect(Collectors.toList());
+
+    final char[] packed =
+      values.parallelStream().collect(Binary16Streams.collector());
+
+    Assert.assertEquals(10_000L, (long) packed.length);
+    for (int i = 0; i < packed.length; ++i) {
+      Assert.assertEquals(
+        (long) Binary16.packFloat((float) i),
+        (long) packed[i]);
+    }
+  }
+
+  /**
+   * The constructor is unreachable.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Streams> c =
+      Binary16Streams.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+}
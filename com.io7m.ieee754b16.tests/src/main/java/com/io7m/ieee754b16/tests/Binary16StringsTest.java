@@ -0,0 +1,272 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.Binary16Strings;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for Binary16Strings.
+ */
+
+public final class Binary16StringsTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static int significantDigits(
+    final String text)
+  {
+    final BigDecimal d = new BigDecimal(text).stripTrailingZeros();
+    return d.precision();
+  }
+
+  /**
+   * Every value formats to a string that parses back to the same value.
+   */
+
+  @Test
+  public void testDecimalRoundTripExhaustive()
+  {
+    for (int index = 0; index <= 0xffff; ++index) {
+      final char k = (char) index;
+      final String text = Binary16Strings.toDecimalString(k);
+
+      if (Binary16.isNaN(k)) {
+        Assert.assertEquals("NaN", text);
+        continue;
+      }
+
+      final float parsed = Float.parseFloat(text);
+      Assert.assertEquals(
+        String.format("0x%04x -> %s", Integer.valueOf(index), text),
+        (long) k,
+        (long) Binary16.packFloat(parsed));
+      Assert.assertTrue(text.length() <= Binary16Strings.DECIMAL_LENGTH_MAXIMUM);
+
+      if (!Binary16.isInfinite(k) && (index & 0x7fff) != 0) {
+        Assert.assertTrue(text, significantDigits(text) <= 5);
+      }
+    }
+  }
+
+  /**
+   * No string with fewer significant digits identifies the same value.
+   */
+
+  @Test
+  public void testDecimalShortest()
+  {
+    final BigDecimal two = BigDecimal.valueOf(2L);
+
+    for (int index = 1; index < 0x7c00; ++index) {
+      final char k = (char) index;
+      final String text = Binary16Strings.toDecimalString(k);
+      final int digits = significantDigits(text);
+      if (digits == 1) {
+        continue;
+      }
+
+      final BigDecimal value = new BigDecimal(exactOf(k));
+      final BigDecimal low =
+        value.add(new BigDecimal(exactOf((char) (index - 1)))).divide(two);
+      final BigDecimal high =
+        value.add(new BigDecimal(exactOf((char) (index + 1)))).divide(two);
+
+      final MathContext floor = new MathContext(digits - 1, RoundingMode.FLOOR);
+      final MathContext ceiling = new MathContext(digits - 1, RoundingMode.CEILING);
+      for (final BigDecimal candidate : new BigDecimal[]{
+        value.round(floor), value.round(ceiling),
+      }) {
+        Assert.assertFalse(
+          String.format(
+            "0x%04x %s could be %s",
+            Integer.valueOf(index),
+            text,
+            candidate),
+          candidate.compareTo(low) > 0 && candidate.compareTo(high) < 0);
+      }
+    }
+  }
+
+  private static double exactOf(
+    final char k)
+  {
+    final int bits = (int) k;
+    final int exponent = (bits >>> 10) & 0x1f;
+    final int fraction = bits & 0x3ff;
+    if (exponent == 0) {
+      return Math.scalb((double) fraction, -24);
+    }
+    if (exponent == 0x1f) {
+      return 65536.0;
+    }
+    return Math.scalb((double) (0x400 | fraction), exponent - 25);
+  }
+
+  /**
+   * Specific values are formatted as expected.
+   */
+
+  @Test
+  public void testDecimalSpecific()
+  {
+    Assert.assertEquals("0.0", Binary16Strings.toDecimalString(Binary16.POSITIVE_ZERO));
+    Assert.assertEquals("-0.0", Binary16Strings.toDecimalString(Binary16.NEGATIVE_ZERO));
+    Assert.assertEquals("Infinity", Binary16Strings.toDecimalString(Binary16.POSITIVE_INFINITY));
+    Assert.assertEquals("-Infinity", Binary16Strings.toDecimalString(Binary16.NEGATIVE_INFINITY));
+    Assert.assertEquals("NaN", Binary16Strings.toDecimalString(Binary16.CANONICAL_NAN));
+    Assert.assertEquals("65500.0", Binary16Strings.toDecimalString(Binary16.POSITIVE_MAXIMUM));
+    Assert.assertEquals("-65500.0", Binary16Strings.toDecimalString(Binary16.NEGATIVE_MAXIMUM));
+    Assert.assertEquals("1.0", Binary16Strings.toDecimalString(Binary16.packFloat(1.0f)));
+    Assert.assertEquals("2.0", Binary16Strings.toDecimalString(Binary16.packFloat(2.0f)));
+    Assert.assertEquals("1024.0", Binary16Strings.toDecimalString(Binary16.packFloat(1024.0f)));
+    Assert.assertEquals("0.1", Binary16Strings.toDecimalString(Binary16.packFloat(0.1f)));
+    Assert.assertEquals("-0.333", Binary16Strings.toDecimalString(Binary16.packFloat(-0.333f)));
+    Assert.assertEquals("0.001", Binary16Strings.toDecimalString(Binary16.packFloat(0.001f)));
+    Assert.assertEquals("6.0E-8", Binary16Strings.toDecimalString((char) 0x0001));
+    Assert.assertEquals("6.104E-5", Binary16Strings.toDecimalString((char) 0x0400));
+  }
+
+  /**
+   * All of the decimal sinks produce the same text.
+   */
+
+  @Test
+  public void testDecimalSinks()
+  {
+    final char[] chars = new char[Binary16Strings.DECIMAL_LENGTH_MAXIMUM + 3];
+    final StringBuilder builder = new StringBuilder();
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(Binary16Strings.DECIMAL_LENGTH_MAXIMUM + 3);
+
+    for (int index = 0; index <= 0xffff; index += 7) {
+      final char k = (char) index;
+      final String text = Binary16Strings.toDecimalString(k);
+
+      final int n0 = Binary16Strings.formatDecimal(k, chars, 3);
+      Assert.assertEquals(text, new String(chars, 3, n0));
+
+      builder.setLength(0);
+      builder.append("x");
+      final int n1 = Binary16Strings.formatDecimal(k, builder);
+      Assert.assertEquals("x" + text, builder.toString());
+
+      buffer.clear();
+      buffer.put((byte) 'y');
+      final int n2 = Binary16Strings.formatDecimal(k, buffer);
+      Assert.assertEquals(1 + n2, buffer.position());
+      Assert.assertEquals(
+        text,
+        new String(buffer.array(), 1, n2, StandardCharsets.US_ASCII));
+
+      Assert.assertEquals((long) n0, (long) n1);
+      Assert.assertEquals((long) n0, (long) n2);
+    }
+  }
+
+  /**
+   * Formatting into a too-small array fails.
+   */
+
+  @Test
+  public void testDecimalArrayTooSmall()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16Strings.formatDecimal(Binary16.POSITIVE_MAXIMUM, new char[4], 0);
+  }
+
+  /**
+   * Formatting into a too-small buffer fails without writing anything.
+   */
+
+  @Test
+  public void testDecimalBufferTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(4);
+    try {
+      Binary16Strings.formatDecimal(Binary16.NEGATIVE_INFINITY, buffer);
+      Assert.fail();
+    } catch (final BufferOverflowException e) {
+      Assert.assertEquals(0L, (long) buffer.position());
+    }
+  }
+
+  /**
+   * Raw binary and hexadecimal formatting matches the JDK.
+   */
+
+  @Test
+  public void testRaw()
+  {
+    final char[] chars = new char[Binary16Strings.RAW_BINARY_LENGTH + 1];
+    final StringBuilder builder = new StringBuilder();
+
+    for (int index = 0; index <= 0xffff; ++index) {
+      final char k = (char) index;
+      final String binary =
+        String.format("%16s", Integer.toBinaryString(index)).replace(' ', '0');
+      final String hex = String.format("%04x", Integer.valueOf(index));
+
+      Assert.assertEquals(binary, Binary16.toRawBinaryString(k));
+      Assert.assertEquals(hex, Binary16Strings.toRawHexString(k));
+
+      Binary16Strings.formatRawBinary(k, chars, 1);
+      Assert.assertEquals(binary, new String(chars, 1, 16));
+      Binary16Strings.formatRawHex(k, chars, 1);
+      Assert.assertEquals(hex, new String(chars, 1, 4));
+
+      builder.setLength(0);
+      Binary16Strings.formatRawBinary(k, builder);
+      Binary16Strings.formatRawHex(k, builder);
+      Assert.assertEquals(binary + hex, builder.toString());
+    }
+  }
+
+  /**
+   * The functions cannot be instantiated.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16Strings> c =
+      Binary16Strings.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+}
@@ -26,6 +26,7 @@ import org.junit.rules.ExpectedException;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
 
 /**
  * Tests for Binary16.
@@ -804,6 +805,483 @@ public final class Binary16Test
     Assert.assertEquals((double) r, -1.0, 0.001);
   }
 
+  /**
+   * Packing any NaN produces the canonical NaN.
+   */
+
+  @Test
+  public void testPackFloatNaNCanonical()
+  {
+    Assert.assertEquals(
+      (long) Binary16.CANONICAL_NAN,
+      (long) Binary16.packFloat(Float.intBitsToFloat(0xff800001)));
+    Assert.assertEquals(
+      (long) Binary16.CANONICAL_NAN,
+      (long) Binary16.packFloat(Float.intBitsToFloat(0x7fffffff)));
+    Assert.assertEquals(
+      (long) Binary16.CANONICAL_NAN,
+      (long) Binary16.packDouble(Double.longBitsToDouble(0xfff0000000000001L)));
+    Assert.assertTrue(Binary16.isNaN(Binary16.CANONICAL_NAN));
+  }
+
+  /**
+   * Packing NaN values with payload preservation keeps the sign and upper
+   * payload bits, and always produces a quiet NaN.
+   */
+
+  @Test
+  public void testPackFloatNaNPreserving()
+  {
+    Assert.assertEquals(
+      0xfe00L,
+      (long) Binary16.packFloatPreservingNaN(Float.intBitsToFloat(0xff800001)));
+    Assert.assertEquals(
+      0x7e01L,
+      (long) Binary16.packFloatPreservingNaN(Float.intBitsToFloat(0x7f802000)));
+    Assert.assertEquals(
+      0x7fffL,
+      (long) Binary16.packFloatPreservingNaN(Float.intBitsToFloat(0x7fffffff)));
+    Assert.assertEquals(
+      0xfe01L,
+      (long) Binary16.packDoublePreservingNaN(
+        Double.longBitsToDouble(0xfff0040000000000L)));
+    Assert.assertEquals(
+      0x7e00L,
+      (long) Binary16.packDoublePreservingNaN(
+        Double.longBitsToDouble(0x7ff0000000000001L)));
+
+    for (int i = 0; i <= 65535; ++i) {
+      final float f = Binary16.unpackFloat((char) i);
+      if (!Float.isNaN(f)) {
+        Assert.assertEquals(
+          (long) Binary16.packFloat(f),
+          (long) Binary16.packFloatPreservingNaN(f));
+        Assert.assertEquals(
+          (long) Binary16.packDouble((double) f),
+          (long) Binary16.packDoublePreservingNaN((double) f));
+      } else {
+        Assert.assertEquals(
+          (long) (i | 0x200),
+          (long) Binary16.packFloatPreservingNaN(f));
+      }
+    }
+  }
+
+  /**
+   * Canonicalizing NaN values only affects NaN values.
+   */
+
+  @Test
+  public void testCanonicalizeNaN()
+  {
+    for (int i = 0; i <= 65535; ++i) {
+      final char c = (char) i;
+      if (Binary16.isNaN(c)) {
+        Assert.assertEquals(
+          (long) Binary16.CANONICAL_NAN,
+          (long) Binary16.canonicalizeNaN(c));
+      } else {
+        Assert.assertEquals((long) c, (long) Binary16.canonicalizeNaN(c));
+      }
+    }
+  }
+
+  /**
+   * Saturating packing is equivalent to clamping and then packing.
+   */
+
+  @Test
+  public void testPackFloatSaturating()
+  {
+    Assert.assertEquals(
+      (long) Binary16.POSITIVE_MAXIMUM,
+      (long) Binary16.packFloatSaturating(Float.POSITIVE_INFINITY));
+    Assert.assertEquals(
+      (long) Binary16.NEGATIVE_MAXIMUM,
+      (long) Binary16.packFloatSaturating(Float.NEGATIVE_INFINITY));
+    Assert.assertEquals(
+      (long) Binary16.POSITIVE_MAXIMUM,
+      (long) Binary16.packDoubleSaturating(1.0e300));
+    Assert.assertEquals(
+      (long) Binary16.CANONICAL_NAN,
+      (long) Binary16.packFloatSaturating(Float.NaN));
+    Assert.assertEquals(65504.0, Binary16.unpackDouble(Binary16.POSITIVE_MAXIMUM), 0.0);
+
+    for (long bits = 0L; bits <= 0xffffffffL; bits += 0x1001L) {
+      final float f = Float.intBitsToFloat((int) bits);
+      final float c;
+      if (Float.isNaN(f)) {
+        c = f;
+      } else {
+        c = Math.max(-65504.0f, Math.min(65504.0f, f));
+      }
+      Assert.assertEquals(
+        (long) Binary16.packFloat(c),
+        (long) Binary16.packFloatSaturating(f));
+    }
+  }
+
+  /**
+   * Saturating flush-to-zero packing never produces subnormals.
+   */
+
+  @Test
+  public void testPackFloatSaturatingFlushToZero()
+  {
+    Assert.assertEquals(
+      (long) Binary16.NEGATIVE_ZERO,
+      (long) Binary16.packFloatSaturatingFlushToZero(-1.0e-5f));
+    Assert.assertEquals(
+      (long) Binary16.POSITIVE_ZERO,
+      (long) Binary16.packFloatSaturatingFlushToZero(1.0e-5f));
+    Assert.assertEquals(
+      (long) Binary16.POSITIVE_MAXIMUM,
+      (long) Binary16.packFloatSaturatingFlushToZero(1.0e10f));
+    Assert.assertEquals(
+      0x0400L,
+      (long) Binary16.packFloatSaturatingFlushToZero(
+        Float.intBitsToFloat(0x387fe000)));
+    Assert.assertEquals(
+      0x0000L,
+      (long) Binary16.packFloatSaturatingFlushToZero(
+        Float.intBitsToFloat(0x387fdfff)));
+    Assert.assertEquals(
+      (long) Binary16.CANONICAL_NAN,
+      (long) Binary16.packFloatSaturatingFlushToZero(Float.NaN));
+
+    for (long bits = 0L; bits <= 0xffffffffL; bits += 0x1001L) {
+      final float f = Float.intBitsToFloat((int) bits);
+      final char s = Binary16.packFloatSaturating(f);
+      final char z = Binary16.packFloatSaturatingFlushToZero(f);
+      if (Binary16.unpackGetExponentUnbiased(s) == -15) {
+        Assert.assertEquals((long) (s & 0x8000), (long) z);
+      } else {
+        Assert.assertEquals((long) s, (long) z);
+      }
+    }
+  }
+
+  /**
+   * Flush-to-zero packing matches ordinary packing except for subnormal
+   * results.
+   */
+
+  @Test
+  public void testPackFloatFlushToZero()
+  {
+    Assert.assertEquals(
+      (long) Binary16.POSITIVE_INFINITY,
+      (long) Binary16.packFloatFlushToZero(1.0e10f));
+    Assert.assertEquals(
+      (long) Binary16.CANONICAL_NAN,
+      (long) Binary16.packFloatFlushToZero(Float.NaN));
+    Assert.assertEquals(
+      0x0400L,
+      (long) Binary16.packFloatFlushToZero(Float.intBitsToFloat(0x387fe000)));
+
+    for (long bits = 0L; bits <= 0xffffffffL; bits += 0x1001L) {
+      final float f = Float.intBitsToFloat((int) bits);
+      final char p = Binary16.packFloat(f);
+      final char z = Binary16.packFloatFlushToZero(f);
+      if (Binary16.unpackGetExponentUnbiased(p) == -15) {
+        Assert.assertEquals((long) (p & 0x8000), (long) z);
+      } else {
+        Assert.assertEquals((long) p, (long) z);
+      }
+    }
+  }
+
+  /**
+   * Denormals-are-zero unpacking matches ordinary unpacking except for
+   * subnormal inputs.
+   */
+
+  @Test
+  public void testUnpackFloatDenormalsAreZero()
+  {
+    for (int i = 0; i <= 65535; ++i) {
+      final char c = (char) i;
+      final float u = Binary16.unpackFloat(c);
+      final float z = Binary16.unpackFloatDenormalsAreZero(c);
+      if (Binary16.unpackGetExponentUnbiased(c) == -15) {
+        Assert.assertEquals(
+          (long) Float.floatToRawIntBits(u) & 0x80000000L,
+          (long) Float.floatToRawIntBits(z) & 0xffffffffL);
+      } else {
+        Assert.assertEquals(
+          (long) Float.floatToRawIntBits(u),
+          (long) Float.floatToRawIntBits(z));
+      }
+    }
+  }
+
+  /**
+   * The largest finite floats and doubles pack as infinities (or as the
+   * largest finite value when saturating), never as NaN, in every mode.
+   */
+
+  @Test
+  public void testPackLargestFinite()
+  {
+    final int pos = (int) Binary16.POSITIVE_INFINITY;
+    final int neg = (int) Binary16.NEGATIVE_INFINITY;
+    final float max = Float.MAX_VALUE;
+    final double dmax = (double) Float.MAX_VALUE;
+
+    Assert.assertEquals(pos, (int) Binary16.packFloat(max));
+    Assert.assertEquals(neg, (int) Binary16.packFloat(-max));
+    Assert.assertEquals(pos, (int) Binary16.packFloatPreservingNaN(max));
+    Assert.assertEquals(neg, (int) Binary16.packFloatPreservingNaN(-max));
+    Assert.assertEquals(pos, (int) Binary16.packFloatFlushToZero(max));
+    Assert.assertEquals(neg, (int) Binary16.packFloatFlushToZero(-max));
+
+    Assert.assertEquals(pos, (int) Binary16.packDouble(dmax));
+    Assert.assertEquals(neg, (int) Binary16.packDouble(-dmax));
+    Assert.assertEquals(pos, (int) Binary16.packDoublePreservingNaN(dmax));
+    Assert.assertEquals(neg, (int) Binary16.packDoublePreservingNaN(-dmax));
+    Assert.assertEquals(pos, (int) Binary16.packDouble(Double.MAX_VALUE));
+    Assert.assertEquals(neg, (int) Binary16.packDouble(-Double.MAX_VALUE));
+
+    final int posMax = (int) Binary16.POSITIVE_MAXIMUM;
+    final int negMax = (int) Binary16.NEGATIVE_MAXIMUM;
+    Assert.assertEquals(posMax, (int) Binary16.packFloatSaturating(max));
+    Assert.assertEquals(negMax, (int) Binary16.packFloatSaturating(-max));
+    Assert.assertEquals(
+      posMax, (int) Binary16.packFloatSaturatingFlushToZero(max));
+    Assert.assertEquals(
+      negMax, (int) Binary16.packFloatSaturatingFlushToZero(-max));
+    Assert.assertEquals(posMax, (int) Binary16.packDoubleSaturating(dmax));
+    Assert.assertEquals(negMax, (int) Binary16.packDoubleSaturating(-dmax));
+  }
+
+  /**
+   * Every finite float packs to a non-NaN value.
+   */
+
+  @Test
+  public void testPackFiniteNeverNaN()
+  {
+    for (int bits = 0x7f000000; bits < 0x7f800000; bits += 0x100) {
+      final float k = Float.intBitsToFloat(bits);
+      Assert.assertFalse(isNaN(Binary16.packFloat(k)));
+      Assert.assertFalse(isNaN(Binary16.packFloat(-k)));
+    }
+    Assert.assertFalse(
+      isNaN(Binary16.packFloat(Float.intBitsToFloat(0x7f7ff000))));
+  }
+
+  private static boolean isNaN(
+    final char k)
+  {
+    return ((int) k & 0x7fff) > 0x7c00;
+  }
+
+  /**
+   * The ulp of every finite value is the distance to the adjacent value of
+   * larger magnitude, and the ulp of {@link Binary16#POSITIVE_MAXIMUM} is
+   * the distance to the adjacent value of smaller magnitude.
+   */
+
+  @Test
+  public void testUlpExhaustive()
+  {
+    for (int bits = 0; bits <= 0xffff; ++bits) {
+      final char k = (char) bits;
+      final int magnitude = bits & 0x7fff;
+      final char u = Binary16.ulp(k);
+
+      if (isNaN(k)) {
+        Assert.assertEquals((int) k, (int) u);
+        continue;
+      }
+      if (magnitude == 0x7c00) {
+        Assert.assertEquals((int) Binary16.POSITIVE_INFINITY, (int) u);
+        continue;
+      }
+
+      final float expected;
+      if (magnitude == (int) Binary16.POSITIVE_MAXIMUM) {
+        expected =
+          Binary16.unpackFloatExact((char) magnitude)
+            - Binary16.unpackFloatExact((char) (magnitude - 1));
+      } else {
+        expected =
+          Binary16.unpackFloatExact((char) (magnitude + 1))
+            - Binary16.unpackFloatExact((char) magnitude);
+      }
+      Assert.assertEquals(
+        Integer.toHexString(bits),
+        (double) expected,
+        (double) Binary16.unpackFloatExact(u),
+        0.0);
+    }
+
+    Assert.assertEquals(1, (int) Binary16.ulp(Binary16.POSITIVE_ZERO));
+    Assert.assertEquals(1, (int) Binary16.ulp(Binary16.NEGATIVE_ZERO));
+    Assert.assertEquals(
+      32.0,
+      (double) Binary16.unpackFloatExact(
+        Binary16.ulp(Binary16.NEGATIVE_MAXIMUM)),
+      0.0);
+    Assert.assertEquals(
+      Math.ulp(1.0f) * 8192.0,
+      (double) Binary16.unpackFloatExact(
+        Binary16.ulp(Binary16.packFloat(1.0f))),
+      0.0);
+  }
+
+  /**
+   * Walking upwards with {@link Binary16#nextUp(char)} from negative
+   * infinity visits every non-NaN value in increasing order, and walking
+   * downwards with {@link Binary16#nextDown(char)} from positive infinity
+   * visits every non-NaN value in decreasing order.
+   */
+
+  @Test
+  public void testNextUpNextDownExhaustive()
+  {
+    int steps = 0;
+    char k = Binary16.NEGATIVE_INFINITY;
+    while (k != Binary16.POSITIVE_INFINITY) {
+      final char n = Binary16.nextUp(k);
+      Assert.assertTrue(
+        Integer.toHexString((int) k),
+        Binary16.unpackFloatExact(n) > Binary16.unpackFloatExact(k));
+      Assert.assertEquals(1, Binary16.ulpDistance(k, n));
+      k = n;
+      ++steps;
+    }
+
+    /*
+     * There are 0x7bff non-zero finite values of each sign, one zero (only
+     * one of the two zeroes is visited), and two infinities.
+     */
+
+    Assert.assertEquals(0x7bff * 2 + 2, steps);
+
+    steps = 0;
+    k = Binary16.POSITIVE_INFINITY;
+    while (k != Binary16.NEGATIVE_INFINITY) {
+      final char n = Binary16.nextDown(k);
+      Assert.assertTrue(
+        Integer.toHexString((int) k),
+        Binary16.unpackFloatExact(n) < Binary16.unpackFloatExact(k));
+      Assert.assertEquals(1, Binary16.ulpDistance(k, n));
+      k = n;
+      ++steps;
+    }
+    Assert.assertEquals(0x7bff * 2 + 2, steps);
+  }
+
+  /**
+   * {@link Binary16#nextUp(char)} and {@link Binary16#nextDown(char)}
+   * handle zeroes, infinities and NaN.
+   */
+
+  @Test
+  public void testNextUpNextDownSpecial()
+  {
+    Assert.assertEquals(1, (int) Binary16.nextUp(Binary16.POSITIVE_ZERO));
+    Assert.assertEquals(1, (int) Binary16.nextUp(Binary16.NEGATIVE_ZERO));
+    Assert.assertEquals(
+      0x8001, (int) Binary16.nextDown(Binary16.POSITIVE_ZERO));
+    Assert.assertEquals(
+      0x8001, (int) Binary16.nextDown(Binary16.NEGATIVE_ZERO));
+    Assert.assertEquals(
+      (int) Binary16.NEGATIVE_ZERO, (int) Binary16.nextUp((char) 0x8001));
+    Assert.assertEquals(
+      (int) Binary16.POSITIVE_ZERO, (int) Binary16.nextDown((char) 0x0001));
+
+    Assert.assertEquals(
+      (int) Binary16.POSITIVE_INFINITY,
+      (int) Binary16.nextUp(Binary16.POSITIVE_MAXIMUM));
+    Assert.assertEquals(
+      (int) Binary16.POSITIVE_INFINITY,
+      (int) Binary16.nextUp(Binary16.POSITIVE_INFINITY));
+    Assert.assertEquals(
+      (int) Binary16.NEGATIVE_MAXIMUM,
+      (int) Binary16.nextUp(Binary16.NEGATIVE_INFINITY));
+    Assert.assertEquals(
+      (int) Binary16.NEGATIVE_INFINITY,
+      (int) Binary16.nextDown(Binary16.NEGATIVE_MAXIMUM));
+    Assert.assertEquals(
+      (int) Binary16.NEGATIVE_INFINITY,
+      (int) Binary16.nextDown(Binary16.NEGATIVE_INFINITY));
+    Assert.assertEquals(
+      (int) Binary16.POSITIVE_MAXIMUM,
+      (int) Binary16.nextDown(Binary16.POSITIVE_INFINITY));
+
+    for (int bits = 0x7c01; bits <= 0x7fff; ++bits) {
+      final char nan = (char) bits;
+      final char negNaN = (char) (bits | 0x8000);
+      Assert.assertEquals(bits, (int) Binary16.nextUp(nan));
+      Assert.assertEquals(bits, (int) Binary16.nextDown(nan));
+      Assert.assertEquals(bits | 0x8000, (int) Binary16.nextUp(negNaN));
+      Assert.assertEquals(bits | 0x8000, (int) Binary16.nextDown(negNaN));
+    }
+  }
+
+  /**
+   * The ulp distance between two values is the number of values between
+   * them, and is symmetric.
+   */
+
+  @Test
+  public void testUlpDistance()
+  {
+    Assert.assertEquals(
+      0, Binary16.ulpDistance(Binary16.POSITIVE_ZERO, Binary16.NEGATIVE_ZERO));
+    Assert.assertEquals(
+      2, Binary16.ulpDistance((char) 0x0001, (char) 0x8001));
+    Assert.assertEquals(
+      1,
+      Binary16.ulpDistance(
+        Binary16.POSITIVE_MAXIMUM, Binary16.POSITIVE_INFINITY));
+    Assert.assertEquals(
+      0x7c00 * 2,
+      Binary16.ulpDistance(
+        Binary16.NEGATIVE_INFINITY, Binary16.POSITIVE_INFINITY));
+    Assert.assertEquals(
+      1024,
+      Binary16.ulpDistance(
+        Binary16.packFloat(1.0f), Binary16.packFloat(2.0f)));
+
+    Assert.assertEquals(
+      0, Binary16.ulpDistance(Binary16.CANONICAL_NAN, (char) 0xfc01));
+    Assert.assertEquals(
+      Integer.MAX_VALUE,
+      Binary16.ulpDistance(Binary16.CANONICAL_NAN, Binary16.POSITIVE_ZERO));
+    Assert.assertEquals(
+      Integer.MAX_VALUE,
+      Binary16.ulpDistance(Binary16.POSITIVE_INFINITY, Binary16.CANONICAL_NAN));
+
+    final Random random = new Random(0x5deece66dL);
+    for (int index = 0; index < 100_000; ++index) {
+      final char x = (char) random.nextInt(0x10000);
+      final char y = (char) random.nextInt(0x10000);
+      if (isNaN(x) || isNaN(y)) {
+        continue;
+      }
+
+      final int distance = Binary16.ulpDistance(x, y);
+      Assert.assertEquals(distance, Binary16.ulpDistance(y, x));
+
+      final float fx = Binary16.unpackFloatExact(x);
+      final float fy = Binary16.unpackFloatExact(y);
+      char k = x;
+      if (fy < fx) {
+        k = y;
+      }
+      final float high = Math.max(fx, fy);
+      int steps = 0;
+      while (Binary16.unpackFloatExact(k) < high) {
+        k = Binary16.nextUp(k);
+        ++steps;
+      }
+      Assert.assertEquals(steps, distance);
+    }
+  }
+
   /**
    * The constructor is unreachable.
    *
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.collections.Binary16KeyPolicy;
+import com.io7m.ieee754b16.collections.Binary16ToIntMapType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The contract that all integer-valued maps must satisfy.
+ */
+
+public abstract class Binary16ToIntMapContract
+{
+  protected abstract Binary16ToIntMapType create(
+    Binary16KeyPolicy policy);
+
+  /**
+   * Maps behave identically to a reference map under random operations.
+   */
+
+  @Test
+  public void testRandomOperations()
+  {
+    final Random random = new Random(0x2545f491L);
+    final Binary16ToIntMapType map = this.create(Binary16KeyPolicy.KEY_EXACT);
+    final Map<Character, Integer> reference = new HashMap<>();
+
+    for (int i = 0; i < 200_000; ++i) {
+      final char key = (char) random.nextInt(4096);
+      final int op = random.nextInt(4);
+      switch (op) {
+        case 0: {
+          final int value = random.nextInt();
+          map.put(key, value);
+          reference.put(Character.valueOf(key), Integer.valueOf(value));
+          break;
+        }
+        case 1: {
+          final int r = map.addTo(key, 1);
+          final int e =
+            reference.merge(Character.valueOf(key), Integer.valueOf(1), Integer::sum)
+              .intValue();
+          Assert.assertEquals((long) e, (long) r);
+          break;
+        }
+        case 2: {
+          final boolean removed = map.remove(key);
+          Assert.assertEquals(
+            Boolean.valueOf(reference.remove(Character.valueOf(key)) != null),
+            Boolean.valueOf(removed));
+          break;
+        }
+        default: {
+          final Integer e = reference.get(Character.valueOf(key));
+          Assert.assertEquals(
+            Boolean.valueOf(e != null),
+            Boolean.valueOf(map.containsKey(key)));
+          if (e != null) {
+            Assert.assertEquals((long) e.intValue(), (long) map.get(key, -1));
+          }
+          break;
+        }
+      }
+      Assert.assertEquals((long) reference.size(), (long) map.size());
+    }
+
+    final Map<Character, Integer> received = new HashMap<>();
+    map.forEach((k, v) -> received.put(Character.valueOf(k), Integer.valueOf(v)));
+    Assert.assertEquals(reference, received);
+
+    map.clear();
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertFalse(map.containsKey((char) 0));
+  }
+
+  /**
+   * Every possible key can be stored.
+   */
+
+  @Test
+  public void testAllKeys()
+  {
+    final Binary16ToIntMapType map = this.create(Binary16KeyPolicy.KEY_EXACT);
+    for (int k = 0; k < 65536; ++k) {
+      map.put((char) k, k);
+    }
+    Assert.assertEquals(65536L, (long) map.size());
+    for (int k = 0; k < 65536; ++k) {
+      Assert.assertEquals((long) k, (long) map.get((char) k, -1));
+    }
+    for (int k = 0; k < 65536; k += 2) {
+      Assert.assertTrue(map.remove((char) k));
+    }
+    Assert.assertEquals(32768L, (long) map.size());
+    for (int k = 0; k < 65536; ++k) {
+      Assert.assertEquals((long) ((k & 1) == 0 ? -1 : k), (long) map.get((char) k, -1));
+    }
+  }
+
+  /**
+   * Exact keys keep NaNs and zeros distinct.
+   */
+
+  @Test
+  public void testPolicyExact()
+  {
+    final Binary16ToIntMapType map = this.create(Binary16KeyPolicy.KEY_EXACT);
+    Assert.assertEquals(Binary16KeyPolicy.KEY_EXACT, map.keyPolicy());
+
+    map.addTo((char) 0x7e00, 1);
+    map.addTo((char) 0x7c01, 1);
+    map.addTo((char) 0xfe00, 1);
+    map.addTo(Binary16.POSITIVE_ZERO, 1);
+    map.addTo(Binary16.NEGATIVE_ZERO, 1);
+    Assert.assertEquals(5L, (long) map.size());
+  }
+
+  /**
+   * Canonical NaN keys merge NaNs but keep zeros distinct.
+   */
+
+  @Test
+  public void testPolicyCanonicalNaN()
+  {
+    final Binary16ToIntMapType map =
+      this.create(Binary16KeyPolicy.KEY_CANONICAL_NAN);
+
+    map.addTo((char) 0x7e00, 1);
+    map.addTo((char) 0x7c01, 1);
+    map.addTo((char) 0xfe00, 1);
+    map.addTo(Binary16.POSITIVE_ZERO, 1);
+    map.addTo(Binary16.NEGATIVE_ZERO, 1);
+    map.addTo(Binary16.POSITIVE_INFINITY, 1);
+    Assert.assertEquals(4L, (long) map.size());
+    Assert.assertEquals(3L, (long) map.get((char) 0x7d00, 0));
+
+    map.forEach((k, v) -> {
+      if (Binary16.isNaN(k)) {
+        Assert.assertEquals(0x7e00L, (long) k);
+      }
+    });
+  }
+
+  /**
+   * Canonical NaN and zero keys merge NaNs and zeros.
+   */
+
+  @Test
+  public void testPolicyCanonicalNaNZero()
+  {
+    final Binary16ToIntMapType map =
+      this.create(Binary16KeyPolicy.KEY_CANONICAL_NAN_AND_ZERO);
+
+    map.addTo((char) 0x7e00, 1);
+    map.addTo((char) 0xfc01, 1);
+    map.addTo(Binary16.POSITIVE_ZERO, 1);
+    map.addTo(Binary16.NEGATIVE_ZERO, 1);
+    Assert.assertEquals(2L, (long) map.size());
+    Assert.assertEquals(2L, (long) map.get(Binary16.NEGATIVE_ZERO, 0));
+    Assert.assertTrue(map.remove(Binary16.NEGATIVE_ZERO));
+    Assert.assertFalse(map.containsKey(Binary16.POSITIVE_ZERO));
+  }
+}
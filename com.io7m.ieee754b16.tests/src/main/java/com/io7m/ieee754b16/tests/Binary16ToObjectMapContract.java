@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.collections.Binary16KeyPolicy;
+import com.io7m.ieee754b16.collections.Binary16ToObjectMapType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The contract that all object-valued maps must satisfy.
+ */
+
+public abstract class Binary16ToObjectMapContract
+{
+  protected abstract Binary16ToObjectMapType<String> create(
+    Binary16KeyPolicy policy);
+
+  /**
+   * Maps behave identically to a reference map under random operations.
+   */
+
+  @Test
+  public void testRandomOperations()
+  {
+    final Random random = new Random(0x2545f491L);
+    final Binary16ToObjectMapType<String> map =
+      this.create(Binary16KeyPolicy.KEY_EXACT);
+    final Map<Character, String> reference = new HashMap<>();
+
+    for (int i = 0; i < 200_000; ++i) {
+      final char key = (char) random.nextInt(4096);
+      final int op = random.nextInt(3);
+      switch (op) {
+        case 0: {
+          final String value = Integer.toString(random.nextInt());
+          Assert.assertEquals(
+            reference.put(Character.valueOf(key), value),
+            map.put(key, value));
+          break;
+        }
+        case 1: {
+          Assert.assertEquals(
+            reference.remove(Character.valueOf(key)),
+            map.remove(key));
+          break;
+        }
+        default: {
+          final String e = reference.get(Character.valueOf(key));
+          Assert.assertEquals(
+            Boolean.valueOf(e != null),
+            Boolean.valueOf(map.containsKey(key)));
+          Assert.assertEquals(e, map.get(key));
+          break;
+        }
+      }
+      Assert.assertEquals((long) reference.size(), (long) map.size());
+    }
+
+    final Map<Character, String> received = new HashMap<>();
+    map.forEach((k, v) -> received.put(Character.valueOf(k), v));
+    Assert.assertEquals(reference, received);
+
+    map.clear();
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertNull(map.get((char) 0));
+  }
+
+  /**
+   * Every possible key can be stored.
+   */
+
+  @Test
+  public void testAllKeys()
+  {
+    final Binary16ToObjectMapType<String> map =
+      this.create(Binary16KeyPolicy.KEY_EXACT);
+    for (int k = 0; k < 65536; ++k) {
+      Assert.assertNull(map.put((char) k, Integer.toString(k)));
+    }
+    Assert.assertEquals(65536L, (long) map.size());
+    for (int k = 0; k < 65536; ++k) {
+      Assert.assertEquals(Integer.toString(k), map.get((char) k));
+    }
+    for (int k = 0; k < 65536; k += 2) {
+      Assert.assertEquals(Integer.toString(k), map.remove((char) k));
+    }
+    Assert.assertEquals(32768L, (long) map.size());
+    for (int k = 1; k < 65536; k += 2) {
+      Assert.assertEquals(Integer.toString(k), map.get((char) k));
+    }
+  }
+
+  /**
+   * Null values are rejected.
+   */
+
+  @Test(expected = NullPointerException.class)
+  public void testNullValue()
+  {
+    this.create(Binary16KeyPolicy.KEY_EXACT).put((char) 0, null);
+  }
+
+  /**
+   * Exact keys keep NaNs and zeros distinct.
+   */
+
+  @Test
+  public void testPolicyExact()
+  {
+    final Binary16ToObjectMapType<String> map =
+      this.create(Binary16KeyPolicy.KEY_EXACT);
+    Assert.assertEquals(Binary16KeyPolicy.KEY_EXACT, map.keyPolicy());
+
+    map.put((char) 0x7e00, "x");
+    map.put((char) 0x7c01, "x");
+    map.put(Binary16.POSITIVE_ZERO, "x");
+    map.put(Binary16.NEGATIVE_ZERO, "x");
+    Assert.assertEquals(4L, (long) map.size());
+  }
+
+  /**
+   * Canonical NaN keys merge NaNs but keep zeros distinct.
+   */
+
+  @Test
+  public void testPolicyCanonicalNaN()
+  {
+    final Binary16ToObjectMapType<String> map =
+      this.create(Binary16KeyPolicy.KEY_CANONICAL_NAN);
+
+    map.put((char) 0x7c01, "a");
+    Assert.assertEquals("a", map.put((char) 0xffff, "b"));
+    map.put(Binary16.POSITIVE_ZERO, "c");
+    map.put(Binary16.NEGATIVE_ZERO, "d");
+    Assert.assertEquals(3L, (long) map.size());
+    Assert.assertEquals("b", map.get((char) 0x7e00));
+  }
+
+  /**
+   * Canonical NaN and zero keys merge NaNs and zeros.
+   */
+
+  @Test
+  public void testPolicyCanonicalNaNZero()
+  {
+    final Binary16ToObjectMapType<String> map =
+      this.create(Binary16KeyPolicy.KEY_CANONICAL_NAN_AND_ZERO);
+
+    map.put(Binary16.POSITIVE_ZERO, "a");
+    Assert.assertEquals("a", map.put(Binary16.NEGATIVE_ZERO, "b"));
+    Assert.assertEquals(1L, (long) map.size());
+    map.forEach((k, v) -> Assert.assertEquals(0L, (long) k));
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16ToneMap;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Tests for Binary16ToneMap.
+ */
+
+public final class Binary16ToneMapTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static double aces(
+    final double l)
+  {
+    return Math.max(
+      0.0,
+      Math.min(1.0, l * (2.51 * l + 0.03) / (l * (2.43 * l + 0.59) + 0.14)));
+  }
+
+  @Test
+  public void testOfExhaustive()
+  {
+    final Binary16ToneMap map = Binary16ToneMap.of(x -> x * 0.5);
+    for (int bits = 0; bits < 65536; ++bits) {
+      final float x = Binary16.unpackFloatExact((char) bits);
+      final char expectedValue;
+      if (Float.isNaN(x) || x <= 0.0f) {
+        expectedValue = 0;
+      } else if (Float.isInfinite(x)) {
+        expectedValue = Binary16.packDouble(65504.0 * 0.5);
+      } else {
+        expectedValue = Binary16.packDouble((double) x * 0.5);
+      }
+      Assert.assertEquals(
+        Integer.toHexString(bits), expectedValue, map.apply((char) bits));
+    }
+  }
+
+  @Test
+  public void testReinhard()
+  {
+    final Binary16ToneMap basic =
+      Binary16ToneMap.reinhard(1.0, Double.POSITIVE_INFINITY);
+    Assert.assertEquals(
+      Binary16.packDouble(0.5), basic.apply(Binary16.packFloat(1.0f)));
+    Assert.assertEquals(
+      Binary16.packDouble(0.75), basic.apply(Binary16.packFloat(3.0f)));
+    Assert.assertEquals(0, basic.apply(Binary16.packFloat(-3.0f)));
+    Assert.assertEquals(
+      Binary16.packDouble(65504.0 / 65505.0),
+      basic.apply(Binary16.packFloat(Float.POSITIVE_INFINITY)));
+
+    final Binary16ToneMap extended = Binary16ToneMap.reinhard(2.0, 4.0);
+    Assert.assertEquals(
+      Binary16.packDouble(1.0), extended.apply(Binary16.packFloat(2.0f)));
+    Assert.assertEquals(
+      Binary16.packDouble(1.0), extended.apply(Binary16.packFloat(100.0f)));
+    Assert.assertEquals(
+      Binary16.packDouble(1.0 * (1.0 + 1.0 / 16.0) / 2.0),
+      extended.apply(Binary16.packFloat(0.5f)));
+  }
+
+  @Test
+  public void testReinhardBadWhitePoint()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16ToneMap.reinhard(1.0, 0.0);
+  }
+
+  @Test
+  public void testReinhardBadExposure()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16ToneMap.reinhard(Double.NaN, 1.0);
+  }
+
+  @Test
+  public void testACESFitted()
+  {
+    final Binary16ToneMap map = Binary16ToneMap.acesFitted(0.6);
+    for (final float x : new float[]{0.0f, 0.01f, 0.18f, 1.0f, 4.0f, 1000.0f}) {
+      final char packed = Binary16.packFloat(x);
+      Assert.assertEquals(
+        Binary16.packDouble(aces(0.6 * Binary16.unpackFloatExact(packed))),
+        map.apply(packed));
+    }
+    Assert.assertEquals(
+      Binary16.packDouble(1.0), map.apply(Binary16.packFloat(1000.0f)));
+  }
+
+  @Test
+  public void testACESFittedMonotonic()
+  {
+    final Binary16ToneMap map = Binary16ToneMap.acesFitted(1.0);
+    char previous = map.apply((char) 0);
+    for (int bits = 1; bits < 0x7c00; ++bits) {
+      final char current = map.apply((char) bits);
+      Assert.assertTrue(current >= previous);
+      previous = current;
+    }
+  }
+
+  @Test
+  public void testACESFittedBadExposure()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16ToneMap.acesFitted(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void testArrays()
+  {
+    final Binary16ToneMap map = Binary16ToneMap.acesFitted(1.0);
+    final char[] values = new char[1000];
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = (char) (index * 65);
+    }
+
+    final char[] target = new char[1001];
+    map.apply(values, 0, target, 1, values.length);
+    for (int index = 0; index < values.length; ++index) {
+      Assert.assertEquals(map.apply(values[index]), target[index + 1]);
+    }
+
+    map.apply(values, 0, values, 0, values.length);
+    for (int index = 0; index < values.length; ++index) {
+      Assert.assertEquals(target[index + 1], values[index]);
+    }
+  }
+
+  @Test
+  public void testArraysOutOfRange()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16ToneMap.acesFitted(1.0).apply(new char[4], 0, new char[3], 0, 4);
+  }
+
+  @Test
+  public void testBuffers()
+  {
+    final Binary16ToneMap map = Binary16ToneMap.reinhard(1.0, 8.0);
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      final ByteBuffer source = ByteBuffer.allocate(200).order(order);
+      for (int index = 0; index < 100; ++index) {
+        source.putChar(Binary16.packFloat((float) index * 0.1f));
+      }
+      source.flip();
+
+      final ByteBuffer target = ByteBuffer.allocate(202).order(order);
+      target.position(2);
+      map.apply(source, target);
+      Assert.assertEquals(200, source.position());
+      Assert.assertEquals(202, target.position());
+      for (int index = 0; index < 100; ++index) {
+        Assert.assertEquals(
+          map.apply(source.getChar(index * 2)),
+          target.getChar(2 + index * 2));
+      }
+    }
+  }
+
+  @Test
+  public void testBufferOdd()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16ToneMap.acesFitted(1.0)
+      .apply(ByteBuffer.allocate(3), ByteBuffer.allocate(4));
+  }
+
+  @Test
+  public void testBufferOverflow()
+  {
+    this.expected.expect(BufferOverflowException.class);
+    Binary16ToneMap.acesFitted(1.0)
+      .apply(ByteBuffer.allocate(4), ByteBuffer.allocate(3));
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.search.Binary16Metric;
+import com.io7m.ieee754b16.search.Binary16VectorStore;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Random;
+
+/**
+ * Tests for Binary16VectorStore.
+ */
+
+public final class Binary16VectorStoreTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  static float[] randomVectors(
+    final int count,
+    final int dimensions,
+    final long seed)
+  {
+    final Random random = new Random(seed);
+    final float[] values = new float[count * dimensions];
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = (float) random.nextGaussian();
+    }
+    return values;
+  }
+
+  /*
+   * The distance between a query and the packed form of a vector, computed
+   * in double precision.
+   */
+
+  static double referenceDistance(
+    final Binary16Metric metric,
+    final float[] query,
+    final float[] vectors,
+    final int offset)
+  {
+    double dot = 0.0;
+    double l2 = 0.0;
+    double qq = 0.0;
+    double vv = 0.0;
+    for (int d = 0; d < query.length; ++d) {
+      final double q = query[d];
+      final double v =
+        Binary16.unpackFloatExact(Binary16.packFloat(vectors[offset + d]));
+      dot += q * v;
+      l2 += (q - v) * (q - v);
+      qq += q * q;
+      vv += v * v;
+    }
+    return switch (metric) {
+      case METRIC_DOT_PRODUCT -> -dot;
+      case METRIC_EUCLIDEAN -> l2;
+      case METRIC_COSINE -> 1.0 - dot / (Math.sqrt(qq) * Math.sqrt(vv));
+    };
+  }
+
+  private static Binary16VectorStore[] stores(
+    final int dimensions)
+  {
+    return new Binary16VectorStore[]{
+      Binary16VectorStore.createHeap(dimensions),
+      Binary16VectorStore.createDirect(dimensions),
+    };
+  }
+
+  @Test
+  public void testAddGet()
+  {
+    for (final Binary16VectorStore store : stores(7)) {
+      Assert.assertEquals(7, store.dimensions());
+      Assert.assertEquals(0, store.size());
+
+      final float[] vectors = randomVectors(600, 7, 1L);
+      for (int index = 0; index < 600; ++index) {
+        Assert.assertEquals(index, store.add(vectors, index * 7));
+      }
+      Assert.assertEquals(600, store.size());
+
+      final float[] result = new float[8];
+      for (int index = 0; index < 600; ++index) {
+        store.get(index, result, 1);
+        double norm = 0.0;
+        for (int d = 0; d < 7; ++d) {
+          final char packed = Binary16.packFloat(vectors[index * 7 + d]);
+          Assert.assertEquals(Binary16.unpackFloat(packed), result[1 + d], 0.0f);
+          final double x = Binary16.unpackFloatExact(packed);
+          norm += x * x;
+        }
+        Assert.assertEquals(Math.sqrt(norm), store.norm(index), 1.0e-5);
+      }
+    }
+  }
+
+  @Test
+  public void testAddPacked()
+  {
+    for (final Binary16VectorStore store : stores(2)) {
+      final char[] packed = {
+        0, Binary16.packFloat(3.0f), Binary16.packFloat(-4.0f)
+      };
+      Assert.assertEquals(0, store.addPacked(packed, 1));
+      Assert.assertEquals(5.0f, store.norm(0), 0.0f);
+    }
+  }
+
+  @Test
+  public void testSegments()
+  {
+    final int dimensions = 1 << 21;
+    final Binary16VectorStore store = Binary16VectorStore.createHeap(dimensions);
+    final float[] vector = new float[dimensions];
+    for (int index = 0; index < 10; ++index) {
+      vector[dimensions - 1] = (float) index;
+      store.add(vector, 0);
+    }
+
+    final float[] result = new float[dimensions];
+    for (int index = 0; index < 10; ++index) {
+      store.get(index, result, 0);
+      Assert.assertEquals(
+        Binary16.unpackFloat(Binary16.packFloat((float) index)),
+        result[dimensions - 1],
+        0.0f);
+      Assert.assertEquals((float) index, store.norm(index), 0.0f);
+    }
+  }
+
+  @Test
+  public void testDistances()
+  {
+    final float[] vectors = randomVectors(50, 33, 2L);
+    final float[] query = randomVectors(1, 33, 3L);
+    for (final Binary16VectorStore store : stores(33)) {
+      for (int index = 0; index < 50; ++index) {
+        store.add(vectors, index * 33);
+      }
+      for (final Binary16Metric metric : Binary16Metric.values()) {
+        for (int index = 0; index < 50; ++index) {
+          Assert.assertEquals(
+            referenceDistance(metric, query, vectors, index * 33),
+            store.distance(metric, query, 0, index),
+            1.0e-4);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDistanceSubnormal()
+  {
+    final Binary16VectorStore store = Binary16VectorStore.createHeap(2);
+    store.addPacked(new char[]{(char) 0x0001, (char) 0x83ff}, 0);
+    Assert.assertEquals(
+      -(Binary16.unpackFloatExact((char) 0x0001)
+        - Binary16.unpackFloatExact((char) 0x83ff)),
+      store.distance(Binary16Metric.METRIC_DOT_PRODUCT, new float[]{1.0f, -1.0f}, 0, 0),
+      0.0f);
+  }
+
+  @Test
+  public void testCosineZero()
+  {
+    final Binary16VectorStore store = Binary16VectorStore.createHeap(2);
+    store.add(new float[2], 0);
+    Assert.assertEquals(
+      1.0f,
+      store.distance(Binary16Metric.METRIC_COSINE, new float[]{1.0f, 0.0f}, 0, 0),
+      0.0f);
+  }
+
+  @Test
+  public void testAddNaN()
+  {
+    final Binary16VectorStore store = Binary16VectorStore.createHeap(2);
+    this.expected.expect(IllegalArgumentException.class);
+    store.add(new float[]{0.0f, Float.NaN}, 0);
+  }
+
+  @Test
+  public void testAddOverflow()
+  {
+    final Binary16VectorStore store = Binary16VectorStore.createDirect(2);
+    try {
+      store.add(new float[]{1.0e6f, 0.0f}, 0);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      Assert.assertEquals(0, store.size());
+    }
+  }
+
+  @Test
+  public void testBadDimensions()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16VectorStore.createHeap(0);
+  }
+
+  @Test
+  public void testGetOutOfRange()
+  {
+    final Binary16VectorStore store = Binary16VectorStore.createHeap(2);
+    store.add(new float[2], 0);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    store.get(1, new float[2], 0);
+  }
+
+  @Test
+  public void testDistanceQueryOutOfRange()
+  {
+    final Binary16VectorStore store = Binary16VectorStore.createHeap(2);
+    store.add(new float[2], 0);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    store.distance(Binary16Metric.METRIC_EUCLIDEAN, new float[2], 1, 0);
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.graphics.Binary16VertexPacking;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+/**
+ * Tests for Binary16VertexPacking.
+ */
+
+public final class Binary16VertexPackingTest
+{
+  private static final ByteOrder[] ORDERS =
+    {ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN};
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static float[] randomValues(
+    final int count)
+  {
+    final Random random = new Random(0x5deece66dL + count);
+    final float[] values = new float[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = (random.nextFloat() - 0.5f) * 1000.0f;
+    }
+    return values;
+  }
+
+  private static ByteBuffer referencePack(
+    final float[] values,
+    final int components,
+    final int offset,
+    final int stride,
+    final int count,
+    final int size,
+    final ByteOrder order)
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(size).order(order);
+    for (int index = 0; index < size; ++index) {
+      buffer.put(index, (byte) 0x5a);
+    }
+    for (int vertex = 0; vertex < count; ++vertex) {
+      for (int component = 0; component < components; ++component) {
+        buffer.putChar(
+          offset + vertex * stride + component * 2,
+          Binary16.packFloat(values[vertex * components + component]));
+      }
+    }
+    return buffer;
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16VertexPacking> c =
+      Binary16VertexPacking.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testPackMatchesReference()
+  {
+    for (final ByteOrder order : ORDERS) {
+      for (int components = 1; components <= 6; ++components) {
+        for (final int count : new int[]{0, 1, 2, 17}) {
+          final int stride = components * 2 + 6;
+          final int offset = 4;
+          final int size = offset + count * stride + 3;
+          final float[] values = randomValues(count * components);
+
+          final ByteBuffer expectedBuffer =
+            referencePack(values, components, offset, stride, count, size, order);
+          final ByteBuffer buffer = ByteBuffer.allocate(size).order(order);
+          for (int index = 0; index < size; ++index) {
+            buffer.put(index, (byte) 0x5a);
+          }
+
+          Binary16VertexPacking.packFloats(
+            values, 0, components, buffer, offset, stride, count);
+
+          Assert.assertEquals(
+            String.format("%s %d %d", order, components, count),
+            expectedBuffer,
+            buffer);
+          Assert.assertEquals(0, buffer.position());
+          Assert.assertEquals(size, buffer.limit());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testUnpackMatchesReference()
+  {
+    for (final ByteOrder order : ORDERS) {
+      for (int components = 1; components <= 6; ++components) {
+        for (final int count : new int[]{0, 1, 2, 17}) {
+          final int stride = components * 2 + 6;
+          final int offset = 4;
+          final int size = offset + count * stride + 3;
+          final float[] values = randomValues(count * components);
+          final ByteBuffer buffer =
+            referencePack(values, components, offset, stride, count, size, order);
+
+          final float[] result = new float[count * components];
+          Binary16VertexPacking.unpackFloats(
+            buffer, offset, stride, components, result, 0, count);
+
+          for (int index = 0; index < values.length; ++index) {
+            Assert.assertEquals(
+              String.format("%s %d %d %d", order, components, count, index),
+              Binary16.unpackFloat(Binary16.packFloat(values[index])),
+              result[index],
+              0.0f);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRoundTrip()
+  {
+    for (final ByteOrder order : ORDERS) {
+      for (int components = 1; components <= 6; ++components) {
+        final int count = 33;
+        final int stride = components * 2 + 2;
+        final float[] values = randomValues(count * components);
+        final ByteBuffer buffer =
+          ByteBuffer.allocateDirect(count * stride).order(order);
+
+        Binary16VertexPacking.packFloats(
+          values, 0, components, buffer, 2, stride, count);
+
+        final float[] result = new float[count * components + 1];
+        Binary16VertexPacking.unpackFloats(
+          buffer, 2, stride, components, result, 1, count);
+
+        for (int index = 0; index < values.length; ++index) {
+          Assert.assertEquals(
+            Binary16.unpackFloat(Binary16.packFloat(values[index])),
+            result[index + 1],
+            0.0f);
+        }
+        Assert.assertEquals(0.0f, result[0], 0.0f);
+      }
+    }
+  }
+
+  @Test
+  public void testPackSourceOffset()
+  {
+    final float[] values = {9.0f, 1.0f, 2.0f, 3.0f, 4.0f};
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+
+    Binary16VertexPacking.packFloats(values, 1, 4, buffer, 0, 8, 1);
+
+    Assert.assertEquals(Binary16.packFloat(1.0f), buffer.getChar(0));
+    Assert.assertEquals(Binary16.packFloat(2.0f), buffer.getChar(2));
+    Assert.assertEquals(Binary16.packFloat(3.0f), buffer.getChar(4));
+    Assert.assertEquals(Binary16.packFloat(4.0f), buffer.getChar(6));
+  }
+
+  @Test
+  public void testPackExactFit()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(2 + 16 + 6);
+    Binary16VertexPacking.packFloats(
+      randomValues(6), 0, 3, buffer, 2, 16, 2);
+  }
+
+  @Test
+  public void testPackBufferTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(2 + 16 + 5);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16VertexPacking.packFloats(
+      randomValues(6), 0, 3, buffer, 2, 16, 2);
+  }
+
+  @Test
+  public void testPackBufferLimit()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    buffer.limit(8);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16VertexPacking.packFloats(randomValues(8), 0, 4, buffer, 0, 8, 2);
+  }
+
+  @Test
+  public void testPackSourceTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16VertexPacking.packFloats(randomValues(7), 0, 4, buffer, 0, 8, 2);
+  }
+
+  @Test
+  public void testPackNegativeOffset()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16VertexPacking.packFloats(randomValues(8), 0, 4, buffer, -1, 8, 2);
+  }
+
+  @Test
+  public void testPackStrideTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16VertexPacking.packFloats(randomValues(8), 0, 4, buffer, 0, 7, 2);
+  }
+
+  @Test
+  public void testPackComponentsZero()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16VertexPacking.packFloats(randomValues(8), 0, 0, buffer, 0, 8, 2);
+  }
+
+  @Test
+  public void testUnpackBufferTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(15);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16VertexPacking.unpackFloats(buffer, 0, 8, 4, new float[8], 0, 2);
+  }
+
+  @Test
+  public void testUnpackTargetTooSmall()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16VertexPacking.unpackFloats(buffer, 0, 8, 4, new float[8], 1, 2);
+  }
+}
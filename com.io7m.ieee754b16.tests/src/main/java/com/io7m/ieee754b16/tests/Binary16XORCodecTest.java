@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ieee754b16.tests;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.ieee754b16.codecs.Binary16XORCodec;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests for Binary16XORCodec.
+ */
+
+public final class Binary16XORCodecTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  static char[] sensorSeries(
+    final int count)
+  {
+    final Random random = new Random(0x5deece66dL);
+    final char[] values = new char[count];
+    for (int index = 0; index < count; ++index) {
+      final double signal = 20.0 + 5.0 * Math.sin((double) index / 200.0);
+      values[index] = Binary16.packDouble(signal + random.nextGaussian() * 0.01);
+    }
+    return values;
+  }
+
+  private static char[] roundTrip(
+    final char[] values)
+  {
+    final byte[] encoded =
+      new byte[Binary16XORCodec.maximumEncodedSize(values.length) + 2];
+    final int size =
+      Binary16XORCodec.encode(values, 0, values.length, encoded, 1);
+    Assert.assertTrue(size <= Binary16XORCodec.maximumEncodedSize(values.length));
+
+    final char[] decoded = new char[values.length];
+    Binary16XORCodec.decode(encoded, 1, size, decoded, 0, values.length);
+    return decoded;
+  }
+
+  @Test
+  public void testUnreachable()
+    throws Exception
+  {
+    final Constructor<Binary16XORCodec> c =
+      Binary16XORCodec.class.getDeclaredConstructor();
+    c.setAccessible(true);
+
+    this.expected.expect(InvocationTargetException.class);
+    this.expected.expectCause(Is.isA(UnreachableCodeException.class));
+    c.newInstance();
+  }
+
+  @Test
+  public void testRoundTripAll()
+  {
+    final char[] values = new char[65536 * 2];
+    for (int index = 0; index < 65536; ++index) {
+      values[index] = (char) index;
+      values[65536 + index] = (char) (index * 40503);
+    }
+    Assert.assertArrayEquals(values, roundTrip(values));
+  }
+
+  @Test
+  public void testRoundTripRandom()
+  {
+    final Random random = new Random(0x1234L);
+    for (int trial = 0; trial < 100; ++trial) {
+      final char[] values = new char[random.nextInt(300)];
+      for (int index = 0; index < values.length; ++index) {
+        values[index] = (char) random.nextInt(0x10000);
+      }
+      Assert.assertArrayEquals(values, roundTrip(values));
+    }
+  }
+
+  @Test
+  public void testRoundTripSensor()
+  {
+    final char[] values = sensorSeries(100000);
+    Assert.assertArrayEquals(values, roundTrip(values));
+  }
+
+  @Test
+  public void testCompresses()
+  {
+    final char[] constant = new char[800];
+    Arrays.fill(constant, Binary16.packFloat(1.5f));
+    final byte[] encoded =
+      new byte[Binary16XORCodec.maximumEncodedSize(constant.length)];
+
+    /* One full code for the first value, and one bit for each other value. */
+    Assert.assertEquals(
+      (long) ((10 + 6 + 799 + 7) / 8),
+      (long) Binary16XORCodec.encode(constant, 0, 800, encoded, 0));
+
+    final char[] series = sensorSeries(100000);
+    final int size = Binary16XORCodec.encode(
+      series,
+      0,
+      series.length,
+      new byte[Binary16XORCodec.maximumEncodedSize(series.length)],
+      0);
+    Assert.assertTrue(
+      String.format("Encoded size %d", Integer.valueOf(size)),
+      size < series.length * 2 * 3 / 4);
+  }
+
+  @Test
+  public void testTruncated()
+  {
+    final char[] values = sensorSeries(100);
+    final byte[] encoded = new byte[Binary16XORCodec.maximumEncodedSize(100)];
+    final int size = Binary16XORCodec.encode(values, 0, 100, encoded, 0);
+
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16XORCodec.decode(encoded, 0, size - 1, new char[100], 0, 100);
+  }
+
+  @Test
+  public void testMalformedWindow()
+  {
+    this.expected.expect(IllegalArgumentException.class);
+    Binary16XORCodec.decode(
+      new byte[]{(byte) 0b1000_0000, 0, 0}, 0, 3, new char[1], 0, 1);
+  }
+
+  @Test
+  public void testTargetTooSmall()
+  {
+    this.expected.expect(IndexOutOfBoundsException.class);
+    Binary16XORCodec.encode(new char[10], 0, 10, new byte[10], 0);
+  }
+}